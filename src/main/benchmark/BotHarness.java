@@ -0,0 +1,85 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.Game;
+import model.engine.Bot;
+import model.engine.Engine;
+import model.engine.ExitBot;
+import model.engine.RandomBot;
+import model.maze.GeneratorType;
+
+// BotHarness plays games headless on a fixed number of threads, every game
+// with its own bot and engine and no command log, then reports the moves,
+// levels and turns per second and the bytes allocated per turn.
+// the bot is "exit" (ExitBot) or "random" (RandomBot)
+// usage: BotHarness [games] [threads] [turns per game] [exit|random]
+public class BotHarness {
+
+    public static void main(String[] args) throws Exception {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int turns = args.length > 2 ? Integer.parseInt(args[2]) : 20000;
+        String bot = args.length > 3 ? args[3] : "exit";
+
+        run(Math.min(games, threads), threads, turns / 10, bot);
+        long[] total = run(games, threads, turns, bot);
+        double seconds = total[3] / 1e9;
+        System.out.println(games + " games, " + threads + " threads, " + turns + " turns each, " + bot + " bot");
+        System.out.printf("%.2f s wall%n", seconds);
+        System.out.printf("%,.0f moves/s  %,.1f levels/s  %,.0f turns/s%n",
+                total[1] / seconds, total[2] / seconds, total[0] / seconds);
+        System.out.printf("%.1f bytes/turn  %,.1f MB/s allocated%n",
+                (double) total[4] / total[0], total[4] / seconds / 1e6);
+    }
+
+    // EFFECTS: plays the games on a pool of the given threads and returns
+    // {turns, moves, levels, wall nanos, allocated bytes} summed over the games
+    private static long[] run(int games, int threads, int turns, String bot) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<long[]>> results = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            long seed = i;
+            results.add(pool.submit(() -> play(seed, turns, bot)));
+        }
+        long[] total = new long[5];
+        for (Future<long[]> result : results) {
+            long[] counts = result.get();
+            for (int i = 0; i < counts.length; i++) {
+                total[i] += counts[i];
+            }
+        }
+        total[3] = System.nanoTime() - start;
+        pool.shutdown();
+        return total;
+    }
+
+    // EFFECTS: plays one game of the seed and returns {turns, moves, levels, 0,
+    // bytes allocated by this thread while playing}
+    private static long[] play(long seed, int turns, String name) {
+        long before = allocatedBytes();
+        Game game = new Game(40, 40, GeneratorType.BACKTRACKER, seed);
+        game.setRecording(false);
+        Bot bot = name.equals("random") ? new RandomBot(seed) : new ExitBot();
+        Engine engine = new Engine(game);
+        engine.run(bot, turns);
+        return new long[] {engine.getTurns(), engine.getMoves(), engine.getLevelsPassed(), 0,
+                allocatedBytes() - before};
+    }
+
+    // EFFECTS: returns the bytes allocated by the current thread so far,
+    // or 0 if the JVM does not report it
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,65 @@
+package benchmark;
+
+import java.util.Random;
+
+import model.maze.FieldOfView;
+import model.maze.GeneratorType;
+import model.maze.Maze;
+import model.utility.BitGrid;
+import model.utility.LatencyHistogram;
+
+// FieldOfViewBenchmark times the shadowcasting of a field of view from
+// random roads of a maze, each from another cell so none is cached, and
+// from the same cell again, which is only the check of the cache.
+// a room is a maze with every wall opened, the worst case, as nothing
+// stops the sight and every cell within the radius is looked at
+// usage: FieldOfViewBenchmark [size radius updates]
+public class FieldOfViewBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1024;
+        int radius = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int updates = args.length > 2 ? Integer.parseInt(args[2]) : 200000;
+
+        Maze maze = new Maze(size, size, GeneratorType.PRIM, 1L);
+        Maze room = new Maze(size, size, GeneratorType.PRIM, 1L);
+        room.openRegion(0, 0, room.getWidth(), room.getHeight());
+        int[] origins = randomRoads(maze.getGrid(), updates, new Random(2));
+        System.out.println("maze " + size + " x " + size + ", radius " + radius + ", " + updates + " updates");
+        System.out.printf("%-7s %12s %12s %12s%n", "", "mean us", "p99 us", "cached ns");
+        for (int round = 0; round < 2; round++) {
+            report("maze", new FieldOfView(maze), origins, radius);
+            report("room", new FieldOfView(room), origins, radius);
+        }
+    }
+
+    // EFFECTS: prints the time of an update from every origin and of an
+    // update from the last origin again, the first round warms up the JIT
+    private static void report(String name, FieldOfView view, int[] origins, int radius) {
+        LatencyHistogram times = new LatencyHistogram();
+        int width = view.getMaze().getWidth();
+        for (int origin : origins) {
+            long begin = System.nanoTime();
+            view.update(origin % width, origin / width, radius);
+            times.record(System.nanoTime() - begin);
+        }
+        int last = origins[origins.length - 1];
+        long begin = System.nanoTime();
+        for (int origin : origins) {
+            view.update(last % width, last / width, radius);
+        }
+        double cached = (double) (System.nanoTime() - begin) / origins.length;
+        System.out.printf("%-7s %,12.2f %,12.2f %,12.1f%n", name, times.getMean() / 1e3,
+                times.getPercentile(0.99) / 1e3, cached);
+    }
+
+    // EFFECTS: returns count random road cells of the grid
+    private static int[] randomRoads(BitGrid grid, int count, Random random) {
+        int[] roads = new int[count];
+        for (int i = 0; i < count; i++) {
+            int cell = grid.nextSetBit(random.nextInt(grid.size()));
+            roads[i] = cell == -1 ? grid.nextSetBit(0) : cell;
+        }
+        return roads;
+    }
+}
@@ -0,0 +1,44 @@
+package benchmark;
+
+import model.maze.GeneratorType;
+import model.maze.Maze;
+
+// GeneratorBenchmark compares the throughput of all the maze generators.
+// for every generator it builds a few warm-up mazes, then reports the
+// average blocks per second over the measured rounds
+// usage: GeneratorBenchmark [width height rounds]
+public class GeneratorBenchmark {
+    private static final int WARM_UP_ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int width = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int height = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        System.out.println("maze " + width + " x " + height + ", " + rounds + " rounds");
+        GeneratorType fastest = null;
+        double best = 0;
+        for (GeneratorType type : GeneratorType.values()) {
+            double cellsPerSecond = measure(type, width, height, rounds);
+            System.out.printf("%-12s %,15.0f cells/s%n", type, cellsPerSecond);
+            if (cellsPerSecond > best) {
+                best = cellsPerSecond;
+                fastest = type;
+            }
+        }
+        System.out.println("fastest: " + fastest);
+    }
+
+    // REQUIRES: width and height are even and >= 8, rounds > 0
+    // EFFECTS: returns the average blocks per second of the given generator
+    public static double measure(GeneratorType type, int width, int height, int rounds) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            new Maze(width, height, type);
+        }
+        long nanos = 0;
+        for (int i = 0; i < rounds; i++) {
+            nanos += new Maze(width, height, type).getGenerationNanos();
+        }
+        return (double) width * height * rounds * 1e9 / Math.max(1, nanos);
+    }
+}
@@ -0,0 +1,106 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import model.utility.LatencyHistogram;
+import ui.console.InputReader;
+import ui.console.KeyDecoder;
+import ui.console.KeyQueue;
+import ui.console.Keys;
+
+// InputBenchmark compares waiting for keys by polling available() in a loop,
+// as the game loop used to, with an InputReader feeding a KeyQueue, over a
+// pipe. it reports the CPU both ways burn while no key is pressed, then the
+// time from writing a key, every third one an arrow escape sequence, to the
+// handler taking it from the queue
+// usage: InputBenchmark [idle seconds] [keys]
+public class InputBenchmark {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        int keys = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        System.out.printf("polling idle CPU %5.1f%%%n", pollingIdle(seconds) * 100);
+        System.out.printf("event   idle CPU %5.1f%%%n", eventIdle(seconds) * 100);
+        LatencyHistogram latency = eventLatency(keys);
+        System.out.printf("%d keys, write to take mean %.1f us  p50 %.1f us  p99 %.1f us  max %.1f us%n",
+                latency.getCount(), latency.getMean() / 1e3, latency.getPercentile(0.5) / 1e3,
+                latency.getPercentile(0.99) / 1e3, latency.getMax() / 1e3);
+    }
+
+    // EFFECTS: returns the share of a core that polling an idle pipe burns
+    private static double pollingIdle(int seconds) throws Exception {
+        PipedInputStream in = new PipedInputStream(new PipedOutputStream());
+        long[] cpu = new long[1];
+        Thread poller = new Thread(() -> {
+            long end = System.nanoTime() + seconds * 1_000_000_000L;
+            try {
+                while (System.nanoTime() < end) {
+                    if (in.available() > 0) {
+                        in.read();
+                    }
+                }
+            } catch (IOException e) {
+                return;
+            }
+            cpu[0] = THREADS.getCurrentThreadCpuTime();
+        });
+        poller.start();
+        poller.join();
+        return cpu[0] / (seconds * 1e9);
+    }
+
+    // EFFECTS: returns the share of a core that the reader thread and a handler
+    // parked on the queue with 250 ms ticks burn on an idle pipe
+    private static double eventIdle(int seconds) throws Exception {
+        PipedOutputStream pipe = new PipedOutputStream();
+        KeyQueue queue = new KeyQueue(64);
+        Thread reader = new Thread(new InputReader(new KeyDecoder(new PipedInputStream(pipe)), queue));
+        reader.setDaemon(true);
+        reader.start();
+        long[] cpu = new long[1];
+        Thread handler = new Thread(() -> {
+            long end = System.nanoTime() + seconds * 1_000_000_000L;
+            while (System.nanoTime() < end) {
+                queue.await(250_000_000L);
+            }
+            cpu[0] = THREADS.getCurrentThreadCpuTime();
+        });
+        handler.start();
+        handler.join();
+        long readerCpu = THREADS.getThreadCpuTime(reader.getId());
+        pipe.close();
+        return (cpu[0] + readerCpu) / (seconds * 1e9);
+    }
+
+    // EFFECTS: writes the keys one at a time into the pipe and returns the
+    // time each one took from the write to the handler taking it
+    private static LatencyHistogram eventLatency(int keys) throws Exception {
+        PipedOutputStream pipe = new PipedOutputStream();
+        KeyQueue queue = new KeyQueue(64);
+        new InputReader(new KeyDecoder(new PipedInputStream(pipe)), queue).start();
+        LatencyHistogram latency = new LatencyHistogram();
+        byte[] arrow = {Keys.ESCAPE, '[', 'A'};
+        for (int i = 0; i < keys; i++) {
+            long start = System.nanoTime();
+            if (i % 3 == 0) {
+                pipe.write(arrow);
+            } else {
+                pipe.write('w');
+            }
+            pipe.flush();
+            int key = queue.take();
+            latency.record(System.nanoTime() - start);
+            if (key != (i % 3 == 0 ? Keys.UP : 'w')) {
+                throw new IllegalStateException("decoded " + key + " for key " + i);
+            }
+        }
+        pipe.close();
+        return latency;
+    }
+}
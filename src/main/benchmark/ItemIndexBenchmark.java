@@ -0,0 +1,69 @@
+package benchmark;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import model.item.Coin;
+import model.item.Item;
+import model.item.ItemIndex;
+import model.utility.Coordinate;
+
+// ItemIndexBenchmark compares the lookup cost of the old HashMap<Coordinate, Item>
+// with the ItemIndex keyed by packed cells. Items are placed on random cells of
+// a square board four times larger than the number of items, and half of the
+// lookups hit an item
+// usage: ItemIndexBenchmark [lookups]
+public class ItemIndexBenchmark {
+    private static final int[] ITEM_COUNTS = {1_000, 10_000, 100_000, 1_000_000};
+
+    public static void main(String[] args) {
+        int lookups = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        System.out.println(lookups + " lookups");
+        System.out.printf("%10s %16s %16s%n", "items", "HashMap ns/op", "ItemIndex ns/op");
+        for (int count : ITEM_COUNTS) {
+            int side = (int) Math.ceil(Math.sqrt(count * 4.0));
+            Random random = new Random(count);
+            HashMap<Coordinate, Item> map = new HashMap<>();
+            ItemIndex index = new ItemIndex();
+            while (index.size() < count) {
+                int cell = random.nextInt(side * side);
+                Item item = new Coin(1);
+                map.put(new Coordinate(cell % side, cell / side), item);
+                index.put(cell, item);
+            }
+            int[] queries = new int[lookups];
+            for (int i = 0; i < lookups; i++) {
+                queries[i] = i % 2 == 0 ? index.getCell(random.nextInt(count)) : random.nextInt(side * side);
+            }
+            timeMap(map, queries, side);
+            timeIndex(index, queries);
+            System.out.printf("%,10d %16.1f %16.1f%n", count, timeMap(map, queries, side) / lookups,
+                    timeIndex(index, queries) / lookups);
+        }
+    }
+
+    // EFFECTS: returns the nanoseconds the map took to look up every query,
+    // one reused coordinate is the key as in Game.isItem
+    private static double timeMap(HashMap<Coordinate, Item> map, int[] queries, int side) {
+        Coordinate key = new Coordinate(0, 0);
+        int hits = 0;
+        long begin = System.nanoTime();
+        for (int query : queries) {
+            key.setXY(query % side, query / side);
+            hits += map.containsKey(key) ? 1 : 0;
+        }
+        long nanos = System.nanoTime() - begin;
+        return hits < 0 ? 0 : nanos;
+    }
+
+    // EFFECTS: returns the nanoseconds the index took to look up every query
+    private static double timeIndex(ItemIndex index, int[] queries) {
+        int hits = 0;
+        long begin = System.nanoTime();
+        for (int query : queries) {
+            hits += index.contains(query) ? 1 : 0;
+        }
+        long nanos = System.nanoTime() - begin;
+        return hits < 0 ? 0 : nanos;
+    }
+}
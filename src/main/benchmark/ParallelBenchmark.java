@@ -0,0 +1,44 @@
+package benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+
+import model.maze.Maze;
+import model.maze.ParallelGenerator;
+
+// ParallelBenchmark reports the speedup of the ParallelGenerator against the
+// number of worker threads, at 4k x 4k and 16k x 16k blocks by default
+// usage: ParallelBenchmark [size ...]
+public class ParallelBenchmark {
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[] {4096, 16384} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int size : sizes) {
+            System.out.println("maze " + size + " x " + size + ", " + cores + " cores");
+            double base = 0;
+            for (int threads = 1; threads <= cores; threads *= 2) {
+                double millis = measure(size, threads);
+                base = threads == 1 ? millis : base;
+                System.out.printf("%3d threads %10.1f ms  speedup %5.2fx%n", threads, millis, base / millis);
+            }
+        }
+    }
+
+    // EFFECTS: returns the average milliseconds to generate a size x size maze
+    // on a pool with the given number of threads, after one warm-up round
+    private static double measure(int size, int threads) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        ParallelGenerator generator = new ParallelGenerator(pool, ParallelGenerator.DEFAULT_TILE_CELLS);
+        new Maze(size, size, generator, 0);
+        long nanos = 0;
+        for (int i = 1; i <= ROUNDS; i++) {
+            nanos += new Maze(size, size, generator, i).getGenerationNanos();
+        }
+        pool.shutdown();
+        return nanos / 1e6 / ROUNDS;
+    }
+}
@@ -0,0 +1,242 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.management.ManagementFactory;
+
+import model.maze.Maze;
+import model.utility.BitGrid;
+import model.utility.pixel.BlockGlyphs;
+import model.utility.pixel.PackedPixel;
+import model.utility.pixel.Pixel;
+import model.utility.pixel.TextAttribute;
+import ui.ConsoleApp;
+import ui.console.Layer;
+import ui.console.RenderMode;
+import ui.console.Screen;
+
+// RenderBenchmark renders frames the size of the console game into a stream
+// that only counts the bytes. a full frame alternates the maze with an empty
+// screen, so every wall is drawn again, a step frame only moves the player
+// between two cells of the same maze, the common case while playing, and a
+// dirty frame does the same step in retained mode: only the two cells of the
+// player are written and only the cells that changed are looked at.
+// a redraw frame is a dirty frame that writes every wall again before the
+// step, a layer frame keeps the walls in a static layer drawn once and moves
+// the player on an overlay, so only the cells of the player are composited.
+// a repaint frame pans the board one column along a maze much wider than it
+// by writing the whole window again, a scroll frame pans it by scrolling the
+// terminal and writing only the column that moved in.
+// half and braille frames are full frames of the same board in the denser
+// modes, which show 4 and 16 times the cells of the maze.
+// it reports the bytes, the time and the heap allocated by a frame, the last
+// is measured by the allocation counter of the thread, so it needs a HotSpot JVM
+// usage: RenderBenchmark [frames]
+public class RenderBenchmark {
+    private static final TextAttribute WALL_STYLE = new TextAttribute(4, TextAttribute.DEFAULT_VALUE, 0);
+    private static final TextAttribute PLAYER_STYLE = new TextAttribute(10, TextAttribute.DEFAULT_VALUE, 0);
+    private static final Pixel WALL = new Pixel('█', WALL_STYLE);
+    private static final Pixel PLAYER = new Pixel('⬤', PLAYER_STYLE);
+    private static final int VIEW = ConsoleApp.WIDTH - 2;
+    private static final int PAN_WIDTH = 4096;
+    private static final long[] DENSE_ROWS = new long[4];
+    private static final String[] INFO = {"Inventory:", "Coins: 10", "You have 2/9 items:", "    1 - Hint",
+        "    2 - Skip", "Info:", "Direction: UP", "Position: (3 , 5)", "Exit: 42 steps away", "Message:"};
+
+    public static void main(String[] args) throws UnsupportedEncodingException {
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        CountingStream counter = new CountingStream();
+        Screen screen = new Screen(ConsoleApp.WIDTH + ConsoleApp.INFO_PANNEL_WIDTH, ConsoleApp.HEIGHT,
+                new PrintStream(counter, false, "UTF-8"));
+        Maze maze = new Maze(ConsoleApp.WIDTH - 2, ConsoleApp.HEIGHT - 2);
+        Maze wide = new Maze(PAN_WIDTH, ConsoleApp.HEIGHT - 2);
+        Maze dense = new Maze(VIEW * 4, VIEW * 4);
+
+        System.out.printf("%7s %14s %12s %16s%n", "frame", "bytes/frame", "frames/s", "alloc B/frame");
+        for (int round = 0; round < 2; round++) {
+            runRound(screen, counter, maze, frames);
+            runLayers(counter, maze, frames);
+            runPan(screen, counter, wide, frames);
+            for (RenderMode mode : new RenderMode[] {RenderMode.HALF_BLOCK, RenderMode.BRAILLE}) {
+                report(mode == RenderMode.BRAILLE ? "braille" : "half", screen, counter, frames, false, i -> {
+                    if (i % 2 == 0) {
+                        drawDense(screen, dense, mode);
+                    }
+                });
+            }
+        }
+    }
+
+    // EFFECTS: reports every kind of frame once
+    private static void runRound(Screen screen, CountingStream counter, Maze maze, int frames) {
+        report("full", screen, counter, frames, false, i -> {
+            if (i % 2 == 0) {
+                drawMaze(screen, maze);
+            }
+        });
+        report("step", screen, counter, frames, false, i -> {
+            drawMaze(screen, maze);
+            screen.writePixel(PLAYER, 1 + maze.getStart().getX() + i % 2, 1 + maze.getStart().getY(), false);
+        });
+        drawMaze(screen, maze);
+        screen.invalidate();
+        screen.renderChanges();
+        report("dirty", screen, counter, frames, true, i -> {
+            int x = 1 + maze.getStart().getX();
+            int y = 1 + maze.getStart().getY();
+            screen.writePixel(Pixel.EMPTY_PIXEL, x + (i + 1) % 2, y, true);
+            screen.writePixel(PLAYER, x + i % 2, y, false);
+        });
+    }
+
+    // EFFECTS: reports a step of the player with every wall written again and
+    // with the walls on a static layer, on a screen of its own
+    private static void runLayers(CountingStream counter, Maze maze, int frames)
+            throws UnsupportedEncodingException {
+        Screen screen = new Screen(ConsoleApp.WIDTH + ConsoleApp.INFO_PANNEL_WIDTH, ConsoleApp.HEIGHT,
+                new PrintStream(counter, false, "UTF-8"));
+        int x = 1 + maze.getStart().getX();
+        int y = 1 + maze.getStart().getY();
+        report("redraw", screen, counter, frames, true, i -> {
+            drawMaze(screen, maze);
+            screen.writePixel(PLAYER, x + i % 2, y, false);
+        });
+        Layer walls = screen.addLayer();
+        Layer overlay = screen.addLayer();
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int column = 0; column < maze.getWidth(); column++) {
+                if (maze.isWall(column, row)) {
+                    walls.writePixel(WALL, column + 1, row + 1, true);
+                }
+            }
+        }
+        screen.composite();
+        screen.renderChanges();
+        report("layer", screen, counter, frames, true, i -> {
+            overlay.clearRegion((x + (i + 1) % 2) * 2, y, 2, 1);
+            overlay.writePixel(PLAYER, x + i % 2, y, false);
+            screen.composite();
+        });
+    }
+
+    // EFFECTS: reports panning the board along the wide maze, both ways
+    private static void runPan(Screen screen, CountingStream counter, Maze wide, int frames) {
+        report("repaint", screen, counter, frames, true, i -> {
+            drawWindow(screen, wide, i % (PAN_WIDTH - VIEW), 0, VIEW);
+        });
+        report("scroll", screen, counter, frames, true, i -> {
+            int x = i % (PAN_WIDTH - VIEW);
+            if (x == 0) {
+                drawWindow(screen, wide, 0, 0, VIEW);
+            } else {
+                screen.scroll(1, 1, VIEW, VIEW, -1, 0);
+                drawWindow(screen, wide, x, VIEW - 1, 1);
+            }
+        });
+    }
+
+    // EFFECTS: writes the columns [from, from + count) of the window of the
+    // wide maze that starts at x to the board
+    private static void drawWindow(Screen screen, Maze wide, int x, int from, int count) {
+        for (int y = 0; y < VIEW; y++) {
+            for (int column = from; column < from + count; column++) {
+                screen.writePixel(wide.isWall(x + column, y) ? WALL : Pixel.EMPTY_PIXEL, column + 1, y + 1, true);
+            }
+        }
+    }
+
+    // EFFECTS: writes the walls of the top left part of the maze that fits the
+    // board in the dense mode, packed from the bits of the maze a word at a time
+    private static void drawDense(Screen screen, Maze maze, RenderMode mode) {
+        BitGrid grid = maze.getGrid();
+        int columns = VIEW * mode.getScale() / mode.getColumnCells();
+        long[] words = DENSE_ROWS;
+        for (int row = 0; row < VIEW; row++) {
+            for (int start = 0; start < columns; start += 64 / mode.getColumnCells()) {
+                int x = start * mode.getColumnCells();
+                int count = Math.min(64, VIEW * mode.getScale() - x);
+                for (int line = 0; line < mode.getRowCells(); line++) {
+                    long mask = count == 64 ? -1L : (1L << count) - 1;
+                    words[line] = ~grid.getBits(grid.indexOf(x, row * mode.getRowCells() + line), count) & mask;
+                }
+                for (int column = start; column < start + count / mode.getColumnCells(); column++) {
+                    screen.writePacked(denseGlyph(mode, words, (column - start) * mode.getColumnCells()),
+                            column + 2, row + 1);
+                }
+            }
+        }
+    }
+
+    // EFFECTS: returns the glyph of the walls at bit shift of the words
+    private static long denseGlyph(RenderMode mode, long[] words, int shift) {
+        if (mode == RenderMode.BRAILLE) {
+            char glyph = BlockGlyphs.braille(BlockGlyphs.brailleDots(words[0], words[1], words[2], words[3], shift));
+            return PackedPixel.pack(glyph, WALL_STYLE.getForegroundColor(), -1, -1);
+        }
+        return BlockGlyphs.halfBlock((words[0] >>> shift & 1) != 0 ? WALL_STYLE.getForegroundColor() : -1,
+                (words[1] >>> shift & 1) != 0 ? WALL_STYLE.getForegroundColor() : -1);
+    }
+
+    // EFFECTS: renders the frames drawn by draw, only the changed cells if
+    // retained, and prints the bytes, the time and the allocation of a frame,
+    // the first round warms up the JIT
+    private static void report(String name, Screen screen, CountingStream counter, int frames, boolean retained,
+            Frame draw) {
+        long bytes = counter.count;
+        long allocated = allocatedBytes();
+        long begin = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            draw.draw(i);
+            if (retained) {
+                screen.renderChanges();
+            } else {
+                screen.render();
+            }
+        }
+        long nanos = System.nanoTime() - begin;
+        allocated = allocatedBytes() - allocated;
+        System.out.printf("%7s %,14d %,12.0f %,16.1f%n", name, (counter.count - bytes) / frames,
+                frames * 1e9 / nanos, (double) allocated / frames);
+    }
+
+    // EFFECTS: returns the bytes allocated by this thread so far
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    // EFFECTS: writes the maze and a few lines of the info panel to the buffer
+    private static void drawMaze(Screen screen, Maze maze) {
+        for (int y = 0; y < maze.getHeight(); y++) {
+            for (int x = 0; x < maze.getWidth(); x++) {
+                screen.writePixel(maze.isWall(x, y) ? WALL : Pixel.EMPTY_PIXEL, x + 1, y + 1, true);
+            }
+        }
+        for (int line = 0; line < INFO.length; line++) {
+            screen.write(INFO[line], ConsoleApp.INFO_PANNEL_START_X, ConsoleApp.INFO_START_LINE + line,
+                    TextAttribute.DEFAULT, false, true);
+        }
+    }
+
+    // Frame writes the i-th frame to the buffer of the screen
+    private interface Frame {
+        void draw(int i);
+    }
+
+    // CountingStream throws the bytes away and counts them
+    private static class CountingStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ui.server.GameServer;
+
+// ServerLoadGenerator starts a GameServer in this JVM and connects idle and
+// active players to it over localhost. Idle players connect and never press
+// a key, idle players in game start a new game first. Active players start a
+// new game and press a random move key every interval, timing how long the
+// first byte of the redrawn screen takes.
+// it reports the sessions held, the keys per second, the latency of a key,
+// the heap and threads used per session and the CPU the JVM used while
+// every player was idle and while the active ones played
+// usage: ServerLoadGenerator [idle] [active] [seconds] [interval ms] [idle in game]
+public class ServerLoadGenerator {
+    private static final byte[] MOVES = {'w', 'a', 's', 'd'};
+    private static final int READ_TIMEOUT = 2000;
+    private static final int IDLE_SECONDS = 5;
+
+    private static final AtomicLong keys = new AtomicLong();
+    private static final AtomicLong bytes = new AtomicLong();
+    private static final AtomicLong timeouts = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        int idle = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int active = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int interval = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+        int inGame = args.length > 4 ? Integer.parseInt(args[4]) : 1000;
+
+        GameServer server = new GameServer(0, idle + inGame + active);
+        server.start();
+        List<Socket> idlePlayers = startIdle(server, idle, inGame);
+
+        long cpu = cpuTime();
+        long[][] latencies = new long[active][];
+        Thread[] players = startActive(server.getPort(), active, seconds, interval, latencies);
+        for (Thread player : players) {
+            player.join();
+        }
+        System.out.printf("%.1f%% of a core while active%n", percentOfCore(cpu, seconds));
+        report(server, idle + inGame + active, seconds, latencies);
+        for (Socket socket : idlePlayers) {
+            socket.close();
+        }
+        server.close();
+    }
+
+    // EFFECTS: connects idle players, the last inGame of them in a new game,
+    // and prints the heap and threads they take and the CPU used while idle
+    private static List<Socket> startIdle(GameServer server, int idle, int inGame) throws Exception {
+        long baseHeap = usedHeap();
+        int baseThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+        List<Socket> sockets = connectIdle(server.getPort(), idle, false);
+        sockets.addAll(connectIdle(server.getPort(), inGame, true));
+        awaitSessions(server, idle + inGame);
+        int sessions = Math.max(1, idle + inGame);
+        System.out.printf("%d idle sessions (%d in game), %.1f KB heap and %.2f threads each%n",
+                server.getNumOfSessions(), inGame, (usedHeap() - baseHeap) / 1024.0 / sessions,
+                (ManagementFactory.getThreadMXBean().getThreadCount() - baseThreads) / (double) sessions);
+        long cpu = cpuTime();
+        Thread.sleep(IDLE_SECONDS * 1000L);
+        System.out.printf("%.1f%% of a core while idle%n", percentOfCore(cpu, IDLE_SECONDS));
+        return sockets;
+    }
+
+    // EFFECTS: opens count connections that never send anything, or only
+    // start a new game and drain its first screen if inGame
+    private static List<Socket> connectIdle(int port, int count, boolean inGame) throws IOException {
+        List<Socket> sockets = new ArrayList<>();
+        byte[] buffer = new byte[16384];
+        for (int i = 0; i < count; i++) {
+            Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            if (inGame) {
+                socket.setSoTimeout(READ_TIMEOUT);
+                press(socket.getOutputStream(), socket.getInputStream(), buffer, '1');
+            }
+            sockets.add(socket);
+        }
+        return sockets;
+    }
+
+    // EFFECTS: starts count active players that play for the given seconds,
+    // player i writes the latencies of its keys in nanoseconds into latencies[i]
+    private static Thread[] startActive(int port, int count, int seconds, int interval, long[][] latencies) {
+        Thread[] players = new Thread[count];
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            players[i] = new Thread(null, () -> latencies[index] = play(port, index, seconds, interval),
+                    "load-player", 128 * 1024);
+            players[i].start();
+        }
+        return players;
+    }
+
+    // EFFECTS: starts a new game and presses random move keys every interval
+    // milliseconds for the given seconds, returns the latency of every key
+    private static long[] play(int port, int seed, int seconds, int interval) {
+        Random random = new Random(seed);
+        long[] latencies = new long[seconds * 1000 / interval + 1];
+        int count = 0;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setSoTimeout(READ_TIMEOUT);
+            socket.setTcpNoDelay(true);
+            InputStream in = socket.getInputStream();
+            OutputStream out = socket.getOutputStream();
+            byte[] buffer = new byte[16384];
+            press(out, in, buffer, '1');
+            long end = System.nanoTime() + seconds * 1_000_000_000L;
+            while (System.nanoTime() < end && count < latencies.length) {
+                Thread.sleep(interval);
+                latencies[count++] = press(out, in, buffer, MOVES[random.nextInt(MOVES.length)]);
+            }
+        } catch (IOException | InterruptedException e) {
+            System.out.println("player " + seed + " failed: " + e);
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    // EFFECTS: presses the key and drains the output it causes, returns the
+    // nanoseconds until the first byte of output or -1 if there was none
+    private static long press(OutputStream out, InputStream in, byte[] buffer, int key) throws IOException {
+        long start = System.nanoTime();
+        out.write(key);
+        out.flush();
+        keys.incrementAndGet();
+        try {
+            int read = in.read(buffer);
+            long latency = System.nanoTime() - start;
+            bytes.addAndGet(read);
+            while (in.available() > 0) {
+                bytes.addAndGet(in.read(buffer));
+            }
+            return latency;
+        } catch (SocketTimeoutException e) {
+            timeouts.incrementAndGet();
+            return -1;
+        }
+    }
+
+    // EFFECTS: waits until the server runs at least count sessions
+    private static void awaitSessions(GameServer server, int count) throws InterruptedException {
+        while (server.getNumOfSessions() < count) {
+            Thread.sleep(50);
+        }
+    }
+
+    // EFFECTS: prints the sessions, throughput and latency percentiles of the run
+    private static void report(GameServer server, int sessions, int seconds, long[][] latencies) {
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).filter(l -> l >= 0).sorted().toArray();
+        System.out.printf("%d sessions held at peak, %d accepted%n", sessions, server.getNumOfAccepted());
+        System.out.printf("%,d keys, %.0f keys/s, %,d KB sent, %d keys without output%n", keys.get(),
+                keys.get() / (double) seconds, bytes.get() / 1024, timeouts.get());
+        if (all.length > 0) {
+            System.out.printf("key latency p50 %.2f ms  p99 %.2f ms  max %.2f ms%n", all[all.length / 2] / 1e6,
+                    all[(int) (all.length * 0.99)] / 1e6, all[all.length - 1] / 1e6);
+        }
+    }
+
+    // EFFECTS: returns the CPU time used by the JVM in nanoseconds, or 0 if
+    // the JVM does not tell
+    private static long cpuTime() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+        }
+        return 0;
+    }
+
+    // EFFECTS: returns the CPU time used since the CPU time start, over the
+    // given seconds, as a percentage of one core
+    private static double percentOfCore(long start, int seconds) {
+        return (cpuTime() - start) / 1e7 / seconds;
+    }
+
+    // EFFECTS: returns the heap in use after a garbage collection
+    private static long usedHeap() throws InterruptedException {
+        System.gc();
+        Thread.sleep(100);
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,52 @@
+package benchmark;
+
+import java.util.Random;
+
+import model.maze.GeneratorType;
+import model.maze.Maze;
+import model.maze.solver.MazeSolver;
+import model.maze.solver.SolverType;
+import model.utility.BitGrid;
+
+// SolverBenchmark compares the query throughput of all the maze solvers.
+// every solver answers the same random road-to-road queries on the same
+// maze, after a warm-up over the same queries
+// usage: SolverBenchmark [size queries]
+public class SolverBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        Maze maze = new Maze(size, size, GeneratorType.BACKTRACKER, 1L);
+        int[] ends = randomRoads(maze.getGrid(), queries * 2, new Random(2));
+        System.out.println("maze " + size + " x " + size + ", " + queries + " queries");
+        for (SolverType type : SolverType.values()) {
+            MazeSolver solver = type.newSolver();
+            run(solver, maze, ends);
+            long begin = System.nanoTime();
+            long cells = run(solver, maze, ends);
+            double seconds = (System.nanoTime() - begin) / 1e9;
+            System.out.printf("%-18s %,12.0f queries/s  (%,d path cells)%n", type, queries / seconds, cells);
+        }
+    }
+
+    // EFFECTS: solves every pair of ends and returns the total path length
+    private static long run(MazeSolver solver, Maze maze, int[] ends) {
+        long cells = 0;
+        for (int i = 0; i + 1 < ends.length; i += 2) {
+            cells += solver.solve(maze, ends[i], ends[i + 1]).length;
+        }
+        return cells;
+    }
+
+    // EFFECTS: returns count random road cells of the grid
+    private static int[] randomRoads(BitGrid grid, int count, Random random) {
+        int[] roads = new int[count];
+        for (int i = 0; i < count; i++) {
+            int cell = grid.nextSetBit(random.nextInt(grid.size()));
+            roads[i] = cell == -1 ? grid.nextSetBit(0) : cell;
+        }
+        return roads;
+    }
+}
@@ -0,0 +1,39 @@
+package benchmark;
+
+import java.util.Random;
+
+import model.maze.MazeRowStream;
+
+// StreamBenchmark streams a very tall maze with MazeRowStream and reports
+// the rows per second and the heap in use, which stays flat because the
+// stream only keeps O(width) state
+// usage: StreamBenchmark [width rows]
+public class StreamBenchmark {
+
+    public static void main(String[] args) {
+        int width = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long rows = args.length > 1 ? Long.parseLong(args[1]) : 2_000_000L;
+
+        MazeRowStream stream = new MazeRowStream(width, new Random());
+        long[] roads = new long[1];
+        long report = Math.max(2, rows / 4 & ~1L);
+        long begin = System.nanoTime();
+        while (stream.getRowsEmitted() < rows - 2) {
+            stream.nextRows((y, row) -> roads[0] += row.count());
+            if (stream.getRowsEmitted() % report == 0) {
+                System.out.println(stream.getRowsEmitted() + " rows, heap used " + usedHeap() + " MB");
+            }
+        }
+        stream.finish((y, row) -> roads[0] += row.count());
+        long nanos = System.nanoTime() - begin;
+
+        System.out.printf("%,d rows of %d blocks, %,d roads%n", stream.getRowsEmitted(), width, roads[0]);
+        System.out.printf("%,.0f rows/s%n", stream.getRowsEmitted() * 1e9 / nanos);
+    }
+
+    // EFFECTS: returns the heap in use in megabytes
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return (runtime.totalMemory() - runtime.freeMemory()) >> 20;
+    }
+}
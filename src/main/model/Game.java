@@ -1,7 +1,6 @@
 package model;
 
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -9,36 +8,73 @@ import java.util.Set;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-import model.item.Breaker;
-import model.item.Coin;
-import model.item.Hint;
+import model.command.Command;
+import model.command.CommandLog;
 import model.item.Item;
+import model.item.ItemIndex;
 import model.item.ItemType;
-import model.item.Skip;
+import model.maze.FieldOfView;
+import model.maze.GeneratorType;
 import model.maze.Maze;
+import model.maze.solver.DistanceField;
+import model.player.Inventory;
 import model.player.Player;
 import model.utility.Coordinate;
+import model.utility.Direction;
+import model.utility.DirtyCells;
+import model.utility.IntList;
+import model.utility.SpatialIndex;
 
 // Game represents this maze game
 // it has a maze and player and all the game items on the maze
 // it keeps tracks of how many maze player has solved.
 // it has a list of items that are available on the map
 // the list will be randomly re-generated for each maze
+// every maze and item layout is derived from the game seed and the level,
+// so a level can be saved as the seed plus the changes made to it.
+// the player acts on the game through execute, every command that changes
+// the game is kept in a CommandLog, so the game can be rebuilt by replaying
+// the log from the seed or from its last checkpoint.
+// the cells that changed since a view last asked are kept as DirtyCells,
+// so the view only redraws them, the edited blocks of the maze can be kept
+// apart from the cells of the player and the items.
+// what the light of the player shows is its FieldOfView, made when a view
+// first asks for it and computed again only when the player moved, its
+// light changed or a wall was broken.
+// the items of a level are rolled from the first getItemTypes() item types,
+// which is kept in the saves, so a save made before an item type was added
+// regenerates the same items and its log replays on the same layout
 public class Game {
 
     private Maze maze;
     private Player player;
     private int reward;
-    private HashMap<Coordinate, Item> itemMap;
+    private ItemIndex itemIndex;
+    private SpatialIndex itemBuckets;
 
     private String gameMessage;
 
-    private int numOfItemOnMap;
-
-    private Random random;
+    private GeneratorType generatorType;
+    private long seed;
+    private int level;
+    private int itemTypes;
+
+    private IntList removedItems;
+    private boolean itemsEdited;
+    private LevelPipeline pipeline;
+    private DistanceField exitDistances;
+    private FieldOfView fieldOfView;
+    private CommandLog log;
+    private boolean recording;
+    private DirtyCells changes;
+    private int trackedEdits;
+    private int trackedPlayerCell;
 
     public static final double REWARD_TO_MAZE_SIZE_RATIO = 0.09375;
     public static final double NUM_OF_ITEMS_TO_MAZE_SIZE_RATIO = 0.05;
+    public static final int ITEM_BUCKET_SIZE = 8;
+    public static final int CHECKPOINT_INTERVAL = 256;
+    public static final int ITEM_TYPES = ItemType.values().length;
 
     // REQUIRES: (width % 2 == 0) and (height % 2 == 0) and (width and height) >= 8
     // EFFECTS: Constructs a new game object with a new player at 0,0
@@ -49,13 +85,94 @@ public class Game {
     // The actual maze's width and height will minus 2 from
     // the given width and height. These 2 are reserved for boarders.
     // Boarders are ignored when calculating the reward and num of items
+    // mazes are generated by the Randomized Prim's algorithm
     public Game(int width, int height) {
-        maze = new Maze(width - 2, height - 2);
+        this(width, height, GeneratorType.PRIM);
+    }
+
+    // REQUIRES: (width % 2 == 0) and (height % 2 == 0) and (width and height) >= 8
+    // EFFECTS: Constructs a new game like Game(width, height), but every maze
+    // of this game is generated by the given type of generator
+    public Game(int width, int height, GeneratorType generatorType) {
+        this(width, height, generatorType, new Random().nextLong());
+    }
+
+    // REQUIRES: (width % 2 == 0) and (height % 2 == 0) and (width and height) >= 8
+    // EFFECTS: Constructs a new game like Game(width, height, generatorType) at
+    // level 0, but every maze and item layout comes from the given seed,
+    // so the same arguments always give the same levels
+    public Game(int width, int height, GeneratorType generatorType, long seed) {
+        this(width, height, generatorType, seed, ITEM_TYPES);
+    }
+
+    // REQUIRES: (width % 2 == 0) and (height % 2 == 0) and (width and height) >= 8
+    // and 0 < itemTypes <= ITEM_TYPES
+    // EFFECTS: Constructs a new game like Game(width, height, generatorType, seed),
+    // but the items of every level are rolled from the first itemTypes item types
+    public Game(int width, int height, GeneratorType generatorType, long seed, int itemTypes) {
+        this.generatorType = generatorType;
+        this.seed = seed;
+        this.itemTypes = itemTypes;
         player = new Player();
-        random = new Random();
-        itemMap = new HashMap<>();
+        removedItems = new IntList();
+        log = new CommandLog();
+        recording = true;
+        init(new Level(seed, 0, width - 2, height - 2, generatorType, itemTypes));
         reward = Math.toIntExact(Math.round(maze.getHeight() * maze.getWidth() * REWARD_TO_MAZE_SIZE_RATIO));
-        init();
+    }
+
+    // REQUIRES: the log was recorded on a game constructed with the same arguments
+    // and 0 < itemTypes <= ITEM_TYPES
+    // EFFECTS: returns a new game of the given arguments with every command of
+    // the log executed on it in order. the new game has a log of its own
+    public static Game replay(int width, int height, GeneratorType generatorType, long seed, int itemTypes,
+                              CommandLog log) {
+        Game game = new Game(width, height, generatorType, seed, itemTypes);
+        for (int i = 0; i < log.size(); i++) {
+            game.execute(log.get(i));
+        }
+        return game;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs the command on the game. If it changed the game, it is
+    // appended to getLog() and true is returned, otherwise false is returned.
+    // a checkpoint is taken every CHECKPOINT_INTERVAL appended commands.
+    // nothing is appended while isRecording() is false
+    public boolean execute(byte command) {
+        if (!run(command)) {
+            return false;
+        }
+        if (!recording) {
+            return true;
+        }
+        log.append(command);
+        if (log.size() - log.getLastCheckpointOffset() >= CHECKPOINT_INTERVAL) {
+            checkpoint();
+        }
+        return true;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: turns the command log on or off. a game that is never saved,
+    // like the one of a bot, can skip the log and its checkpoints
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records a snapshot of the game in getLog() as the state after its last command
+    public void checkpoint() {
+        log.checkpoint(toCompactJson());
+    }
+
+    // EFFECTS: returns the commands executed on this game
+    public CommandLog getLog() {
+        return log;
     }
 
     // EFFECTS: true if getPlayer.getPosition().isSame(getMaze().getExit())
@@ -71,11 +188,11 @@ public class Game {
     // add getReward() to the player's inventory
     // getGameMessage() will give the message of the reward earned
     public void nextLevel(boolean skip) {
-        int width = maze.getWidth();
-        int height = maze.getHeight();
-        this.maze = new Maze(width, height);
-
-        init();
+        if (pipeline == null) {
+            init(new Level(seed, level + 1, maze.getWidth(), maze.getHeight(), generatorType, itemTypes));
+        } else {
+            init(pipeline.take(level + 1, generatorType));
+        }
         if (skip) {
             return;
         }
@@ -84,32 +201,154 @@ public class Game {
         player.getInventory().addCoins(reward);
     }
 
+    // REQUIRES: level >= 0
+    // MODIFIES: this
+    // EFFECTS: replaces the maze and the items with the ones of the given level,
+    // exactly as they were when that level was first reached.
+    // the player is moved to the start, nothing is rewarded
+    public void loadLevel(int level) {
+        init(new Level(seed, level, maze.getWidth(), maze.getHeight(), generatorType, itemTypes));
+        if (pipeline != null) {
+            pipeline.prefetch(level + 1, generatorType);
+        }
+    }
+
+    // REQUIRES: depth >= 1
+    // MODIFIES: this
+    // EFFECTS: starts generating the next depth levels in the background, so
+    // nextLevel can swap in a ready level instead of generating it
+    public void startPipeline(int depth) {
+        stopPipeline();
+        pipeline = new LevelPipeline(seed, maze.getWidth(), maze.getHeight(), depth, itemTypes);
+        pipeline.prefetch(level + 1, generatorType);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops the background generation, the following levels
+    // are generated by nextLevel itself
+    public void stopPipeline() {
+        if (pipeline != null) {
+            pipeline.close();
+            pipeline = null;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the distance field towards the exit of the maze.
+    // it is made again only if the maze or its exit was replaced
+    public DistanceField getExitDistances() {
+        int exit = maze.getGrid().indexOf(maze.getExit().getX(), maze.getExit().getY());
+        if (exitDistances.getMaze() != maze || exitDistances.getTarget() != exit) {
+            exitDistances = new DistanceField(maze, exit);
+        }
+        return exitDistances;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the field of view of the player on the maze, with the
+    // cells it explored on it, updated to where the player is and how far its
+    // light shows now. it is made again only if the maze was replaced
+    public FieldOfView getFieldOfView() {
+        if (fieldOfView == null || fieldOfView.getMaze() != maze) {
+            fieldOfView = new FieldOfView(maze);
+        }
+        Coordinate pos = player.getPosition();
+        fieldOfView.update(pos.getX(), pos.getY(), player.getLightRadius());
+        return fieldOfView;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the number of steps from the player to the exit,
+    // or DistanceField.UNREACHABLE if the exit can not be reached
+    public int getDistanceToExit() {
+        Coordinate pos = player.getPosition();
+        return getExitDistances().getDistance(pos.getX(), pos.getY());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the direction of the player's next step on a shortest
+    // path to the exit, or null if the player is at the exit or can not reach it
+    public Direction getNextStepToExit() {
+        Coordinate pos = player.getPosition();
+        int cell = maze.getGrid().indexOf(pos.getX(), pos.getY());
+        int next = getExitDistances().nextStep(cell);
+        if (next == -1) {
+            return null;
+        } else if (next == cell - 1) {
+            return Direction.LEFT;
+        } else if (next == cell + 1) {
+            return Direction.RIGHT;
+        } else if (next < cell) {
+            return Direction.UP;
+        } else {
+            return Direction.DOWN;
+        }
+    }
+
+    // EFFECTS: returns the pipeline of the game, or null if it is not started
+    public LevelPipeline getPipeline() {
+        return pipeline;
+    }
+
     // EFFECTS: true if the given pos is an Item position
     public boolean isItem(Coordinate pos) {
-        return itemMap.containsKey(pos);
+        return maze.isInRange(pos) && itemIndex.contains(cellOf(pos));
     }
 
     // EFFECTS: return the number of items on the map/maze
     public int getNumOfItems() {
-        return itemMap.size();
+        return itemIndex.size();
     }
 
-    // EFFECTS: return the iterator of the item positons
+    // EFFECTS: returns the index of the items on the map by packed cell,
+    // cell = y * getMaze().getWidth() + x. Iterate it by slot to visit
+    // every item without allocating
+    public ItemIndex getItemIndex() {
+        return itemIndex;
+    }
+
+    // MODIFIES: out
+    // EFFECTS: appends the cells of the items in the rectangle [x, x + w) x [y, y + h)
+    // to out and returns how many were appended. It only looks at the items
+    // near the rectangle, not at every item on the map
+    public int getItemsInRect(int x, int y, int w, int h, IntList out) {
+        return itemBuckets.queryRect(x, y, w, h, out);
+    }
+
+    // REQUIRES: radius >= 0
+    // MODIFIES: out
+    // EFFECTS: appends the cells of the items at most radius blocks away from
+    // (x, y) in a straight line to out and returns how many were appended
+    public int getItemsWithinRadius(int x, int y, int radius, IntList out) {
+        return itemBuckets.queryRadius(x, y, radius, out);
+    }
+
+    // EFFECTS: return a snapshot of the item positons and the items,
+    // it allocates a new map, getItemIndex() is cheaper to iterate
     public Set<Map.Entry<Coordinate, Item>> getItemEntrySet() {
-        return itemMap.entrySet();
+        Map<Coordinate, Item> snapshot = new LinkedHashMap<>();
+        for (int slot = 0; slot < itemIndex.size(); slot++) {
+            snapshot.put(positionOf(itemIndex.getCell(slot)), itemIndex.getItem(slot));
+        }
+        return snapshot.entrySet();
     }
 
     // EFFECTS: return the item by the given pos
     // if the pos if not in the list, null will be returned
     public Item getItem(Coordinate pos) {
-        return itemMap.get(pos);
+        return maze.isInRange(pos) ? itemIndex.get(cellOf(pos)) : null;
     }
 
+    // REQUIRES: getMaze().isInRange(pos)
     // MODIFIES: this
     // EFFECTS: add the item to the map with the corresponding pos
-    // if the pos already has an item, nothing will happen
+    // if the pos already has an item, it is replaced
     public void setItem(Coordinate pos, Item item) {
-        itemMap.put(pos, item);
+        itemsEdited = true;
+        changes.add(cellOf(pos));
+        if (itemIndex.put(cellOf(pos), item) == null) {
+            itemBuckets.add(cellOf(pos));
+        }
     }
 
     public int getReward() {
@@ -121,23 +360,93 @@ public class Game {
     public void removeItem(Coordinate pos) {
         // items.remove(index);
         // itemPosition.remove(index);
-        itemMap.remove(pos);
+        if (maze.isInRange(pos) && itemIndex.remove(cellOf(pos)) != null) {
+            changes.add(cellOf(pos));
+            itemBuckets.remove(cellOf(pos));
+            removedItems.add(cellOf(pos));
+        }
     }
 
     // MODIFIES: this
     // EFFECTS: remove all the items on the map
     public void removeAllItemsOnMap() {
-        itemMap.clear();
+        itemsEdited = true;
+        for (int slot = 0; slot < itemIndex.size(); slot++) {
+            changes.add(itemIndex.getCell(slot));
+        }
+        itemIndex.clear();
+        itemBuckets.clear();
     }
 
     public Maze getMaze() {
         return maze;
     }
 
+    // REQUIRES: out has the size of getMaze()
+    // MODIFIES: this, out
+    // EFFECTS: adds the cells changed since the last call to out: the cells
+    // the player left and entered, the items placed or removed and the edited
+    // blocks of the maze, or marks every cell after a new level.
+    // the changes are forgotten after
+    public void takeChanges(DirtyCells out) {
+        takeChanges(out, out);
+    }
+
+    // REQUIRES: walls and objects have the size of getMaze()
+    // MODIFIES: this, walls, objects
+    // EFFECTS: like takeChanges(out), but adds the edited blocks of the maze
+    // to walls and the cells of the player and the items to objects, so a
+    // view can redraw the layer of the walls only when they change.
+    // once a view asked for getFieldOfView(), it is updated and the cells
+    // explored since are added to walls, as they show the maze for the first time.
+    // a new level marks every cell of both
+    public void takeChanges(DirtyCells walls, DirtyCells objects) {
+        int cell = cellOf(player.getPosition());
+        if (cell != trackedPlayerCell) {
+            changes.add(trackedPlayerCell);
+            changes.add(cell);
+            trackedPlayerCell = cell;
+        }
+        if (changes.isAll()) {
+            walls.markAll();
+        }
+        for (; trackedEdits < maze.getNumOfEdits(); trackedEdits++) {
+            int[] edit = maze.getEdit(trackedEdits);
+            walls.addRegion(edit[0], edit[1], edit[2], edit[3]);
+        }
+        if (fieldOfView != null) {
+            getFieldOfView().takeRevealed(walls);
+        }
+        objects.addAll(changes);
+        changes.clear();
+    }
+
     public Player getPlayer() {
         return player;
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getItemTypes() {
+        return itemTypes;
+    }
+
+    public GeneratorType getGeneratorType() {
+        return generatorType;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: the following mazes will be generated by the given type of generator
+    public void setGeneratorType(GeneratorType generatorType) {
+        this.generatorType = generatorType;
+    }
+
     public String getGameMessage() {
         return gameMessage;
     }
@@ -146,57 +455,133 @@ public class Game {
         this.gameMessage = message;
     }
 
-    // REQUIRES: items != null
     // MODIFIES: this
-    // EFFECTS: randomly put different items to the items list
-    private void generateItems() {
-        int index;
-        while (itemMap.size() < numOfItemOnMap) {
-            index = random.nextInt(maze.getNumOfRoad());
-            Coordinate road = maze.getRoad(index);
-            if (itemMap.containsKey(road)) {
-                continue;
-            }
+    // EFFECTS: runs the command and returns true if it changed the game
+    private boolean run(byte command) {
+        switch (Command.getOpcode(command)) {
+            case Command.MOVE:
+                return tryMove(Command.getDirection(command));
+            case Command.PICK_UP:
+                return pickUpItem();
+            case Command.APPLY:
+                return applyItem(Command.getArgument(command));
+            case Command.EXIT:
+                return exitLevel();
+            default:
+                return false;
+        }
+    }
 
-            index = random.nextInt(ItemType.values().length);
-            ItemType type = ItemType.values()[index];
-
-            if (type == ItemType.COIN) {
-                itemMap.put(road, new Coin(random.nextInt(20) + 1));
-            } else if (type == ItemType.BREAKER) {
-                int d = random.nextInt(5) + 1;
-                itemMap.put(road, new Breaker(d));
-            } else if (type == ItemType.SKIP) {
-                itemMap.put(road, new Skip());
-            } else {
-                itemMap.put(road, new Hint());
+    // MODIFIES: this
+    // EFFECTS: try move the player 1 unit along the direction
+    // if the movement will cause the player to be out of the
+    // boundary of the game or the destination is a wall
+    // the function will only update the player's direction to the
+    // given direction and the movement will not occur.
+    // returns false if nothing changed
+    private boolean tryMove(Direction direction) {
+        Coordinate pos = player.getPosition();
+        int x = pos.getX() + (direction == Direction.RIGHT ? 1 : direction == Direction.LEFT ? -1 : 0);
+        int y = pos.getY() + (direction == Direction.DOWN ? 1 : direction == Direction.UP ? -1 : 0);
+        if (!maze.isInRange(x, y) || maze.isWall(x, y)) {
+            if (player.getDirection() == direction) {
+                return false;
             }
+            player.setDirection(direction);
+            return true;
+        }
+        player.move(direction);
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: if there is an item at the player's position:
+    // an auto-applied item is applied and removed from the map,
+    // any other item is moved to the inventory bag with its report as
+    // the game message, unless the bag already has
+    // Player.TERMINAL_GUI_NUM_RESTRICT items, then "Your bag is full..." is
+    // the game message and the item stays. returns false if there is no item
+    private boolean pickUpItem() {
+        Coordinate pos = player.getPosition();
+        Item item = getItem(pos);
+        if (item == null) {
+            return false;
+        }
+        Inventory inventory = player.getInventory();
+        if (item.isAutoApply()) {
+            item.apply(this);
+        } else if (inventory.getInventorySize() >= Player.TERMINAL_GUI_NUM_RESTRICT) {
+            gameMessage = "Your bag is full...";
+            return true;
+        } else {
+            inventory.addItem(item);
+            gameMessage = item.report();
+        }
+        removeItem(pos);
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: applies the item at the index of the player's inventory bag and
+    // removes it from the bag. returns false if there is no such item
+    private boolean applyItem(int index) {
+        Item item = player.getInventory().getItem(index);
+        if (item == null) {
+            return false;
+        }
+        item.apply(this);
+        player.getInventory().removeItem(index);
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: if isEnded() goes to the next level with the reward and returns
+    // true, otherwise returns false
+    private boolean exitLevel() {
+        if (!isEnded()) {
+            return false;
         }
+        nextLevel(false);
+        return true;
     }
 
-    // REQUIRES: maze != null && player != null
+    // REQUIRES: player != null
     // MODIFIES: this
-    // EFFECTS: init the maze. It does the following:
+    // EFFECTS: init the given level. It does the following:
+    // set the maze and the items to the level's
     // set the player's position to the maze's starting position
-    // clear items' list (both items and itemPosition)
-    // re-generate the items list (both items and itemPosition)
+    // clear the record of the removed items
+    // mark every cell as changed
     // set gameMessage to be "New Maze !!!"
-    private void init() {
+    private void init(Level next) {
+        level = next.getNumber();
+        maze = next.getMaze();
+        itemIndex = next.getItems();
+        itemBuckets = new SpatialIndex(maze.getWidth(), maze.getHeight(), ITEM_BUCKET_SIZE);
+        for (int slot = 0; slot < itemIndex.size(); slot++) {
+            itemBuckets.add(itemIndex.getCell(slot));
+        }
+        exitDistances = next.getExitDistances();
         player.setPosition(maze.getStart());
-        itemMap.clear();
+        if (changes == null || changes.getWidth() != maze.getWidth() || changes.getHeight() != maze.getHeight()) {
+            changes = new DirtyCells(maze.getWidth(), maze.getHeight());
+        }
+        changes.markAll();
+        trackedEdits = maze.getNumOfEdits();
+        trackedPlayerCell = cellOf(player.getPosition());
+        removedItems.clear();
+        itemsEdited = false;
         gameMessage = "New Maze !!!";
-        numOfItemOnMap = Math.toIntExact(Math.round(maze.getNumOfRoad() * NUM_OF_ITEMS_TO_MAZE_SIZE_RATIO));
-
-        generateItems();
     }
 
     // EFFECTS: convert the game to a JSON object
     public JSONObject toJson() {
-        JSONObject game = new JSONObject(this);
-        game.remove("reward");
-        game.remove("numOfItems");
-        game.remove("ended");
-        game.remove("itemPositionIterator");
+        JSONObject game = new JSONObject();
+        game.put("gameMessage", gameMessage);
+        game.put("generatorType", generatorType);
+        game.put("seed", seed);
+        game.put("level", level);
+        game.put("itemTypes", itemTypes);
         game.put("maze", maze.toJson());
         game.put("player", player.toJson());
         game.put("width", maze.getWidth() + 2);
@@ -205,19 +590,50 @@ public class Game {
         return game;
     }
 
-    // EFFECTS: converts the itemMap to a JSONArray
+    // EFFECTS: convert the game to a JSON object that does not contain the maze
+    // blocks or the item layout. they are regenerated from the seed and the
+    // level, then the maze edits and the removed items are replayed on them.
+    // if items were placed by setItem, the items are written as in toJson
+    public JSONObject toCompactJson() {
+        JSONObject game = new JSONObject();
+        game.put("gameMessage", gameMessage);
+        game.put("generatorType", generatorType);
+        game.put("seed", seed);
+        game.put("level", level);
+        game.put("itemTypes", itemTypes);
+        game.put("maze", maze.toCompactJson());
+        game.put("player", player.toJson());
+        game.put("width", maze.getWidth() + 2);
+        game.put("height", maze.getHeight() + 2);
+        if (itemsEdited) {
+            game.put("items", itemMapToJsonArray());
+        } else {
+            game.put("removedItems", new JSONArray(removedItems.toArray()));
+        }
+        return game;
+    }
+
+    // EFFECTS: converts the items on the map to a JSONArray
     private JSONArray itemMapToJsonArray() {
-        Iterator<Coordinate> keys = itemMap.keySet().iterator();
         JSONArray items = new JSONArray();
-        while (keys.hasNext()) {
+        for (int slot = 0; slot < itemIndex.size(); slot++) {
             JSONObject item = new JSONObject();
-            Coordinate key = keys.next();
-            item.put("position", key.toJson());
-            item.put("item", itemMap.get(key).toJson());
+            item.put("position", positionOf(itemIndex.getCell(slot)).toJson());
+            item.put("item", itemIndex.getItem(slot).toJson());
 
             items.put(item);
         }
 
         return items;
     }
+
+    // EFFECTS: returns the packed cell of the position in the maze
+    private int cellOf(Coordinate pos) {
+        return pos.getY() * maze.getWidth() + pos.getX();
+    }
+
+    // EFFECTS: returns the position of the packed cell in the maze
+    private Coordinate positionOf(int cell) {
+        return new Coordinate(cell % maze.getWidth(), cell / maze.getWidth());
+    }
 }
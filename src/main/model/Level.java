@@ -0,0 +1,81 @@
+package model;
+
+import java.util.Random;
+
+import model.item.ItemIndex;
+import model.item.placement.ItemPlacer;
+import model.item.placement.UniformPolicy;
+import model.maze.GeneratorType;
+import model.maze.Maze;
+import model.maze.solver.DistanceField;
+import model.utility.Seeds;
+
+// Level is one level of a game, its maze and the items placed on the maze.
+// a level only depends on the game seed, its number, its size and
+// the generator type, so it can be built ahead of time on any thread
+// and handed to the game when the player gets there.
+// the items are placed uniformly and the distance field towards the exit
+// is computed with the level. the types of the items are drawn from the first
+// itemTypes item types, so the levels of a save made before a type was added
+// are rolled the same way they were then
+class Level {
+    private static final long MAZE_KEY = 0;
+    private static final long ITEMS_KEY = 1;
+    private static final ItemPlacer[] PLACERS = placers();
+
+    private final int number;
+    private final GeneratorType generatorType;
+    private final Maze maze;
+    private final ItemIndex items;
+    private final DistanceField exitDistances;
+
+    // REQUIRES: (width % 2 == 0) and (height % 2 == 0) and (width and height) >= 8
+    // EFFECTS: generates the maze and the items of the given level from every item type
+    Level(long seed, int number, int width, int height, GeneratorType generatorType) {
+        this(seed, number, width, height, generatorType, Game.ITEM_TYPES);
+    }
+
+    // REQUIRES: (width % 2 == 0) and (height % 2 == 0) and (width and height) >= 8
+    // and 0 < itemTypes <= Game.ITEM_TYPES
+    // EFFECTS: generates the maze and the items of the given level, the items
+    // are of the first itemTypes item types
+    Level(long seed, int number, int width, int height, GeneratorType generatorType, int itemTypes) {
+        this.number = number;
+        this.generatorType = generatorType;
+        maze = new Maze(width, height, generatorType, Seeds.mix(seed, number, MAZE_KEY));
+        int numOfItems = Math.toIntExact(Math.round(maze.getNumOfRoad() * Game.NUM_OF_ITEMS_TO_MAZE_SIZE_RATIO));
+        items = PLACERS[itemTypes].place(maze, numOfItems, new Random(Seeds.mix(seed, number, ITEMS_KEY)));
+        exitDistances = new DistanceField(maze, maze.getGrid().indexOf(maze.getExit().getX(), maze.getExit().getY()));
+    }
+
+    int getNumber() {
+        return number;
+    }
+
+    GeneratorType getGeneratorType() {
+        return generatorType;
+    }
+
+    Maze getMaze() {
+        return maze;
+    }
+
+    DistanceField getExitDistances() {
+        return exitDistances;
+    }
+
+    // EFFECTS: returns the items of the level by their packed cells
+    ItemIndex getItems() {
+        return items;
+    }
+
+    // EFFECTS: returns the placer over the first n item types at index n
+    private static ItemPlacer[] placers() {
+        ItemPlacer[] placers = new ItemPlacer[Game.ITEM_TYPES + 1];
+        for (int n = 1; n < placers.length; n++) {
+            placers[n] = new ItemPlacer(new UniformPolicy(), n);
+        }
+        return placers;
+    }
+
+}
@@ -0,0 +1,168 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.maze.GeneratorType;
+
+// LevelPipeline keeps the next few levels of a game generated ahead of time
+// on a background thread, so moving to the next level does not have to wait
+// for a maze to be carved.
+// the queue holds at most getDepth() consecutive levels of one generator type.
+// taking a level that is not queued, or of another type, empties the queue
+// and the level is generated on the calling thread instead
+public class LevelPipeline {
+    private final long seed;
+    private final int width;
+    private final int height;
+    private final int depth;
+    private final int itemTypes;
+
+    private final ArrayDeque<Future<Level>> queue;
+    private final ExecutorService executor;
+    private int firstNumber;
+    private GeneratorType queuedType;
+
+    private long hits;
+    private long fallbacks;
+    private long lastWaitNanos;
+    private long totalWaitNanos;
+
+    // REQUIRES: depth >= 1, width and height are valid maze sizes
+    // EFFECTS: constructs an empty pipeline for levels of the given maze size
+    // with items of every item type
+    public LevelPipeline(long seed, int width, int height, int depth) {
+        this(seed, width, height, depth, Game.ITEM_TYPES);
+    }
+
+    // REQUIRES: depth >= 1, width and height are valid maze sizes,
+    // 0 < itemTypes <= Game.ITEM_TYPES
+    // EFFECTS: constructs an empty pipeline for levels of the given maze size
+    // with items of the first itemTypes item types
+    public LevelPipeline(long seed, int width, int height, int depth, int itemTypes) {
+        this.seed = seed;
+        this.itemTypes = itemTypes;
+        this.width = width;
+        this.height = height;
+        this.depth = depth;
+        queue = new ArrayDeque<>(depth);
+        executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "level-pipeline");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    // EFFECTS: returns the number of queued levels, ready or not
+    public int getNumOfQueued() {
+        return queue.size();
+    }
+
+    // EFFECTS: returns the number of queued levels that are already generated
+    public int getNumOfReady() {
+        int ready = 0;
+        for (Future<Level> future : queue) {
+            ready += future.isDone() ? 1 : 0;
+        }
+        return ready;
+    }
+
+    // EFFECTS: returns the number of levels that were taken from the queue
+    public long getHits() {
+        return hits;
+    }
+
+    // EFFECTS: returns the number of levels that had to be generated on the
+    // calling thread because they were not queued
+    public long getFallbacks() {
+        return fallbacks;
+    }
+
+    // EFFECTS: returns how many nanoseconds the last take waited for its level
+    public long getLastWaitNanos() {
+        return lastWaitNanos;
+    }
+
+    // EFFECTS: returns how many nanoseconds all the takes waited in total
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: queues the levels from number on, of the given type,
+    // until getDepth() levels are queued. a queue that does not start at
+    // that level of that type is dropped first
+    public void prefetch(int number, GeneratorType type) {
+        if (type != queuedType || number != firstNumber) {
+            drop(queue.size());
+        }
+        if (queue.isEmpty()) {
+            firstNumber = number;
+            queuedType = type;
+        }
+        while (queue.size() < depth) {
+            int next = firstNumber + queue.size();
+            GeneratorType nextType = queuedType;
+            queue.addLast(executor.submit(() -> new Level(seed, next, width, height, nextType, itemTypes)));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops the background thread, queued levels are dropped
+    public void close() {
+        executor.shutdownNow();
+        queue.clear();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the level of the given number and type, from the queue
+    // if it is there or generated now otherwise, then queues the levels after it
+    Level take(int number, GeneratorType type) {
+        long begin = System.nanoTime();
+        Level level = poll(number, type);
+        if (level == null) {
+            level = new Level(seed, number, width, height, type, itemTypes);
+            fallbacks++;
+        } else {
+            hits++;
+        }
+        lastWaitNanos = System.nanoTime() - begin;
+        totalWaitNanos += lastWaitNanos;
+        prefetch(number + 1, type);
+        return level;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the queued levels before the given one and returns it,
+    // waiting for it if it is still being generated. if it is not queued the
+    // whole queue is dropped and null is returned
+    private Level poll(int number, GeneratorType type) {
+        if (type != queuedType || number < firstNumber || number >= firstNumber + queue.size()) {
+            drop(queue.size());
+            return null;
+        }
+        drop(number - firstNumber);
+        firstNumber++;
+        try {
+            return queue.pollFirst().get();
+        } catch (InterruptedException | ExecutionException e) {
+            return null;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: cancels and removes the first count queued levels
+    private void drop(int count) {
+        for (int i = 0; i < count; i++) {
+            queue.pollFirst().cancel(true);
+            firstNumber++;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package model.command;
+
+import model.utility.Direction;
+
+// Command encodes one action of the player on a Game in a single byte:
+// the high 3 bits are the opcode and the low 5 bits are its argument.
+// a MOVE carries the ordinal of the direction, an APPLY carries the index
+// of the item in the inventory, PICK_UP and EXIT carry nothing
+public class Command {
+    public static final int MOVE = 0;
+    public static final int PICK_UP = 1;
+    public static final int APPLY = 2;
+    public static final int EXIT = 3;
+
+    private static final int ARGUMENT_BITS = 5;
+    private static final int ARGUMENT_MASK = (1 << ARGUMENT_BITS) - 1;
+
+    private Command() {
+    }
+
+    // EFFECTS: returns the command that moves or turns the player towards dir
+    public static byte move(Direction dir) {
+        return encode(MOVE, dir.ordinal());
+    }
+
+    // EFFECTS: returns the command that picks up the item under the player
+    public static byte pickUp() {
+        return encode(PICK_UP, 0);
+    }
+
+    // REQUIRES: index >= 0 && index < 32
+    // EFFECTS: returns the command that applies the item at the index of the inventory
+    public static byte apply(int index) {
+        return encode(APPLY, index);
+    }
+
+    // EFFECTS: returns the command that goes to the next level if the player is at the exit
+    public static byte exit() {
+        return encode(EXIT, 0);
+    }
+
+    // EFFECTS: returns the opcode of the command
+    public static int getOpcode(byte command) {
+        return (command & 0xFF) >>> ARGUMENT_BITS;
+    }
+
+    // EFFECTS: returns the argument of the command
+    public static int getArgument(byte command) {
+        return command & ARGUMENT_MASK;
+    }
+
+    // EFFECTS: returns the direction of a MOVE command
+    public static Direction getDirection(byte command) {
+        return Direction.values()[getArgument(command)];
+    }
+
+    // EFFECTS: packs the opcode and the argument into one byte
+    private static byte encode(int opcode, int argument) {
+        return (byte) (opcode << ARGUMENT_BITS | argument & ARGUMENT_MASK);
+    }
+}
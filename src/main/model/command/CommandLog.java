@@ -0,0 +1,104 @@
+package model.command;
+
+import java.util.Arrays;
+
+import org.json.JSONObject;
+
+// CommandLog is the append-only history of the commands executed on a Game,
+// one byte per command. Replaying the commands in order on the state the log
+// started from gives back the state of the game.
+// a checkpoint is a snapshot of the game taken after a given number of
+// commands, so the state can be rebuilt from the last checkpoint instead of
+// from the start. only the last checkpoint is kept, an older one is never
+// read again and would keep a whole snapshot alive for every
+// Game.CHECKPOINT_INTERVAL commands. The log also remembers how much of it was already flushed
+// to a file, so saving only has to write the commands after that
+public class CommandLog {
+    private byte[] commands;
+    private int size;
+    private JSONObject lastCheckpoint;
+    private int lastCheckpointOffset;
+    private int numOfCheckpoints;
+    private int flushed;
+    private int flushedCheckpoints;
+
+    // EFFECTS: constructs an empty log without any checkpoint
+    public CommandLog() {
+        commands = new byte[64];
+        size = 0;
+        lastCheckpoint = null;
+        lastCheckpointOffset = 0;
+        numOfCheckpoints = 0;
+        flushed = 0;
+        flushedCheckpoints = 0;
+    }
+
+    // EFFECTS: returns the number of commands in the log
+    public int size() {
+        return size;
+    }
+
+    // REQUIRES: index >= 0 && index < size()
+    // EFFECTS: returns the command at the index
+    public byte get(int index) {
+        return commands[index];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends the command to the end of the log
+    public void append(byte command) {
+        if (size == commands.length) {
+            commands = Arrays.copyOf(commands, size * 2);
+        }
+        commands[size++] = command;
+    }
+
+    // REQUIRES: from >= 0 && from <= to && to <= size()
+    // EFFECTS: returns a copy of the commands in [from, to)
+    public byte[] toArray(int from, int to) {
+        return Arrays.copyOfRange(commands, from, to);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the snapshot as the state after the first size() commands,
+    // in place of the last checkpoint
+    public void checkpoint(JSONObject snapshot) {
+        lastCheckpoint = snapshot;
+        lastCheckpointOffset = size;
+        numOfCheckpoints++;
+    }
+
+    // EFFECTS: returns the number of checkpoints taken, only the last one is kept
+    public int getNumOfCheckpoints() {
+        return numOfCheckpoints;
+    }
+
+    // REQUIRES: getNumOfCheckpoints() > 0
+    // EFFECTS: returns the snapshot of the last checkpoint
+    public JSONObject getLastCheckpoint() {
+        return lastCheckpoint;
+    }
+
+    // EFFECTS: returns the number of commands before the last checkpoint,
+    // or 0 if there is no checkpoint
+    public int getLastCheckpointOffset() {
+        return lastCheckpointOffset;
+    }
+
+    // EFFECTS: returns the number of commands that were flushed
+    public int getFlushed() {
+        return flushed;
+    }
+
+    // EFFECTS: true if a checkpoint was taken after the last flush
+    public boolean hasUnflushedCheckpoint() {
+        return numOfCheckpoints != flushedCheckpoints;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks every command and checkpoint so far as flushed
+    public void markFlushed() {
+        flushed = size;
+        flushedCheckpoints = numOfCheckpoints;
+    }
+}
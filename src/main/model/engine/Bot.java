@@ -0,0 +1,11 @@
+package model.engine;
+
+import model.Game;
+
+// Bot is a scripted or AI player that picks the command of each turn,
+// so a game can be played by an Engine without anyone at a terminal
+public interface Bot {
+
+    // EFFECTS: returns the command to play on the game this turn
+    byte nextCommand(Game game);
+}
@@ -0,0 +1,96 @@
+package model.engine;
+
+import model.Game;
+import model.command.Command;
+
+// Engine runs the rules of a Game without any user interface.
+// a turn is one command of the player followed by picking up the item
+// under the player and going to the next level if the player is at the
+// exit, exactly like one key press in the console. The console and the
+// bots both play through it, and it counts the turns, the moves and
+// the levels passed. time passes in ticks of a fixed length, apart from
+// the turns, and is what the rules that do not wait for the player run on.
+// no rule runs on time yet, so while no key is waiting nothing has to be ticked
+public class Engine {
+    public static final long NO_EVENT = Long.MAX_VALUE;
+
+    private final Game game;
+    private long turns;
+    private long moves;
+    private long levels;
+    private long ticks;
+
+    // EFFECTS: constructs an engine that plays the given game
+    public Engine(Game game) {
+        this.game = game;
+        turns = 0;
+        moves = 0;
+        levels = 0;
+        ticks = 0;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: plays one turn of the command and returns true if
+    // the command itself changed the game
+    public boolean step(byte command) {
+        int level = game.getLevel();
+        boolean changed = game.execute(command);
+        game.execute(Command.pickUp());
+        game.execute(Command.exit());
+
+        turns++;
+        if (changed && Command.getOpcode(command) == Command.MOVE) {
+            moves++;
+        }
+        if (game.getLevel() != level) {
+            levels++;
+        }
+        return changed;
+    }
+
+    // REQUIRES: count >= 0
+    // MODIFIES: this
+    // EFFECTS: plays count turns of the commands picked by the bot
+    public void run(Bot bot, int count) {
+        for (int i = 0; i < count; i++) {
+            step(bot.nextCommand(game));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: advances the time of the game by one tick
+    public void tick() {
+        ticks++;
+    }
+
+    // EFFECTS: returns the number of ticks until a rule that runs on time
+    // changes the game, or NO_EVENT if none is waiting, so only a turn can change it
+    public long getTicksToNextEvent() {
+        return NO_EVENT;
+    }
+
+    // EFFECTS: returns the number of turns played
+    public long getTurns() {
+        return turns;
+    }
+
+    // EFFECTS: returns the number of moves and turns of the player that
+    // were not blocked
+    public long getMoves() {
+        return moves;
+    }
+
+    // EFFECTS: returns the number of level changes, by the exit or by a Skip
+    public long getLevelsPassed() {
+        return levels;
+    }
+
+    // EFFECTS: returns the number of ticks passed
+    public long getTicks() {
+        return ticks;
+    }
+}
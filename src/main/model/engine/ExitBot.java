@@ -0,0 +1,18 @@
+package model.engine;
+
+import model.Game;
+import model.command.Command;
+import model.utility.Direction;
+
+// ExitBot walks a shortest path to the exit of every level by following
+// the distance field of the game. It never uses its items
+public class ExitBot implements Bot {
+
+    // EFFECTS: returns a move towards the exit, or a move down if the
+    // exit can not be reached from the player
+    @Override
+    public byte nextCommand(Game game) {
+        Direction next = game.getNextStepToExit();
+        return Command.move(next == null ? Direction.DOWN : next);
+    }
+}
@@ -0,0 +1,31 @@
+package model.engine;
+
+import java.util.Random;
+
+import model.Game;
+import model.command.Command;
+import model.player.Player;
+import model.utility.Direction;
+
+// RandomBot walks in random directions and now and then applies a random
+// item of its inventory. The same seed always plays the same commands
+public class RandomBot implements Bot {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Random random;
+
+    // EFFECTS: constructs a bot that plays from the given seed
+    public RandomBot(long seed) {
+        random = new Random(seed);
+    }
+
+    // EFFECTS: returns a move in a random direction, or one time in
+    // sixteen the application of a random inventory slot
+    @Override
+    public byte nextCommand(Game game) {
+        if (random.nextInt(16) == 0) {
+            return Command.apply(random.nextInt(Player.TERMINAL_GUI_NUM_RESTRICT));
+        }
+        return Command.move(DIRECTIONS[random.nextInt(DIRECTIONS.length)]);
+    }
+}
@@ -34,22 +34,20 @@ public class Breaker extends Item {
     @Override
     public void apply(Game g) {
         Direction dir = g.getPlayer().getDirection();
-        Coordinate coord = g.getPlayer().getPosition();
+        Coordinate pos = g.getPlayer().getPosition();
         Maze maze = g.getMaze();
 
-        int saveX = coord.getX();
-        int saveY = coord.getY();
-
-        Coordinate save = new Coordinate(saveX, saveY);
-
-        int destroyed = 0;
-        for (int i = 1; i <= range; i++) {
-            save.go(dir, 1);
-            if (!maze.isInRange(save) || !maze.isWall(save)) {
-                continue;
-            }
-            g.getMaze().setBlock(save, true);
-            destroyed++;
+        int x = pos.getX();
+        int y = pos.getY();
+        int destroyed;
+        if (dir == Direction.LEFT || dir == Direction.RIGHT) {
+            int from = dir == Direction.LEFT ? Math.max(0, x - range) : x + 1;
+            int to = dir == Direction.LEFT ? x - 1 : Math.min(maze.getWidth() - 1, x + range);
+            destroyed = from > to ? 0 : maze.openRegion(from, y, to - from + 1, 1);
+        } else {
+            int from = dir == Direction.UP ? Math.max(0, y - range) : y + 1;
+            int to = dir == Direction.UP ? y - 1 : Math.min(maze.getHeight() - 1, y + range);
+            destroyed = from > to ? 0 : maze.openRegion(x, from, 1, to - from + 1);
         }
 
         g.setGameMessage(destroyed + " walls are destroyed");
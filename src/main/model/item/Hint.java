@@ -1,6 +1,7 @@
 package model.item;
 
 import model.Game;
+import model.utility.Direction;
 
 // Hint represents an in game hints
 // that gives some hint to the player
@@ -17,9 +18,16 @@ public class Hint extends Item {
 
     // REQUIRES: g != null
     // MODIFIES: g
-    // EFFECTS: report the exit position by g.getGameMessage()
+    // EFFECTS: report the direction of the next step towards the exit and the
+    // number of steps left by g.getGameMessage(), or the exit position if
+    // the exit can not be reached from the player
     @Override
     public void apply(Game g) {
-        g.setGameMessage("Exit Position: " + g.getMaze().getExit());
+        Direction next = g.getNextStepToExit();
+        if (next == null) {
+            g.setGameMessage("Exit Position: " + g.getMaze().getExit());
+            return;
+        }
+        g.setGameMessage("Go " + next + ", the exit is " + g.getDistanceToExit() + " steps away");
     }
 }
@@ -0,0 +1,171 @@
+package model.item;
+
+import java.util.Arrays;
+
+// ItemIndex maps packed cell ids (cell = y * width + x) to the items on them.
+// the items are kept in dense arrays, slot 0 to size() - 1, so iterating
+// over them is a plain array scan. An open-addressing table with linear
+// probing maps a cell to its slot, so a lookup neither boxes the cell nor
+// allocates a key. Removing moves the last slot into the removed one and
+// deletes from the table by shifting the entries after it back, so the
+// table never fills up with tombstones
+public class ItemIndex {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int EMPTY = -1;
+
+    private int[] cells;
+    private Item[] items;
+    private int size;
+
+    private int[] table;
+    private int mask;
+
+    // EFFECTS: constructs an empty index
+    public ItemIndex() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // REQUIRES: capacity >= 0
+    // EFFECTS: constructs an empty index that can hold capacity items
+    // before it has to grow
+    public ItemIndex(int capacity) {
+        cells = new int[Math.max(capacity, 1)];
+        items = new Item[cells.length];
+        size = 0;
+        allocateTable(cells.length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // EFFECTS: true if size() == 0
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // EFFECTS: true if there is an item on the cell
+    public boolean contains(int cell) {
+        return table[find(cell)] != EMPTY;
+    }
+
+    // EFFECTS: returns the item on the cell, or null if there is none
+    public Item get(int cell) {
+        int slot = table[find(cell)];
+        return slot == EMPTY ? null : items[slot];
+    }
+
+    // REQUIRES: slot >= 0 && slot < size()
+    // EFFECTS: returns the cell of the item in the given slot
+    public int getCell(int slot) {
+        return cells[slot];
+    }
+
+    // REQUIRES: slot >= 0 && slot < size()
+    // EFFECTS: returns the item in the given slot
+    public Item getItem(int slot) {
+        return items[slot];
+    }
+
+    // REQUIRES: item != null
+    // MODIFIES: this
+    // EFFECTS: puts the item on the cell and returns the item that was
+    // there before, or null if there was none
+    public Item put(int cell, Item item) {
+        int at = find(cell);
+        if (table[at] != EMPTY) {
+            Item old = items[table[at]];
+            items[table[at]] = item;
+            return old;
+        }
+        if (size == cells.length) {
+            grow();
+            at = find(cell);
+        }
+        cells[size] = cell;
+        items[size] = item;
+        table[at] = size++;
+        return null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the item on the cell and returns it,
+    // or returns null if there was none. The last slot is moved
+    // into the slot of the removed item
+    public Item remove(int cell) {
+        int at = find(cell);
+        int slot = table[at];
+        if (slot == EMPTY) {
+            return null;
+        }
+        Item removed = items[slot];
+        deleteAt(at);
+        size--;
+        if (slot != size) {
+            cells[slot] = cells[size];
+            items[slot] = items[size];
+            table[find(cells[slot])] = slot;
+        }
+        items[size] = null;
+        return removed;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes every item
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        Arrays.fill(table, EMPTY);
+        size = 0;
+    }
+
+    // EFFECTS: returns the table position of the cell, or of the empty
+    // entry where it would be inserted
+    private int find(int cell) {
+        int at = hash(cell);
+        while (table[at] != EMPTY && cells[table[at]] != cell) {
+            at = (at + 1) & mask;
+        }
+        return at;
+    }
+
+    // EFFECTS: returns the home position of the cell in the table
+    private int hash(int cell) {
+        return (cell * 0x9E3779B9 >>> 16 ^ cell * 0x9E3779B9) & mask;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: empties the table entry at, then moves back the entries after
+    // it that can no longer be reached because of the gap
+    private void deleteAt(int at) {
+        int gap = at;
+        for (int next = (gap + 1) & mask; table[next] != EMPTY; next = (next + 1) & mask) {
+            int home = hash(cells[table[next]]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table[gap] = table[next];
+                gap = next;
+            }
+        }
+        table[gap] = EMPTY;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: doubles the capacity and rebuilds the table
+    private void grow() {
+        cells = Arrays.copyOf(cells, cells.length * 2);
+        items = Arrays.copyOf(items, cells.length);
+        allocateTable(cells.length);
+        for (int slot = 0; slot < size; slot++) {
+            table[find(cells[slot])] = slot;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes an empty table with at least twice the given capacity
+    // positions, so the load factor stays at most one half
+    private void allocateTable(int capacity) {
+        int length = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+        table = new int[length];
+        mask = length - 1;
+        Arrays.fill(table, EMPTY);
+    }
+}
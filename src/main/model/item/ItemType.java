@@ -6,6 +6,6 @@ public enum ItemType {
     BREAKER,
     SKIP,
     HINT,
+    SPOTLIGHT,
     // solver,
-    // spotlight,
 }
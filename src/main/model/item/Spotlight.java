@@ -1,54 +1,45 @@
-// package model.item;
-
-// import model.Game;
-// import model.player.Player;
-
-// // this class is not used for Phase 1
-// public class Spotlight implements Item {
-
-//     private final Player player;
-//     private boolean isActive;
-
-//     // EFFECTS: Constructs an active spotlight, with a reference to the given
-//     // player
-//     public Spotlight(Player player) {
-//         this.player = player;
-//         this.isActive = true;
-//     }
-
-//     // REQUIRES: isActive() == true
-//     // MODIFIES: game, this
-//     // EFFECTS: make everything visible within its range unless blocked by a wall
-//     // or exceeds its range
-//     @Override
-//     public void apply(Game g) {
-//         // TODO Auto-generated method stub
-//     }
-
-//     @Override
-//     public boolean isAutoApply() {
-//         return true;
-//     }
-
-//     // @Override
-//     // public boolean isCoin() {
-//     //     return false;
-//     // }
-
-//     // @Override
-//     // public int coinValue() {
-//     //     return -1;
-//     // }
-//     //
-
-//     @Override
-//     public String getName() {
-//         return null;
-//     }
-
-//     @Override
-//     public String report() {
-//         // TODO Auto-generated method stub
-//         return null;
-//     }
-// }
+package model.item;
+
+import org.json.JSONObject;
+
+import model.Game;
+
+// Spotlight is an in game item that makes the light
+// of the player larger for a number of steps, so it
+// can see further into the maze
+public class Spotlight extends Item {
+    private final int radius;
+    private final int steps;
+
+    // REQUIRES: radius >= 0 && steps > 0
+    // EFFECTS: constructs a spotlight that lights radius blocks
+    // around the player for the given number of steps,
+    // the spotlight is applied as soon as it is picked up
+    public Spotlight(int radius, int steps) {
+        this.radius = radius;
+        this.steps = steps;
+
+        isAutoApply = true;
+        type = ItemType.SPOTLIGHT;
+    }
+
+    // REQUIRES: g != null
+    // MODIFIES: g
+    // EFFECTS: the light of the player shows radius blocks
+    // around it for the next steps steps, and
+    // g.getGameMessage() will report it
+    @Override
+    public void apply(Game g) {
+        g.getPlayer().light(radius, steps);
+        g.setGameMessage("You can see " + radius + " blocks away for " + steps + " steps");
+    }
+
+    // EFFECTS: converts the item to a JSON object
+    @Override
+    public JSONObject toJson() {
+        JSONObject spotlight = super.toJson();
+        spotlight.put("radius", radius);
+        spotlight.put("steps", steps);
+        return spotlight;
+    }
+}
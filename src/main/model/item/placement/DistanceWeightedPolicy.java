@@ -0,0 +1,92 @@
+package model.item.placement;
+
+import java.util.Random;
+
+import model.maze.Maze;
+import model.maze.solver.DistanceField;
+
+// DistanceWeightedPolicy puts the items further into the maze: a road that
+// is d steps from the start has the weight (d + 1) ^ power. k distinct roads
+// are drawn without replacement by weighted reservoir sampling, every road
+// gets the key log(u) / weight for a uniform u, and the k largest keys win.
+// it walks every road once, so it takes O(n log k) time for n roads.
+// roads that can not reach the start are only taken if nothing else is left
+// source link:
+// https://en.wikipedia.org/wiki/Reservoir_sampling#Algorithm_A-Res
+public class DistanceWeightedPolicy implements PlacementPolicy {
+    public static final double DEFAULT_POWER = 1;
+
+    private final double power;
+
+    // REQUIRES: power >= 0
+    // EFFECTS: constructs a policy with the given power of the distance,
+    // power 0 is a uniform placement
+    public DistanceWeightedPolicy(double power) {
+        this.power = power;
+    }
+
+    public double getPower() {
+        return power;
+    }
+
+    @Override
+    public int[] choose(Maze maze, int count, Random random) {
+        DistanceField field = new DistanceField(maze,
+                maze.getGrid().indexOf(maze.getStart().getX(), maze.getStart().getY()));
+        int size = Math.min(count, maze.getNumOfRoad());
+        double[] keys = new double[size];
+        int[] cells = new int[size];
+        int held = 0;
+        for (int i = 0; i < maze.getNumOfRoad(); i++) {
+            int cell = maze.getRoadCell(i);
+            int distance = field.getDistance(cell);
+            double key = distance == DistanceField.UNREACHABLE
+                    ? Double.NEGATIVE_INFINITY
+                    : Math.log(1 - random.nextDouble()) / Math.pow(distance + 1, power);
+            if (held < size) {
+                siftUp(keys, cells, held++, key, cell);
+            } else if (size > 0 && key > keys[0]) {
+                siftDown(keys, cells, size, key, cell);
+            }
+        }
+        return cells;
+    }
+
+    @Override
+    public PlacementType getType() {
+        return PlacementType.DISTANCE_WEIGHTED;
+    }
+
+    // MODIFIES: keys, cells
+    // EFFECTS: adds (key, cell) to the min-heap of the first at entries
+    private static void siftUp(double[] keys, int[] cells, int at, double key, int cell) {
+        while (at > 0 && keys[(at - 1) / 2] > key) {
+            keys[at] = keys[(at - 1) / 2];
+            cells[at] = cells[(at - 1) / 2];
+            at = (at - 1) / 2;
+        }
+        keys[at] = key;
+        cells[at] = cell;
+    }
+
+    // MODIFIES: keys, cells
+    // EFFECTS: replaces the smallest entry of the min-heap of size entries
+    // with (key, cell)
+    private static void siftDown(double[] keys, int[] cells, int size, double key, int cell) {
+        int at = 0;
+        while (at * 2 + 1 < size) {
+            int child = at * 2 + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (keys[child] >= key) {
+                break;
+            }
+            keys[at] = keys[child];
+            cells[at] = cells[child];
+            at = child;
+        }
+        keys[at] = key;
+        cells[at] = cell;
+    }
+}
@@ -0,0 +1,87 @@
+package model.item.placement;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import model.item.Breaker;
+import model.item.Coin;
+import model.item.Hint;
+import model.item.Item;
+import model.item.ItemIndex;
+import model.item.ItemType;
+import model.item.Skip;
+import model.item.Spotlight;
+import model.maze.Maze;
+import model.utility.AliasTable;
+
+// ItemPlacer puts items on a maze. The policy chooses the roads, and the type
+// of each item is drawn from an alias table over the weights of the item types.
+// the weights may cover only the first item types, so a placer over the types
+// that existed before a new one was added draws exactly what it drew before
+public class ItemPlacer {
+    private static final ItemType[] TYPES = ItemType.values();
+
+    private final PlacementPolicy policy;
+    private final AliasTable types;
+
+    // EFFECTS: constructs a placer with the given policy,
+    // every item type is equally likely
+    public ItemPlacer(PlacementPolicy policy) {
+        this(policy, TYPES.length);
+    }
+
+    // REQUIRES: 0 < numOfTypes <= ItemType.values().length
+    // EFFECTS: constructs a placer with the given policy, every one of the
+    // first numOfTypes item types is equally likely and the others are never placed
+    public ItemPlacer(PlacementPolicy policy, int numOfTypes) {
+        this(policy, equalWeights(numOfTypes));
+    }
+
+    // REQUIRES: 0 < typeWeights.length <= ItemType.values().length, every
+    // weight is >= 0 and at least one is > 0
+    // EFFECTS: constructs a placer with the given policy, an item is of type t
+    // with a chance proportional to typeWeights[t.ordinal()], the types past
+    // the end of typeWeights are never placed
+    public ItemPlacer(PlacementPolicy policy, double[] typeWeights) {
+        this.policy = policy;
+        this.types = new AliasTable(typeWeights);
+    }
+
+    public PlacementPolicy getPolicy() {
+        return policy;
+    }
+
+    // REQUIRES: count >= 0
+    // EFFECTS: returns min(count, maze.getNumOfRoad()) items placed
+    // on distinct roads of the maze
+    public ItemIndex place(Maze maze, int count, Random random) {
+        int[] cells = policy.choose(maze, count, random);
+        ItemIndex items = new ItemIndex(cells.length);
+        for (int cell : cells) {
+            items.put(cell, newItem(TYPES[types.sample(random)], random));
+        }
+        return items;
+    }
+
+    // EFFECTS: returns a new item of the given type
+    private Item newItem(ItemType type, Random random) {
+        if (type == ItemType.COIN) {
+            return new Coin(random.nextInt(20) + 1);
+        } else if (type == ItemType.BREAKER) {
+            return new Breaker(random.nextInt(5) + 1);
+        } else if (type == ItemType.SKIP) {
+            return new Skip();
+        } else if (type == ItemType.SPOTLIGHT) {
+            return new Spotlight(random.nextInt(9) + 8, random.nextInt(41) + 20);
+        } else {
+            return new Hint();
+        }
+    }
+
+    // EFFECTS: returns a weight of 1 for each of the first numOfTypes item types
+    private static double[] equalWeights(int numOfTypes) {
+        double[] weights = new double[numOfTypes];
+        Arrays.fill(weights, 1);
+        return weights;
+    }
+}
@@ -0,0 +1,18 @@
+package model.item.placement;
+
+import java.util.Random;
+
+import model.maze.Maze;
+
+// PlacementPolicy decides which roads of a maze get an item.
+// cells are packed indices, cell = y * maze.getWidth() + x
+public interface PlacementPolicy {
+
+    // REQUIRES: count >= 0
+    // EFFECTS: returns min(count, maze.getNumOfRoad()) distinct road cells,
+    // never the start of the maze, using random as the only source of randomness
+    int[] choose(Maze maze, int count, Random random);
+
+    // EFFECTS: returns the type of this policy
+    PlacementType getType();
+}
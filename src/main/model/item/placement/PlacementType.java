@@ -0,0 +1,19 @@
+package model.item.placement;
+
+// PlacementType represents the kinds of item placement policies
+public enum PlacementType {
+    UNIFORM,
+    POISSON_DISK,
+    DISTANCE_WEIGHTED;
+
+    // EFFECTS: returns a new policy of this type with its default settings
+    public PlacementPolicy newPolicy() {
+        if (this == POISSON_DISK) {
+            return new PoissonDiskPolicy(PoissonDiskPolicy.DEFAULT_SPACING);
+        } else if (this == DISTANCE_WEIGHTED) {
+            return new DistanceWeightedPolicy(DistanceWeightedPolicy.DEFAULT_POWER);
+        } else {
+            return new UniformPolicy();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package model.item.placement;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import model.maze.Maze;
+import model.utility.IntList;
+
+// PoissonDiskPolicy spreads the items out, no two items are closer than the
+// spacing (by straight line distance) unless the maze has no room for them.
+// roads are drawn in uniform random order and a road is taken if no taken
+// road is too close. To find the taken roads near a road quickly, the maze is
+// covered by square buckets small enough to hold at most one taken road each,
+// so only the few buckets around a road have to be checked.
+// if the roads run out before enough items are placed, the closest
+// rejected roads are taken in the order they were drawn
+public class PoissonDiskPolicy implements PlacementPolicy {
+    public static final int DEFAULT_SPACING = 3;
+
+    private final int spacing;
+
+    // REQUIRES: spacing >= 1
+    // EFFECTS: constructs a policy that keeps items spacing blocks apart
+    public PoissonDiskPolicy(int spacing) {
+        this.spacing = spacing;
+    }
+
+    public int getSpacing() {
+        return spacing;
+    }
+
+    @Override
+    public int[] choose(Maze maze, int count, Random random) {
+        int side = Math.max(1, (int) (spacing / Math.sqrt(2)));
+        int columns = maze.getWidth() / side + 1;
+        int[] buckets = new int[columns * (maze.getHeight() / side + 1)];
+        Arrays.fill(buckets, -1);
+
+        RoadSampler sampler = new RoadSampler(maze, random);
+        int[] cells = new int[Math.min(count, maze.getNumOfRoad())];
+        IntList rejected = new IntList();
+        int taken = 0;
+        while (taken < cells.length && sampler.hasNext()) {
+            int cell = sampler.next();
+            int x = cell % maze.getWidth();
+            int y = cell / maze.getWidth();
+            if (isFarEnough(buckets, columns, side, maze.getWidth(), x, y)) {
+                buckets[y / side * columns + x / side] = cell;
+                cells[taken++] = cell;
+            } else {
+                rejected.add(cell);
+            }
+        }
+        for (int i = 0; taken < cells.length; i++) {
+            cells[taken++] = rejected.get(i);
+        }
+        return cells;
+    }
+
+    @Override
+    public PlacementType getType() {
+        return PlacementType.POISSON_DISK;
+    }
+
+    // EFFECTS: true if no taken road in the buckets around (x, y) is closer
+    // than the spacing to it
+    private boolean isFarEnough(int[] buckets, int columns, int side, int width, int x, int y) {
+        int reach = (spacing + side - 1) / side;
+        int rows = buckets.length / columns;
+        for (int by = Math.max(0, y / side - reach); by <= Math.min(rows - 1, y / side + reach); by++) {
+            for (int bx = Math.max(0, x / side - reach); bx <= Math.min(columns - 1, x / side + reach); bx++) {
+                int other = buckets[by * columns + bx];
+                if (other == -1) {
+                    continue;
+                }
+                int dx = other % width - x;
+                int dy = other / width - y;
+                if (dx * dx + dy * dy < spacing * spacing) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
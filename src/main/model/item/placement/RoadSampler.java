@@ -0,0 +1,102 @@
+package model.item.placement;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import model.maze.Maze;
+
+// RoadSampler draws the roads of a maze in a random order without repeats,
+// by a partial Fisher-Yates shuffle of the road indices [0, maze.getNumOfRoad()).
+// the shuffled array is never built, only the positions that were swapped are
+// remembered in a small open-addressing table, so drawing k roads takes O(k)
+// time and memory however large the maze is
+class RoadSampler {
+    private static final int EMPTY = -1;
+
+    private final Maze maze;
+    private final Random random;
+    private final int roads;
+    private int drawn;
+
+    private int[] keys;
+    private int[] values;
+    private int used;
+
+    // EFFECTS: constructs a sampler over the roads of the maze
+    // that has not drawn any road yet
+    RoadSampler(Maze maze, Random random) {
+        this.maze = maze;
+        this.random = random;
+        roads = maze.getNumOfRoad();
+        drawn = 0;
+        keys = new int[16];
+        values = new int[16];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    // EFFECTS: true if there are roads that were not drawn yet
+    boolean hasNext() {
+        return drawn < roads;
+    }
+
+    // REQUIRES: hasNext()
+    // MODIFIES: this
+    // EFFECTS: returns the cell of a random road that was not drawn before
+    int next() {
+        int swap = drawn + random.nextInt(roads - drawn);
+        int picked = valueAt(swap);
+        if (swap != drawn) {
+            put(swap, valueAt(drawn));
+        }
+        drawn++;
+        return maze.getRoadCell(picked);
+    }
+
+    // EFFECTS: returns the road index at the position of the virtual shuffled array
+    private int valueAt(int position) {
+        int at = find(position);
+        return keys[at] == EMPTY ? position : values[at];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stores value at the position of the virtual shuffled array
+    private void put(int position, int value) {
+        int at = find(position);
+        if (keys[at] == EMPTY) {
+            if (++used * 2 > keys.length) {
+                grow();
+                at = find(position);
+            }
+            keys[at] = position;
+        }
+        values[at] = value;
+    }
+
+    // EFFECTS: returns the table entry of the position, or the empty entry
+    // where it would be stored
+    private int find(int position) {
+        int mask = keys.length - 1;
+        int at = (position * 0x9E3779B9 >>> 16) & mask;
+        while (keys[at] != EMPTY && keys[at] != position) {
+            at = (at + 1) & mask;
+        }
+        return at;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: doubles the table and moves every entry into it
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[keys.length];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int at = find(oldKeys[i]);
+                keys[at] = oldKeys[i];
+                values[at] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package model.item.placement;
+
+import java.util.Random;
+
+import model.maze.Maze;
+
+// UniformPolicy gives every road the same chance to get an item.
+// it draws the roads by a partial Fisher-Yates shuffle, so choosing k roads
+// takes O(k) time and never retries a road that already has an item
+public class UniformPolicy implements PlacementPolicy {
+
+    @Override
+    public int[] choose(Maze maze, int count, Random random) {
+        RoadSampler sampler = new RoadSampler(maze, random);
+        int[] cells = new int[Math.min(count, maze.getNumOfRoad())];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = sampler.next();
+        }
+        return cells;
+    }
+
+    @Override
+    public PlacementType getType() {
+        return PlacementType.UNIFORM;
+    }
+}
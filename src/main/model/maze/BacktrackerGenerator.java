@@ -0,0 +1,58 @@
+package model.maze;
+
+import java.util.Random;
+
+import model.utility.BitGrid;
+import model.utility.IntList;
+
+// BacktrackerGenerator generates a maze by the randomized depth-first
+// search (recursive backtracker). The recursion is replaced by an explicit
+// stack of cells so that large mazes do not overflow the call stack
+// source link:
+// https://en.wikipedia.org/wiki/Maze_generation_algorithm#Iterative_implementation
+public class BacktrackerGenerator extends LatticeGenerator {
+
+    // MODIFIES: this
+    // EFFECTS: walks to a random unvisited neighbour and opens the passage,
+    // backtracks when the current cell has no unvisited neighbour
+    @Override
+    protected void carve(int startCell, Random random) {
+        BitGrid visited = new BitGrid(getColumns(), getRows());
+        IntList stack = new IntList();
+        int[] options = new int[4];
+
+        visited.set(startCell, true);
+        stack.add(startCell);
+        while (!stack.isEmpty()) {
+            int cell = stack.get(stack.size() - 1);
+            int count = unvisitedNeighbours(cell, visited, options);
+            if (count == 0) {
+                stack.removeLast();
+                continue;
+            }
+            int next = options[random.nextInt(count)];
+            visited.set(next, true);
+            openPassage(cell, next);
+            stack.add(next);
+        }
+    }
+
+    @Override
+    public GeneratorType getType() {
+        return GeneratorType.BACKTRACKER;
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the unvisited neighbours of cell into out
+    // and returns how many were written
+    private int unvisitedNeighbours(int cell, BitGrid visited, int[] out) {
+        int total = neighbours(cell, out);
+        int count = 0;
+        for (int i = 0; i < total; i++) {
+            if (!visited.get(out[i])) {
+                out[count++] = out[i];
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,30 @@
+package model.maze;
+
+import java.util.Random;
+
+// EllerGenerator generates a maze by Eller's algorithm.
+// the rows come from a MazeRowStream and are copied into the maze
+// from top to bottom
+public class EllerGenerator extends LatticeGenerator {
+
+    // MODIFIES: this
+    // EFFECTS: carves every row of the lattice from top to bottom
+    @Override
+    protected void carve(int startCell, Random random) {
+        MazeRowStream stream = new MazeRowStream(getColumns() * 2, random);
+        MazeRowConsumer copy = (y, row) -> {
+            for (int x = row.nextSetBit(0); x != -1; x = row.nextSetBit(x + 1)) {
+                openBlock(x, (int) y);
+            }
+        };
+        for (int row = 1; row < getRows(); row++) {
+            stream.nextRows(copy);
+        }
+        stream.finish(copy);
+    }
+
+    @Override
+    public GeneratorType getType() {
+        return GeneratorType.ELLER;
+    }
+}
@@ -0,0 +1,142 @@
+package model.maze;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// EllerRows generates a perfect maze one row of cells at a time by
+// Eller's algorithm. It only keeps O(columns) state, so the height of
+// the maze does not need to be known until the last row is asked for.
+// after nextRow, isRightOpen(c) tells if the passage to the right of cell c
+// is open and isDownOpen(c) tells if the passage below cell c is open
+// source link:
+// https://en.wikipedia.org/wiki/Maze_generation_algorithm#Eller's_algorithm
+class EllerRows {
+    private final int columns;
+    private final Random random;
+
+    private final int[] sets;
+    private final int[] parent;
+    private final boolean[] right;
+    private final boolean[] down;
+    private final boolean[] hasDown;
+    private final int[] lastCell;
+    private final int[] remap;
+    private int nextSet;
+
+    // REQUIRES: columns > 0
+    // EFFECTS: constructs a generator for rows of the given number of cells
+    EllerRows(int columns, Random random) {
+        this.columns = columns;
+        this.random = random;
+        sets = new int[columns];
+        parent = new int[columns * 2];
+        right = new boolean[columns];
+        down = new boolean[columns];
+        hasDown = new boolean[columns * 2];
+        lastCell = new int[columns * 2];
+        remap = new int[columns * 2];
+        Arrays.fill(sets, -1);
+        nextSet = 0;
+    }
+
+    int getColumns() {
+        return columns;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: generates the next row. If last, every cell of the row is
+    // joined into one set and no passage goes down
+    void nextRow(boolean last) {
+        for (int c = 0; c < columns; c++) {
+            if (sets[c] < 0) {
+                sets[c] = nextSet;
+                parent[nextSet] = nextSet;
+                nextSet++;
+            }
+        }
+        joinRight(last);
+        if (last) {
+            Arrays.fill(down, false);
+            return;
+        }
+        chooseDown();
+        carryDown();
+    }
+
+    // REQUIRES: c >= 0 && c < getColumns()
+    // EFFECTS: true if the passage to the right of cell c is open
+    boolean isRightOpen(int c) {
+        return right[c];
+    }
+
+    // REQUIRES: c >= 0 && c < getColumns()
+    // EFFECTS: true if the passage below cell c is open
+    boolean isDownOpen(int c) {
+        return down[c];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: randomly joins neighbouring cells that are in different
+    // sets, if last every such pair is joined
+    private void joinRight(boolean last) {
+        for (int c = 0; c < columns - 1; c++) {
+            int a = find(sets[c]);
+            int b = find(sets[c + 1]);
+            right[c] = a != b && (last || random.nextBoolean());
+            if (right[c]) {
+                parent[b] = a;
+            }
+        }
+        right[columns - 1] = false;
+        for (int c = 0; c < columns; c++) {
+            sets[c] = find(sets[c]);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: randomly opens passages down, every set gets at least one
+    private void chooseDown() {
+        Arrays.fill(hasDown, false);
+        for (int c = 0; c < columns; c++) {
+            lastCell[sets[c]] = c;
+            down[c] = random.nextBoolean();
+            hasDown[sets[c]] |= down[c];
+        }
+        for (int c = 0; c < columns; c++) {
+            if (!hasDown[sets[c]] && lastCell[sets[c]] == c) {
+                down[c] = true;
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: cells below an open passage keep their set, renumbered into
+    // [0, columns), the other cells of the next row get no set
+    private void carryDown() {
+        Arrays.fill(remap, -1);
+        int count = 0;
+        for (int c = 0; c < columns; c++) {
+            if (!down[c]) {
+                sets[c] = -1;
+                continue;
+            }
+            if (remap[sets[c]] < 0) {
+                remap[sets[c]] = count++;
+            }
+            sets[c] = remap[sets[c]];
+        }
+        for (int i = 0; i < count; i++) {
+            parent[i] = i;
+        }
+        nextSet = count;
+    }
+
+    // EFFECTS: returns the representative of the set
+    private int find(int set) {
+        while (parent[set] != set) {
+            parent[set] = parent[parent[set]];
+            set = parent[set];
+        }
+        return set;
+    }
+}
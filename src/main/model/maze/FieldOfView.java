@@ -0,0 +1,173 @@
+package model.maze;
+
+import model.utility.BitGrid;
+import model.utility.DirtyCells;
+import model.utility.IntList;
+
+// FieldOfView is what can be seen from a cell of a maze within a radius, the
+// walls stop the sight but are seen themselves. it is found by recursive
+// shadowcasting over the bits of the maze: each of the eight octants around
+// the origin is scanned row by row outwards, and a run of walls in a row
+// narrows the slopes the rows after it still see, so the cells in a shadow
+// are never looked at and the cost is at most the cells within the radius.
+// the view is only computed again when the origin, the radius or the walls
+// of the maze changed. every cell ever seen is remembered as explored, for a
+// fog of war that only shows what the player has already seen
+public class FieldOfView {
+    private static final int[] XX = {1, 0, 0, -1, -1, 0, 0, 1};
+    private static final int[] XY = {0, 1, -1, 0, 0, -1, 1, 0};
+    private static final int[] YX = {0, 1, 1, 0, 0, -1, -1, 0};
+    private static final int[] YY = {1, 0, 0, 1, -1, 0, 0, -1};
+
+    private final Maze maze;
+    private final BitGrid grid;
+    private final BitGrid visible;
+    private final BitGrid explored;
+    private final IntList revealed;
+    private int originX;
+    private int originY;
+    private int radius;
+    private int appliedEdits;
+
+    // EFFECTS: constructs a field of view of the maze that sees nothing and
+    // has explored nothing yet
+    public FieldOfView(Maze maze) {
+        this.maze = maze;
+        this.grid = maze.getGrid();
+        visible = new BitGrid(grid.getWidth(), grid.getHeight());
+        explored = new BitGrid(grid.getWidth(), grid.getHeight());
+        revealed = new IntList();
+        radius = -1;
+    }
+
+    public Maze getMaze() {
+        return maze;
+    }
+
+    // REQUIRES: maze.isInRange(x, y) && radius >= 0
+    // MODIFIES: this
+    // EFFECTS: makes the visible cells the ones seen from (x, y) at most
+    // radius blocks away in a straight line, and adds them to the explored
+    // cells. returns true if it was computed again, false if the origin, the
+    // radius and the walls are the same as last time
+    public boolean update(int x, int y, int radius) {
+        if (x == originX && y == originY && radius == this.radius && appliedEdits == maze.getNumOfEdits()) {
+            return false;
+        }
+        if (this.radius >= 0) {
+            clearBox(originX, originY, this.radius);
+        }
+        originX = x;
+        originY = y;
+        this.radius = radius;
+        appliedEdits = maze.getNumOfEdits();
+        light(x, y, 0, 0);
+        for (int octant = 0; octant < XX.length; octant++) {
+            castLight(1, 1.0, 0.0, octant);
+        }
+        return true;
+    }
+
+    // EFFECTS: returns true if the cell (x, y) was seen at the last update
+    public boolean isVisible(int x, int y) {
+        return visible.get(x, y);
+    }
+
+    // EFFECTS: returns true if the cell (x, y) was seen at any update
+    public boolean isExplored(int x, int y) {
+        return explored.get(x, y);
+    }
+
+    // EFFECTS: returns the cells seen at the last update, a set bit is a seen cell
+    public BitGrid getVisible() {
+        return visible;
+    }
+
+    // EFFECTS: returns the cells seen at any update, a set bit is an explored cell
+    public BitGrid getExplored() {
+        return explored;
+    }
+
+    // REQUIRES: out has the size of the maze
+    // MODIFIES: this, out
+    // EFFECTS: adds the cells explored since the last call to out and forgets them
+    public void takeRevealed(DirtyCells out) {
+        for (int i = 0; i < revealed.size(); i++) {
+            out.add(revealed.get(i));
+        }
+        revealed.clear();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: lights the rows from row outwards of the octant between the
+    // slopes start and end, a row is the cells at distance row from the
+    // origin along the main axis of the octant
+    private void castLight(int row, double start, double end, int octant) {
+        if (start < end) {
+            return;
+        }
+        for (int j = row; j <= radius && start >= 0; j++) {
+            start = scanRow(j, start, end, octant);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: lights the cells of row j of the octant between the slopes
+    // start and end. a run of walls lights the rows after it only between the
+    // slopes on each side of it, the rows past its far side are lit here.
+    // returns the start slope of the next row, or -1 if the row ends in walls
+    private double scanRow(int j, double start, double end, int octant) {
+        boolean blocked = false;
+        double nextStart = start;
+        for (int dx = -j; dx <= 0; dx++) {
+            double left = (dx - 0.5) / (-j + 0.5);
+            double right = (dx + 0.5) / (-j - 0.5);
+            if (start < right) {
+                continue;
+            } else if (end > left) {
+                break;
+            }
+            boolean opaque = light(originX + dx * XX[octant] - j * XY[octant],
+                    originY + dx * YX[octant] - j * YY[octant], dx, j);
+            if (blocked && !opaque) {
+                blocked = false;
+                start = nextStart;
+            } else if (!blocked && opaque && j < radius) {
+                blocked = true;
+                castLight(j + 1, start, left, octant);
+            }
+            nextStart = opaque ? right : nextStart;
+        }
+        return blocked ? -1 : start;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the cell (x, y), which is dx and dy away from the origin,
+    // visible and explored if it is in the maze and within the radius, and
+    // returns true if it stops the sight, a wall or outside of the maze
+    private boolean light(int x, int y, int dx, int dy) {
+        if (!grid.isInRange(x, y)) {
+            return true;
+        }
+        int cell = grid.indexOf(x, y);
+        if (dx * dx + dy * dy <= radius * radius) {
+            visible.set(cell, true);
+            if (!explored.get(cell)) {
+                explored.set(cell, true);
+                revealed.add(cell);
+            }
+        }
+        return !grid.get(cell);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the cells of the square of the given radius around (x, y)
+    // not visible, which are all the cells the last update could have seen
+    private void clearBox(int x, int y, int radius) {
+        int left = Math.max(0, x - radius);
+        int top = Math.max(0, y - radius);
+        int right = Math.min(grid.getWidth(), x + radius + 1);
+        int bottom = Math.min(grid.getHeight(), y + radius + 1);
+        visible.fillRegion(left, top, right - left, bottom - top, false);
+    }
+}
@@ -0,0 +1,28 @@
+package model.maze;
+
+// GeneratorType represents the kinds of maze generation algorithms
+public enum GeneratorType {
+    PRIM,
+    BACKTRACKER,
+    KRUSKAL,
+    WILSON,
+    ELLER,
+    PARALLEL;
+
+    // EFFECTS: returns a new generator of this type
+    public MazeGenerator newGenerator() {
+        if (this == BACKTRACKER) {
+            return new BacktrackerGenerator();
+        } else if (this == KRUSKAL) {
+            return new KruskalGenerator();
+        } else if (this == WILSON) {
+            return new WilsonGenerator();
+        } else if (this == ELLER) {
+            return new EllerGenerator();
+        } else if (this == PARALLEL) {
+            return new ParallelGenerator();
+        } else {
+            return new PrimGenerator();
+        }
+    }
+}
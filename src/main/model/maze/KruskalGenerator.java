@@ -0,0 +1,96 @@
+package model.maze;
+
+import java.util.Random;
+
+// KruskalGenerator generates a maze by the Randomized Kruskal's algorithm.
+// every passage between two neighbouring cells is an edge, edges are
+// visited in a random order and opened if they join two different sets.
+// the sets are kept in an array-based union-find with path halving
+// and union by size
+// source link:
+// https://en.wikipedia.org/wiki/Maze_generation_algorithm#Randomized_Kruskal's_algorithm
+public class KruskalGenerator extends LatticeGenerator {
+    private int[] parent;
+    private int[] size;
+
+    // MODIFIES: this
+    // EFFECTS: opens a random spanning tree of the lattice
+    @Override
+    protected void carve(int startCell, Random random) {
+        int cells = getNumOfCells();
+        parent = new int[cells];
+        size = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            parent[i] = i;
+            size[i] = 1;
+            openCell(i);
+        }
+
+        int[] edges = shuffledEdges(random);
+        for (int edge : edges) {
+            int cell = edge >>> 1;
+            int other = (edge & 1) == 0 ? cell + 1 : cell + getColumns();
+            if (union(cell, other)) {
+                openPassage(cell, other);
+            }
+        }
+    }
+
+    @Override
+    public GeneratorType getType() {
+        return GeneratorType.KRUSKAL;
+    }
+
+    // EFFECTS: returns all the edges in a random order. An edge is
+    // cell * 2 for the passage to the right of cell, and
+    // cell * 2 + 1 for the passage below cell
+    private int[] shuffledEdges(Random random) {
+        int columns = getColumns();
+        int rows = getRows();
+        int[] edges = new int[(columns - 1) * rows + columns * (rows - 1)];
+        int count = 0;
+        for (int cell = 0; cell < getNumOfCells(); cell++) {
+            if (cell % columns < columns - 1) {
+                edges[count++] = cell * 2;
+            }
+            if (cell / columns < rows - 1) {
+                edges[count++] = cell * 2 + 1;
+            }
+        }
+        for (int i = edges.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = edges[i];
+            edges[i] = edges[j];
+            edges[j] = swap;
+        }
+        return edges;
+    }
+
+    // EFFECTS: returns the representative of the set of cell
+    private int find(int cell) {
+        while (parent[cell] != cell) {
+            parent[cell] = parent[parent[cell]];
+            cell = parent[cell];
+        }
+        return cell;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: joins the sets of a and b, returns false if they
+    // were already in the same set
+    private boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (size[rootA] < size[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        return true;
+    }
+}
@@ -0,0 +1,113 @@
+package model.maze;
+
+import java.util.Random;
+
+import model.utility.BitGrid;
+import model.utility.Coordinate;
+
+// LatticeGenerator is the base of the generators that work on a lattice of cells.
+// a cell is a block with even x and even y, the blocks between two
+// neighbouring cells are passages and the rest stay walls.
+// cells are numbered row-major: cell = cy * getColumns() + cx is the
+// block (2 * cx, 2 * cy)
+abstract class LatticeGenerator implements MazeGenerator {
+    private BitGrid grid;
+    private int columns;
+    private int rows;
+
+    // MODIFIES: maze
+    // EFFECTS: moves the start onto the closest cell up-left of it,
+    // opens the start cell and carves the rest of the lattice
+    @Override
+    public void generate(Maze maze, Random random) {
+        Coordinate start = maze.getStart();
+        maze.setStart(new Coordinate(start.getX() & ~1, start.getY() & ~1));
+
+        int columns = (maze.getWidth() + 1) / 2;
+        int startCell = maze.getStart().getY() / 2 * columns + maze.getStart().getX() / 2;
+        carveGrid(maze.getGrid(), startCell, random);
+    }
+
+    // REQUIRES: every bit of grid is cleared && startCell is a cell of the grid
+    // MODIFIES: this, grid
+    // EFFECTS: carves a perfect maze over the lattice of the grid, a set bit is a road
+    void carveGrid(BitGrid grid, int startCell, Random random) {
+        this.grid = grid;
+        columns = (grid.getWidth() + 1) / 2;
+        rows = (grid.getHeight() + 1) / 2;
+
+        openCell(startCell);
+        carve(startCell, random);
+    }
+
+    // REQUIRES: startCell is opened
+    // MODIFIES: this
+    // EFFECTS: carves a perfect maze over all the cells of the lattice
+    protected abstract void carve(int startCell, Random random);
+
+    protected BitGrid getGrid() {
+        return grid;
+    }
+
+    protected int getColumns() {
+        return columns;
+    }
+
+    protected int getRows() {
+        return rows;
+    }
+
+    // EFFECTS: returns the number of cells in the lattice
+    protected int getNumOfCells() {
+        return columns * rows;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: turns the block of the cell into a road
+    protected void openCell(int cell) {
+        grid.set(2 * (cell % columns), 2 * (cell / columns), true);
+    }
+
+    // REQUIRES: (x, y) is within the maze
+    // MODIFIES: this
+    // EFFECTS: turns the block at (x, y) into a road
+    protected void openBlock(int x, int y) {
+        grid.set(x, y, true);
+    }
+
+    // REQUIRES: a and b are neighbouring cells
+    // MODIFIES: this
+    // EFFECTS: turns both cells and the passage between them into roads
+    protected void openPassage(int a, int b) {
+        int ax = 2 * (a % columns);
+        int ay = 2 * (a / columns);
+        int bx = 2 * (b % columns);
+        int by = 2 * (b / columns);
+        grid.set(ax, ay, true);
+        grid.set((ax + bx) / 2, (ay + by) / 2, true);
+        grid.set(bx, by, true);
+    }
+
+    // REQUIRES: out.length >= 4
+    // MODIFIES: out
+    // EFFECTS: writes the neighbouring cells of cell into out
+    // and returns how many were written
+    protected int neighbours(int cell, int[] out) {
+        int cx = cell % columns;
+        int cy = cell / columns;
+        int count = 0;
+        if (cx > 0) {
+            out[count++] = cell - 1;
+        }
+        if (cx < columns - 1) {
+            out[count++] = cell + 1;
+        }
+        if (cy > 0) {
+            out[count++] = cell - columns;
+        }
+        if (cy < rows - 1) {
+            out[count++] = cell + columns;
+        }
+        return count;
+    }
+}
@@ -1,12 +1,13 @@
 package model.maze;
 
-import java.util.ArrayList;
 import java.util.Random;
 
+import org.json.JSONArray;
 import org.json.JSONObject;
 
+import model.utility.BitGrid;
 import model.utility.Coordinate;
-import model.utility.Direction;
+import model.utility.IntList;
 
 // Maze describes a maze that the player has to solve.
 // both start and exit point will be randomly generated
@@ -16,42 +17,87 @@ import model.utility.Direction;
 // will be the start point
 // assuming the top left corner is (0, 0)
 // true stands for a road and false stands for a wall
+// the blocks are stored bit-packed in a BitGrid, one bit per block.
+// every change made after generation is kept in an edit list, so the maze
+// can be saved as its seed plus the edits instead of all of its blocks.
+// a maze whose blocks were loaded from elsewhere, like an old save without a
+// seed, is not from its seed any more and is always saved with all of its blocks
 public class Maze {
 
-    private boolean[][] maze;
+    private BitGrid maze;
     private int width;
     private int height;
 
     private Coordinate exit;
     private Coordinate start;
-    ArrayList<Coordinate> roads;
+    private IntList roads;
+    private IntList edits;
 
+    private long seed;
+    private boolean fromSeed;
     private Random random;
+    private GeneratorType generatorType;
+    private long generationNanos;
+
+    private static final int EDIT_FIELDS = 5;
 
     // REQUIRES: (width % 2 == 0) and (height % 2 == 0) and (width and height) >= 8
     // EFFECTS: constructs a random maze by the given width and
-    // height. A start point will be within the region of ([0, width/2), [0,
-    // height/2))
+    // height with the Randomized Prim's algorithm. A start point will be within
+    // the region of ([0, width/2), [0, height/2))
     // and an end point will be within the region of ([width/2, width-1], [height/2,
     // height-1])
     public Maze(int width, int height) {
+        this(width, height, GeneratorType.PRIM);
+    }
+
+    // REQUIRES: (width % 2 == 0) and (height % 2 == 0) and (width and height) >= 8
+    // EFFECTS: constructs a random maze by the given width and
+    // height with the given type of generator. A start point will be within
+    // the region of ([0, width/2), [0, height/2))
+    // and an end point will be within the region of ([width/2, width-1], [height/2,
+    // height-1])
+    public Maze(int width, int height, GeneratorType generatorType) {
+        this(width, height, generatorType, new Random().nextLong());
+    }
+
+    // REQUIRES: (width % 2 == 0) and (height % 2 == 0) and (width and height) >= 8
+    // EFFECTS: constructs a maze like Maze(width, height, generatorType), but all
+    // the randomness comes from the given seed, so the same arguments always
+    // give the same maze
+    public Maze(int width, int height, GeneratorType generatorType, long seed) {
+        this(width, height, generatorType.newGenerator(), seed);
+    }
+
+    // REQUIRES: (width % 2 == 0) and (height % 2 == 0) and (width and height) >= 8
+    // EFFECTS: constructs a maze carved by the given generator, all the
+    // randomness comes from the given seed
+    public Maze(int width, int height, MazeGenerator generator, long seed) {
         this.width = width;
         this.height = height;
-        this.roads = new ArrayList<>();
-        this.random = new Random();
+        this.seed = seed;
+        this.fromSeed = true;
+        this.random = new Random(seed);
+        this.generatorType = generator.getType();
 
-        maze = new boolean[height][width];
+        maze = new BitGrid(width, height);
 
         start = new Coordinate(random.nextInt(width / 2), random.nextInt(height / 2));
 
-        generateMaze();
+        generateMaze(generator);
     }
 
     // REQUIRES: isInRange(coordinate)
     // EFFECTS: returns true if the given coordinate in the map
     // is a wall
     public boolean isWall(Coordinate coordinate) {
-        return !maze[coordinate.getY()][coordinate.getX()];
+        return !maze.get(coordinate.getX(), coordinate.getY());
+    }
+
+    // REQUIRES: isInRange(x, y)
+    // EFFECTS: returns true if the block at (x, y) is a wall
+    public boolean isWall(int x, int y) {
+        return !maze.get(x, y);
     }
 
     // EFFECTS: returns true if
@@ -61,12 +107,15 @@ public class Maze {
     // coordinate.getY() <= getHeight() -1 &&
     // false otherwise
     public boolean isInRange(Coordinate coordinate) {
-        int xcoord = coordinate.getX();
-        int ycoord = coordinate.getY();
-        return xcoord >= 0
-                && xcoord <= width - 1
-                && ycoord >= 0
-                && ycoord <= height - 1;
+        return isInRange(coordinate.getX(), coordinate.getY());
+    }
+
+    // EFFECTS: returns true if (x, y) is within the maze, false otherwise
+    public boolean isInRange(int x, int y) {
+        return x >= 0
+                && x <= width - 1
+                && y >= 0
+                && y <= height - 1;
     }
 
     public int getHeight() {
@@ -85,6 +134,24 @@ public class Maze {
         return exit;
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
+    public GeneratorType getGeneratorType() {
+        return generatorType;
+    }
+
+    // EFFECTS: return how many nanoseconds the generator took to carve this maze
+    public long getGenerationNanos() {
+        return generationNanos;
+    }
+
+    // EFFECTS: return the generation throughput of this maze in blocks per second
+    public double getCellsPerSecond() {
+        return (double) width * height * 1e9 / Math.max(1, generationNanos);
+    }
+
     // REQUIRES: isInRange(start)
     // MODIFIES: this
     // EFFECTS: set the start to be the given start
@@ -101,21 +168,114 @@ public class Maze {
 
     // EFFECTS: return the number of the roads
     public int getNumOfRoad() {
-        return roads.size();
+        return getRoads().size();
     }
 
     // REQUIRES: index >= 0 && index < getNumOfRoad()
     // EFFECTS: returns a road coord by the given index
-    // the order is random
+    // the roads are in row-major order and do not include the start
     public Coordinate getRoad(int index) {
-        return roads.get(index);
+        int cell = getRoads().get(index);
+        return new Coordinate(cell % width, cell / width);
+    }
+
+    // REQUIRES: index >= 0 && index < getNumOfRoad()
+    // EFFECTS: returns the packed cell y * getWidth() + x of the road
+    // getRoad(index) without allocating a coordinate
+    public int getRoadCell(int index) {
+        return getRoads().get(index);
     }
 
     // REQUIRES: isInRange(coord) is true
     // MODIFIES: this
     // EFFECTS: set the value to the given position in the maze
     public void setBlock(Coordinate coord, boolean value) {
-        maze[coord.getY()][coord.getX()] = value;
+        setBlock(coord.getX(), coord.getY(), value);
+    }
+
+    // REQUIRES: isInRange(x, y) is true
+    // MODIFIES: this
+    // EFFECTS: set the value to the given position in the maze
+    public void setBlock(int x, int y, boolean value) {
+        if (maze.get(x, y) != value) {
+            applyEdit(x, y, 1, 1, value);
+        }
+    }
+
+    // REQUIRES: the region [x, x + w) x [y, y + h) is within the maze
+    // MODIFIES: this
+    // EFFECTS: turns every block in the region into a road
+    // and returns the number of walls that were opened
+    public int openRegion(int x, int y, int w, int h) {
+        int walls = w * h - maze.countRegion(x, y, w, h);
+        if (walls > 0) {
+            applyEdit(x, y, w, h, true);
+        }
+        return walls;
+    }
+
+    // REQUIRES: the region [x, x + w) x [y, y + h) is within the maze
+    // MODIFIES: this
+    // EFFECTS: sets every block in the region to value and records
+    // the change in the edit list
+    public void applyEdit(int x, int y, int w, int h, boolean value) {
+        maze.fillRegion(x, y, w, h, value);
+        if (edits != null) {
+            edits.add(x);
+            edits.add(y);
+            edits.add(w);
+            edits.add(h);
+            edits.add(value ? 1 : 0);
+        }
+    }
+
+    // REQUIRES: getNumOfEdits() == 0 and rows has getHeight() rows of
+    // getWidth() blocks, true for a road
+    // MODIFIES: this
+    // EFFECTS: replaces every block by the given ones without recording an
+    // edit, the maze is no longer from its seed
+    public void loadBlocks(boolean[][] rows) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                maze.set(x, y, rows[y][x]);
+            }
+        }
+        roads = null;
+        fromSeed = false;
+    }
+
+    // EFFECTS: returns true if the blocks are the ones generated from the seed
+    // with the edits applied, false if they were loaded by loadBlocks
+    public boolean isFromSeed() {
+        return fromSeed;
+    }
+
+    // EFFECTS: return the number of edits made since the maze was generated
+    public int getNumOfEdits() {
+        return edits.size() / EDIT_FIELDS;
+    }
+
+    // REQUIRES: index >= 0 && index < getNumOfEdits()
+    // EFFECTS: returns the edit of the given index as {x, y, w, h, road},
+    // road is 1 if the region was turned into roads and 0 otherwise
+    public int[] getEdit(int index) {
+        int[] edit = new int[EDIT_FIELDS];
+        for (int i = 0; i < EDIT_FIELDS; i++) {
+            edit[i] = edits.get(index * EDIT_FIELDS + i);
+        }
+        return edit;
+    }
+
+    // REQUIRES: the region [x, x + w) x [y, y + h) is within the maze
+    // EFFECTS: returns the number of roads in the region
+    public int countRoads(int x, int y, int w, int h) {
+        return maze.countRegion(x, y, w, h);
+    }
+
+    // EFFECTS: returns the bit-packed blocks of this maze, a set bit is a road.
+    // used by renderers to scan the maze a word at a time
+    public BitGrid getGrid() {
+        return maze;
     }
 
     // EFFECTS: convert the maze to a JSON object
@@ -123,82 +283,86 @@ public class Maze {
         JSONObject maze = new JSONObject();
         maze.put("exit", exit.toJson());
         maze.put("start", start.toJson());
-        maze.put("maze", this.maze);
+        maze.put("generatorType", generatorType);
+        maze.put("fromSeed", fromSeed);
+        maze.put("maze", toArray());
         return maze;
     }
 
-    // MODIFIES: this
-    // EFFECTS: generate a maze with a random start point within the region of
-    // ([0, width/2), [0, height/2))
-    // and a random exit point within the region of
-    // ([width/2, width-1], [height/2, height-1])
-    // by the Randomized Prim's algorithm
-    // source link:
-    // https://en.wikipedia.org/wiki/Maze_generation_algorithm#Randomized_Prim's_algorithm
-    private void generateMaze() {
-        ArrayList<Coordinate> queue = new ArrayList<>();
-
-        setBlock(start, true);
-        explore(start, queue);
-
-        while (queue.size() != 0) {
-            int index = random.nextInt(queue.size());
-            Coordinate next = queue.get(index);
-
-            if (countSurroundingRoad(next) == 1) {
-                roads.add(next);
-                setBlock(next, true);
-                explore(next, queue);
+    // EFFECTS: convert the maze to a JSON object without its blocks, only the
+    // edits made since generation are kept as [x, y, w, h, road] arrays.
+    // the blocks are restored by regenerating the maze from its seed and
+    // applying the edits in order. a maze not from its seed is converted
+    // like toJson, with all of its blocks
+    public JSONObject toCompactJson() {
+        if (!fromSeed) {
+            return toJson();
+        }
+        JSONObject maze = new JSONObject();
+        maze.put("exit", exit.toJson());
+        maze.put("start", start.toJson());
+        maze.put("generatorType", generatorType);
+        JSONArray list = new JSONArray();
+        for (int i = 0; i < edits.size(); i += EDIT_FIELDS) {
+            JSONArray edit = new JSONArray();
+            for (int j = 0; j < EDIT_FIELDS; j++) {
+                edit.put(edits.get(i + j));
             }
-            queue.remove(index);
+            list.put(edit);
+        }
+        maze.put("edits", list);
+        return maze;
+    }
+
+    // EFFECTS: returns the maze as rows of booleans, true for a road
+    private boolean[][] toArray() {
+        boolean[][] rows = new boolean[height][width];
+        for (int index = maze.nextSetBit(0); index != -1; index = maze.nextSetBit(index + 1)) {
+            rows[index / width][index % width] = true;
         }
+        return rows;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: generate a maze with the given generator, record the time it
+    // took, and set a random exit point within the region of
+    // ([width/2, width-1], [height/2, height-1])
+    private void generateMaze(MazeGenerator generator) {
+        long begin = System.nanoTime();
+        generator.generate(this, random);
+        generationNanos = System.nanoTime() - begin;
 
         generateExit();
+        edits = new IntList();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns every road except the start, in row-major order.
+    // the list is only built the first time it is needed, so a huge maze
+    // that is never asked for its roads does not pay for it
+    private IntList getRoads() {
+        if (roads == null) {
+            int first = maze.indexOf(start.getX(), start.getY());
+            roads = new IntList(maze.count());
+            for (int index = maze.nextSetBit(0); index != -1; index = maze.nextSetBit(index + 1)) {
+                if (index != first) {
+                    roads.add(index);
+                }
+            }
+        }
+        return roads;
     }
 
     // MODIFIES: this
     // EFFECTS: set a random exit point within the region of
     // ([width/2, width-1], [height/2, height-1])
     private void generateExit() {
+        int xcoord;
+        int ycoord;
         do {
-            int xcoord = random.nextInt(width / 2) + width / 2;
-            int ycoord = random.nextInt(height / 2) + height / 2;
-            exit = new Coordinate(xcoord, ycoord);
-        } while (isWall(exit));
-    }
-
-    // REQUIRES: isInRange(coord)
-    // EFFECTS: count the number of road around the coord
-    // only check 4 directions:
-    // up, down, left, right
-    private int countSurroundingRoad(Coordinate coord) {
-        int roadCounter = 0;
-        int saveX = coord.getX();
-        int saveY = coord.getY();
-        for (Direction direction : Direction.values()) {
-            coord.go(direction, 1);
-            if (this.isInRange(coord) && !this.isWall(coord)) {
-                roadCounter++;
-            }
-            coord.setXY(saveX, saveY);
-        }
-        return roadCounter;
-    }
-
-    // MODIFIES: walls
-    // EFFECTS: check 4 directions: up, down, right, left around the coord
-    // if any of these 4 points satisfies (isInRange(point) && isWall(point))
-    // this point will be added to the walls
-    private void explore(Coordinate coord, ArrayList<Coordinate> walls) {
-        int saveX = coord.getX();
-        int saveY = coord.getY();
-        for (Direction direction : Direction.values()) {
-            coord.go(direction, 1);
-            if (isInRange(coord) && isWall(coord)) {
-                Coordinate wall = new Coordinate(coord.getX(), coord.getY());
-                walls.add(wall);
-            }
-            coord.setXY(saveX, saveY);
-        }
+            xcoord = random.nextInt(width / 2) + width / 2;
+            ycoord = random.nextInt(height / 2) + height / 2;
+        } while (isWall(xcoord, ycoord));
+        exit = new Coordinate(xcoord, ycoord);
     }
 }
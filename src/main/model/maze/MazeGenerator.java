@@ -0,0 +1,19 @@
+package model.maze;
+
+import java.util.Random;
+
+// MazeGenerator is a maze generation algorithm.
+// it carves roads into a maze that is all walls, starting from the
+// maze's start point. All the carved roads must be connected to the start
+public interface MazeGenerator {
+
+    // REQUIRES: every block of maze is a wall && maze.isInRange(maze.getStart())
+    // MODIFIES: maze
+    // EFFECTS: carves the roads of the maze by using random as the only
+    // source of randomness. The generator may move the start point within the
+    // region of ([0, width/2), [0, height/2)), the start point will be a road
+    void generate(Maze maze, Random random);
+
+    // EFFECTS: returns the type of this generator
+    GeneratorType getType();
+}
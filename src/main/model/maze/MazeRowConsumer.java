@@ -0,0 +1,13 @@
+package model.maze;
+
+import model.utility.BitGrid;
+
+// MazeRowConsumer receives the rows of a maze one at a time,
+// for example a renderer, a file writer or a maze that is filled row by row
+public interface MazeRowConsumer {
+
+    // EFFECTS: handles the block row with the given y. row is a BitGrid of
+    // height 1 where a set bit is a road. The row is reused for the next
+    // row, so it must be copied if it is kept
+    void accept(long y, BitGrid row);
+}
@@ -0,0 +1,81 @@
+package model.maze;
+
+import java.util.Random;
+
+import model.utility.BitGrid;
+
+// MazeRowStream generates a perfect maze of a fixed width and an unbounded
+// height by Eller's algorithm, and emits its block rows to a consumer as
+// soon as they are generated. Only O(width) state is kept no matter how many
+// rows are emitted, so a maze with millions of rows takes constant memory.
+// every lattice row gives 2 block rows: the row of cells with the passages
+// between them, and the row of passages going down. The last lattice row is
+// emitted by finish(), which connects every remaining set
+public class MazeRowStream {
+    private final int width;
+    private final EllerRows rows;
+    private final BitGrid cellRow;
+    private final BitGrid passageRow;
+    private long rowsEmitted;
+    private boolean finished;
+
+    // REQUIRES: width % 2 == 0 && width >= 2
+    // EFFECTS: constructs a stream of rows of the given width in blocks
+    public MazeRowStream(int width, Random random) {
+        this.width = width;
+        this.rows = new EllerRows(width / 2, random);
+        this.cellRow = new BitGrid(width, 1);
+        this.passageRow = new BitGrid(width, 1);
+        this.rowsEmitted = 0;
+        this.finished = false;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    // EFFECTS: returns the number of block rows emitted so far
+    public long getRowsEmitted() {
+        return rowsEmitted;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    // REQUIRES: !isFinished()
+    // MODIFIES: this
+    // EFFECTS: generates the next lattice row and emits its 2 block rows
+    public void nextRows(MazeRowConsumer consumer) {
+        emit(false, consumer);
+    }
+
+    // REQUIRES: !isFinished()
+    // MODIFIES: this
+    // EFFECTS: generates the last lattice row, which joins all the roads
+    // into one maze, emits its 2 block rows and closes the stream
+    public void finish(MazeRowConsumer consumer) {
+        emit(true, consumer);
+        finished = true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: generates a lattice row and emits the row of cells
+    // followed by the row of passages below them
+    private void emit(boolean last, MazeRowConsumer consumer) {
+        rows.nextRow(last);
+        cellRow.fill(false);
+        passageRow.fill(false);
+        for (int c = 0; c < width / 2; c++) {
+            cellRow.set(2 * c, true);
+            if (rows.isRightOpen(c)) {
+                cellRow.set(2 * c + 1, true);
+            }
+            if (rows.isDownOpen(c)) {
+                passageRow.set(2 * c, true);
+            }
+        }
+        consumer.accept(rowsEmitted++, cellRow);
+        consumer.accept(rowsEmitted++, passageRow);
+    }
+}
@@ -0,0 +1,63 @@
+package model.maze;
+
+import model.utility.BitGrid;
+
+// MazeRowWindow keeps the last getCapacity() block rows emitted by a
+// MazeRowStream in a ring of rows, so a game can be played on a maze while
+// its rows are still being generated, in memory bounded by the window however
+// deep the maze goes. the rows above the window have scrolled out and the
+// rows below it are not generated yet, both read as walls
+public class MazeRowWindow implements MazeRowConsumer {
+    private final int width;
+    private final int capacity;
+    private final BitGrid rows;
+    private long nextRow;
+
+    // REQUIRES: width > 0 && capacity > 0
+    // EFFECTS: constructs an empty window of capacity rows of the given width
+    public MazeRowWindow(int width, int capacity) {
+        this.width = width;
+        this.capacity = capacity;
+        this.rows = new BitGrid(width, capacity);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // EFFECTS: returns the y of the first row still in the window
+    public long getFirstRow() {
+        return Math.max(0, nextRow - capacity);
+    }
+
+    // EFFECTS: returns the y of the next row to be accepted,
+    // which is the number of rows accepted so far
+    public long getNextRow() {
+        return nextRow;
+    }
+
+    // REQUIRES: y == getNextRow() && row.getWidth() == getWidth()
+    // MODIFIES: this
+    // EFFECTS: copies the row into the window over the oldest row once it is full
+    @Override
+    public void accept(long y, BitGrid row) {
+        int base = (int) (y % capacity) * width;
+        for (int x = 0; x < width; x += 64) {
+            int count = Math.min(64, width - x);
+            rows.setBits(base + x, count, row.getBits(x, count));
+        }
+        nextRow = y + 1;
+    }
+
+    // EFFECTS: returns true if the block (x, y) is a wall, or is not in the window
+    public boolean isWall(int x, long y) {
+        if (x < 0 || x >= width || y < getFirstRow() || y >= nextRow) {
+            return true;
+        }
+        return !rows.get(x, (int) (y % capacity));
+    }
+}
@@ -0,0 +1,146 @@
+package model.maze;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import model.utility.BitGrid;
+import model.utility.Seeds;
+
+// ParallelGenerator generates a lattice maze by cutting the lattice into
+// square tiles of cells. Every tile is carved independently by the recursive
+// backtracker on a ForkJoinPool, with its own random stream derived from one
+// seed, so the result does not depend on how the tiles are scheduled.
+// the tiles are then copied into the maze and joined by a random spanning
+// tree over the tile graph, one passage per tree edge. A tree of perfect
+// mazes joined by single passages is still a perfect maze
+public class ParallelGenerator extends LatticeGenerator {
+    public static final int DEFAULT_TILE_CELLS = 128;
+
+    private final ForkJoinPool pool;
+    private final int tileCells;
+
+    // EFFECTS: constructs a generator that uses the common pool
+    // and tiles of DEFAULT_TILE_CELLS x DEFAULT_TILE_CELLS cells
+    public ParallelGenerator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_TILE_CELLS);
+    }
+
+    // REQUIRES: tileCells >= 1
+    // EFFECTS: constructs a generator that carves tiles of
+    // tileCells x tileCells cells on the given pool
+    public ParallelGenerator(ForkJoinPool pool, int tileCells) {
+        this.pool = pool;
+        this.tileCells = tileCells;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: carves all the tiles in parallel, copies them into the maze
+    // and joins them into one perfect maze
+    @Override
+    protected void carve(int startCell, Random random) {
+        int tilesX = (getColumns() + tileCells - 1) / tileCells;
+        int tilesY = (getRows() + tileCells - 1) / tileCells;
+        BitGrid[] tiles = new BitGrid[tilesX * tilesY];
+        long seed = random.nextLong();
+
+        pool.invoke(new TileTask(tiles, tilesX, seed, 0, tiles.length));
+        for (int tile = 0; tile < tiles.length; tile++) {
+            copyTile(tiles[tile], tile % tilesX * tileCells * 2, tile / tilesX * tileCells * 2);
+        }
+        joinTiles(tilesX, tilesY, random);
+    }
+
+    @Override
+    public GeneratorType getType() {
+        return GeneratorType.PARALLEL;
+    }
+
+    // EFFECTS: returns the size in blocks of the tile starting at the given
+    // cell offset along an axis of the given number of cells
+    private int tileBlocks(int offsetCells, int cells) {
+        return Math.min(tileCells, cells - offsetCells) * 2;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: joins the tiles along a random spanning tree of the tile graph.
+    // the tree is carved as a small lattice maze with one cell per tile,
+    // an open passage in it means the two tiles share one open passage
+    private void joinTiles(int tilesX, int tilesY, Random random) {
+        BitGrid tree = new BitGrid(tilesX * 2, tilesY * 2);
+        new KruskalGenerator().carveGrid(tree, 0, random);
+        for (int ty = 0; ty < tilesY; ty++) {
+            for (int tx = 0; tx < tilesX; tx++) {
+                int cellX = tx * tileCells;
+                int cellY = ty * tileCells;
+                if (tx < tilesX - 1 && tree.get(tx * 2 + 1, ty * 2)) {
+                    int row = cellY + random.nextInt(tileBlocks(cellY, getRows()) / 2);
+                    openBlock((cellX + tileCells) * 2 - 1, row * 2);
+                }
+                if (ty < tilesY - 1 && tree.get(tx * 2, ty * 2 + 1)) {
+                    int column = cellX + random.nextInt(tileBlocks(cellX, getColumns()) / 2);
+                    openBlock(column * 2, (cellY + tileCells) * 2 - 1);
+                }
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies the tile into the maze at the block (x, y), 64 blocks at a time
+    private void copyTile(BitGrid tile, int x, int y) {
+        BitGrid grid = getGrid();
+        int tileWidth = tile.getWidth();
+        for (int row = 0; row < tile.getHeight() && y + row < grid.getHeight(); row++) {
+            int width = Math.min(tileWidth, grid.getWidth() - x);
+            for (int offset = 0; offset < width; offset += 64) {
+                int count = Math.min(64, width - offset);
+                long bits = tile.getBits(row * tileWidth + offset, count);
+                grid.setBits(grid.indexOf(x + offset, y + row), count, bits);
+            }
+        }
+    }
+
+    // TileTask carves a range of tiles, splitting the range in halves
+    // until it is small enough to carve directly
+    private class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final BitGrid[] tiles;
+        private final int tilesX;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        // EFFECTS: constructs a task that carves the tiles in [from, to)
+        TileTask(BitGrid[] tiles, int tilesX, long seed, int from, int to) {
+            this.tiles = tiles;
+            this.tilesX = tilesX;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        // MODIFIES: tiles
+        // EFFECTS: carves every tile in [from, to)
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                for (int tile = from; tile < to; tile++) {
+                    tiles[tile] = carveTile(tile);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileTask(tiles, tilesX, seed, from, middle), new TileTask(tiles, tilesX, seed, middle, to));
+        }
+
+        // EFFECTS: returns the carved blocks of the tile
+        private BitGrid carveTile(int tile) {
+            int width = tileBlocks(tile % tilesX * tileCells, getColumns());
+            int height = tileBlocks(tile / tilesX * tileCells, getRows());
+            BitGrid grid = new BitGrid(width, height);
+            new BacktrackerGenerator().carveGrid(grid, 0, new Random(Seeds.mix(seed, tile)));
+            return grid;
+        }
+    }
+}
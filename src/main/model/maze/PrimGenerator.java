@@ -0,0 +1,103 @@
+package model.maze;
+
+import java.util.Random;
+
+import model.utility.BitGrid;
+import model.utility.IntList;
+
+// PrimGenerator generates a maze by the Randomized Prim's algorithm
+// source link:
+// https://en.wikipedia.org/wiki/Maze_generation_algorithm#Randomized_Prim's_algorithm
+// every block is a cell, a wall is turned into a road if it
+// touches exactly one road when it is picked from the frontier.
+// the frontier holds packed cell indices and a picked wall is swap-removed,
+// every wall is queued at most once, so the generation is linear in the
+// number of blocks and does not allocate per block
+public class PrimGenerator implements MazeGenerator {
+    private BitGrid grid;
+    private int width;
+    private int height;
+
+    // MODIFIES: maze
+    // EFFECTS: carves the roads of the maze starting from maze.getStart()
+    @Override
+    public void generate(Maze maze, Random random) {
+        grid = maze.getGrid();
+        width = maze.getWidth();
+        height = maze.getHeight();
+
+        IntList frontier = new IntList();
+        BitGrid queued = new BitGrid(width, height);
+
+        int first = grid.indexOf(maze.getStart().getX(), maze.getStart().getY());
+        grid.set(first, true);
+        queued.set(first, true);
+        explore(first, frontier, queued);
+
+        while (!frontier.isEmpty()) {
+            int next = frontier.swapRemove(random.nextInt(frontier.size()));
+            if (countSurroundingRoad(next) == 1) {
+                grid.set(next, true);
+                explore(next, frontier, queued);
+            }
+        }
+    }
+
+    @Override
+    public GeneratorType getType() {
+        return GeneratorType.PRIM;
+    }
+
+    // REQUIRES: index is a cell index of the maze
+    // EFFECTS: count the number of road around the cell
+    // only check 4 directions:
+    // up, down, left, right
+    private int countSurroundingRoad(int index) {
+        int xcoord = index % width;
+        int ycoord = index / width;
+        int roadCounter = 0;
+        if (xcoord > 0 && grid.get(index - 1)) {
+            roadCounter++;
+        }
+        if (xcoord < width - 1 && grid.get(index + 1)) {
+            roadCounter++;
+        }
+        if (ycoord > 0 && grid.get(index - width)) {
+            roadCounter++;
+        }
+        if (ycoord < height - 1 && grid.get(index + width)) {
+            roadCounter++;
+        }
+        return roadCounter;
+    }
+
+    // MODIFIES: frontier, queued
+    // EFFECTS: check 4 directions: up, down, right, left around the cell
+    // every neighbour that is a wall and is not queued yet
+    // will be added to the frontier and marked as queued
+    private void explore(int index, IntList frontier, BitGrid queued) {
+        int xcoord = index % width;
+        int ycoord = index / width;
+        if (xcoord > 0) {
+            enqueue(index - 1, frontier, queued);
+        }
+        if (xcoord < width - 1) {
+            enqueue(index + 1, frontier, queued);
+        }
+        if (ycoord > 0) {
+            enqueue(index - width, frontier, queued);
+        }
+        if (ycoord < height - 1) {
+            enqueue(index + width, frontier, queued);
+        }
+    }
+
+    // MODIFIES: frontier, queued
+    // EFFECTS: add the cell to the frontier if it is a wall that is not queued
+    private void enqueue(int index, IntList frontier, BitGrid queued) {
+        if (!grid.get(index) && !queued.get(index)) {
+            queued.set(index, true);
+            frontier.add(index);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package model.maze;
+
+import java.util.Random;
+
+import model.utility.BitGrid;
+
+// WilsonGenerator generates a maze by Wilson's algorithm.
+// it adds loop-erased random walks to the tree until every cell is in
+// the tree, which gives a uniformly random spanning tree.
+// a walk only remembers the last exit of every cell, so the loops are
+// erased for free when the walk is traced back
+// source link:
+// https://en.wikipedia.org/wiki/Maze_generation_algorithm#Wilson's_algorithm
+public class WilsonGenerator extends LatticeGenerator {
+
+    // MODIFIES: this
+    // EFFECTS: grows the tree from startCell until every cell is in it
+    @Override
+    protected void carve(int startCell, Random random) {
+        BitGrid inTree = new BitGrid(getColumns(), getRows());
+        int[] exits = new int[getNumOfCells()];
+        int[] options = new int[4];
+        inTree.set(startCell, true);
+
+        for (int cell = inTree.nextClearBit(0); cell != -1; cell = inTree.nextClearBit(cell + 1)) {
+            int current = cell;
+            while (!inTree.get(current)) {
+                int count = neighbours(current, options);
+                exits[current] = options[random.nextInt(count)];
+                current = exits[current];
+            }
+
+            current = cell;
+            while (!inTree.get(current)) {
+                inTree.set(current, true);
+                openPassage(current, exits[current]);
+                current = exits[current];
+            }
+        }
+    }
+
+    @Override
+    public GeneratorType getType() {
+        return GeneratorType.WILSON;
+    }
+}
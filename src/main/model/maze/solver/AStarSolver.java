@@ -0,0 +1,52 @@
+package model.maze.solver;
+
+// AStarSolver finds a shortest path by A* search with the Manhattan distance
+// to the target as the heuristic. Since the heuristic is consistent, a cell
+// is final the first time it is taken from the open heap. Entries that were
+// improved after they were pushed are skipped when they are popped
+public class AStarSolver extends GridSolver {
+    private final IntHeap open = new IntHeap();
+    private int[] costs = new int[0];
+
+    // MODIFIES: this
+    // EFFECTS: expands the cells in order of cost + heuristic until `to` is taken
+    @Override
+    protected int[] search(int from, int to) {
+        costs = fit(costs);
+        open.clear();
+        mark(from, from, 0);
+        costs[from] = 0;
+        open.push(from, distance(from, to));
+        while (!open.isEmpty()) {
+            int key = open.peekKey();
+            int cell = open.pop();
+            if (cell == to) {
+                return pathTo(to);
+            }
+            if (key > costs[cell] + distance(cell, to)) {
+                continue;
+            }
+            for (int step : steps) {
+                relax(cell, cell + step, step, to);
+            }
+        }
+        return NO_PATH;
+    }
+
+    @Override
+    public SolverType getType() {
+        return SolverType.ASTAR;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: if next is a road and reaching it through cell is cheaper than
+    // before, records that and pushes it on the open heap
+    private void relax(int cell, int next, int step, int to) {
+        int cost = costs[cell] + 1;
+        if (isOpen(cell, step) && (!isMarked(next) || cost < costs[next])) {
+            mark(next, cell, 0);
+            costs[next] = cost;
+            open.push(next, cost + distance(next, to));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package model.maze.solver;
+
+// BfsSolver finds a shortest path by a breadth first search from the start.
+// the queue is an int array that is reused between queries
+public class BfsSolver extends GridSolver {
+    private int[] queue = new int[0];
+
+    // MODIFIES: this
+    // EFFECTS: visits the cells in order of their distance from `from`
+    // until `to` is reached
+    @Override
+    protected int[] search(int from, int to) {
+        queue = fit(queue);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+        mark(from, from, 0);
+        while (head < tail) {
+            int cell = queue[head++];
+            for (int step : steps) {
+                int next = cell + step;
+                if (isOpen(cell, step) && !isMarked(next)) {
+                    mark(next, cell, 0);
+                    if (next == to) {
+                        return pathTo(to);
+                    }
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return NO_PATH;
+    }
+
+    @Override
+    public SolverType getType() {
+        return SolverType.BFS;
+    }
+}
@@ -0,0 +1,107 @@
+package model.maze.solver;
+
+// BidirectionalBfsSolver finds a shortest path by two breadth first searches,
+// one from each end. It always grows the side with the smaller frontier by a
+// whole layer, and keeps the shortest connection found in that layer.
+// a cell belongs to the side that reached it first
+public class BidirectionalBfsSolver extends GridSolver {
+    private static final int FORWARD = 0;
+    private static final int BACKWARD = 1;
+
+    private int[] forward = new int[0];
+    private int[] backward = new int[0];
+    private int[] depths = new int[0];
+
+    private int meetForward;
+    private int meetBackward;
+    private int meetLength;
+
+    // MODIFIES: this
+    // EFFECTS: grows the two searches layer by layer until they meet
+    @Override
+    protected int[] search(int from, int to) {
+        forward = fit(forward);
+        backward = fit(backward);
+        depths = fit(depths);
+        start(forward, from, FORWARD);
+        start(backward, to, BACKWARD);
+        meetLength = Integer.MAX_VALUE;
+
+        int forwardHead = 0;
+        int forwardTail = 1;
+        int backwardHead = 0;
+        int backwardTail = 1;
+        while (meetLength == Integer.MAX_VALUE && forwardHead < forwardTail && backwardHead < backwardTail) {
+            if (forwardTail - forwardHead <= backwardTail - backwardHead) {
+                int tail = expandLayer(forward, forwardHead, forwardTail, FORWARD);
+                forwardHead = forwardTail;
+                forwardTail = tail;
+            } else {
+                int tail = expandLayer(backward, backwardHead, backwardTail, BACKWARD);
+                backwardHead = backwardTail;
+                backwardTail = tail;
+            }
+        }
+        return meetLength == Integer.MAX_VALUE ? NO_PATH : joinPath();
+    }
+
+    @Override
+    public SolverType getType() {
+        return SolverType.BIDIRECTIONAL_BFS;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks cell as the root of the given side and queues it
+    private void start(int[] queue, int cell, int side) {
+        mark(cell, cell, side);
+        depths[cell] = 0;
+        queue[0] = cell;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: visits the neighbours of the layer queue[head, tail) on the
+    // given side, queues the new ones and returns the new tail.
+    // every edge into the other side is a connection between the searches
+    private int expandLayer(int[] queue, int head, int tail, int side) {
+        int end = tail;
+        for (int i = head; i < end; i++) {
+            int cell = queue[i];
+            for (int step : steps) {
+                int next = cell + step;
+                if (!isOpen(cell, step)) {
+                    continue;
+                }
+                if (isMarked(next, 1 - side)) {
+                    connect(cell, next, side);
+                } else if (!isMarked(next)) {
+                    mark(next, cell, side);
+                    depths[next] = depths[cell] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return tail;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: keeps the connection between cell on the given side and next on
+    // the other side if it gives a shorter path than the one kept so far
+    private void connect(int cell, int next, int side) {
+        int length = depths[cell] + depths[next] + 2;
+        if (length < meetLength) {
+            meetLength = length;
+            meetForward = side == FORWARD ? cell : next;
+            meetBackward = side == FORWARD ? next : cell;
+        }
+    }
+
+    // EFFECTS: returns the path from the forward root through the kept
+    // connection to the backward root
+    private int[] joinPath() {
+        int[] path = new int[meetLength];
+        int half = depths[meetForward] + 1;
+        writeChain(meetForward, path, half - 1, -1);
+        writeChain(meetBackward, path, half, 1);
+        return path;
+    }
+}
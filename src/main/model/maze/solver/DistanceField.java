@@ -0,0 +1,177 @@
+package model.maze.solver;
+
+import java.util.Arrays;
+
+import model.maze.Maze;
+import model.utility.BitGrid;
+
+// DistanceField stores the number of steps from every road of a maze to one
+// target cell, found by a breadth first search from the target, so the
+// distance and the next step towards the target are O(1) lookups.
+// the field follows the edits of the maze lazily: before a lookup, regions
+// opened since the last lookup are relaxed locally from their borders, and
+// only an edit that adds walls makes the whole field be searched again
+public class DistanceField {
+    public static final int UNREACHABLE = -1;
+
+    private final Maze maze;
+    private final BitGrid grid;
+    private final int target;
+    private final int[] steps;
+    private final int[] distances;
+    private final int[] queue;
+    private final BitGrid queued;
+    private int appliedEdits;
+
+    // REQUIRES: target is a cell of the maze
+    // EFFECTS: constructs the distance field of the maze towards target
+    public DistanceField(Maze maze, int target) {
+        this.maze = maze;
+        this.grid = maze.getGrid();
+        this.target = target;
+        int width = grid.getWidth();
+        steps = new int[] {1, -1, width, -width};
+        distances = new int[grid.size()];
+        queue = new int[grid.size()];
+        queued = new BitGrid(grid.getWidth(), grid.getHeight());
+        appliedEdits = maze.getNumOfEdits();
+        rebuild();
+    }
+
+    public Maze getMaze() {
+        return maze;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    // REQUIRES: cell is a cell of the maze
+    // MODIFIES: this
+    // EFFECTS: returns the number of steps from cell to the target,
+    // or UNREACHABLE if cell is a wall or can not reach the target
+    public int getDistance(int cell) {
+        sync();
+        return distances[cell];
+    }
+
+    // REQUIRES: maze.isInRange(x, y)
+    // MODIFIES: this
+    // EFFECTS: returns getDistance of the cell at (x, y)
+    public int getDistance(int x, int y) {
+        return getDistance(grid.indexOf(x, y));
+    }
+
+    // REQUIRES: cell is a cell of the maze
+    // MODIFIES: this
+    // EFFECTS: returns the neighbour of cell that is one step closer to the
+    // target, or -1 if cell is the target or can not reach it
+    public int nextStep(int cell) {
+        int distance = getDistance(cell);
+        if (distance <= 0) {
+            return -1;
+        }
+        for (int step : steps) {
+            if (GridSolver.isOpen(grid, cell, step) && distances[cell + step] == distance - 1) {
+                return cell + step;
+            }
+        }
+        return -1;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: applies the edits the maze got since the last lookup
+    private void sync() {
+        boolean walls = false;
+        for (; appliedEdits < maze.getNumOfEdits(); appliedEdits++) {
+            int[] edit = maze.getEdit(appliedEdits);
+            if (edit[4] == 0) {
+                walls = true;
+            } else if (!walls) {
+                relaxRegion(edit[0], edit[1], edit[2], edit[3]);
+            }
+        }
+        if (walls) {
+            rebuild();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: recomputes every distance by a breadth first search from the target
+    private void rebuild() {
+        Arrays.fill(distances, UNREACHABLE);
+        if (!grid.get(target)) {
+            return;
+        }
+        distances[target] = 0;
+        queue[0] = target;
+        queued.set(target, true);
+        propagate(0, 1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: gives every road of the just opened region the distance through
+    // its best neighbour, then spreads every improvement outwards
+    private void relaxRegion(int x, int y, int w, int h) {
+        int tail = 0;
+        for (int row = y; row < y + h; row++) {
+            int end = grid.indexOf(x + w - 1, row);
+            for (int cell = grid.indexOf(x, row); cell <= end; cell++) {
+                if (grid.get(cell) && improve(cell, cell == target ? 0 : bestNeighbour(cell))) {
+                    queue[tail++] = cell;
+                    queued.set(cell, true);
+                }
+            }
+        }
+        propagate(0, tail);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: takes the cells from the circular queue[head, tail) and lowers
+    // the distances of their neighbours through them, queueing every
+    // neighbour that got closer until nothing changes
+    private void propagate(int head, int tail) {
+        int count = tail - head;
+        tail %= queue.length;
+        while (count > 0) {
+            int cell = queue[head];
+            head = (head + 1) % queue.length;
+            count--;
+            queued.set(cell, false);
+            for (int step : steps) {
+                int next = cell + step;
+                if (GridSolver.isOpen(grid, cell, step) && improve(next, distances[cell] + 1) && !queued.get(next)) {
+                    queue[tail] = next;
+                    tail = (tail + 1) % queue.length;
+                    count++;
+                    queued.set(next, true);
+                }
+            }
+        }
+    }
+
+    // EFFECTS: returns one more than the smallest distance of the neighbours
+    // of cell, or UNREACHABLE if none of them reaches the target
+    private int bestNeighbour(int cell) {
+        int best = UNREACHABLE;
+        for (int step : steps) {
+            int next = cell + step;
+            if (GridSolver.isOpen(grid, cell, step) && distances[next] != UNREACHABLE
+                    && (best == UNREACHABLE || distances[next] + 1 < best)) {
+                best = distances[next] + 1;
+            }
+        }
+        return best;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: lowers the distance of cell to distance if that is closer,
+    // returns true if it did
+    private boolean improve(int cell, int distance) {
+        if (distance == UNREACHABLE || (distances[cell] != UNREACHABLE && distances[cell] <= distance)) {
+            return false;
+        }
+        distances[cell] = distance;
+        return true;
+    }
+}
@@ -0,0 +1,156 @@
+package model.maze.solver;
+
+import java.util.Arrays;
+
+import model.maze.Maze;
+import model.utility.BitGrid;
+
+// GridSolver is the base of the solvers, it searches the roads of the
+// bit-packed grid of a maze by packed cell index.
+// the buffers are kept between queries and are never cleared. every query
+// gets a new epoch, and a cell is only marked in this query if its stamp is
+// the current epoch (or epoch + 1, so a search can tell two sides apart).
+// the parent and cost of a cell are only meaningful while it is marked
+abstract class GridSolver implements MazeSolver {
+    protected static final int[] NO_PATH = new int[0];
+
+    private BitGrid grid;
+    private int width;
+    private int size;
+    private int[] stamps = new int[0];
+    private int[] parents = new int[0];
+    private int epoch;
+
+    // the offsets of the right, left, lower and upper neighbour of a cell
+    protected final int[] steps = new int[4];
+
+    // EFFECTS: returns the path from `from` to `to`, see MazeSolver.solve
+    @Override
+    public int[] solve(Maze maze, int from, int to) {
+        prepare(maze.getGrid());
+        if (!grid.get(from) || !grid.get(to)) {
+            return NO_PATH;
+        }
+        if (from == to) {
+            return new int[] {from};
+        }
+        return search(from, to);
+    }
+
+    // REQUIRES: from != to, both are roads, no cell is marked
+    // MODIFIES: this
+    // EFFECTS: returns the cells of a shortest path from `from` to `to`,
+    // or NO_PATH if there is none
+    protected abstract int[] search(int from, int to);
+
+    protected int getWidth() {
+        return width;
+    }
+
+    // EFFECTS: returns the number of cells of the grid being searched
+    protected int getSize() {
+        return size;
+    }
+
+    // EFFECTS: returns array if it can hold a value for every cell,
+    // otherwise a new array that can
+    protected int[] fit(int[] array) {
+        return array.length >= size ? array : new int[size];
+    }
+
+    // EFFECTS: true if the neighbour of cell at cell + step is within
+    // the grid and is a road
+    protected boolean isOpen(int cell, int step) {
+        return isOpen(grid, cell, step);
+    }
+
+    // REQUIRES: step is 1, -1, grid.getWidth() or -grid.getWidth()
+    // EFFECTS: true if the neighbour of cell at cell + step is within
+    // the grid and is a road
+    static boolean isOpen(BitGrid grid, int cell, int step) {
+        int next = cell + step;
+        if (step == 1 || step == -1) {
+            return next >= 0 && next / grid.getWidth() == cell / grid.getWidth() && grid.get(next);
+        }
+        return next >= 0 && next < grid.size() && grid.get(next);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the cell on the given side (0 or 1) with its parent
+    protected void mark(int cell, int parent, int side) {
+        stamps[cell] = epoch + side;
+        parents[cell] = parent;
+    }
+
+    // EFFECTS: true if the cell is marked on any side in this query
+    protected boolean isMarked(int cell) {
+        return stamps[cell] == epoch || stamps[cell] == epoch + 1;
+    }
+
+    // EFFECTS: true if the cell is marked on the given side in this query
+    protected boolean isMarked(int cell, int side) {
+        return stamps[cell] == epoch + side;
+    }
+
+    // REQUIRES: isMarked(cell)
+    protected int getParent(int cell) {
+        return parents[cell];
+    }
+
+    // REQUIRES: isMarked(cell), the root of its chain is its own parent
+    // EFFECTS: returns the number of cells from cell up to the root, both included
+    protected int chainLength(int cell) {
+        int length = 1;
+        for (; parents[cell] != cell; cell = parents[cell]) {
+            length++;
+        }
+        return length;
+    }
+
+    // REQUIRES: isMarked(cell)
+    // MODIFIES: path
+    // EFFECTS: writes the chain from cell up to its root into path, starting at
+    // index at and moving by direction (1 or -1) after every cell
+    protected void writeChain(int cell, int[] path, int at, int direction) {
+        path[at] = cell;
+        for (; parents[cell] != cell; cell = parents[cell]) {
+            at += direction;
+            path[at] = parents[cell];
+        }
+    }
+
+    // EFFECTS: returns the path from the root of the chain of cell to cell
+    protected int[] pathTo(int cell) {
+        int[] path = new int[chainLength(cell)];
+        writeChain(cell, path, path.length - 1, -1);
+        return path;
+    }
+
+    // EFFECTS: returns the Manhattan distance between the two cells
+    protected int distance(int a, int b) {
+        return Math.abs(a % width - b % width) + Math.abs(a / width - b / width);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: points the solver at the grid, grows the buffers if the grid is
+    // larger than any before, and starts a new epoch so nothing is marked
+    private void prepare(BitGrid grid) {
+        this.grid = grid;
+        width = grid.getWidth();
+        size = grid.size();
+        steps[0] = 1;
+        steps[1] = -1;
+        steps[2] = width;
+        steps[3] = -width;
+        if (stamps.length < size) {
+            stamps = new int[size];
+            parents = new int[size];
+            epoch = 0;
+        }
+        epoch += 2;
+        if (epoch > Integer.MAX_VALUE - 2) {
+            Arrays.fill(stamps, 0);
+            epoch = 2;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package model.maze.solver;
+
+import java.util.Arrays;
+
+// IntHeap is a binary min-heap of int values ordered by int keys.
+// it never boxes, and clear() keeps the arrays, so a heap can be reused
+// between searches without allocating
+class IntHeap {
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    // EFFECTS: constructs an empty heap
+    IntHeap() {
+        keys = new int[16];
+        values = new int[16];
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // EFFECTS: true if size() == 0
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes every entry
+    void clear() {
+        size = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds value with the given key
+    void push(int value, int key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        int at = size++;
+        while (at > 0 && keys[(at - 1) / 2] > key) {
+            int parent = (at - 1) / 2;
+            keys[at] = keys[parent];
+            values[at] = values[parent];
+            at = parent;
+        }
+        keys[at] = key;
+        values[at] = value;
+    }
+
+    // REQUIRES: !isEmpty()
+    // EFFECTS: returns the smallest key
+    int peekKey() {
+        return keys[0];
+    }
+
+    // REQUIRES: !isEmpty()
+    // MODIFIES: this
+    // EFFECTS: removes the entry with the smallest key and returns its value
+    int pop() {
+        int top = values[0];
+        size--;
+        int key = keys[size];
+        int value = values[size];
+        int at = 0;
+        while (at * 2 + 1 < size) {
+            int child = at * 2 + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (keys[child] >= key) {
+                break;
+            }
+            keys[at] = keys[child];
+            values[at] = values[child];
+            at = child;
+        }
+        keys[at] = key;
+        values[at] = value;
+        return top;
+    }
+}
@@ -0,0 +1,91 @@
+package model.maze.solver;
+
+// JumpPointSolver is an A* search over jump points for 4-connected grids.
+// from a jump point it runs straight in each direction and only stops at the
+// target or at a cell with a road to its side, where the path could turn.
+// cells in the middle of a straight corridor are never pushed on the heap,
+// and runs into dead ends are dropped. The parent of a jump point is the
+// jump point it was reached from, the cells between them are filled in
+// when the path is built
+public class JumpPointSolver extends GridSolver {
+    private final IntHeap open = new IntHeap();
+    private int[] costs = new int[0];
+
+    // MODIFIES: this
+    // EFFECTS: expands the jump points in order of cost + heuristic
+    // until `to` is taken
+    @Override
+    protected int[] search(int from, int to) {
+        costs = fit(costs);
+        open.clear();
+        mark(from, from, 0);
+        costs[from] = 0;
+        open.push(from, distance(from, to));
+        while (!open.isEmpty()) {
+            int key = open.peekKey();
+            int cell = open.pop();
+            if (cell == to) {
+                return fillPath(to);
+            }
+            if (key > costs[cell] + distance(cell, to)) {
+                continue;
+            }
+            for (int step : steps) {
+                relax(cell, jump(cell, step, to), to);
+            }
+        }
+        return NO_PATH;
+    }
+
+    @Override
+    public SolverType getType() {
+        return SolverType.JUMP_POINT;
+    }
+
+    // EFFECTS: runs from cell in the direction of step and returns the first
+    // cell that is the target or has a road to its side, or -1 if the run
+    // ends at a wall before that
+    private int jump(int cell, int step, int to) {
+        int side = step == 1 || step == -1 ? getWidth() : 1;
+        while (isOpen(cell, step)) {
+            cell += step;
+            if (cell == to || isOpen(cell, side) || isOpen(cell, -side)) {
+                return cell;
+            }
+        }
+        return -1;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: if next is a jump point and reaching it from cell is cheaper
+    // than before, records that and pushes it on the open heap
+    private void relax(int cell, int next, int to) {
+        if (next < 0) {
+            return;
+        }
+        int cost = costs[cell] + distance(cell, next);
+        if (!isMarked(next) || cost < costs[next]) {
+            mark(next, cell, 0);
+            costs[next] = cost;
+            open.push(next, cost + distance(next, to));
+        }
+    }
+
+    // EFFECTS: returns every cell of the path to the jump point `to`,
+    // walking back from each jump point to its parent in a straight line
+    private int[] fillPath(int to) {
+        int[] path = new int[costs[to] + 1];
+        int at = path.length - 1;
+        for (int cell = to; at >= 0; cell = getParent(cell)) {
+            int parent = getParent(cell);
+            int step = Integer.signum(parent - cell) * (Math.abs(parent - cell) < getWidth() ? 1 : getWidth());
+            for (int run = cell; run != parent; run += step) {
+                path[at--] = run;
+            }
+            if (cell == parent) {
+                path[at--] = cell;
+            }
+        }
+        return path;
+    }
+}
@@ -0,0 +1,19 @@
+package model.maze.solver;
+
+import model.maze.Maze;
+
+// MazeSolver finds a shortest path between two roads of a maze.
+// cells are packed indices, cell = y * maze.getWidth() + x.
+// a solver keeps its search buffers between queries, so it is not thread
+// safe, every thread should have its own solver
+public interface MazeSolver {
+
+    // REQUIRES: from and to are cells of the maze
+    // EFFECTS: returns the cells of a shortest path from `from` to `to`, both
+    // included, every cell is next to the one before it. Returns an empty
+    // array if from or to is a wall, or if there is no path between them
+    int[] solve(Maze maze, int from, int to);
+
+    // EFFECTS: returns the type of this solver
+    SolverType getType();
+}
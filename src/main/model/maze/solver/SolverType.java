@@ -0,0 +1,22 @@
+package model.maze.solver;
+
+// SolverType represents the kinds of maze solving algorithms
+public enum SolverType {
+    BFS,
+    BIDIRECTIONAL_BFS,
+    ASTAR,
+    JUMP_POINT;
+
+    // EFFECTS: returns a new solver of this type
+    public MazeSolver newSolver() {
+        if (this == BIDIRECTIONAL_BFS) {
+            return new BidirectionalBfsSolver();
+        } else if (this == ASTAR) {
+            return new AStarSolver();
+        } else if (this == JUMP_POINT) {
+            return new JumpPointSolver();
+        } else {
+            return new BfsSolver();
+        }
+    }
+}
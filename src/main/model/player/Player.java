@@ -10,13 +10,18 @@ import model.utility.Direction;
 // heading to.
 // Player also has an inventory bag that stores all the
 // items that the player picked up from the game
+// the player carries a light that shows the maze LIGHT_RADIUS blocks
+// around it, a spotlight makes it larger for a number of steps
 public class Player {
     private Coordinate position;
     private Direction direction;
     private Inventory inventory;
     private int solved;
+    private int lightRadius;
+    private int lightSteps;
 
     public static final int TERMINAL_GUI_NUM_RESTRICT = 9;
+    public static final int LIGHT_RADIUS = 4;
 
     // EFFECTS: constructs a player at the position (0, 0)
     // and down direction and a new inventory
@@ -32,13 +37,36 @@ public class Player {
     // this function will change the player's direction
     // to the given dir and not move the player
     // otherwise, this function will the player
-    // 1 unit along the given direction
+    // 1 unit along the given direction and the light
+    // has one step less to last
     public void move(Direction dir) {
         if (dir != direction) {
             direction = dir;
             return;
         }
         position.go(direction, 1);
+        if (lightSteps > 0) {
+            lightSteps--;
+        }
+    }
+
+    // REQUIRES: radius >= 0 && steps >= 0
+    // MODIFIES: this
+    // EFFECTS: the light shows radius blocks around the player for the
+    // next steps steps, then LIGHT_RADIUS blocks again
+    public void light(int radius, int steps) {
+        lightRadius = radius;
+        lightSteps = steps;
+    }
+
+    // EFFECTS: returns how many blocks around the player the light shows now
+    public int getLightRadius() {
+        return lightSteps > 0 ? lightRadius : LIGHT_RADIUS;
+    }
+
+    // EFFECTS: returns how many more steps the light stays larger
+    public int getLightSteps() {
+        return lightSteps;
     }
 
     public Direction getDirection() {
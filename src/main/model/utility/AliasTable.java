@@ -0,0 +1,94 @@
+package model.utility;
+
+import java.util.Random;
+
+// AliasTable samples an index with probability proportional to its weight
+// in O(1) time, by Vose's alias method. Every index i has a column that is
+// split between i itself, with probability getProbability(i), and its alias.
+// building the table takes O(n) time
+// source link:
+// https://www.keithschwarz.com/darts-dice-coins/
+public class AliasTable {
+    private final double[] probability;
+    private final int[] alias;
+
+    // REQUIRES: weights.length > 0, every weight >= 0 and at least one > 0
+    // EFFECTS: constructs the table for the given weights
+    public AliasTable(double[] weights) {
+        int size = weights.length;
+        probability = new double[size];
+        alias = new int[size];
+
+        double sum = 0;
+        for (double weight : weights) {
+            sum += weight;
+        }
+        double[] scaled = new double[size];
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / sum;
+        }
+        build(scaled);
+    }
+
+    public int size() {
+        return probability.length;
+    }
+
+    // REQUIRES: index >= 0 && index < size()
+    // EFFECTS: returns the chance that the column of index picks index itself
+    public double getProbability(int index) {
+        return probability[index];
+    }
+
+    // EFFECTS: returns a random index, index i is returned with probability
+    // weights[i] / (the sum of the weights)
+    public int sample(Random random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    // MODIFIES: this, scaled
+    // EFFECTS: pairs every column whose scaled weight is below 1 with a column
+    // above 1 that fills it up, until every column is full
+    private void build(double[] scaled) {
+        int size = scaled.length;
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smalls = 0;
+        int larges = 0;
+        for (int i = 0; i < size; i++) {
+            if (scaled[i] < 1) {
+                small[smalls++] = i;
+            } else {
+                large[larges++] = i;
+            }
+        }
+        while (smalls > 0 && larges > 0) {
+            int less = small[--smalls];
+            int more = large[--larges];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smalls++] = more;
+            } else {
+                large[larges++] = more;
+            }
+        }
+        fillRemaining(small, smalls, large, larges);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: the columns left over only differ from 1 by rounding,
+    // they always pick themselves
+    private void fillRemaining(int[] small, int smalls, int[] large, int larges) {
+        for (int i = 0; i < smalls; i++) {
+            probability[small[i]] = 1;
+            alias[small[i]] = small[i];
+        }
+        for (int i = 0; i < larges; i++) {
+            probability[large[i]] = 1;
+            alias[large[i]] = large[i];
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package model.utility;
+
+import java.util.Arrays;
+
+// BitGrid is a width x height grid of bits packed into longs.
+// cells are stored row-major, so the cell (x, y) is the bit with
+// index y * width + x, and every long word holds 64 consecutive cells.
+// assuming the top left corner is (0, 0)
+// bulk operations (range fill, range count, scans) work a word at a time
+public class BitGrid {
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = 63;
+    private static final long ALL_ONES = -1L;
+
+    private final int width;
+    private final int height;
+    private final long[] words;
+
+    // REQUIRES: width > 0 && height > 0 && width * height <= Integer.MAX_VALUE
+    // EFFECTS: constructs a grid with all bits cleared (false)
+    public BitGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.words = new long[(int) (((long) width * height + WORD_MASK) >>> WORD_SHIFT)];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // EFFECTS: returns the number of cells in the grid
+    public int size() {
+        return width * height;
+    }
+
+    // EFFECTS: returns the cell index of (x, y)
+    public int indexOf(int x, int y) {
+        return y * width + x;
+    }
+
+    // EFFECTS: true if x >= 0 && x < getWidth() && y >= 0 && y < getHeight()
+    public boolean isInRange(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    // REQUIRES: isInRange(x, y)
+    // EFFECTS: returns the bit at (x, y)
+    public boolean get(int x, int y) {
+        return get(y * width + x);
+    }
+
+    // REQUIRES: index >= 0 && index < size()
+    // EFFECTS: returns the bit at the given cell index
+    public boolean get(int index) {
+        return (words[index >>> WORD_SHIFT] & (1L << index)) != 0;
+    }
+
+    // REQUIRES: isInRange(x, y)
+    // MODIFIES: this
+    // EFFECTS: sets the bit at (x, y) to value
+    public void set(int x, int y, boolean value) {
+        set(y * width + x, value);
+    }
+
+    // REQUIRES: index >= 0 && index < size()
+    // MODIFIES: this
+    // EFFECTS: sets the bit at the given cell index to value
+    public void set(int index, boolean value) {
+        if (value) {
+            words[index >>> WORD_SHIFT] |= 1L << index;
+        } else {
+            words[index >>> WORD_SHIFT] &= ~(1L << index);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets every bit to value
+    public void fill(boolean value) {
+        Arrays.fill(words, value ? ALL_ONES : 0L);
+    }
+
+    // REQUIRES: other.getWidth() == getWidth() && other.getHeight() == getHeight()
+    // MODIFIES: this
+    // EFFECTS: sets every bit to the bit at the same cell of other
+    public void copyFrom(BitGrid other) {
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    // REQUIRES: the region [x, x + w) x [y, y + h) is inside the grid
+    // MODIFIES: this
+    // EFFECTS: sets every bit in the region to value, a row range at a time
+    public void fillRegion(int x, int y, int w, int h, boolean value) {
+        for (int row = y; row < y + h; row++) {
+            int from = row * width + x;
+            fillRange(from, from + w, value);
+        }
+    }
+
+    // REQUIRES: the region [x, x + w) x [y, y + h) is inside the grid
+    // EFFECTS: returns the number of set bits in the region
+    public int countRegion(int x, int y, int w, int h) {
+        int count = 0;
+        for (int row = y; row < y + h; row++) {
+            int from = row * width + x;
+            count += countRange(from, from + w);
+        }
+        return count;
+    }
+
+    // EFFECTS: returns the number of set bits in the whole grid
+    public int count() {
+        return countRange(0, size());
+    }
+
+    // REQUIRES: 0 <= from <= to <= size()
+    // MODIFIES: this
+    // EFFECTS: sets the bits with index in [from, to) to value
+    public void fillRange(int from, int to, boolean value) {
+        if (from >= to) {
+            return;
+        }
+        int first = from >>> WORD_SHIFT;
+        int last = (to - 1) >>> WORD_SHIFT;
+        long firstMask = ALL_ONES << from;
+        long lastMask = ALL_ONES >>> -to;
+        if (first == last) {
+            applyMask(first, firstMask & lastMask, value);
+            return;
+        }
+        applyMask(first, firstMask, value);
+        Arrays.fill(words, first + 1, last, value ? ALL_ONES : 0L);
+        applyMask(last, lastMask, value);
+    }
+
+    // REQUIRES: 0 <= from <= to <= size()
+    // EFFECTS: returns the number of set bits with index in [from, to)
+    public int countRange(int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        int first = from >>> WORD_SHIFT;
+        int last = (to - 1) >>> WORD_SHIFT;
+        long firstMask = ALL_ONES << from;
+        long lastMask = ALL_ONES >>> -to;
+        if (first == last) {
+            return Long.bitCount(words[first] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(words[first] & firstMask) + Long.bitCount(words[last] & lastMask);
+        for (int i = first + 1; i < last; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+
+    // REQUIRES: from >= 0
+    // EFFECTS: returns the index of the first set bit at or after from,
+    // or -1 if there is none
+    public int nextSetBit(int from) {
+        return next(from, 0L);
+    }
+
+    // REQUIRES: from >= 0
+    // EFFECTS: returns the index of the first cleared bit at or after from,
+    // or -1 if there is none
+    public int nextClearBit(int from) {
+        return next(from, ALL_ONES);
+    }
+
+    // REQUIRES: index >= 0 && index < size() && count > 0 && count <= 64
+    // EFFECTS: returns count bits starting at index packed into a long,
+    // bit i of the result is the cell index + i. Bits past size() are 0
+    public long getBits(int index, int count) {
+        int word = index >>> WORD_SHIFT;
+        int offset = index & WORD_MASK;
+        long bits = words[word] >>> offset;
+        if (offset != 0 && word + 1 < words.length) {
+            bits |= words[word + 1] << (64 - offset);
+        }
+        if (index + count > size()) {
+            count = size() - index;
+        }
+        return count == 64 ? bits : bits & ((1L << count) - 1);
+    }
+
+    // REQUIRES: index >= 0 && count > 0 && count <= 64 && index + count <= size()
+    // MODIFIES: this
+    // EFFECTS: sets the count bits starting at index to the low count bits of bits,
+    // bit i of bits goes to the cell index + i
+    public void setBits(int index, int count, long bits) {
+        long mask = count == 64 ? ALL_ONES : (1L << count) - 1;
+        bits &= mask;
+        int word = index >>> WORD_SHIFT;
+        int offset = index & WORD_MASK;
+        words[word] = (words[word] & ~(mask << offset)) | (bits << offset);
+        if (offset != 0 && offset + count > 64) {
+            int shift = 64 - offset;
+            words[word + 1] = (words[word + 1] & ~(mask >>> shift)) | (bits >>> shift);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets (value) or clears (!value) the bits in mask of the word
+    private void applyMask(int word, long mask, boolean value) {
+        if (value) {
+            words[word] |= mask;
+        } else {
+            words[word] &= ~mask;
+        }
+    }
+
+    // EFFECTS: returns the first index at or after from whose bit differs
+    // from the bits of flip, or -1 if there is none
+    private int next(int from, long flip) {
+        int size = size();
+        if (from >= size) {
+            return -1;
+        }
+        int word = from >>> WORD_SHIFT;
+        long bits = (words[word] ^ flip) & (ALL_ONES << from);
+        while (bits == 0) {
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word] ^ flip;
+        }
+        int index = (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+        return index < size ? index : -1;
+    }
+}
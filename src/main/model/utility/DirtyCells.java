@@ -0,0 +1,106 @@
+package model.utility;
+
+// DirtyCells is the set of the cells of a width x height grid that changed,
+// so a view only has to redraw them. cells are numbered row-major like
+// BitGrid, a cell is listed once however often it changes, and clearing
+// costs the number of cells listed. the whole grid can be marked as changed
+// at once, e.g. for a new maze
+public class DirtyCells {
+    private final BitGrid marks;
+    private final IntList cells;
+    private boolean all;
+
+    // REQUIRES: width > 0 && height > 0
+    // EFFECTS: constructs an empty set of the cells of a width x height grid
+    public DirtyCells(int width, int height) {
+        marks = new BitGrid(width, height);
+        cells = new IntList();
+    }
+
+    public int getWidth() {
+        return marks.getWidth();
+    }
+
+    public int getHeight() {
+        return marks.getHeight();
+    }
+
+    // REQUIRES: cell >= 0 && cell < getWidth() * getHeight()
+    // MODIFIES: this
+    // EFFECTS: adds the cell
+    public void add(int cell) {
+        if (all || marks.get(cell)) {
+            return;
+        }
+        marks.set(cell, true);
+        cells.add(cell);
+    }
+
+    // REQUIRES: the region [x, x + w) x [y, y + h) is inside the grid
+    // MODIFIES: this
+    // EFFECTS: adds every cell of the region
+    public void addRegion(int x, int y, int w, int h) {
+        for (int row = y; row < y + h; row++) {
+            for (int column = x; column < x + w; column++) {
+                add(marks.indexOf(column, row));
+            }
+        }
+    }
+
+    // REQUIRES: other has the same size
+    // MODIFIES: this
+    // EFFECTS: adds every cell of other
+    public void addAll(DirtyCells other) {
+        if (other.all) {
+            markAll();
+            return;
+        }
+        for (int i = 0; i < other.cells.size(); i++) {
+            add(other.cells.get(i));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks every cell as changed
+    public void markAll() {
+        clear();
+        all = true;
+    }
+
+    // EFFECTS: returns true if every cell is marked as changed
+    public boolean isAll() {
+        return all;
+    }
+
+    // EFFECTS: returns true if no cell changed
+    public boolean isEmpty() {
+        return !all && cells.isEmpty();
+    }
+
+    // REQUIRES: cell >= 0 && cell < getWidth() * getHeight()
+    // EFFECTS: returns true if the cell changed
+    public boolean contains(int cell) {
+        return all || marks.get(cell);
+    }
+
+    // EFFECTS: returns the number of cells listed, 0 if isAll()
+    public int size() {
+        return cells.size();
+    }
+
+    // REQUIRES: i >= 0 && i < size()
+    // EFFECTS: returns the i-th cell listed, in the order they were added
+    public int get(int i) {
+        return cells.get(i);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes every cell
+    public void clear() {
+        for (int i = 0; i < cells.size(); i++) {
+            marks.set(cells.get(i), false);
+        }
+        cells.clear();
+        all = false;
+    }
+}
@@ -0,0 +1,85 @@
+package model.utility;
+
+import java.util.Arrays;
+
+// IntList is a growable list of primitive ints.
+// it never boxes its values, and removal is done by swapping
+// the last element into the removed slot, so the order is not kept
+public class IntList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int size;
+
+    // EFFECTS: constructs an empty list
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // REQUIRES: capacity >= 0
+    // EFFECTS: constructs an empty list that can hold capacity values
+    // before it has to grow
+    public IntList(int capacity) {
+        values = new int[Math.max(capacity, 1)];
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // EFFECTS: true if size() == 0
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends value to the end of the list
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = value;
+    }
+
+    // REQUIRES: index >= 0 && index < size()
+    // EFFECTS: returns the value at index
+    public int get(int index) {
+        return values[index];
+    }
+
+    // REQUIRES: index >= 0 && index < size()
+    // MODIFIES: this
+    // EFFECTS: sets the value at index
+    public void set(int index, int value) {
+        values[index] = value;
+    }
+
+    // REQUIRES: index >= 0 && index < size()
+    // MODIFIES: this
+    // EFFECTS: removes and returns the value at index in O(1).
+    // the last value is moved into index
+    public int swapRemove(int index) {
+        int removed = values[index];
+        values[index] = values[--size];
+        return removed;
+    }
+
+    // REQUIRES: !isEmpty()
+    // MODIFIES: this
+    // EFFECTS: removes and returns the last value
+    public int removeLast() {
+        return values[--size];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes all values, the capacity is kept
+    public void clear() {
+        size = 0;
+    }
+
+    // EFFECTS: returns a copy of the values as an array of length size()
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
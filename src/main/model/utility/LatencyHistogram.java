@@ -0,0 +1,67 @@
+package model.utility;
+
+import java.util.Arrays;
+
+// LatencyHistogram records durations in nanoseconds into buckets that double
+// in width, so it takes the same memory however many are recorded and a
+// percentile is known to within a factor of two. bucket i holds the
+// durations below 2^i that are not in a lower bucket
+public class LatencyHistogram {
+    private final long[] buckets;
+    private long count;
+    private long total;
+    private long max;
+
+    // EFFECTS: constructs an empty histogram
+    public LatencyHistogram() {
+        buckets = new long[64];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the duration, a negative one is recorded as 0
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[64 - Long.numberOfLeadingZeros(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    // EFFECTS: returns the mean of the recorded durations, or 0 if there is none
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    // REQUIRES: fraction > 0 && fraction <= 1
+    // EFFECTS: returns an upper bound of the duration that the given fraction
+    // of the records are at most, that is the top of its bucket but no more
+    // than getMax(). returns 0 if nothing is recorded
+    public long getPercentile(double fraction) {
+        long rank = (long) Math.ceil(fraction * count);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(max, (1L << i) - 1);
+            }
+        }
+        return max;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forgets every record
+    public void clear() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+}
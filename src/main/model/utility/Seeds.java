@@ -0,0 +1,32 @@
+package model.utility;
+
+// Seeds derives independent 64-bit seeds from a parent seed and a few keys,
+// so that a chunk, a tile or a level can get its own reproducible random
+// stream without generating the ones before it.
+// it uses the SplitMix64 finalizer
+// source link:
+// https://prng.di.unimi.it/splitmix64.c
+public class Seeds {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private Seeds() {
+    }
+
+    // EFFECTS: returns a well mixed seed derived from seed and the keys.
+    // the same arguments always give the same result
+    public static long mix(long seed, long... keys) {
+        long result = scramble(seed);
+        for (long key : keys) {
+            result = scramble(result + GOLDEN_GAMMA + scramble(key));
+        }
+        return result;
+    }
+
+    // EFFECTS: returns the SplitMix64 finalizer of value
+    private static long scramble(long value) {
+        long z = value + GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
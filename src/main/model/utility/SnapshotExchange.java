@@ -0,0 +1,84 @@
+package model.utility;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// SnapshotExchange hands the latest state of one producer thread to one
+// consumer thread without a lock. it keeps three buffers: the producer fills
+// its back buffer while the consumer reads its front buffer, and the third
+// one is passed between them by a single atomic swap, so neither side ever
+// waits for the other or sees a half written snapshot.
+// a published snapshot that is replaced before the consumer takes it is dropped
+public class SnapshotExchange<T> {
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final Object[] buffers;
+    private final AtomicInteger middle;
+    private int back;
+    private int front;
+    private volatile long published;
+    private volatile long dropped;
+
+    // EFFECTS: constructs an exchange of three buffers made by the factory,
+    // nothing is published yet
+    public SnapshotExchange(Supplier<T> factory) {
+        buffers = new Object[] {factory.get(), factory.get(), factory.get()};
+        back = 0;
+        middle = new AtomicInteger(1);
+        front = 2;
+    }
+
+    // REQUIRES: called by the producer
+    // EFFECTS: returns the buffer to fill, it holds an older snapshot
+    // that has to be overwritten completely
+    @SuppressWarnings("unchecked")
+    public T getBack() {
+        return (T) buffers[back];
+    }
+
+    // REQUIRES: called by the producer
+    // MODIFIES: this
+    // EFFECTS: makes the back buffer the latest snapshot and takes
+    // the buffer it replaces as the new back buffer, returns true if that
+    // buffer was a snapshot the consumer never acquired
+    public boolean publish() {
+        int old = middle.getAndSet(back | FRESH);
+        boolean drop = (old & FRESH) != 0;
+        if (drop) {
+            dropped++;
+        }
+        back = old & INDEX_MASK;
+        published++;
+        return drop;
+    }
+
+    // REQUIRES: called by the consumer
+    // MODIFIES: this
+    // EFFECTS: if a snapshot was published since the last acquire, makes it
+    // the front buffer and returns true, otherwise returns false
+    public boolean acquire() {
+        if ((middle.get() & FRESH) == 0) {
+            return false;
+        }
+        front = middle.getAndSet(front) & INDEX_MASK;
+        return true;
+    }
+
+    // REQUIRES: called by the consumer
+    // EFFECTS: returns the snapshot taken by the last acquire
+    @SuppressWarnings("unchecked")
+    public T getFront() {
+        return (T) buffers[front];
+    }
+
+    // EFFECTS: returns the number of snapshots published
+    public long getPublished() {
+        return published;
+    }
+
+    // EFFECTS: returns the number of snapshots replaced before they were taken
+    public long getDropped() {
+        return dropped;
+    }
+}
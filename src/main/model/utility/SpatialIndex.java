@@ -0,0 +1,143 @@
+package model.utility;
+
+import java.util.Arrays;
+
+// SpatialIndex is a set of packed cells (cell = y * width + x) of a grid,
+// bucketed by square tiles of getBucketSize() x getBucketSize() blocks.
+// a rectangle or radius query only visits the buckets that overlap it, so
+// it costs the number of cells it returns plus the number of buckets it
+// touches, not the number of cells in the set.
+// a bucket is a small unordered array that is only allocated once a cell
+// falls into it
+public class SpatialIndex {
+    private final int width;
+    private final int height;
+    private final int bucketSize;
+    private final int columns;
+    private final int[][] buckets;
+    private final int[] counts;
+    private int size;
+
+    // REQUIRES: width > 0 && height > 0 && bucketSize > 0
+    // EFFECTS: constructs an empty index over a width x height grid
+    public SpatialIndex(int width, int height, int bucketSize) {
+        this.width = width;
+        this.height = height;
+        this.bucketSize = bucketSize;
+        columns = (width + bucketSize - 1) / bucketSize;
+        int rows = (height + bucketSize - 1) / bucketSize;
+        buckets = new int[columns * rows][];
+        counts = new int[columns * rows];
+        size = 0;
+    }
+
+    public int getBucketSize() {
+        return bucketSize;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // REQUIRES: cell is a cell of the grid that is not in the index
+    // MODIFIES: this
+    // EFFECTS: adds the cell
+    public void add(int cell) {
+        int bucket = bucketOf(cell);
+        if (buckets[bucket] == null) {
+            buckets[bucket] = new int[4];
+        } else if (counts[bucket] == buckets[bucket].length) {
+            buckets[bucket] = Arrays.copyOf(buckets[bucket], counts[bucket] * 2);
+        }
+        buckets[bucket][counts[bucket]++] = cell;
+        size++;
+    }
+
+    // REQUIRES: cell is a cell of the grid
+    // MODIFIES: this
+    // EFFECTS: removes the cell and returns true, or returns false
+    // if it was not in the index
+    public boolean remove(int cell) {
+        int bucket = bucketOf(cell);
+        for (int i = 0; i < counts[bucket]; i++) {
+            if (buckets[bucket][i] == cell) {
+                buckets[bucket][i] = buckets[bucket][--counts[bucket]];
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // REQUIRES: cell is a cell of the grid
+    // EFFECTS: true if the cell is in the index
+    public boolean contains(int cell) {
+        int bucket = bucketOf(cell);
+        for (int i = 0; i < counts[bucket]; i++) {
+            if (buckets[bucket][i] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes every cell, the buckets keep their arrays
+    public void clear() {
+        Arrays.fill(counts, 0);
+        size = 0;
+    }
+
+    // MODIFIES: out
+    // EFFECTS: appends every cell in the rectangle [x, x + w) x [y, y + h)
+    // to out in no particular order and returns how many were appended.
+    // the parts of the rectangle outside of the grid are ignored
+    public int queryRect(int x, int y, int w, int h, IntList out) {
+        int left = Math.max(0, x);
+        int top = Math.max(0, y);
+        int right = Math.min(width, x + w) - 1;
+        int bottom = Math.min(height, y + h) - 1;
+        int found = 0;
+        for (int by = top / bucketSize; by <= bottom / bucketSize && top <= bottom; by++) {
+            for (int bx = left / bucketSize; bx <= right / bucketSize && left <= right; bx++) {
+                int bucket = by * columns + bx;
+                for (int i = 0; i < counts[bucket]; i++) {
+                    int cell = buckets[bucket][i];
+                    int cx = cell % width;
+                    int cy = cell / width;
+                    if (cx >= left && cx <= right && cy >= top && cy <= bottom) {
+                        out.add(cell);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    // REQUIRES: radius >= 0
+    // MODIFIES: out
+    // EFFECTS: appends every cell whose straight line distance to (x, y) is at
+    // most radius to out in no particular order and returns how many were appended
+    public int queryRadius(int x, int y, int radius, IntList out) {
+        int first = out.size();
+        queryRect(x - radius, y - radius, radius * 2 + 1, radius * 2 + 1, out);
+        int kept = first;
+        for (int i = first; i < out.size(); i++) {
+            int dx = out.get(i) % width - x;
+            int dy = out.get(i) / width - y;
+            if (dx * dx + dy * dy <= radius * radius) {
+                out.set(kept++, out.get(i));
+            }
+        }
+        while (out.size() > kept) {
+            out.removeLast();
+        }
+        return kept - first;
+    }
+
+    // EFFECTS: returns the bucket the cell falls into
+    private int bucketOf(int cell) {
+        return cell / width / bucketSize * columns + cell % width / bucketSize;
+    }
+}
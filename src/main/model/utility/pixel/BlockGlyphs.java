@@ -0,0 +1,60 @@
+package model.utility.pixel;
+
+// BlockGlyphs gives the characters that show more than one cell of a grid
+// each: a half block shows 1 x 2 cells and a Braille pattern 2 x 4 cells.
+// the cells of a row are read as the bits of a long, bit i is cell i,
+// so a row is packed a 64 bit word at a time and a Braille pattern is one
+// table lookup. in the 8 dots of a pattern, bit 2 * row + column is the
+// dot at that row and column of the 2 x 4 block
+public class BlockGlyphs {
+    public static final char UPPER_HALF = '▀';
+    public static final char LOWER_HALF = '▄';
+    public static final char FULL_BLOCK = '█';
+    public static final char BRAILLE_BLANK = '⠀';
+    public static final int NO_COLOR = TextAttribute.DEFAULT_VALUE;
+
+    // the Unicode dot numbers of the dots, in the order of the bits of the dots
+    private static final int[] DOT_BITS = {0x01, 0x08, 0x02, 0x10, 0x04, 0x20, 0x40, 0x80};
+    private static final char[] BRAILLE = new char[256];
+
+    static {
+        for (int dots = 0; dots < BRAILLE.length; dots++) {
+            int offset = 0;
+            for (int bit = 0; bit < DOT_BITS.length; bit++) {
+                if ((dots & 1 << bit) != 0) {
+                    offset |= DOT_BITS[bit];
+                }
+            }
+            BRAILLE[dots] = (char) (BRAILLE_BLANK + offset);
+        }
+    }
+
+    private BlockGlyphs() {
+    }
+
+    // REQUIRES: shift >= 0 && shift <= 62
+    // EFFECTS: returns the dots of the 2 x 4 block of cells at bits shift and
+    // shift + 1 of the four rows, a set bit is a dot
+    public static int brailleDots(long row0, long row1, long row2, long row3, int shift) {
+        return (int) (row0 >>> shift & 3 | (row1 >>> shift & 3) << 2 | (row2 >>> shift & 3) << 4
+                | (row3 >>> shift & 3) << 6);
+    }
+
+    // REQUIRES: dots >= 0 && dots < 256
+    // EFFECTS: returns the Braille pattern of the dots, or a space if there are none
+    public static char braille(int dots) {
+        return dots == 0 ? ' ' : BRAILLE[dots];
+    }
+
+    // EFFECTS: returns the packed pixel that shows the top half of a character
+    // in the color top and the bottom half in the color bottom, NO_COLOR
+    // leaves a half empty
+    public static long halfBlock(int top, int bottom) {
+        if (top == bottom) {
+            return top == NO_COLOR ? PackedPixel.EMPTY : PackedPixel.pack(FULL_BLOCK, top, NO_COLOR, NO_COLOR);
+        } else if (top == NO_COLOR) {
+            return PackedPixel.pack(LOWER_HALF, bottom, NO_COLOR, NO_COLOR);
+        }
+        return PackedPixel.pack(UPPER_HALF, top, bottom, NO_COLOR);
+    }
+}
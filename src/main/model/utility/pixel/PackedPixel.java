@@ -0,0 +1,73 @@
+package model.utility.pixel;
+
+// PackedPixel packs a pixel into one long, so a screen buffer can be a flat
+// long[] that is compared and cleared without touching any object.
+// bits 0-15 hold the character, and the foreground, the background and the
+// style are each stored plus one in the bits above, so a default (-1) part
+// is 0 and DEFAULT_ATTRIBUTE is 0. a part out of the range TextAttribute
+// allows is stored as default
+public class PackedPixel {
+    public static final long CHARACTER_MASK = 0xFFFFL;
+    public static final long DEFAULT_ATTRIBUTE = 0L;
+    public static final long EMPTY = pack(' ', TextAttribute.DEFAULT);
+
+    private static final int FOREGROUND_SHIFT = 16;
+    private static final int BACKGROUND_SHIFT = 25;
+    private static final int STYLE_SHIFT = 34;
+    private static final int COLOR_BITS = 0x1FF;
+    private static final int STYLE_BITS = 0xFF;
+    private static final int MAX_COLOR = 255;
+    private static final int MAX_STYLE = 254;
+
+    private PackedPixel() {
+    }
+
+    // EFFECTS: returns the pixel of c in the given attribute packed into a long
+    public static long pack(char c, TextAttribute attribute) {
+        return c | packAttribute(attribute);
+    }
+
+    // EFFECTS: returns the pixel of c in the given colors and style packed
+    // into a long, like pack(c, new TextAttribute(foreground, background, style))
+    // but without the TextAttribute
+    public static long pack(char c, int foreground, int background, int style) {
+        return c | (long) part(foreground, MAX_COLOR) << FOREGROUND_SHIFT
+                | (long) part(background, MAX_COLOR) << BACKGROUND_SHIFT
+                | (long) part(style, MAX_STYLE) << STYLE_SHIFT;
+    }
+
+    // EFFECTS: returns the packed bits of the attribute, without a character
+    public static long packAttribute(TextAttribute attribute) {
+        return pack((char) 0, attribute.getForegroundColor(), attribute.getBackgroundColor(), attribute.getStyle());
+    }
+
+    // EFFECTS: returns the attribute bits of the packed pixel
+    public static long getAttribute(long pixel) {
+        return pixel & ~CHARACTER_MASK;
+    }
+
+    // EFFECTS: returns the character of the packed pixel
+    public static char getCharacter(long pixel) {
+        return (char) (pixel & CHARACTER_MASK);
+    }
+
+    // EFFECTS: returns the foreground color of the packed pixel, -1 if default
+    public static int getForeground(long pixel) {
+        return (int) (pixel >>> FOREGROUND_SHIFT & COLOR_BITS) - 1;
+    }
+
+    // EFFECTS: returns the background color of the packed pixel, -1 if default
+    public static int getBackground(long pixel) {
+        return (int) (pixel >>> BACKGROUND_SHIFT & COLOR_BITS) - 1;
+    }
+
+    // EFFECTS: returns the style of the packed pixel, -1 if default
+    public static int getStyle(long pixel) {
+        return (int) (pixel >>> STYLE_SHIFT & STYLE_BITS) - 1;
+    }
+
+    // EFFECTS: returns value + 1, or 0 if value is not in [0, max]
+    private static int part(int value, int max) {
+        return value < 0 || value > max ? 0 : value + 1;
+    }
+}
@@ -36,4 +36,9 @@ public class Pixel {
     public boolean isSame(Pixel p) {
         return p.character == character && attribute.isSame(p.attribute);
     }
+
+    // EFFECTS: returns this pixel packed into a long, see PackedPixel
+    public long pack() {
+        return PackedPixel.pack(character, attribute);
+    }
 }
@@ -0,0 +1,43 @@
+package model.world;
+
+import model.utility.BitGrid;
+
+// Chunk is a square piece of an endless World.
+// the chunk (cx, cy) covers the world blocks
+// ([cx * size, cx * size + size - 1], [cy * size, cy * size + size - 1])
+// a set bit of its grid is a road
+public class Chunk {
+    private final int chunkX;
+    private final int chunkY;
+    private final BitGrid grid;
+
+    // REQUIRES: grid.getWidth() == grid.getHeight()
+    // EFFECTS: constructs the chunk (chunkX, chunkY) with the given blocks
+    public Chunk(int chunkX, int chunkY, BitGrid grid) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+        this.grid = grid;
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkY() {
+        return chunkY;
+    }
+
+    public int getSize() {
+        return grid.getWidth();
+    }
+
+    public BitGrid getGrid() {
+        return grid;
+    }
+
+    // REQUIRES: 0 <= localX < getSize() && 0 <= localY < getSize()
+    // EFFECTS: returns true if the block at the local position is a wall
+    public boolean isWall(int localX, int localY) {
+        return !grid.get(localX, localY);
+    }
+}
@@ -0,0 +1,99 @@
+package model.world;
+
+import java.util.Arrays;
+import java.util.List;
+
+import model.maze.GeneratorType;
+import model.player.Player;
+import model.utility.Coordinate;
+import model.utility.Direction;
+
+// EndlessGame is the endless world mode of the maze game.
+// there is no exit, the player walks an endless World that is generated
+// around them. The player starts at the world origin, which is always a road.
+// whenever the player walks into a new chunk, the chunks around it are
+// prefetched in the background
+public class EndlessGame implements EndlessMode {
+    public static final int CHUNK_SIZE = 64;
+    public static final int CACHE_CAPACITY = 25;
+
+    private final World world;
+    private final Player player;
+    private int chunkX;
+    private int chunkY;
+
+    // EFFECTS: constructs an endless game of the world with the given seed
+    // and a new player at (0, 0)
+    public EndlessGame(long seed) {
+        this(new World(seed, CHUNK_SIZE, GeneratorType.BACKTRACKER, CACHE_CAPACITY));
+    }
+
+    // EFFECTS: constructs an endless game on the given world
+    // and a new player at (0, 0)
+    public EndlessGame(World world) {
+        this.world = world;
+        this.player = new Player();
+        this.chunkX = 0;
+        this.chunkY = 0;
+        world.prefetchAround(0, 0);
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    @Override
+    public Player getPlayer() {
+        return player;
+    }
+
+    @Override
+    public boolean isWall(int x, int y) {
+        return world.isWall(x, y);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: try move the player 1 unit along the direction
+    // if the destination is a wall the function will only update the player's
+    // direction to the given direction and the movement will not occur.
+    // returns true if the player moved
+    @Override
+    public boolean tryMove(Direction direction) {
+        Coordinate pos = new Coordinate(player.getPosition().getX(), player.getPosition().getY());
+        pos.go(direction, 1);
+        if (world.isWall(pos.getX(), pos.getY())) {
+            player.setDirection(direction);
+            return false;
+        }
+        player.setDirection(direction);
+        player.move(direction);
+        enterChunk(pos.getX(), pos.getY());
+        return true;
+    }
+
+    @Override
+    public List<String> describe() {
+        return Arrays.asList("This is an endless maze world", "Seed: " + world.getSeed(),
+                "Chunks cached: " + world.getNumOfCachedChunks());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops the prefetcher of the world
+    @Override
+    public void close() {
+        world.close();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: if (x, y) is in a different chunk than before,
+    // prefetch the chunks around it
+    private void enterChunk(int x, int y) {
+        int newChunkX = Math.floorDiv(x, world.getChunkSize());
+        int newChunkY = Math.floorDiv(y, world.getChunkSize());
+        if (newChunkX != chunkX || newChunkY != chunkY) {
+            chunkX = newChunkX;
+            chunkY = newChunkY;
+            world.prefetchAround(x, y);
+        }
+    }
+}
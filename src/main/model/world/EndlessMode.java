@@ -0,0 +1,29 @@
+package model.world;
+
+import java.util.List;
+
+import model.player.Player;
+import model.utility.Direction;
+
+// EndlessMode is a mode of the maze game without an exit, where the player
+// walks a maze that is generated as they go
+public interface EndlessMode {
+
+    Player getPlayer();
+
+    // EFFECTS: returns true if the block (x, y) is a wall
+    boolean isWall(int x, int y);
+
+    // MODIFIES: this
+    // EFFECTS: try move the player 1 unit along the direction, the player
+    // turns to the direction either way. returns true if the player moved
+    boolean tryMove(Direction direction);
+
+    // EFFECTS: returns the lines that tell what the mode is and how far
+    // the player got, for the info panel
+    List<String> describe();
+
+    // MODIFIES: this
+    // EFFECTS: stops anything the mode runs in the background
+    void close();
+}
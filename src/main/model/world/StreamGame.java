@@ -0,0 +1,101 @@
+package model.world;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import model.maze.MazeRowStream;
+import model.maze.MazeRowWindow;
+import model.player.Player;
+import model.utility.Coordinate;
+import model.utility.Direction;
+
+// StreamGame is the descending mode of the maze game. The maze has a fixed
+// width and no bottom: its rows come from a MazeRowStream, AHEAD_ROWS of
+// them ahead of the player, into a MazeRowWindow of WINDOW_ROWS rows. So the
+// game starts before the maze is generated, and it only keeps the window,
+// however deep the player goes. the rows that scroll out of the window close
+// the way back up. The player starts at (0, 0), which is always a road
+public class StreamGame implements EndlessMode {
+    public static final int AHEAD_ROWS = 40;
+    public static final int WINDOW_ROWS = 128;
+
+    private final long seed;
+    private final MazeRowStream stream;
+    private final MazeRowWindow window;
+    private final Player player;
+    private int depth;
+
+    // REQUIRES: width % 2 == 0 && width >= 2
+    // EFFECTS: constructs a descending game of the given width from the seed
+    // and a new player at (0, 0), with the rows ahead of the player generated
+    public StreamGame(long seed, int width) {
+        this.seed = seed;
+        this.stream = new MazeRowStream(width, new Random(seed));
+        this.window = new MazeRowWindow(width, WINDOW_ROWS);
+        this.player = new Player();
+        generateAhead();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public MazeRowWindow getWindow() {
+        return window;
+    }
+
+    @Override
+    public Player getPlayer() {
+        return player;
+    }
+
+    // EFFECTS: returns the deepest row the player has reached
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public boolean isWall(int x, int y) {
+        return window.isWall(x, y);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: try move the player 1 unit along the direction
+    // if the destination is a wall the function will only update the player's
+    // direction to the given direction and the movement will not occur.
+    // a move down generates the rows that come within AHEAD_ROWS of the player.
+    // returns true if the player moved
+    @Override
+    public boolean tryMove(Direction direction) {
+        Coordinate pos = new Coordinate(player.getPosition().getX(), player.getPosition().getY());
+        pos.go(direction, 1);
+        player.setDirection(direction);
+        if (window.isWall(pos.getX(), pos.getY())) {
+            return false;
+        }
+        player.move(direction);
+        depth = Math.max(depth, pos.getY());
+        generateAhead();
+        return true;
+    }
+
+    @Override
+    public List<String> describe() {
+        return Arrays.asList("This is a maze that never ends", "Seed: " + seed, "Depth: " + depth,
+                "Rows generated: " + window.getNextRow());
+    }
+
+    // EFFECTS: does nothing, the rows are generated on the thread of the game
+    @Override
+    public void close() {
+    }
+
+    // MODIFIES: this
+    // EFFECTS: generates rows until AHEAD_ROWS rows below the player are in the window
+    private void generateAhead() {
+        while (window.getNextRow() <= player.getPosition().getY() + AHEAD_ROWS) {
+            stream.nextRows(window);
+        }
+    }
+}
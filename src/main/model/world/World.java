@@ -0,0 +1,205 @@
+package model.world;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.maze.GeneratorType;
+import model.maze.Maze;
+import model.utility.BitGrid;
+import model.utility.Seeds;
+
+// World is an endless maze on the whole plane, split into square chunks.
+// a chunk is generated on demand from the world seed and its chunk
+// coordinates, so an evicted chunk is regenerated exactly the same.
+// every chunk is a perfect lattice maze whose right column and bottom row
+// are walls, except for one door to the east chunk and one door to the south
+// chunk, so all the chunks are connected to each other.
+// at most getCacheCapacity() chunks are kept, the least recently used
+// chunk is evicted first. Chunks around the player can be prefetched on a
+// background thread so that walking into a new chunk does not stall
+public class World {
+    private static final long EAST = 1;
+    private static final long SOUTH = 2;
+    private static final int PREFETCH_RADIUS = 1;
+
+    private final long seed;
+    private final int chunkSize;
+    private final GeneratorType generatorType;
+    private final int cacheCapacity;
+
+    private final LinkedHashMap<Long, Chunk> cache;
+    private final Map<Long, Future<Chunk>> pending;
+    private final ExecutorService prefetcher;
+    private Chunk lastChunk;
+
+    private long chunksGenerated;
+    private long prefetchHits;
+
+    // REQUIRES: chunkSize % 2 == 0 && chunkSize >= 8 && cacheCapacity >= 9
+    // generatorType != GeneratorType.PRIM (chunks need a lattice maze)
+    // EFFECTS: constructs an empty world, no chunk is generated yet
+    public World(long seed, int chunkSize, GeneratorType generatorType, int cacheCapacity) {
+        this.seed = seed;
+        this.chunkSize = chunkSize;
+        this.generatorType = generatorType;
+        this.cacheCapacity = cacheCapacity;
+        this.cache = new LinkedHashMap<Long, Chunk>(cacheCapacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                return size() > World.this.cacheCapacity;
+            }
+        };
+        this.pending = new ConcurrentHashMap<>();
+        this.prefetcher = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "world-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getCacheCapacity() {
+        return cacheCapacity;
+    }
+
+    // EFFECTS: returns the number of chunks currently kept in memory
+    public int getNumOfCachedChunks() {
+        return cache.size();
+    }
+
+    // EFFECTS: returns the number of chunks generated on the calling thread
+    public long getChunksGenerated() {
+        return chunksGenerated;
+    }
+
+    // EFFECTS: returns the number of chunks that were taken from the prefetcher
+    public long getPrefetchHits() {
+        return prefetchHits;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns true if the world block (x, y) is a wall. the chunk of
+    // the last lookup is kept, so the blocks of one chunk in a row are read
+    // without a key or a cache lookup
+    public boolean isWall(int x, int y) {
+        int chunkX = Math.floorDiv(x, chunkSize);
+        int chunkY = Math.floorDiv(y, chunkSize);
+        Chunk chunk = lastChunk;
+        if (chunk == null || chunk.getChunkX() != chunkX || chunk.getChunkY() != chunkY) {
+            chunk = getChunk(chunkX, chunkY);
+        }
+        return chunk.isWall(x - chunkX * chunkSize, y - chunkY * chunkSize);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the chunk (chunkX, chunkY), taking it from the cache,
+    // from the prefetcher, or generating it now, in that order, and keeps it
+    // as the chunk of the last lookup
+    public Chunk getChunk(int chunkX, int chunkY) {
+        Long key = key(chunkX, chunkY);
+        Chunk chunk = cache.get(key);
+        if (chunk == null) {
+            chunk = takePrefetched(key);
+            if (chunk == null) {
+                chunk = generateChunk(chunkX, chunkY);
+                chunksGenerated++;
+            }
+            cache.put(key, chunk);
+        }
+        lastChunk = chunk;
+        return chunk;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts generating the chunks around the chunk of the world block
+    // (x, y) in the background, and cancels prefetches that are now far away
+    public void prefetchAround(int x, int y) {
+        int centerX = Math.floorDiv(x, chunkSize);
+        int centerY = Math.floorDiv(y, chunkSize);
+        pending.entrySet().removeIf(entry -> {
+            boolean far = distance(entry.getKey(), centerX, centerY) > PREFETCH_RADIUS;
+            if (far) {
+                entry.getValue().cancel(false);
+            }
+            return far;
+        });
+        for (int dy = -PREFETCH_RADIUS; dy <= PREFETCH_RADIUS; dy++) {
+            for (int dx = -PREFETCH_RADIUS; dx <= PREFETCH_RADIUS; dx++) {
+                prefetch(centerX + dx, centerY + dy);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops the background prefetcher
+    public void close() {
+        prefetcher.shutdownNow();
+    }
+
+    // EFFECTS: generates the chunk (chunkX, chunkY) from the world seed
+    public Chunk generateChunk(int chunkX, int chunkY) {
+        Maze maze = new Maze(chunkSize, chunkSize, generatorType, Seeds.mix(seed, chunkX, chunkY));
+        BitGrid grid = maze.getGrid();
+        grid.set(chunkSize - 1, door(chunkX, chunkY, EAST), true);
+        grid.set(door(chunkX, chunkY, SOUTH), chunkSize - 1, true);
+        return new Chunk(chunkX, chunkY, grid);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: submits the chunk to the prefetcher unless it is cached or pending
+    private void prefetch(int chunkX, int chunkY) {
+        Long key = key(chunkX, chunkY);
+        if (cache.containsKey(key) || pending.containsKey(key)) {
+            return;
+        }
+        pending.put(key, prefetcher.submit(() -> generateChunk(chunkX, chunkY)));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the prefetched chunk for the key, waiting for it if it
+    // is still being generated, or null if it was never prefetched
+    private Chunk takePrefetched(Long key) {
+        Future<Chunk> future = pending.remove(key);
+        if (future == null || future.isCancelled()) {
+            return null;
+        }
+        try {
+            Chunk chunk = future.get();
+            prefetchHits++;
+            return chunk;
+        } catch (InterruptedException | ExecutionException e) {
+            return null;
+        }
+    }
+
+    // EFFECTS: returns the even offset along the border where the door in the
+    // given direction of the chunk is, it only depends on the seed and the chunk
+    private int door(int chunkX, int chunkY, long direction) {
+        return (int) Math.floorMod(Seeds.mix(seed, chunkX, chunkY, direction), (long) chunkSize / 2) * 2;
+    }
+
+    // EFFECTS: returns the cache key of the chunk (chunkX, chunkY)
+    private static Long key(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    // EFFECTS: returns the chessboard distance between the chunk of key and
+    // the chunk (chunkX, chunkY)
+    private static int distance(long key, int chunkX, int chunkY) {
+        int keyX = (int) (key >> 32);
+        int keyY = (int) key;
+        return Math.max(Math.abs(keyX - chunkX), Math.abs(keyY - chunkY));
+    }
+}
@@ -18,6 +18,8 @@ import model.item.Hint;
 import model.item.Item;
 import model.item.ItemType;
 import model.item.Skip;
+import model.item.Spotlight;
+import model.maze.GeneratorType;
 import model.maze.Maze;
 import model.player.Inventory;
 import model.player.Player;
@@ -26,6 +28,7 @@ import model.utility.Direction;
 
 // a reader that provides some file/directory reading operation
 public class JsonReader {
+    private static final int LEGACY_ITEM_TYPES = ItemType.SPOTLIGHT.ordinal();
 
     // REQUIRES: fileName != null
     // EFFECTS: return the content of the given file as a string
@@ -69,38 +72,123 @@ public class JsonReader {
         return fileList(dir, extension, false).length;
     }
 
-    // EFFECTS: parse the json into a Game object
+    // EFFECTS: parse the json into a Game object, either a full save with all
+    // the maze blocks and items, or a compact save that only has the seed,
+    // the level and the changes made to that level.
+    // the commands in the log file of the save, if any, are replayed on it
     // if anything goes wrong, JSONException will be thrown
     // if file can not open for read, IOException will be thrown
     public Game parseGame(String file) throws JSONException, IOException {
         JSONObject gameJson = new JSONObject(read(file));
-        int width = gameJson.getInt("width");
-        int height = gameJson.getInt("height");
-        Game game = new Game(width, height);
+        Game game = createGame(gameJson);
 
         game.setGameMessage(gameJson.getString("gameMessage"));
         parsePlayer(game.getPlayer(), gameJson.getJSONObject("player"));
-        parseGameItems(game, gameJson.getJSONArray("items"));
-        parseMaze(game.getMaze(), gameJson.getJSONObject("maze"));
+        JSONObject mazeJson = gameJson.getJSONObject("maze");
+        if (mazeJson.has("maze")) {
+            parseGameItems(game, gameJson.getJSONArray("items"));
+            parseMaze(game.getMaze(), mazeJson, gameJson.has("seed") && mazeJson.optBoolean("fromSeed", true));
+        } else {
+            parseCompactItems(game, gameJson);
+            parseEdits(game.getMaze(), mazeJson);
+        }
+        replayLog(game, JsonWriter.logFileOf(file));
+
+        return game;
+    }
+
+    // MODIFIES: game
+    // EFFECTS: takes the parsed game as the first checkpoint of its command log,
+    // then executes the commands of the log file on it in order, if there is one.
+    // the commands are marked as flushed unless a new checkpoint was taken
+    private void replayLog(Game game, String logFile) throws IOException {
+        game.checkpoint();
+        if (new File(logFile).isFile()) {
+            for (byte command : Files.readAllBytes(Paths.get(logFile))) {
+                game.execute(command);
+            }
+        }
+        if (game.getLog().getNumOfCheckpoints() == 1) {
+            game.getLog().markFlushed();
+        }
+    }
 
+    // EFFECTS: creates the game of the saved size, seed and level. the level is
+    // generated by the type that generated the saved maze, later levels use
+    // the saved generator type of the game. a save without itemTypes was made
+    // before spotlights, its items are rolled from the types before them
+    private Game createGame(JSONObject json) {
+        int width = json.getInt("width");
+        int height = json.getInt("height");
+        GeneratorType type = GeneratorType.valueOf(json.optString("generatorType", "PRIM"));
+        GeneratorType mazeType = GeneratorType.valueOf(json.getJSONObject("maze").optString("generatorType",
+                type.name()));
+        int itemTypes = json.optInt("itemTypes", LEGACY_ITEM_TYPES);
+        Game game = json.has("seed")
+                ? new Game(width, height, mazeType, json.getLong("seed"), itemTypes)
+                : new Game(width, height, mazeType);
+        if (json.optInt("level", 0) != 0) {
+            game.loadLevel(json.getInt("level"));
+        }
+        game.setGeneratorType(type);
         return game;
     }
 
     // MODIFIES: maze
-    // EFFECTS: parse the json and write it into maze
-    private void parseMaze(Maze maze, JSONObject json) {
+    // EFFECTS: parse the json and write it into maze. if the saved maze is
+    // from the seed of the game, the blocks that differ from the regenerated
+    // maze are set as edits, otherwise, like an old save without a seed, all
+    // the blocks are loaded as they are, so they are not turned into edits
+    private void parseMaze(Maze maze, JSONObject json, boolean fromSeed) {
         maze.setStart(parseCoordinate(json.getJSONObject("start")));
         maze.setExit(parseCoordinate(json.getJSONObject("exit")));
-        Coordinate coord = new Coordinate(0, 0);
 
         JSONArray mazeJson = json.getJSONArray("maze");
+        boolean[][] rows = new boolean[maze.getHeight()][maze.getWidth()];
+        for (int i = 0; i < maze.getHeight(); i++) {
+            for (int j = 0; j < maze.getWidth(); j++) {
+                rows[i][j] = mazeJson.getJSONArray(i).getBoolean(j);
+            }
+        }
+        if (!fromSeed) {
+            maze.loadBlocks(rows);
+            return;
+        }
         for (int i = 0; i < maze.getHeight(); i++) {
             for (int j = 0; j < maze.getWidth(); j++) {
-                coord.setXY(j, i);
-                maze.setBlock(coord, mazeJson.getJSONArray(i).getBoolean(j));
+                maze.setBlock(j, i, rows[i][j]);
             }
         }
+    }
+
+    // MODIFIES: maze
+    // EFFECTS: parse the start, the exit and the edits of a compact save
+    // and replay the edits on the regenerated maze in order
+    private void parseEdits(Maze maze, JSONObject json) {
+        maze.setStart(parseCoordinate(json.getJSONObject("start")));
+        maze.setExit(parseCoordinate(json.getJSONObject("exit")));
+
+        JSONArray edits = json.getJSONArray("edits");
+        for (int i = 0; i < edits.length(); i++) {
+            JSONArray edit = edits.getJSONArray(i);
+            maze.applyEdit(edit.getInt(0), edit.getInt(1), edit.getInt(2), edit.getInt(3), edit.getInt(4) != 0);
+        }
+    }
 
+    // MODIFIES: game
+    // EFFECTS: parse the items of a compact save, either the full item list
+    // or the cells of the items removed from the regenerated layout
+    private void parseCompactItems(Game game, JSONObject json) {
+        if (json.has("items")) {
+            parseGameItems(game, json.getJSONArray("items"));
+            return;
+        }
+        int width = game.getMaze().getWidth();
+        JSONArray removed = json.getJSONArray("removedItems");
+        for (int i = 0; i < removed.length(); i++) {
+            int cell = removed.getInt(i);
+            game.removeItem(new Coordinate(cell % width, cell / width));
+        }
     }
 
     // MODIFIES: game
@@ -122,6 +210,7 @@ public class JsonReader {
         player.setSolved(json.getInt("solved"));
         player.setPosition(parseCoordinate(json.getJSONObject("position")));
         parseInventory(player.getInventory(), json.getJSONObject("inventory"));
+        player.light(json.optInt("lightRadius", Player.LIGHT_RADIUS), json.optInt("lightSteps", 0));
     }
 
     // MODIFIES: inventory
@@ -148,6 +237,8 @@ public class JsonReader {
             return new Breaker(d);
         } else if (type == ItemType.SKIP) {
             return new Skip();
+        } else if (type == ItemType.SPOTLIGHT) {
+            return new Spotlight(json.getInt("radius"), json.getInt("steps"));
         } else {
             return new Hint();
         }
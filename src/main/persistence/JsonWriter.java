@@ -2,13 +2,19 @@ package persistence;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
 import java.io.PrintWriter;
 
 import model.Game;
+import model.command.CommandLog;
 
 // Represents a writer that writes JSON representation of game to file
 // modified from https://github.students.cs.ubc.ca/CPSC210/JsonSerializationDemo/blob/master/src/main/persistence/JsonWriter.java
+// a game can also be saved as a checkpoint of its command log plus a log file
+// of the commands after it, so saving it again only appends the new commands
 public class JsonWriter {
+    public static final String LOG_EXTENSION = ".log";
 
     // MODIFIES: this
     // EFFECTS: writes json form of the game to the just opened dest file and closes the file
@@ -18,4 +24,61 @@ public class JsonWriter {
         writer.print(game.toJson().toString(4));
         writer.close();
     }
+
+    // MODIFIES: this
+    // EFFECTS: writes the compact json form of the game to the just opened dest
+    // file and closes the file. the file holds the seed and the changes to the
+    // level instead of the maze, so its size does not grow with the maze
+    public void saveCompactToFile(String dest, Game game) throws FileNotFoundException {
+        PrintWriter writer = new PrintWriter(new File(dest));
+
+        writer.print(game.toCompactJson().toString(4));
+        writer.close();
+    }
+
+    // MODIFIES: game
+    // EFFECTS: writes the last checkpoint of the game's command log to dest as
+    // compact json, and the commands after it to logFileOf(dest), replacing
+    // both files. a checkpoint is taken first if the log has none
+    public void saveLogToFile(String dest, Game game) throws FileNotFoundException {
+        CommandLog log = game.getLog();
+        if (log.getNumOfCheckpoints() == 0) {
+            game.checkpoint();
+        }
+        PrintWriter writer = new PrintWriter(new File(dest));
+        writer.print(log.getLastCheckpoint().toString(4));
+        writer.close();
+
+        writeCommands(dest, log, log.getLastCheckpointOffset(), false);
+        log.markFlushed();
+    }
+
+    // MODIFIES: game
+    // EFFECTS: appends the commands executed since the last save to
+    // logFileOf(dest), a few bytes per save. if a checkpoint was taken since then
+    // or the log file is missing, saves the game as saveLogToFile instead
+    public void appendLogToFile(String dest, Game game) throws FileNotFoundException {
+        CommandLog log = game.getLog();
+        if (log.hasUnflushedCheckpoint() || !new File(logFileOf(dest)).isFile()) {
+            saveLogToFile(dest, game);
+            return;
+        }
+        writeCommands(dest, log, log.getFlushed(), true);
+        log.markFlushed();
+    }
+
+    // EFFECTS: returns the name of the log file that goes with the save file
+    public static String logFileOf(String file) {
+        int dot = file.lastIndexOf('.');
+        return (dot > file.lastIndexOf('/') ? file.substring(0, dot) : file) + LOG_EXTENSION;
+    }
+
+    // EFFECTS: writes the commands from the index to the end of the log to
+    // logFileOf(dest), after the existing content if append
+    private void writeCommands(String dest, CommandLog log, int from, boolean append)
+            throws FileNotFoundException {
+        PrintStream stream = new PrintStream(new FileOutputStream(logFileOf(dest), append));
+        stream.write(log.toArray(from, log.size()), 0, log.size() - from);
+        stream.close();
+    }
 }
@@ -0,0 +1,51 @@
+package persistence;
+
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import model.maze.MazeRowConsumer;
+import model.utility.BitGrid;
+
+// Represents a writer that writes the rows of a streamed maze to a text file
+// as they are generated, one line per row. A wall is written as WALL
+// and a road as ROAD, so the file can be written without keeping the maze
+public class MazeRowWriter implements MazeRowConsumer {
+    public static final char WALL = '#';
+    public static final char ROAD = ' ';
+
+    private final PrintWriter writer;
+    private char[] line;
+
+    // EFFECTS: opens the dest file for writing
+    // if the destination is not found, throws FileNotFoundException
+    public MazeRowWriter(String dest) throws FileNotFoundException {
+        writer = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(dest), StandardCharsets.UTF_8)));
+        line = new char[0];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the row as one line of the file
+    @Override
+    public void accept(long y, BitGrid row) {
+        if (line.length != row.getWidth()) {
+            line = new char[row.getWidth()];
+        }
+        for (int x = 0; x < line.length; x++) {
+            line[x] = row.get(x) ? ROAD : WALL;
+        }
+        writer.println(line);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: flushes and closes the file, returns false if anything
+    // went wrong while writing
+    public boolean close() {
+        writer.close();
+        return !writer.checkError();
+    }
+}
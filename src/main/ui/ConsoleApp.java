@@ -6,17 +6,15 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Map;
 
 import org.json.JSONException;
 
 import model.Game;
-import model.item.Item;
-import model.maze.Maze;
-import model.player.Inventory;
-import model.player.Player;
-import model.utility.Coordinate;
+import model.command.Command;
+import model.engine.Engine;
 import model.utility.Direction;
+import model.utility.LatencyHistogram;
+import model.utility.SnapshotExchange;
 import model.utility.menu.Menu;
 import model.utility.menu.MenuOption;
 import model.utility.menu.MessageBoxOption;
@@ -24,29 +22,52 @@ import model.utility.pixel.Pixel;
 import model.utility.pixel.TextAttribute;
 import persistence.JsonReader;
 import persistence.JsonWriter;
+import ui.console.Keys;
+import ui.console.RenderLoop;
+import ui.console.RenderMode;
 import ui.console.Screen;
 import ui.console.Terminal;
-import ui.exceptions.BagIsFullException;
+import ui.console.TickScheduler;
+import ui.console.Viewport;
 import ui.exceptions.FileOverLimitException;
 import ui.exceptions.NotRecognizedKeyException;
 
 // ConsoleApp represents the maze in the console
 // it processes the game logics.
-// it handles key input and graphics
+// it handles key input and graphics.
+// during a game the logic runs at a fixed tick rate on the thread of the app,
+// and every change is handed to a render loop as a GameSnapshot, which only
+// draws the cells of the maze that changed, on a thread of its own unless
+// the app is a server session that draws on its own thread.
+// the maze can be larger than the board, which then shows the part of it
+// around the player through a Viewport, next to the docked info panel.
+// the maze can be drawn in a RenderMode that shows more cells per character,
+// V switches between them during a game
 public class ConsoleApp {
     private Game game;
+    private Engine engine;
     private Terminal termial;
     private boolean quit;
-
-    private Player player;
-    private Inventory playerInventory;
-    private Coordinate playerPos;
+    private boolean changed;
+    private LayerChanges pending;
+    private LayerChanges delta;
     private String gameLoaded;
+    private int mazeWidth;
+    private int mazeHeight;
+    private RenderMode mode = RenderMode.NORMAL;
 
     private final Screen screen;
+    private final boolean pipeline;
     private final int screenWidth;
     private final int screenHeight;
 
+    private final SnapshotExchange<GameSnapshot> snapshots;
+    private final RenderLoop<GameSnapshot> renderLoop;
+    private final TickScheduler scheduler;
+    private final MazeScene scene;
+    private final Viewport camera;
+    private long lastFrameKeyNanos;
+
     private final Menu mainMenu;
     private final Menu fileMenu;
 
@@ -63,25 +84,71 @@ public class ConsoleApp {
     private final Pixel exitPixel = new Pixel('⬤', exitStyle);
     private final Pixel playerPixel = new Pixel('⬤', playerStyle);
     private final Pixel itemPixel = new Pixel('⬤', itemStyle);
+    private final LatencyHistogram keyToFrame = new LatencyHistogram();
 
     public static final int WIDTH = 38;
     public static final int HEIGHT = WIDTH;
     public static final int INFO_PANNEL_START_X = (WIDTH + 3) * 2;
     public static final int INFO_PANNEL_WIDTH = 30;
     public static final int INFO_START_LINE = Math.toIntExact(Math.round(HEIGHT * 0.15));
+    public static final int CAMERA_MARGIN = 8;
 
     public static final int TERMINAL_GUI_NUM_RESTRICT = 9;
+    public static final int PIPELINE_DEPTH = 2;
+    public static final int TICKS_PER_SECOND = 60;
+    public static final int MAX_FPS = 60;
     public static final String DATA_STORAGE = "./data/";
     public static final String FILE_EXTENSION = ".json";
 
     // EFFECTS: constructs a consoleApp with all elements initialized
+    // on the local terminal, the next levels are generated in the background
     public ConsoleApp() {
+        this(MAX_FPS);
+    }
+
+    // REQUIRES: maxFps > 0
+    // EFFECTS: constructs a consoleApp on the local terminal that draws at most
+    // maxFps frames a second, the next levels are generated in the background
+    public ConsoleApp(int maxFps) {
+        this(new Terminal(WIDTH + INFO_PANNEL_WIDTH, HEIGHT), true, maxFps);
+    }
+
+    // REQUIRES: terminal has a screen of WIDTH + INFO_PANNEL_WIDTH by HEIGHT
+    // EFFECTS: constructs a consoleApp with all elements initialized on the
+    // given terminal that draws at most MAX_FPS frames a second.
+    // if !pipeline, every level is generated when it is reached
+    public ConsoleApp(Terminal terminal, boolean pipeline) {
+        this(terminal, pipeline, MAX_FPS);
+    }
+
+    // REQUIRES: terminal has a screen of WIDTH + INFO_PANNEL_WIDTH by HEIGHT && maxFps > 0
+    // EFFECTS: constructs a consoleApp with all elements initialized on the
+    // given terminal that draws at most maxFps frames a second.
+    // if !pipeline, every level is generated when it is reached
+    public ConsoleApp(Terminal terminal, boolean pipeline, int maxFps) {
+        this(terminal, pipeline, maxFps, true);
+    }
+
+    // REQUIRES: terminal has a screen of WIDTH + INFO_PANNEL_WIDTH by HEIGHT
+    // EFFECTS: constructs a consoleApp like ConsoleApp(terminal, pipeline), but
+    // if !renderThread no render thread is started, a frame is drawn on the
+    // thread of the app right after the tick that changed the game, so at most
+    // TICKS_PER_SECOND frames a second
+    public ConsoleApp(Terminal terminal, boolean pipeline, boolean renderThread) {
+        this(terminal, pipeline, MAX_FPS, renderThread);
+    }
+
+    // REQUIRES: terminal has a screen of WIDTH + INFO_PANNEL_WIDTH by HEIGHT && maxFps > 0
+    // EFFECTS: constructs a consoleApp with all elements initialized on the
+    // given terminal, which draws at most maxFps frames a second on a render
+    // thread if renderThread, or on the thread of the app otherwise
+    private ConsoleApp(Terminal terminal, boolean pipeline, int maxFps, boolean renderThread) {
         quit = false;
         screenWidth = WIDTH + INFO_PANNEL_WIDTH;
         screenHeight = HEIGHT;
+        this.pipeline = pipeline;
 
-        termial = new Terminal(screenWidth, screenHeight);
-
+        termial = terminal;
         screen = termial.getScreen();
 
         writer = new JsonWriter();
@@ -89,22 +156,85 @@ public class ConsoleApp {
         dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
         gameLoaded = null;
-
         mainMenu = new Menu("A Friendly Maze Game", new ArrayList<MenuOption>(
                 Arrays.asList(MenuOption.NEWGAME, MenuOption.LOADGAME, MenuOption.QUIT)));
 
         fileMenu = new Menu("", new ArrayList<>());
+
+        snapshots = new SnapshotExchange<>(GameSnapshot::new);
+        renderLoop = newRenderLoop(maxFps, renderThread);
+        scheduler = new TickScheduler(TICKS_PER_SECOND);
+        scene = new MazeScene(screen, wallPixel, exitPixel, playerPixel, itemPixel);
+        camera = new Viewport(WIDTH - 2, HEIGHT - 2, CAMERA_MARGIN);
+        mazeWidth = WIDTH;
+        mazeHeight = HEIGHT;
+    }
+
+    // REQUIRES: maxFps > 0
+    // EFFECTS: returns a render loop that presents the snapshots, at most
+    // maxFps a second on a thread of its own if renderThread, or each one on
+    // the thread of the app as it is published otherwise
+    private RenderLoop<GameSnapshot> newRenderLoop(int maxFps, boolean renderThread) {
+        if (renderThread) {
+            return new RenderLoop<>(snapshots, this::present, maxFps);
+        }
+        return new RenderLoop<>(snapshots, this::present);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the mode the maze is drawn in, a denser mode shows a
+    // larger part of the maze through the camera
+    public void setRenderMode(RenderMode mode) {
+        this.mode = mode;
+        camera.setScale(mode.getScale());
+    }
+
+    // EFFECTS: returns how long the keys took from being read to being on the screen
+    public LatencyHistogram getKeyToFrame() {
+        return keyToFrame;
+    }
+
+    // EFFECTS: returns how long the ticks of the game logic took
+    public LatencyHistogram getTickTime() {
+        return scheduler.getTickTime();
+    }
+
+    // EFFECTS: returns how long the render loop took to draw a frame
+    public LatencyHistogram getFrameTime() {
+        return renderLoop.getFrameTime();
+    }
+
+    // EFFECTS: returns the number of snapshots replaced before the render loop drew them
+    public long getDroppedFrames() {
+        return snapshots.getDropped();
+    }
+
+    // REQUIRES: width and height are even and >= 8
+    // MODIFIES: this
+    // EFFECTS: sets the size of the new games, like Game(width, height),
+    // a maze larger than the board is shown through the camera
+    public void setMazeSize(int width, int height) {
+        mazeWidth = width;
+        mazeHeight = height;
     }
 
     // MODIFIES: this
     // EFFECTS: create a new game from newGame if newGame is not null
     // otherwise, game will be the newGame
+    // the next levels of the game are generated in the background if pipeline is on
     // link all the references
     private void init(Game newGame) {
-        game = newGame == null ? new Game(WIDTH, HEIGHT) : newGame;
-        player = game.getPlayer();
-        playerInventory = player.getInventory();
-        playerPos = player.getPosition();
+        if (game != null) {
+            game.stopPipeline();
+        }
+        game = newGame == null ? new Game(mazeWidth, mazeHeight) : newGame;
+        if (pipeline) {
+            game.startPipeline(PIPELINE_DEPTH);
+        }
+        engine = new Engine(game);
+        pending = new LayerChanges(game.getMaze().getWidth(), game.getMaze().getHeight());
+        delta = new LayerChanges(game.getMaze().getWidth(), game.getMaze().getHeight());
+        camera.reset(game.getMaze().getWidth(), game.getMaze().getHeight());
     }
 
     // MODIFIES: this
@@ -121,64 +251,126 @@ public class ConsoleApp {
     }
 
     // MODIFIES: this
-    // EFFECTS: start the game
+    // EFFECTS: start the game. the logic runs TICKS_PER_SECOND ticks a second
+    // on this thread while the render loop draws, but while the engine has
+    // nothing timed to do the thread parks until the next key.
+    // the render loop is stopped when the game ends, even by SessionClosedException
     private void startGame() {
         quit = false;
-        render(true);
-        while (!quit) {
-            if (!termial.isKeyDown()) {
-                continue;
-            }
+        changed = true;
+        pending.markAll();
+        renderLoop.start();
+        try {
+            scheduler.run(() -> quit, this::tick, () -> engine.getTicksToNextEvent(), termial::awaitKeyNanos);
+        } finally {
+            renderLoop.stop();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs one tick of the game: handles the keys that arrived since
+    // the last tick, advances the engine by a tick and, if anything changed,
+    // publishes a snapshot of the game to the render loop
+    private void tick() {
+        while (!quit && termial.isKeyDown()) {
             handleKeyDown();
-            if (!quit) {
-                render(true);
-            }
+            changed = true;
+        }
+        engine.tick();
+        delta.take(game);
+        if ((changed || !delta.isEmpty()) && !quit) {
+            publish();
+        }
+        delta.clear();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: publishes a snapshot with every cell changed since the last
+    // snapshot the render loop took. if it took the one before this, only the
+    // cells changed in this tick are kept for the next snapshot, otherwise
+    // the changes of the dropped one are kept too
+    private void publish() {
+        pending.addAll(delta);
+        capture(snapshots.getBack());
+        if (!renderLoop.publish()) {
+            pending.clear();
+            pending.addAll(delta);
+        }
+        changed = false;
+    }
+
+    // REQUIRES: called by the render loop
+    // MODIFIES: this
+    // EFFECTS: draws the changes of the snapshot to the screen, everything if
+    // it marks every cell, and records how long the last key took from being
+    // read to being on the screen, once per key
+    private void present(GameSnapshot snapshot) {
+        if (snapshot.getChanges().isAll()) {
+            screen.invalidate();
+        }
+        scene.draw(snapshot);
+        drawInfoPannel(snapshot);
+        screen.renderChanges();
+        if (snapshot.getKeyNanos() != lastFrameKeyNanos) {
+            lastFrameKeyNanos = snapshot.getKeyNanos();
+            keyToFrame.record(System.nanoTime() - lastFrameKeyNanos);
         }
     }
 
+    // REQUIRES: the render loop is not running
     // MODIFIES: this
-    // EFFECTS: render all the elements to the screen if renderNow is true
-    // otherwise, write to the buffer
+    // EFFECTS: render all the elements of the game as it is now to the screen
+    // if renderNow is true, otherwise, write to the buffer
     private void render(boolean renderNow) {
-        drawInfoPannel();
-        drawMaze();
-        drawItems();
-        drawPlayer();
+        GameSnapshot snapshot = snapshots.getBack();
+        capture(snapshot);
+        drawInfoPannel(snapshot);
+        scene.drawAll(snapshot);
         if (renderNow) {
             screen.render();
         }
     }
 
+    // MODIFIES: this, snapshot
+    // EFFECTS: moves the camera after the player and captures the part of
+    // the game on it with the pending changes into the snapshot
+    private void capture(GameSnapshot snapshot) {
+        camera.follow(game.getPlayer().getPosition().getX(), game.getPlayer().getPosition().getY());
+        snapshot.capture(game, camera, mode, pending, termial.getLastKeyNanos());
+    }
+
     // MODIFIES: this
-    // EFFECTS: draw (or actuall write) the info panel to the screen buffer
-    private void drawInfoPannel() {
+    // EFFECTS: draw (or actuall write) the info panel to the screen buffer,
+    // the panel is cleared first as the buffer may keep the last frame
+    private void drawInfoPannel(GameSnapshot snapshot) {
         int line = INFO_START_LINE;
+        screen.clearRegion(INFO_PANNEL_START_X, 0, screenWidth * 2 - INFO_PANNEL_START_X, screenHeight);
         screen.write("This is a friendly maze solving game", INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT,
                 false, true);
-        screen.write("You have solved " + player.getSolved(), INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT, false,
-                true);
+        screen.write("You have solved " + snapshot.getSolved(), INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT,
+                false, true);
 
         line++;
-        line = drawInventory(line);
+        line = drawInventory(snapshot, line);
 
         line++;
-        line = drawInfo(line);
+        line = drawInfo(snapshot, line);
 
         line++;
-        line = drawMessage(line);
+        line = drawMessage(snapshot, line);
 
         line++;
-        screen.write("WASD to move, Q to quit, 1-9 to use items", INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT,
-                false, true);
+        screen.write("WASD to move, Q to quit, 1-9 to use items, V for view", INFO_PANNEL_START_X, line++,
+                TextAttribute.DEFAULT, false, true);
     }
 
     // REQUIRES: line >= 0 && line < screenHeight
     // MODIFIES: this, line
     // EFFECTS: draw (or actuall write) the message section of the
     // info panel to the screen buffer
-    private int drawMessage(int line) {
+    private int drawMessage(GameSnapshot snapshot, int line) {
         screen.write("Message: ", INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT, false, true);
-        screen.write(game.getGameMessage(), INFO_PANNEL_START_X, line++, messageStyle, false, true);
+        screen.write(snapshot.getMessage(), INFO_PANNEL_START_X, line++, messageStyle, false, true);
         return line;
     }
 
@@ -186,12 +378,14 @@ public class ConsoleApp {
     // MODIFIES: this, line
     // EFFECTS: draw (or actuall write) the game info section of the
     // info panel to the screen buffer
-    private int drawInfo(int line) {
+    private int drawInfo(GameSnapshot snapshot, int line) {
         String info;
         screen.write("Info: ", INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT, false, true);
-        info = "Direction: " + player.getDirection();
+        info = "Direction: " + snapshot.getDirection();
+        screen.write(info, INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT, false, true);
+        info = "Position: (" + snapshot.getPlayerX() + " , " + snapshot.getPlayerY() + ")";
         screen.write(info, INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT, false, true);
-        info = "Position: " + playerPos;
+        info = "Exit: " + snapshot.getDistanceToExit() + " steps away";
         screen.write(info, INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT, false, true);
         return line;
     }
@@ -200,106 +394,47 @@ public class ConsoleApp {
     // MODIFIES: this, line
     // EFFECTS: draw (or actuall write) the inventory section of the
     // info panel to the screen buffer
-    private int drawInventory(int line) {
+    private int drawInventory(GameSnapshot snapshot, int line) {
         String info;
         screen.write("Inventory: ", INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT, false, true);
-        info = "Coins: " + playerInventory.getCoins();
+        info = "Coins: " + snapshot.getCoins();
         screen.write(info, INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT, false, true);
-        info = "You have " + playerInventory.getInventorySize() + "/9 items:";
+        info = "You have " + snapshot.getInventorySize() + "/9 items:";
         screen.write(info, INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT, false, true);
-        for (int i = 0; i < playerInventory.getInventorySize(); i++) {
-            if (INFO_START_LINE + 15 + i + 1 == HEIGHT) {
+        for (int i = 0; i < snapshot.getInventorySize(); i++) {
+            if (INFO_START_LINE + 16 + i + 1 == HEIGHT) {
                 screen.write("    ...", INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT, false, true);
                 return line;
             }
-            info = "    " + (i + 1) + " - " + playerInventory.getItem(i).getDisplayName();
+            info = "    " + (i + 1) + " - " + snapshot.getItemName(i);
             screen.write(info, INFO_PANNEL_START_X, line++, TextAttribute.DEFAULT, false, true);
         }
         return line;
     }
 
     // MODIFIES: this
-    // EFFECTS: draw (or actuall write) the maze to the screen buffer
-    private void drawMaze() {
-        Maze maze = game.getMaze();
-        drawMazeBorder();
-        Coordinate screenPos;
-        Coordinate pos;
-        for (int i = 0; i < maze.getHeight(); i++) {
-            for (int j = 0; j < maze.getWidth(); j++) {
-                pos = new Coordinate(j, i);
-                screenPos = toScreen(pos);
-                if (i == maze.getExit().getY() && j == maze.getExit().getX()) {
-                    screen.writePixel(exitPixel, screenPos, false);
-                } else if (!maze.isWall(pos)) {
-                    screen.writePixel(Pixel.EMPTY_PIXEL, screenPos, true);
-                } else {
-                    screen.writePixel(wallPixel, screenPos, true);
-                }
-            }
-        }
-    }
-
-    // MODIFIES: this
-    // EFFECTS: draw (or actuall write) the maze boarders to the screen buffer
-    private void drawMazeBorder() {
-        Coordinate upper = new Coordinate(0, 0);
-        Coordinate bottom = new Coordinate(0, WIDTH - 1);
-        for (int i = 0; i < WIDTH; i++) {
-            screen.writePixel(wallPixel, upper, true);
-            screen.writePixel(wallPixel, bottom, true);
-            upper.goRight(1);
-            bottom.goRight(1);
-        }
-
-        Coordinate left = new Coordinate(0, 0);
-        Coordinate right = new Coordinate(WIDTH - 1, 0);
-        for (int i = 0; i < HEIGHT; i++) {
-            screen.writePixel(wallPixel, left, true);
-            screen.writePixel(wallPixel, right, true);
-            left.goDown(1);
-            right.goDown(1);
-        }
-    }
-
-    // MODIFIES: this
-    // EFFECTS: draw (or actuall write) all the available items from the maze to the screen buffer
-    private void drawItems() {
-        Coordinate screenPos;
-        for (Map.Entry<Coordinate, Item> entry : game.getItemEntrySet()) {
-            screenPos = toScreen(entry.getKey());
-            screen.writePixel(itemPixel, screenPos, false);
-        }
-
-    }
-
-    // MODIFIES: this
-    // EFFECTS: draw (or actuall write) the player to the screen buffer
-    private void drawPlayer() {
-        Coordinate pos = toScreen(playerPos);
-        screen.writePixel(playerPixel, pos, false);
-    }
-
-    // MODIFIES: this
-    // EFFECTS: response to all the user's key input, and update game logics
+    // EFFECTS: response to all the user's key input, a move or an item key
+    // plays one turn of the engine. the quit message box is drawn on this
+    // thread, so the render loop is stopped while it is open
     private void handleKeyDown() {
         int key = termial.getKey();
-        char c = (char) key;
 
-        if (c == 'q') {
+        if (key == 'q') {
+            renderLoop.stop();
             askForSaveBeforeQuit();
-            return;
-        } else if (isDirectionKey(c)) {
-            Direction dir = keyToDirection(c);
-            tryMove(dir);
+            if (!quit) {
+                pending.markAll();
+                renderLoop.start();
+            }
+        } else if (key == 'v') {
+            setRenderMode(mode.next());
+            camera.reset(game.getMaze().getWidth(), game.getMaze().getHeight());
+            pending.markAll();
+        } else if (isDirectionKey(key)) {
+            engine.step(Command.move(keyToDirection(key)));
         } else if (key <= 57 && key >= 49) {
-            tryApply(key - 48 - 1);
-        } else {
-            return;
+            engine.step(Command.apply(key - 48 - 1));
         }
-
-        handleItem();
-        handleExit();
     }
 
     // MODIFIES: this
@@ -312,9 +447,6 @@ public class ConsoleApp {
         screen.render();
 
         while (true) {
-            if (!termial.isKeyDown()) {
-                continue;
-            }
             char key = (char) termial.getKey();
             boolean finish = handleYesNoCancel(key);
             if (finish) {
@@ -337,11 +469,8 @@ public class ConsoleApp {
                 HEIGHT / 3 + 3);
         screen.render();
         while (true) {
-            if (!termial.isKeyDown()) {
-                continue;
-            }
-            int key = (char) termial.getKey();
-            if (key == 13) {
+            int key = termial.getKey();
+            if (key == Keys.ENTER) {
                 return;
             }
         }
@@ -388,148 +517,50 @@ public class ConsoleApp {
         return dtf.format(LocalDateTime.now());
     }
 
-    // REQUIRES: isDirectionKey(c)
-    // EFFECTS: convert c to a diretion:
-    // w to up
-    // a to left
-    // s to down
-    // d to right
-    private Direction keyToDirection(char c) {
-        switch (c) {
+    // REQUIRES: isDirectionKey(key)
+    // EFFECTS: convert key to a diretion:
+    // w or the up arrow to up
+    // a or the left arrow to left
+    // s or the down arrow to down
+    // d or the right arrow to right
+    private Direction keyToDirection(int key) {
+        switch (key) {
             case 'w':
+            case Keys.UP:
                 return Direction.UP;
             case 'a':
+            case Keys.LEFT:
                 return Direction.LEFT;
             case 's':
+            case Keys.DOWN:
                 return Direction.DOWN;
             case 'd':
+            case Keys.RIGHT:
                 return Direction.RIGHT;
             default:
                 return null;
         }
     }
 
-    // EFFECTS: true is c is one of the folling:
-    // w, a, s, d
+    // EFFECTS: true is key is one of the folling:
+    // w, a, s, d or an arrow key
     // false otherwise
-    private boolean isDirectionKey(char c) {
-        switch (c) {
+    private boolean isDirectionKey(int key) {
+        switch (key) {
             case 'w':
             case 'a':
             case 's':
             case 'd':
+            case Keys.UP:
+            case Keys.LEFT:
+            case Keys.DOWN:
+            case Keys.RIGHT:
                 return true;
             default:
                 return false;
         }
     }
 
-    // EFFECTS: convert the pos to the screen pos
-    // used to map the mazea and player positins to the
-    // actuall screen position
-    private Coordinate toScreen(Coordinate pos) {
-        Coordinate screenPos = new Coordinate(pos.getX(), pos.getY());
-        screenPos.increaseXY(1, 1);
-        return screenPos;
-    }
-
-    // MODIFIES: this
-    // EFFECTS: try move the player 1 unit along the direction
-    // if the movement will cause the player to be out of the
-    // boundary of the game or the destination is a wall
-    // the function will only update the player's direction to the
-    // given direction and the movement will not occur
-    private void tryMove(Direction direction) {
-        Maze maze = game.getMaze();
-        Coordinate pos = new Coordinate(playerPos.getX(), playerPos.getY());
-        pos.go(direction, 1);
-        if (!maze.isInRange(pos) || maze.isWall(pos)) {
-            player.setDirection(direction);
-            return;
-        }
-        player.move(direction);
-    }
-
-    // MODIFIES: this
-    // EFFECTS: get the item from the player's inventory bag by
-    // the index and apply it. Then the item will be removed
-    // from the player's inventory
-    // if such index does not exist, the function will do nothing
-    // i.e. user does not have this indexed item in the bag
-    private void tryApply(int index) {
-        Item item = playerInventory.getItem(index);
-        try {
-            item.apply(game);
-            playerInventory.removeItem(index);
-        } catch (NullPointerException e) {
-            return;
-        }
-    }
-
-    // MODIFIES: this
-    // EFFECTS:
-    // if there is an item at the player's position,
-    // the flowing will happen:
-    // 1.
-    // if item.isAutoApply() then the item's effect will immedately be applied.
-    //
-    // 2.
-    // if !item.isAutoApply() the item will be added to the inventory bag iff
-    // plaeryInventory.getInventorySize < TERMINAL_GUI_NUM_RESTRICT
-    // and then the item's report will be updated through game.getGameMessage().
-    // if the item is not added to the player's inventory, "Your bad is full..."
-    // will be reported through game.getGameMessage()
-    //
-    // 3.
-    // this item will be removed from map/maze
-    //
-    // if there is no item at the player's position, the function
-    // do nothing
-    private void handleItem() {
-        if (!game.isItem(playerPos)) {
-            return;
-        }
-        Item item = game.getItem(playerPos);
-        if (item.isAutoApply()) {
-            item.apply(game);
-            game.removeItem(playerPos);
-            return;
-        }
-
-        try {
-            addItemToPlayerInventory(item);
-            game.setGameMessage(item.report());
-            game.removeItem(playerPos);
-        } catch (BagIsFullException e) {
-            game.setGameMessage("Your bag is full...");
-        }
-    }
-
-    // MODIFIES: this
-    // EFFECTS: try to add the item to the player inventory
-    // if playerInventory.getInventorySize() >= TERMINAL_GUI_NUM_RESTRICT
-    // then throws BagIsFullException and the item will not be added
-    private void addItemToPlayerInventory(Item item) throws BagIsFullException {
-        if (playerInventory.getInventorySize() >= TERMINAL_GUI_NUM_RESTRICT) {
-            throw new BagIsFullException();
-        }
-        playerInventory.addItem(item);
-    }
-
-    // MODIFIES: this
-    // EFFECTS: if game.isEnded()
-    // then the game goes to the next maze
-    // with a new maze initialized
-    // and game.getReward() will be added to the player's'
-    // inventory bad.
-    // the reward message will be updated through
-    // game.getGameMessage()
-    private void handleExit() {
-        if (game.isEnded()) {
-            game.nextLevel(false);
-        }
-    }
-
     // REQUIRES: x > 0 && the longest string in menu.getOptions() + 10 + x < screen.getWidth()
     // y > 0 && menu.getOptions().size() + y + 5 < screen().getHeight()
     // MODIFIES: this
@@ -541,10 +572,6 @@ public class ConsoleApp {
         screen.writeMenu(x, y, menu.getTitle(), stringOptions, current);
         screen.render();
         while (!menu.isQuit()) {
-            if (!termial.isKeyDown()) {
-                continue;
-            }
-
             try {
                 current = processeKeyCommand(current, menu);
             } catch (NotRecognizedKeyException e) {
@@ -667,21 +694,21 @@ public class ConsoleApp {
     }
 
     // REQUIRES: current + 48 > min && current + 48 < max
-    // EFFECTS: if w is pressed return current - 1 or max - 48 -1 if current -1 < 0
-    // if s is pressed return current + 1 or 0 if current + 1 > max - 48 -1
+    // EFFECTS: if w or up is pressed return current - 1 or max - 48 -1 if current -1 < 0
+    // if s or down is pressed return current + 1 or 0 if current + 1 > max - 48 -1
     // if any number key between min and max (inclusive) is pressed, return that number + 48
     // if enter is pressed return -1
     // if any other key is pressed, throws NotRecognizedKeyException
     private int handleMenuKeyDown(int current, int min, int max) throws NotRecognizedKeyException {
-        char key = (char) termial.getKey();
+        int key = termial.getKey();
         int save = current;
         if (key >= min && key <= max) {
             return key;
-        } else if (key == 'w') {
+        } else if (key == 'w' || key == Keys.UP) {
             current = current - 1 >= 0 ? current - 1 : max - 48 - 1;
-        } else if (key == 's') {
+        } else if (key == 's' || key == Keys.DOWN) {
             current = current + 1 <= max - 48 - 1 ? current + 1 : 0;
-        } else if ((int) key == 13) {
+        } else if (key == Keys.ENTER) {
             return -1;
         }
 
@@ -693,18 +720,20 @@ public class ConsoleApp {
     }
 
     // EFFECTS: save the file to the DATA_STORAGE
+    // a new game is saved as a checkpoint and its command log, a loaded game only
+    // appends the commands executed since it was loaded or last saved
     // if the destination is not found, throws FileNotFoundException
     // if the number of the files already saved under DATA_STORAGE folder is
     // greater than TERMINAL_GUI_NUM_RESTRICT - 2, throws FileOverLimitException
     private void saveFile() throws FileNotFoundException, FileOverLimitException {
         if (gameLoaded != null) {
-            writer.saveToFile(DATA_STORAGE + gameLoaded, game);
+            writer.appendLogToFile(DATA_STORAGE + gameLoaded, game);
             return;
         }
         if (reader.fileCount(DATA_STORAGE, FILE_EXTENSION) > TERMINAL_GUI_NUM_RESTRICT - 2) {
             throw new FileOverLimitException();
         }
-        writer.saveToFile(DATA_STORAGE + getTimeStamp() + ".json", game);
+        writer.saveLogToFile(DATA_STORAGE + getTimeStamp() + ".json", game);
     }
 
     // private void fatelClose(String reason, Exception e) {
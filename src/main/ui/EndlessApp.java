@@ -0,0 +1,113 @@
+package ui;
+
+import model.utility.Direction;
+import model.utility.pixel.Pixel;
+import model.utility.pixel.TextAttribute;
+import model.world.EndlessGame;
+import model.world.EndlessMode;
+import ui.console.Keys;
+import ui.console.Screen;
+import ui.console.Terminal;
+
+// EndlessApp plays an EndlessMode on the console, the endless world or a
+// descending maze that is generated as it scrolls. the board shows the
+// part of the maze around the player, who stays at its center, and it is
+// drawn again after every key, only the cells that changed reach the terminal.
+// WASD or the arrow keys move and Q quits, there is no exit to reach
+public class EndlessApp {
+    public static final int VIEW = ConsoleApp.WIDTH - 2;
+
+    private final Terminal terminal;
+    private final Screen screen;
+    private final EndlessMode game;
+
+    private final Pixel wallPixel = new Pixel('█', new TextAttribute(4, TextAttribute.DEFAULT_VALUE, 0));
+    private final Pixel playerPixel = new Pixel('⬤', new TextAttribute(10, TextAttribute.DEFAULT_VALUE, 0));
+
+    // EFFECTS: constructs an endless world game of the given seed on the local terminal
+    public EndlessApp(long seed) {
+        this(new EndlessGame(seed));
+    }
+
+    // EFFECTS: constructs an app of the given mode on the local terminal
+    public EndlessApp(EndlessMode game) {
+        this(new Terminal(ConsoleApp.WIDTH + ConsoleApp.INFO_PANNEL_WIDTH, ConsoleApp.HEIGHT), game);
+    }
+
+    // REQUIRES: terminal has a screen of ConsoleApp.WIDTH + ConsoleApp.INFO_PANNEL_WIDTH by ConsoleApp.HEIGHT
+    // EFFECTS: constructs an app of the given mode on the given terminal
+    public EndlessApp(Terminal terminal, EndlessMode game) {
+        this.terminal = terminal;
+        this.screen = terminal.getScreen();
+        this.game = game;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: plays until Q is pressed, then closes the mode and the terminal
+    public void start() {
+        screen.setCursorInvisible();
+        draw();
+        for (int key = terminal.getKey(); key != 'q'; key = terminal.getKey()) {
+            Direction direction = keyToDirection(key);
+            if (direction != null) {
+                game.tryMove(direction);
+            }
+            draw();
+        }
+        game.close();
+        terminal.close();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: draws the world around the player and the info panel to the screen
+    private void draw() {
+        int playerX = game.getPlayer().getPosition().getX();
+        int playerY = game.getPlayer().getPosition().getY();
+        int left = playerX - VIEW / 2;
+        int top = playerY - VIEW / 2;
+        for (int y = 0; y < VIEW; y++) {
+            for (int x = 0; x < VIEW; x++) {
+                boolean wall = game.isWall(left + x, top + y);
+                screen.writePixel(wall ? wallPixel : Pixel.EMPTY_PIXEL, x + 1, y + 1, true);
+            }
+        }
+        screen.writePixel(playerPixel, playerX - left + 1, playerY - top + 1, false);
+        drawInfo(playerX, playerY);
+        screen.render();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the info panel of the player at (playerX, playerY) to the screen buffer
+    private void drawInfo(int playerX, int playerY) {
+        int line = ConsoleApp.INFO_START_LINE;
+        int x = ConsoleApp.INFO_PANNEL_START_X;
+        for (String info : game.describe()) {
+            screen.write(info, x, line++, TextAttribute.DEFAULT, false, true);
+        }
+        line++;
+        screen.write("Position: (" + playerX + " , " + playerY + ")", x, line++, TextAttribute.DEFAULT, false, true);
+        screen.write("Direction: " + game.getPlayer().getDirection(), x, line++, TextAttribute.DEFAULT, false, true);
+        line++;
+        screen.write("WASD to move, Q to quit", x, line, TextAttribute.DEFAULT, false, true);
+    }
+
+    // EFFECTS: returns the direction of a move key, or null if key is not one
+    private static Direction keyToDirection(int key) {
+        switch (key) {
+            case 'w':
+            case Keys.UP:
+                return Direction.UP;
+            case 'a':
+            case Keys.LEFT:
+                return Direction.LEFT;
+            case 's':
+            case Keys.DOWN:
+                return Direction.DOWN;
+            case 'd':
+            case Keys.RIGHT:
+                return Direction.RIGHT;
+            default:
+                return null;
+        }
+    }
+}
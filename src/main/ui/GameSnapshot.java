@@ -0,0 +1,272 @@
+package ui;
+
+import java.util.ArrayList;
+
+import model.Game;
+import model.maze.Maze;
+import model.player.Inventory;
+import model.player.Player;
+import model.utility.BitGrid;
+import model.utility.Direction;
+import model.utility.DirtyCells;
+import model.utility.IntList;
+import ui.console.RenderMode;
+import ui.console.Viewport;
+
+// GameSnapshot is a copy of everything the console draws of a game. the logic
+// thread captures it and the render thread draws it, so the render thread never
+// reads the game while it changes. a snapshot is reused: capture overwrites all
+// of it and only allocates when the size of the viewport changes.
+// only the part of the maze on the viewport is copied, so a capture costs the
+// size of the viewport and not of the maze. the cells of that part are
+// numbered row-major from its top left corner, and the bits of a row of it
+// can be read a word at a time for the modes that draw several cells per
+// character.
+// the maze is in a fog of war: the cells the player has not explored yet are
+// copied as empty roads without an item or the exit, so they are not drawn.
+// it also carries the cells of it changed on each layer since the last
+// snapshot the render thread is known to have taken, so only they have to be
+// drawn again
+class GameSnapshot {
+    private RenderMode mode;
+    private int cameraX;
+    private int cameraY;
+    private BitGrid roads;
+    private BitGrid itemCells;
+    private LayerChanges changes;
+    private int exitX;
+    private int exitY;
+    private final IntList items;
+
+    private int playerX;
+    private int playerY;
+    private Direction direction;
+    private int solved;
+    private int coins;
+    private final ArrayList<String> inventory;
+    private int distanceToExit;
+    private String message;
+
+    private long keyNanos;
+
+    // EFFECTS: constructs an empty snapshot, it has to be captured before drawn
+    GameSnapshot() {
+        items = new IntList();
+        inventory = new ArrayList<>();
+    }
+
+    // REQUIRES: camera and changes have the size of the maze of the game
+    // MODIFIES: this
+    // EFFECTS: copies the state of the game to draw on the camera in the
+    // mode and the cells changed on it on each layer, keyNanos is when the last key
+    // handled was read
+    void capture(Game game, Viewport camera, RenderMode mode, LayerChanges changes, long keyNanos) {
+        this.mode = mode;
+        captureMaze(game, camera);
+        captureChanges(camera, changes.getWalls(), this.changes.getWalls());
+        captureChanges(camera, changes.getObjects(), this.changes.getObjects());
+        capturePlayer(game);
+        this.keyNanos = keyNanos;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies the part of the maze on the camera and the items on
+    // it, the cells that are not explored are copied as empty roads
+    private void captureMaze(Game game, Viewport camera) {
+        int width = camera.getWidth();
+        int height = camera.getHeight();
+        if (roads == null || roads.getWidth() != width || roads.getHeight() != height) {
+            roads = new BitGrid(width, height);
+            itemCells = new BitGrid(width, height);
+            changes = new LayerChanges(width, height);
+            items.clear();
+        }
+        cameraX = camera.getX();
+        cameraY = camera.getY();
+        Maze maze = game.getMaze();
+        BitGrid explored = game.getFieldOfView().getExplored();
+        for (int row = 0; row < height; row++) {
+            for (int offset = 0; offset < width; offset += 64) {
+                int count = Math.min(64, width - offset);
+                int index = explored.indexOf(cameraX + offset, cameraY + row);
+                long bits = maze.getGrid().getBits(index, count) | ~explored.getBits(index, count);
+                roads.setBits(roads.indexOf(offset, row), count, bits);
+            }
+        }
+        boolean exitFound = explored.get(maze.getExit().getX(), maze.getExit().getY());
+        exitX = exitFound ? maze.getExit().getX() : -1;
+        exitY = exitFound ? maze.getExit().getY() : -1;
+        captureItems(game, explored);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies the cells of the explored items on the part of the
+    // maze, explored has the size of the maze
+    private void captureItems(Game game, BitGrid explored) {
+        for (int i = 0; i < items.size(); i++) {
+            itemCells.set(items.get(i), false);
+        }
+        items.clear();
+        game.getItemsInRect(cameraX, cameraY, getWidth(), getHeight(), items);
+        for (int i = 0; i < items.size(); i++) {
+            int mazeCell = items.get(i);
+            int cell = toCell(mazeCell, explored.getWidth());
+            items.set(i, cell);
+            itemCells.set(cell, explored.get(mazeCell));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies the changed cells of the maze that are on the camera
+    // into the cells of the copied part changed on the same layer
+    private void captureChanges(Viewport camera, DirtyCells changes, DirtyCells dirty) {
+        dirty.clear();
+        if (changes.isAll()) {
+            dirty.markAll();
+            return;
+        }
+        for (int i = 0; i < changes.size(); i++) {
+            int cell = changes.get(i);
+            if (camera.contains(cell % changes.getWidth(), cell / changes.getWidth())) {
+                dirty.add(toCell(cell, changes.getWidth()));
+            }
+        }
+    }
+
+    // REQUIRES: the cell of the maze is on the copied part
+    // EFFECTS: returns the cell of the copied part at the cell of a maze
+    // that is mazeWidth cells wide
+    private int toCell(int mazeCell, int mazeWidth) {
+        return (mazeCell / mazeWidth - cameraY) * getWidth() + mazeCell % mazeWidth - cameraX;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies the player, its inventory and the game message
+    private void capturePlayer(Game game) {
+        Player player = game.getPlayer();
+        Inventory bag = player.getInventory();
+        playerX = player.getPosition().getX();
+        playerY = player.getPosition().getY();
+        direction = player.getDirection();
+        solved = player.getSolved();
+        coins = bag.getCoins();
+        inventory.clear();
+        for (int i = 0; i < bag.getInventorySize(); i++) {
+            inventory.add(bag.getItem(i).getDisplayName());
+        }
+        distanceToExit = game.getDistanceToExit();
+        message = game.getGameMessage();
+    }
+
+    // EFFECTS: returns the x of the maze at the left of the copied part
+    int getCameraX() {
+        return cameraX;
+    }
+
+    // EFFECTS: returns the y of the maze at the top of the copied part
+    int getCameraY() {
+        return cameraY;
+    }
+
+    // EFFECTS: returns the width of the copied part
+    int getWidth() {
+        return roads.getWidth();
+    }
+
+    // EFFECTS: returns the height of the copied part
+    int getHeight() {
+        return roads.getHeight();
+    }
+
+    // REQUIRES: (x, y) is within the copied part
+    // EFFECTS: returns true if the block at (x, y) of the copied part is a wall
+    boolean isWall(int x, int y) {
+        return !roads.get(x, y);
+    }
+
+    // EFFECTS: returns the x of the exit, or -1 if it is not explored
+    int getExitX() {
+        return exitX;
+    }
+
+    // EFFECTS: returns the y of the exit, or -1 if it is not explored
+    int getExitY() {
+        return exitY;
+    }
+
+    // REQUIRES: (x, y) is within the copied part && count >= 1 && count <= 64
+    // && x + count <= getWidth()
+    // EFFECTS: returns the walls of the count blocks from (x, y) of the copied
+    // part as bits, bit i is set if the block at (x + i, y) is a wall
+    long getWallBits(int x, int y, int count) {
+        long mask = count == 64 ? -1L : (1L << count) - 1;
+        return ~roads.getBits(roads.indexOf(x, y), count) & mask;
+    }
+
+    // REQUIRES: (x, y) is within the copied part && count >= 1 && count <= 64
+    // && x + count <= getWidth()
+    // EFFECTS: returns the items of the count cells from (x, y) of the copied
+    // part as bits, bit i is set if there is an item at (x + i, y)
+    long getItemBits(int x, int y, int count) {
+        return itemCells.getBits(itemCells.indexOf(x, y), count);
+    }
+
+    // EFFECTS: returns the mode to draw the snapshot in
+    RenderMode getMode() {
+        return mode;
+    }
+
+    // EFFECTS: returns true if there is an item at the cell of the copied part
+    boolean isItem(int cell) {
+        return itemCells.get(cell);
+    }
+
+    // EFFECTS: returns the cells changed on each layer since the last
+    // snapshot taken by the render thread
+    LayerChanges getChanges() {
+        return changes;
+    }
+
+    int getPlayerX() {
+        return playerX;
+    }
+
+    int getPlayerY() {
+        return playerY;
+    }
+
+    Direction getDirection() {
+        return direction;
+    }
+
+    int getSolved() {
+        return solved;
+    }
+
+    int getCoins() {
+        return coins;
+    }
+
+    int getInventorySize() {
+        return inventory.size();
+    }
+
+    // REQUIRES: i >= 0 && i < getInventorySize()
+    // EFFECTS: returns the display name of the i-th item in the inventory
+    String getItemName(int i) {
+        return inventory.get(i);
+    }
+
+    int getDistanceToExit() {
+        return distanceToExit;
+    }
+
+    String getMessage() {
+        return message;
+    }
+
+    // EFFECTS: returns the System.nanoTime() at which the last key handled was read
+    long getKeyNanos() {
+        return keyNanos;
+    }
+}
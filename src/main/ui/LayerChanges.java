@@ -0,0 +1,69 @@
+package ui;
+
+import model.Game;
+import model.utility.DirtyCells;
+
+// LayerChanges is the cells of a maze changed on each layer the console draws
+// it in: the walls, which only change when they are broken, and the objects
+// over them, the player, the items and the exit. each layer is drawn again
+// only where its own cells changed
+class LayerChanges {
+    private final DirtyCells walls;
+    private final DirtyCells objects;
+
+    // REQUIRES: width > 0 && height > 0
+    // EFFECTS: constructs no changes of a maze of the given size
+    LayerChanges(int width, int height) {
+        walls = new DirtyCells(width, height);
+        objects = new DirtyCells(width, height);
+    }
+
+    // REQUIRES: the maze of the game has the size of this
+    // MODIFIES: this, game
+    // EFFECTS: adds the cells the game changed since it was last asked
+    void take(Game game) {
+        game.takeChanges(walls, objects);
+    }
+
+    // REQUIRES: other has the size of this
+    // MODIFIES: this
+    // EFFECTS: adds the changes of other on each layer
+    void addAll(LayerChanges other) {
+        walls.addAll(other.walls);
+        objects.addAll(other.objects);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks every cell of both layers changed
+    void markAll() {
+        walls.markAll();
+        objects.markAll();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes all the changes
+    void clear() {
+        walls.clear();
+        objects.clear();
+    }
+
+    // EFFECTS: returns true if every cell of both layers changed
+    boolean isAll() {
+        return walls.isAll() && objects.isAll();
+    }
+
+    // EFFECTS: returns true if no cell changed on either layer
+    boolean isEmpty() {
+        return walls.isEmpty() && objects.isEmpty();
+    }
+
+    // EFFECTS: returns the changed cells of the walls
+    DirtyCells getWalls() {
+        return walls;
+    }
+
+    // EFFECTS: returns the changed cells of the objects
+    DirtyCells getObjects() {
+        return objects;
+    }
+}
@@ -1,10 +1,62 @@
 package ui;
 
 import java.io.IOException;
+import java.util.Random;
 
+import model.world.StreamGame;
+import ui.console.RenderMode;
+import ui.server.GameServer;
+
+// runs the game on this terminal, --fps [max fps] caps how often it draws
+// and --size [even size] makes square mazes of that size, larger than the
+// board if wanted, --mode [normal|half_block|braille] draws them denser,
+// or with --server [port] [max sessions] hosts it for telnet-style
+// connections on localhost, or with --endless [seed] walks the endless world,
+// or with --descend [seed] goes down a maze that is generated as it scrolls
 public class Main {
     public static void main(String[] args) throws IOException, InterruptedException {
-        ConsoleApp game = new ConsoleApp();
+        if (args.length > 0 && args[0].equals("--server")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+            int maxSessions = args.length > 2 ? Integer.parseInt(args[2]) : GameServer.DEFAULT_MAX_SESSIONS;
+            GameServer server = new GameServer(port, maxSessions);
+            System.out.println("Serving the maze game on localhost:" + server.getPort());
+            server.run();
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--endless")) {
+            new EndlessApp(seed(args)).start();
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--descend")) {
+            new EndlessApp(new StreamGame(seed(args), EndlessApp.VIEW)).start();
+            return;
+        }
+        ConsoleApp game = new ConsoleApp(option(args, "--fps", ConsoleApp.MAX_FPS));
+        int size = option(args, "--size", ConsoleApp.WIDTH);
+        game.setMazeSize(size, size);
+        game.setRenderMode(RenderMode.valueOf(option(args, "--mode", "normal").toUpperCase()));
         game.start();
     }
+
+    // EFFECTS: returns the seed after the mode in args, or a random seed if it is not given
+    private static long seed(String[] args) {
+        return args.length > 1 ? Long.parseLong(args[1]) : new Random().nextLong();
+    }
+
+    // EFFECTS: returns the number after the option name in args, or
+    // otherwise if the option or its number is not given
+    private static int option(String[] args, String name, int otherwise) {
+        return Integer.parseInt(option(args, name, Integer.toString(otherwise)));
+    }
+
+    // EFFECTS: returns the word after the option name in args, or
+    // otherwise if the option or its word is not given
+    private static String option(String[] args, String name, String otherwise) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return otherwise;
+    }
 }
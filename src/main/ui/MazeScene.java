@@ -0,0 +1,355 @@
+package ui;
+
+import model.utility.DirtyCells;
+import model.utility.pixel.BlockGlyphs;
+import model.utility.pixel.PackedPixel;
+import model.utility.pixel.Pixel;
+import ui.console.Layer;
+import ui.console.RenderMode;
+import ui.console.Screen;
+
+// MazeScene draws the maze of a GameSnapshot in two layers of the screen: a
+// static layer of the walls inside a wall border, which only changes when a
+// wall is broken or the camera moves, and an overlay of the exit, the items
+// over it and the player on top, transparent elsewhere. the layers keep what
+// was drawn, so a frame only draws the cells the snapshot marks as changed on
+// each layer, a step of the player is two cells of the overlay, and the
+// screen composites the cells that changed.
+// the snapshot only holds the part of the maze on the camera, when the
+// camera moves the screen scrolls what it shows and only the cells that
+// scrolled in are drawn.
+// in NORMAL mode a unit of drawing is a cell, in the other modes it is a
+// character that shows several cells in the colors of their top layers,
+// packed from the bits of a row of the snapshot a word at a time
+class MazeScene {
+    private static final int STATIC = 1;
+    private static final int OVERLAY = 2;
+    private static final int BOTH = STATIC | OVERLAY;
+
+    private final Screen screen;
+    private final Layer staticLayer;
+    private final Layer overlay;
+    private final Pixel wallPixel;
+    private final Pixel exitPixel;
+    private final Pixel playerPixel;
+    private final Pixel itemPixel;
+    private final long[] walls;
+    private final long[] items;
+
+    private RenderMode shownMode;
+    private int shownX;
+    private int shownY;
+    private int shownWidth;
+    private int shownHeight;
+
+    // MODIFIES: screen
+    // EFFECTS: constructs a scene that draws on two new layers of the screen
+    // with the given pixels
+    MazeScene(Screen screen, Pixel wallPixel, Pixel exitPixel, Pixel playerPixel, Pixel itemPixel) {
+        this.screen = screen;
+        staticLayer = screen.addLayer();
+        overlay = screen.addLayer();
+        this.wallPixel = wallPixel;
+        this.exitPixel = exitPixel;
+        this.playerPixel = playerPixel;
+        this.itemPixel = itemPixel;
+        walls = new long[RenderMode.BRAILLE.getRowCells()];
+        items = new long[RenderMode.BRAILLE.getRowCells()];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: scrolls the screen by how far the camera moved since the last
+    // drawn snapshot, draws the units that scrolled in and the units of the
+    // walls changed in the snapshot on both layers, as a character of the
+    // overlay may show walls too, and the units of the objects changed on the
+    // overlay, and composites the changes into the screen buffer. it draws
+    // everything and the border if all of them changed, the mode changed or
+    // the camera did not move by whole pixels of the screen
+    void draw(GameSnapshot snapshot) {
+        int scale = snapshot.getMode().getScale();
+        int dx = snapshot.getCameraX() - shownX;
+        int dy = snapshot.getCameraY() - shownY;
+        if (mustDrawAll(snapshot, dx, dy)) {
+            drawAll(snapshot);
+            return;
+        }
+        scroll(snapshot, dx / scale, dy / scale);
+        drawChanges(snapshot, snapshot.getChanges().getWalls(), BOTH);
+        drawChanges(snapshot, snapshot.getChanges().getObjects(), OVERLAY);
+        screen.composite();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: draws the border and every unit of the snapshot on both layers,
+    // clears what is left of a larger maze drawn before and composites all of
+    // it into the screen buffer, even the cells the layers already had
+    void drawAll(GameSnapshot snapshot) {
+        if (shownMode != null) {
+            clearLayers((pixels(shownWidth) + 2) * 2, pixels(shownHeight) + 2);
+        }
+        shownMode = snapshot.getMode();
+        shownX = snapshot.getCameraX();
+        shownY = snapshot.getCameraY();
+        shownWidth = snapshot.getWidth();
+        shownHeight = snapshot.getHeight();
+        drawBorder(pixels(shownWidth) + 2, pixels(shownHeight) + 2);
+        for (int row = 0; row < pixels(shownHeight); row++) {
+            drawUnits(snapshot, row, 0, unitX(shownWidth - 1) + 1, BOTH);
+        }
+        staticLayer.invalidate(0, 0, (pixels(shownWidth) + 2) * 2, pixels(shownHeight) + 2);
+        screen.composite();
+    }
+
+    // EFFECTS: returns true if the snapshot cannot be drawn from what is
+    // shown, as all of its cells changed on a layer, its mode or size changed
+    // or the camera moved by dx, dy cells which are not whole pixels or more
+    // than it shows
+    private boolean mustDrawAll(GameSnapshot snapshot, int dx, int dy) {
+        LayerChanges changes = snapshot.getChanges();
+        int scale = snapshot.getMode().getScale();
+        return changes.getWalls().isAll() || changes.getObjects().isAll() || snapshot.getMode() != shownMode
+                || snapshot.getWidth() != shownWidth || snapshot.getHeight() != shownHeight
+                || dx % scale != 0 || dy % scale != 0
+                || Math.abs(dx / scale) >= pixels(shownWidth) || Math.abs(dy / scale) >= pixels(shownHeight);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: draws the units of the changed cells on the given layers
+    private void drawChanges(GameSnapshot snapshot, DirtyCells changes, int layers) {
+        for (int i = 0; i < changes.size(); i++) {
+            int cell = changes.get(i);
+            int unit = unitX(cell % shownWidth);
+            drawUnits(snapshot, cell / shownWidth / shownMode.getRowCells(), unit, unit + 1, layers);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the exact columns [0, width) of the rows [0, height) of
+    // both layers transparent
+    private void clearLayers(int width, int height) {
+        staticLayer.clearRegion(0, 0, width, height);
+        overlay.clearRegion(0, 0, width, height);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: scrolls the maze on the screen and its layers left by dx and
+    // up by dy pixels and draws the units that scrolled in on both layers
+    private void scroll(GameSnapshot snapshot, int dx, int dy) {
+        int width = pixels(shownWidth);
+        int height = pixels(shownHeight);
+        if (dx != 0) {
+            screen.scroll(1, 1, width, height, -dx, 0);
+        }
+        if (dy != 0) {
+            screen.scroll(1, 1, width, height, 0, -dy);
+        }
+        int units = unitX(shownWidth - 1) + 1;
+        int unitsPerPixel = shownMode == RenderMode.NORMAL ? 1 : 2;
+        int fromX = dx > 0 ? (width - dx) * unitsPerPixel : 0;
+        int toX = Math.min(fromX + Math.abs(dx) * unitsPerPixel, units);
+        int fromY = dy > 0 ? height - dy : 0;
+        for (int row = 0; row < height; row++) {
+            if (row >= fromY && row < fromY + Math.abs(dy)) {
+                drawUnits(snapshot, row, 0, units, BOTH);
+            } else if (dx != 0) {
+                drawUnits(snapshot, row, fromX, toX, BOTH);
+            }
+        }
+        shownX = snapshot.getCameraX();
+        shownY = snapshot.getCameraY();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: draws the units [from, to) of the row of units on the layers,
+    // a bit mask of STATIC and OVERLAY
+    private void drawUnits(GameSnapshot snapshot, int row, int from, int to, int layers) {
+        if (shownMode == RenderMode.NORMAL) {
+            for (int x = from; x < to; x++) {
+                drawCell(snapshot, row * shownWidth + x, layers);
+            }
+            return;
+        }
+        int columnCells = shownMode.getColumnCells();
+        int perWord = 64 / columnCells;
+        for (int start = from; start < to; start += perWord) {
+            int count = Math.min(perWord, to - start);
+            loadWords(snapshot, start * columnCells, row * shownMode.getRowCells(),
+                    Math.min(count * columnCells, shownWidth - start * columnCells));
+            for (int i = 0; i < count; i++) {
+                if ((layers & STATIC) != 0) {
+                    staticLayer.writePacked(wallGlyph(i * columnCells), start + i + 2, row + 1);
+                }
+                if ((layers & OVERLAY) != 0) {
+                    overlay.writePacked(objectGlyph(snapshot, start + i, row, i * columnCells), start + i + 2, row + 1);
+                }
+            }
+        }
+    }
+
+    // EFFECTS: returns the character of the static layer whose cells start
+    // at bit shift of the loaded words, the walls in their color, or
+    // TRANSPARENT if it shows no wall
+    private long wallGlyph(int shift) {
+        if (shownMode == RenderMode.BRAILLE) {
+            int dots = BlockGlyphs.brailleDots(walls[0], walls[1], walls[2], walls[3], shift);
+            return dots == 0 ? Layer.TRANSPARENT
+                    : PackedPixel.pack(BlockGlyphs.braille(dots), color(wallPixel), BlockGlyphs.NO_COLOR,
+                            BlockGlyphs.NO_COLOR);
+        }
+        int top = (walls[0] >>> shift & 1) != 0 ? color(wallPixel) : BlockGlyphs.NO_COLOR;
+        int bottom = (walls[1] >>> shift & 1) != 0 ? color(wallPixel) : BlockGlyphs.NO_COLOR;
+        return top == BlockGlyphs.NO_COLOR && bottom == BlockGlyphs.NO_COLOR ? Layer.TRANSPARENT
+                : BlockGlyphs.halfBlock(top, bottom);
+    }
+
+    // EFFECTS: returns the character of the overlay at column x of the row
+    // of characters, whose cells start at bit shift of the loaded words. it
+    // is the whole character, walls too, if it shows an object, as a
+    // character has one color of each kind, or TRANSPARENT otherwise
+    private long objectGlyph(GameSnapshot snapshot, int x, int row, int shift) {
+        long mask = ((1L << shownMode.getColumnCells()) - 1) << shift;
+        boolean object = covers(snapshot, snapshot.getPlayerX(), snapshot.getPlayerY(), x, row)
+                || covers(snapshot, snapshot.getExitX(), snapshot.getExitY(), x, row);
+        for (int line = 0; line < shownMode.getRowCells() && !object; line++) {
+            object = (items[line] & mask) != 0;
+        }
+        if (!object) {
+            return Layer.TRANSPARENT;
+        }
+        return shownMode == RenderMode.BRAILLE ? braille(snapshot, x, row, shift) : halfBlock(snapshot, x, row, shift);
+    }
+
+    // EFFECTS: returns true if the cell (mazeX, mazeY) of the maze is in the
+    // character at column x of the row of characters
+    private boolean covers(GameSnapshot snapshot, int mazeX, int mazeY, int x, int row) {
+        int column = mazeX - snapshot.getCameraX() - x * shownMode.getColumnCells();
+        int line = mazeY - snapshot.getCameraY() - row * shownMode.getRowCells();
+        return column >= 0 && column < shownMode.getColumnCells() && line >= 0 && line < shownMode.getRowCells();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the walls and the items of count cells from (x, y) and
+    // the rows below it that a character shows, a word per row
+    private void loadWords(GameSnapshot snapshot, int x, int y, int count) {
+        for (int row = 0; row < shownMode.getRowCells(); row++) {
+            boolean inside = y + row < shownHeight;
+            walls[row] = inside ? snapshot.getWallBits(x, y + row, count) : 0;
+            items[row] = inside ? snapshot.getItemBits(x, y + row, count) : 0;
+        }
+    }
+
+    // EFFECTS: returns the Braille character at column x of the row of
+    // characters, its cells start at bit shift of the loaded words. it shows
+    // the walls and the items, the exit and the player as dots in the color
+    // of the top layer among them
+    private long braille(GameSnapshot snapshot, int x, int row, int shift) {
+        int dots = BlockGlyphs.brailleDots(walls[0], walls[1], walls[2], walls[3], shift);
+        int itemDots = BlockGlyphs.brailleDots(items[0], items[1], items[2], items[3], shift);
+        int exitDot = dotAt(snapshot, snapshot.getExitX(), snapshot.getExitY(), x, row);
+        int playerDot = dotAt(snapshot, snapshot.getPlayerX(), snapshot.getPlayerY(), x, row);
+        int color = color(wallPixel);
+        if (exitDot != 0) {
+            color = color(exitPixel);
+        }
+        if (itemDots != 0) {
+            color = color(itemPixel);
+        }
+        if (playerDot != 0) {
+            color = color(playerPixel);
+        }
+        char glyph = BlockGlyphs.braille(dots | itemDots | exitDot | playerDot);
+        return PackedPixel.pack(glyph, color, BlockGlyphs.NO_COLOR, BlockGlyphs.NO_COLOR);
+    }
+
+    // EFFECTS: returns the half block at column x of the row of characters,
+    // its cells are at bit shift of the first two loaded words
+    private long halfBlock(GameSnapshot snapshot, int x, int row, int shift) {
+        return BlockGlyphs.halfBlock(topColor(snapshot, x, row * 2, walls[0], items[0], shift),
+                topColor(snapshot, x, row * 2 + 1, walls[1], items[1], shift));
+    }
+
+    // EFFECTS: returns the color of the top layer at the cell (x, y) of the
+    // snapshot, whose wall and item are at bit shift of the words, or
+    // NO_COLOR if it is an empty road
+    private int topColor(GameSnapshot snapshot, int x, int y, long wall, long item, int shift) {
+        int mazeX = snapshot.getCameraX() + x;
+        int mazeY = snapshot.getCameraY() + y;
+        if (mazeX == snapshot.getPlayerX() && mazeY == snapshot.getPlayerY()) {
+            return color(playerPixel);
+        } else if ((item >>> shift & 1) != 0) {
+            return color(itemPixel);
+        } else if (mazeX == snapshot.getExitX() && mazeY == snapshot.getExitY()) {
+            return color(exitPixel);
+        }
+        return (wall >>> shift & 1) != 0 ? color(wallPixel) : BlockGlyphs.NO_COLOR;
+    }
+
+    // EFFECTS: returns the dot of the cell (mazeX, mazeY) of the maze in the
+    // Braille character at column x of the row, or 0 if it is not in it
+    private int dotAt(GameSnapshot snapshot, int mazeX, int mazeY, int x, int row) {
+        int column = mazeX - snapshot.getCameraX() - x * 2;
+        int line = mazeY - snapshot.getCameraY() - row * 4;
+        if (column < 0 || column >= 2 || line < 0 || line >= 4) {
+            return 0;
+        }
+        return 1 << (line * 2 + column);
+    }
+
+    // EFFECTS: returns the number of pixels of the screen that show the
+    // given number of cells in the shown mode
+    private int pixels(int cells) {
+        return (cells + shownMode.getScale() - 1) / shownMode.getScale();
+    }
+
+    // EFFECTS: returns the unit that shows the column x of cells in the shown mode
+    private int unitX(int x) {
+        return shownMode == RenderMode.NORMAL ? x : x / shownMode.getColumnCells();
+    }
+
+    // EFFECTS: returns the foreground color of the pixel
+    private int color(Pixel pixel) {
+        return pixel.getAttribute().getForegroundColor();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: draws the cell of the snapshot on the layers, a bit mask of
+    // STATIC and OVERLAY: its wall or nothing on the static layer and its top
+    // object or nothing on the overlay. the snapshot starts at (1, 1) of the screen
+    private void drawCell(GameSnapshot snapshot, int cell, int layers) {
+        int x = cell % snapshot.getWidth();
+        int y = cell / snapshot.getWidth();
+        if ((layers & STATIC) != 0 && snapshot.isWall(x, y)) {
+            staticLayer.writePixel(wallPixel, x + 1, y + 1, true);
+        } else if ((layers & STATIC) != 0) {
+            staticLayer.clearRegion(x * 2 + 2, y + 1, 2, 1);
+        }
+        if ((layers & OVERLAY) == 0) {
+            return;
+        }
+        int mazeX = snapshot.getCameraX() + x;
+        int mazeY = snapshot.getCameraY() + y;
+        if (mazeX == snapshot.getPlayerX() && mazeY == snapshot.getPlayerY()) {
+            overlay.writePixel(playerPixel, x + 1, y + 1, false);
+        } else if (snapshot.isItem(cell)) {
+            overlay.writePixel(itemPixel, x + 1, y + 1, false);
+        } else if (mazeX == snapshot.getExitX() && mazeY == snapshot.getExitY()) {
+            overlay.writePixel(exitPixel, x + 1, y + 1, false);
+        } else {
+            overlay.clearRegion(x * 2 + 2, y + 1, 2, 1);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: draws the walls around a maze of the given size with the
+    // border on the static layer
+    private void drawBorder(int width, int height) {
+        for (int i = 0; i < width; i++) {
+            staticLayer.writePixel(wallPixel, i, 0, true);
+            staticLayer.writePixel(wallPixel, i, height - 1, true);
+        }
+        for (int i = 0; i < height; i++) {
+            staticLayer.writePixel(wallPixel, 0, i, true);
+            staticLayer.writePixel(wallPixel, width - 1, i, true);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package ui.console;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import model.utility.pixel.PackedPixel;
+
+// FrameEncoder builds the escape sequences of a whole frame into one reused
+// byte buffer, which is written to the output with a single call.
+// it remembers where the cursor is and which style is on, so a cell right
+// after the last one is written without moving the cursor, and a style is
+// only sent when it changes, as one SGR sequence that starts from a reset.
+// like Screen, it assumes every character takes one column.
+// a frame starts and ends with the default style.
+// it can also move a part of what is on the terminal, which then only has to
+// draw what scrolled into view: rows by a scroll region, and a run of columns
+// of a row by deleting and inserting characters, which leaves the rest of the
+// row where it was
+public class FrameEncoder {
+    public static final int INITIAL_CAPACITY = 16 * 1024;
+
+    private static final byte[] CSI = bytes("\033[");
+    private static final byte[] RESET = bytes("\033[0m");
+    private static final byte[] FOREGROUND = bytes(";38;5;");
+    private static final byte[] BACKGROUND = bytes(";48;5;");
+
+    private byte[] buffer;
+    private int size;
+    private int cursorX;
+    private int cursorY;
+    private long attribute;
+
+    // EFFECTS: constructs an encoder with an empty frame
+    public FrameEncoder() {
+        buffer = new byte[INITIAL_CAPACITY];
+        begin();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts a new empty frame, the cursor is unknown
+    public void begin() {
+        size = 0;
+        cursorX = -1;
+        cursorY = -1;
+        attribute = PackedPixel.DEFAULT_ATTRIBUTE;
+    }
+
+    // REQUIRES: x >= 1 && y >= 1
+    // MODIFIES: this
+    // EFFECTS: adds the packed pixel at the exact column x and row y,
+    // counted from 1 like the cursor of the terminal
+    public void cell(int x, int y, long pixel) {
+        if (x != cursorX || y != cursorY) {
+            moveCursor(x, y);
+        }
+        if (PackedPixel.getAttribute(pixel) != attribute) {
+            applyStyle(pixel);
+        }
+        putChar(PackedPixel.getCharacter(pixel));
+        cursorX++;
+    }
+
+    // REQUIRES: 1 <= top <= bottom && |lines| <= bottom - top
+    // MODIFIES: this
+    // EFFECTS: adds the escapes that move the whole rows from top to bottom
+    // (counted from 1) up by lines, or down if lines < 0. the rows that
+    // move in are blank, the cursor is unknown afterwards
+    public void scrollRows(int top, int bottom, int lines) {
+        resetStyle();
+        put(CSI);
+        putInt(top);
+        putByte(';');
+        putInt(bottom);
+        putByte('r');
+        put(CSI);
+        putInt(Math.abs(lines));
+        putByte(lines > 0 ? 'S' : 'T');
+        put(CSI);
+        putByte('r');
+        cursorX = -1;
+        cursorY = -1;
+    }
+
+    // REQUIRES: 1 <= left <= right && |columns| <= right - left && y >= 1
+    // MODIFIES: this
+    // EFFECTS: adds the escapes that move the columns from left to right
+    // (counted from 1) of row y left by columns, or right if columns < 0.
+    // the columns that move in are blank, the rest of the row stays
+    public void shiftColumns(int y, int left, int right, int columns) {
+        int count = Math.abs(columns);
+        resetStyle();
+        moveCursor(columns > 0 ? left : right - count + 1, y);
+        put(CSI);
+        putInt(count);
+        putByte('P');
+        moveCursor(columns > 0 ? right - count + 1 : left, y);
+        put(CSI);
+        putInt(count);
+        putByte('@');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: ends the frame with the default style
+    public void end() {
+        resetStyle();
+    }
+
+    // EFFECTS: returns the number of bytes in the frame
+    public int size() {
+        return size;
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the frame to out in one call
+    public void writeTo(PrintStream out) {
+        out.write(buffer, 0, size);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: turns the default style back on if it is not, blanks take
+    // the background of the style that is on
+    private void resetStyle() {
+        if (attribute != PackedPixel.DEFAULT_ATTRIBUTE) {
+            put(RESET);
+            attribute = PackedPixel.DEFAULT_ATTRIBUTE;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the escape that moves the cursor to (x, y)
+    private void moveCursor(int x, int y) {
+        put(CSI);
+        putInt(y);
+        putByte(';');
+        putInt(x);
+        putByte('H');
+        cursorX = x;
+        cursorY = y;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds one SGR sequence that resets the style and then turns on
+    // the parts of the attribute of the pixel that are not default
+    private void applyStyle(long pixel) {
+        attribute = PackedPixel.getAttribute(pixel);
+        int style = PackedPixel.getStyle(pixel);
+        int foreground = PackedPixel.getForeground(pixel);
+        int background = PackedPixel.getBackground(pixel);
+        put(CSI);
+        putByte('0');
+        if (style >= 0) {
+            putByte(';');
+            putInt(style);
+        }
+        if (foreground >= 0) {
+            put(FOREGROUND);
+            putInt(foreground);
+        }
+        if (background >= 0) {
+            put(BACKGROUND);
+            putInt(background);
+        }
+        putByte('m');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds c encoded in UTF-8
+    private void putChar(char c) {
+        if (c < 0x80) {
+            putByte(c);
+        } else if (c < 0x800) {
+            putByte(0xC0 | c >> 6);
+            putByte(0x80 | c & 0x3F);
+        } else {
+            putByte(0xE0 | c >> 12);
+            putByte(0x80 | c >> 6 & 0x3F);
+            putByte(0x80 | c & 0x3F);
+        }
+    }
+
+    // REQUIRES: value >= 0
+    // MODIFIES: this
+    // EFFECTS: adds the decimal digits of value
+    private void putInt(int value) {
+        if (value >= 10) {
+            putInt(value / 10);
+        }
+        putByte('0' + value % 10);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the bytes
+    private void put(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the low byte of b
+    private void putByte(int b) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) b;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: grows the buffer to fit extra more bytes
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+
+    // EFFECTS: returns s encoded in UTF-8
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
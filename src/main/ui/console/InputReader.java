@@ -0,0 +1,52 @@
+package ui.console;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadFactory;
+
+// InputReader reads the keys of a terminal on a thread of its own, a daemon
+// thread unless a thread factory is given, e.g. the one of a server session.
+// the thread blocks on the input, so it costs nothing while no key is
+// pressed, and puts every decoded key into a KeyQueue with the time it
+// was read. the queue is closed when the input ends
+public class InputReader implements Runnable {
+    private final KeyDecoder decoder;
+    private final KeyQueue queue;
+
+    // EFFECTS: constructs a reader of the decoded keys into the queue
+    public InputReader(KeyDecoder decoder, KeyQueue queue) {
+        this.decoder = decoder;
+        this.queue = queue;
+    }
+
+    // EFFECTS: starts reading on a new daemon thread
+    public void start() {
+        start(InputReader::newDaemonThread);
+    }
+
+    // EFFECTS: starts reading on a new thread of the given factory
+    public void start(ThreadFactory threads) {
+        threads.newThread(this).start();
+    }
+
+    // MODIFIES: queue
+    // EFFECTS: reads keys into the queue until the input ends or fails
+    @Override
+    public void run() {
+        try {
+            for (int key = decoder.nextKey(); key != Keys.CLOSED; key = decoder.nextKey()) {
+                queue.offer(key, System.nanoTime());
+            }
+        } catch (IOException e) {
+            // the input is gone, same as its end
+        } finally {
+            queue.close();
+        }
+    }
+
+    // EFFECTS: returns a new daemon thread that reads with the given reader
+    static Thread newDaemonThread(Runnable reader) {
+        Thread thread = new Thread(reader, "input-reader");
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,85 @@
+package ui.console;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// KeyDecoder turns the bytes of a terminal into keys. The arrow keys arrive
+// as ESC [ A to ESC [ D, or ESC O A to ESC O D, possibly with modifier
+// parameters in between, and become Keys.UP to Keys.LEFT. Other escape
+// sequences are dropped. An ESC that is not followed by anything within
+// ESCAPE_TIMEOUT_MILLIS is the escape key itself
+public class KeyDecoder {
+    public static final long ESCAPE_TIMEOUT_MILLIS = 25;
+    private static final int IGNORED = -2;
+
+    private final InputStream in;
+
+    // EFFECTS: constructs a decoder of the keys of in
+    public KeyDecoder(InputStream in) {
+        this.in = in;
+    }
+
+    // EFFECTS: waits for the next key and returns it,
+    // or Keys.CLOSED if the input has ended
+    public int nextKey() throws IOException {
+        while (true) {
+            int key = in.read();
+            if (key != Keys.ESCAPE) {
+                return key;
+            }
+            if (!waitForInput()) {
+                return Keys.ESCAPE;
+            }
+            key = readEscape();
+            if (key != IGNORED) {
+                return key;
+            }
+        }
+    }
+
+    // EFFECTS: reads the rest of an escape sequence after its ESC and returns
+    // its key, IGNORED if it is not an arrow key. an ESC followed by a plain
+    // key is that key, as alt + key is sent
+    private int readEscape() throws IOException {
+        int intro = in.read();
+        if (intro != '[' && intro != 'O') {
+            return intro;
+        }
+        int last = in.read();
+        while (last >= '0' && last <= '9' || last == ';') {
+            last = in.read();
+        }
+        switch (last) {
+            case 'A':
+                return Keys.UP;
+            case 'B':
+                return Keys.DOWN;
+            case 'C':
+                return Keys.RIGHT;
+            case 'D':
+                return Keys.LEFT;
+            case -1:
+                return Keys.CLOSED;
+            default:
+                return IGNORED;
+        }
+    }
+
+    // EFFECTS: returns true once the input has a byte ready, or false if none
+    // arrives within ESCAPE_TIMEOUT_MILLIS
+    private boolean waitForInput() throws IOException {
+        long deadline = System.nanoTime() + ESCAPE_TIMEOUT_MILLIS * 1_000_000L;
+        while (in.available() == 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
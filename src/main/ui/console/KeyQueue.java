@@ -0,0 +1,139 @@
+package ui.console;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// KeyQueue is a bounded ring buffer of key events from the thread that reads
+// the keys to the thread that handles them. every event keeps the time it was
+// read, so the handler can tell how long a key took to show up on screen.
+// when the buffer is full a new key is dropped, nobody types that far ahead
+// of the game. The handler parks on the queue until a key arrives
+public class KeyQueue {
+    private final int[] keys;
+    private final long[] times;
+    private int head;
+    private int size;
+    private boolean closed;
+    private long dropped;
+    private long lastTime;
+
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+
+    // REQUIRES: capacity > 0
+    // EFFECTS: constructs an empty queue of the given capacity
+    public KeyQueue(int capacity) {
+        keys = new int[capacity];
+        times = new long[capacity];
+        lock = new ReentrantLock();
+        notEmpty = lock.newCondition();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the key read at the given System.nanoTime() and returns
+    // true, or returns false and drops it if the queue is full or closed
+    public boolean offer(int key, long nanos) {
+        lock.lock();
+        try {
+            if (closed || size == keys.length) {
+                dropped++;
+                return false;
+            }
+            int tail = (head + size) % keys.length;
+            keys[tail] = key;
+            times[tail] = nanos;
+            size++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: waits until there is a key and removes the oldest one,
+    // or returns Keys.CLOSED once the queue is closed and empty
+    public int take() {
+        lock.lock();
+        try {
+            while (size == 0 && !closed) {
+                notEmpty.awaitUninterruptibly();
+            }
+            if (size == 0) {
+                return Keys.CLOSED;
+            }
+            int key = keys[head];
+            lastTime = times[head];
+            head = (head + 1) % keys.length;
+            size--;
+            return key;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // EFFECTS: waits up to timeoutNanos for a key and returns true if there is
+    // one to take, or the queue is closed so take() will not wait
+    public boolean await(long timeoutNanos) {
+        lock.lock();
+        try {
+            long remaining = timeoutNanos;
+            while (size == 0 && !closed && remaining > 0) {
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            return size > 0 || closed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return size > 0 || closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: no more keys are accepted, the waiting handler is woken up
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // EFFECTS: returns the number of keys waiting
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // EFFECTS: true if no key is waiting
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // EFFECTS: returns the System.nanoTime() at which the last taken key was read
+    public long getLastTime() {
+        lock.lock();
+        try {
+            return lastTime;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // EFFECTS: returns the number of keys dropped because the queue was full
+    public long getDropped() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
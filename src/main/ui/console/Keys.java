@@ -0,0 +1,17 @@
+package ui.console;
+
+// Keys are the key codes read from a terminal. a plain key is its byte,
+// the keys that arrive as escape sequences get codes above the byte range
+public class Keys {
+    public static final int CLOSED = -1;
+    public static final int CTRL_C = 3;
+    public static final int ENTER = 13;
+    public static final int ESCAPE = 27;
+    public static final int UP = 256;
+    public static final int DOWN = 257;
+    public static final int RIGHT = 258;
+    public static final int LEFT = 259;
+
+    private Keys() {
+    }
+}
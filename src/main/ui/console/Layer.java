@@ -0,0 +1,72 @@
+package ui.console;
+
+import model.utility.DirtyCells;
+import model.utility.pixel.PackedPixel;
+import model.utility.pixel.Pixel;
+
+// Layer is a buffer of PackedPixel cells the size of the Screen that made it,
+// drawn over the layers made before it. a TRANSPARENT cell shows the layer
+// below. the layer keeps what is written to it, and a cell written with a
+// new value is invalidated, so Screen.composite() only blits the cells some
+// layer changed into the screen buffer. e.g. a layer of walls drawn once per
+// level under a layer of the moving parts of a game.
+// like Screen, x counts pixels of two characters unless it is exact
+public class Layer {
+    public static final long TRANSPARENT = 0L;
+
+    private final int width;
+    private final long[] cells;
+    private final DirtyCells stale;
+
+    // EFFECTS: constructs a transparent layer of width exact columns and
+    // height rows that invalidates the cells of stale
+    Layer(int width, int height, DirtyCells stale) {
+        this.width = width;
+        this.cells = new long[width * height];
+        this.stale = stale;
+    }
+
+    // REQUIRES: x >= 0 && x < getWidth() && y >= 0 && y < getHeight() of the screen
+    // MODIFIES: this
+    // EFFECTS: writes Pixel p at the pixel (x, y), twice if wide or followed
+    // by an empty pixel otherwise, like Screen.writePixel
+    public void writePixel(Pixel p, int x, int y, boolean wide) {
+        long pixel = p.pack();
+        writePacked(pixel, x * 2, y);
+        writePacked(wide ? pixel : PackedPixel.EMPTY, x * 2 + 1, y);
+    }
+
+    // REQUIRES: x is an exact column and y a row of the screen
+    // MODIFIES: this
+    // EFFECTS: writes the PackedPixel, or TRANSPARENT, at the exact column x of row y
+    public void writePacked(long pixel, int x, int y) {
+        int index = y * width + x;
+        if (cells[index] != pixel) {
+            cells[index] = pixel;
+            stale.add(index);
+        }
+    }
+
+    // REQUIRES: the region [x, x + w) x [y, y + h) is on the screen, x is exact
+    // MODIFIES: this
+    // EFFECTS: makes every cell of the region TRANSPARENT
+    public void clearRegion(int x, int y, int w, int h) {
+        for (int row = y; row < y + h; row++) {
+            for (int column = x; column < x + w; column++) {
+                writePacked(TRANSPARENT, column, row);
+            }
+        }
+    }
+
+    // REQUIRES: the region [x, x + w) x [y, y + h) is on the screen, x is exact
+    // MODIFIES: this
+    // EFFECTS: invalidates every cell of the region, so the next composite
+    // blits it even if no layer changed it
+    public void invalidate(int x, int y, int w, int h) {
+        stale.addRegion(x, y, w, h);
+    }
+
+    long[] getCells() {
+        return cells;
+    }
+}
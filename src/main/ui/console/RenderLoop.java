@@ -0,0 +1,154 @@
+package ui.console;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import model.utility.LatencyHistogram;
+import model.utility.SnapshotExchange;
+
+// RenderLoop draws the snapshots of a SnapshotExchange on a daemon thread of
+// its own, so a slow terminal never holds up the game logic. the thread parks
+// until a new snapshot is published, so nothing is drawn while the game does
+// not change, and it draws at most maxFps frames a second. a snapshot
+// published faster than that replaces the waiting one and is dropped.
+// an inline loop starts no thread and draws every snapshot on the thread that
+// publishes it, so a server session only needs a thread for its logic
+public class RenderLoop<T> implements Runnable {
+    private final SnapshotExchange<T> exchange;
+    private final Consumer<T> renderer;
+    private final boolean inline;
+    private final long frameNanos;
+    private final LatencyHistogram frameTime;
+    private volatile boolean running;
+    private volatile Thread thread;
+    private volatile long frames;
+
+    // REQUIRES: maxFps > 0
+    // EFFECTS: constructs a stopped loop that draws the snapshots of the
+    // exchange with the renderer, at most maxFps a second
+    public RenderLoop(SnapshotExchange<T> exchange, Consumer<T> renderer, int maxFps) {
+        this(exchange, renderer, false, 1_000_000_000L / maxFps);
+    }
+
+    // EFFECTS: constructs a stopped inline loop that draws the snapshots of the
+    // exchange with the renderer on the thread that publishes them
+    public RenderLoop(SnapshotExchange<T> exchange, Consumer<T> renderer) {
+        this(exchange, renderer, true, 0);
+    }
+
+    // EFFECTS: constructs a stopped loop that waits at least frameNanos between
+    // two frames, which draws on the publishing thread if inline
+    private RenderLoop(SnapshotExchange<T> exchange, Consumer<T> renderer, boolean inline, long frameNanos) {
+        this.exchange = exchange;
+        this.renderer = renderer;
+        this.inline = inline;
+        this.frameNanos = frameNanos;
+        frameTime = new LatencyHistogram();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts drawing on a new daemon thread, or on the publishing
+    // thread if inline, does nothing if running
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        if (inline) {
+            return;
+        }
+        thread = new Thread(this, "render");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops drawing and waits until the frame being drawn is finished,
+    // does nothing if not running. the renderer is free to use after
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread current = thread;
+        if (current == null) {
+            return;
+        }
+        LockSupport.unpark(current);
+        boolean interrupted = false;
+        while (current.isAlive()) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        thread = null;
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // REQUIRES: called by the producer of the exchange
+    // MODIFIES: this
+    // EFFECTS: publishes the back buffer of the exchange and wakes up the loop,
+    // or draws it now if the loop is inline and running. returns true if it
+    // replaced a snapshot the loop never drew
+    public boolean publish() {
+        boolean dropped = exchange.publish();
+        if (inline) {
+            if (running && exchange.acquire()) {
+                draw();
+            }
+            return dropped;
+        }
+        Thread current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+        return dropped;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: draws every new snapshot until stopped, waiting at least
+    // a frame between two of them
+    @Override
+    public void run() {
+        while (running) {
+            if (!exchange.acquire()) {
+                LockSupport.park(this);
+                continue;
+            }
+            long deadline = draw() + frameNanos;
+            for (long wait = deadline - System.nanoTime(); running && wait > 0; wait = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: draws the front buffer of the exchange and returns the
+    // System.nanoTime() the frame was started at
+    private long draw() {
+        long start = System.nanoTime();
+        renderer.accept(exchange.getFront());
+        frameTime.record(System.nanoTime() - start);
+        frames++;
+        return start;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // EFFECTS: returns the number of frames drawn
+    public long getFrames() {
+        return frames;
+    }
+
+    // REQUIRES: called by the renderer or while not running
+    // EFFECTS: returns how long the frames took to draw
+    public LatencyHistogram getFrameTime() {
+        return frameTime;
+    }
+}
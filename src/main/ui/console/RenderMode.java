@@ -0,0 +1,37 @@
+package ui.console;
+
+// RenderMode is how much of the maze a character of the screen shows.
+// NORMAL draws a cell as two characters so it looks square, HALF_BLOCK
+// draws 1 x 2 cells per character and BRAILLE 2 x 4, so a pixel of the
+// Screen, two characters wide, shows getScale() x getScale() cells
+public enum RenderMode {
+    NORMAL(1),
+    HALF_BLOCK(2),
+    BRAILLE(4);
+
+    private final int scale;
+
+    RenderMode(int scale) {
+        this.scale = scale;
+    }
+
+    // EFFECTS: returns how many cells a pixel of the screen shows along x and y
+    public int getScale() {
+        return scale;
+    }
+
+    // EFFECTS: returns how many cells a character shows along x, 0 if NORMAL
+    public int getColumnCells() {
+        return scale / 2;
+    }
+
+    // EFFECTS: returns how many cells a character shows along y
+    public int getRowCells() {
+        return scale;
+    }
+
+    // EFFECTS: returns the mode after this one, the first after the last
+    public RenderMode next() {
+        return values()[(ordinal() + 1) % values().length];
+    }
+}
@@ -1,7 +1,12 @@
 package ui.console;
 
+import java.io.PrintStream;
+import java.util.Arrays;
+
 import model.utility.Coordinate;
+import model.utility.DirtyCells;
 import model.utility.menu.MessageBoxOption;
+import model.utility.pixel.PackedPixel;
 import model.utility.pixel.Pixel;
 import model.utility.pixel.TextAttribute;
 
@@ -9,53 +14,88 @@ import model.utility.pixel.TextAttribute;
 // this class represents a Screen Pixel as 2 characters to make
 // it looks like a square. So x is automatically multiplied by 2
 // assuming top right corner is (0, 0)
+// everything is printed to one output stream, System.out by default,
+// which is flushed after every render. a render is encoded by a FrameEncoder
+// and written to the stream in one call.
+// the two buffers are flat long[] of PackedPixel, row by row, so writing,
+// comparing and clearing them never touch an object.
+// the cells written with a new value are kept as DirtyCells, so
+// renderChanges() only looks at them and keeps the buffer, for a view that
+// redraws just what changed, while render() compares and clears everything.
+// scroll() moves a region of the terminal and of both buffers at once, so
+// only what scrolls into the region has to be written again.
+// a view can also draw into Layers, which keep what was drawn, and
+// composite() blits the cells they changed into the buffer, the top layer
+// that is not transparent wins
 public class Screen {
+    private static final long NOT_DRAWN = -1L;
+
     private final int width;
     private final int height;
+    private final PrintStream out;
 
-    private final Pixel[][][] buffers;
+    private final long[][] buffers;
     private int currentBuffer;
+    private final FrameEncoder encoder;
+    private final DirtyCells dirty;
+    private final DirtyCells stale;
+    private Layer[] layers;
 
     // REQUIRES: width > 0 && height > 0
     // EFFECTS: constructs an empty Screen with the given width and height
     // and it clears the terminal screen
     public Screen(int width, int height) {
+        this(width, height, System.out);
+    }
+
+    // REQUIRES: width > 0 && height > 0
+    // EFFECTS: constructs an empty Screen with the given width and height
+    // that prints to out, and it clears the terminal screen behind out
+    public Screen(int width, int height, PrintStream out) {
+        this.out = out;
         this.width = width * 2;
         this.height = height;
-        this.buffers = new Pixel[2][height][width * 2];
+        this.buffers = new long[2][height * width * 2];
         this.currentBuffer = 0;
+        Arrays.fill(buffers[0], PackedPixel.EMPTY);
+        Arrays.fill(buffers[1], NOT_DRAWN);
+        this.encoder = new FrameEncoder();
+        this.dirty = new DirtyCells(width * 2, height);
+        this.stale = new DirtyCells(width * 2, height);
+        this.layers = new Layer[0];
         clear();
     }
 
     // EFFECTS: clear all special text attribute
     public void clearAllAttribute() {
-        System.out.print("\033[0m");
+        out.print("\033[0m");
     }
 
     // EFFECTS: clears the screen and all text attribute
     // set the cursor to be visible
     public void clear() {
-        System.out.print("\033[H\033[2J");
+        out.print("\033[H\033[2J");
         setCursorVisibale();
+        out.flush();
     }
 
     // REQUIRES: coord.getX() >= 0 && coord.getX() < getWidth() &&
     // coord.getY() >= 0 && coord.getY() < getHeight() &&
     // EFFECTS: set the cursor the the given Coordinate pos
     public void setCursor(Coordinate coord) {
-        System.out.print("\033[" + coord.getY() + ";" + coord.getX() * 2 + "H");
+        out.print("\033[" + coord.getY() + ";" + coord.getX() * 2 + "H");
     }
 
     // REQUIRES: x >= 0 && x < getWidth() &&
     // y >= 0 && y < getHeight() &&
     // EFFECTS: set the cursor the the given x y
     public void setCursor(int x, int y) {
-        System.out.print("\033[" + y + ";" + x * 2 + "H");
+        out.print("\033[" + y + ";" + x * 2 + "H");
     }
 
     // EFFECTS: put the cursor back to (0, 0)
     public void resetCursor() {
-        System.out.print("\033[0;0H");
+        out.print("\033[0;0H");
     }
 
     // EFFECTS: put the current buffer to the screen
@@ -66,36 +106,123 @@ public class Screen {
     // this function has a little diff algorithm, so if it detects
     // a pixel that is not changed(deep) between two render,
     // this pixel will not be re-rendered (it will be skipped)
+    // the changed pixels are encoded into one frame and written at once
     public void render() {
-        Pixel pixel;
-        Pixel previousPixel;
-        int previousBuffer = currentBuffer ^ 1;
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                pixel = buffers[currentBuffer][i][j];
-                previousPixel = buffers[previousBuffer][i][j];
-                if (previousPixel != null && (previousPixel == pixel || previousPixel.isSame(pixel))) {
-                    continue;
-                }
-                if (pixel == null) {
-                    pixel = Pixel.EMPTY_PIXEL;
-                }
-                drawExact(pixel.getCharacter(), j + 1, i + 1, pixel.getAttribute());
+        long[] current = buffers[currentBuffer];
+        long[] previous = buffers[currentBuffer ^ 1];
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != previous[i]) {
+                encoder.cell(i % width + 1, i / width + 1, current[i]);
             }
         }
+        encoder.end();
+        encoder.writeTo(out);
+        encoder.begin();
 
         this.currentBuffer ^= 1;
         clearCurrentBuffer();
+        dirty.clear();
+        out.flush();
+    }
+
+    // EFFECTS: put the cells written with a new value since the last render to
+    // the screen, if they differ from what is on it. unlike render(), the
+    // buffer is kept, so the next frame only has to write what changed.
+    // the cost is the number of cells written with a new value
+    public void renderChanges() {
+        long[] current = buffers[currentBuffer];
+        long[] previous = buffers[currentBuffer ^ 1];
+        if (dirty.isAll()) {
+            for (int i = 0; i < current.length; i++) {
+                renderCell(current, previous, i);
+            }
+        } else {
+            for (int i = 0; i < dirty.size(); i++) {
+                renderCell(current, previous, dirty.get(i));
+            }
+        }
+        dirty.clear();
+        encoder.end();
+        encoder.writeTo(out);
+        encoder.begin();
+        out.flush();
+    }
+
+    // REQUIRES: the region [x, x + w) x [y, y + h) is on the screen &&
+    // (dx == 0 || dy == 0) && |dx| < w && |dy| < h
+    // MODIFIES: this
+    // EFFECTS: moves the region of the screen by dx cells right and dy rows
+    // down, sent with the next render. the cells that move in are empty and
+    // the rest of the screen stays. rows move as a whole on the terminal, so
+    // the cells of those rows outside the region are compared again.
+    // x and w are multiplied by 2 like writePixel
+    public void scroll(int x, int y, int w, int h, int dx, int dy) {
+        if (!dirty.isEmpty()) {
+            dirty.markAll();
+        }
+        if (!stale.isEmpty()) {
+            stale.markAll();
+        }
+        if (dy != 0) {
+            scrollRows(x * 2, y, w * 2, h, dy);
+        } else if (dx != 0) {
+            for (int row = y; row < y + h; row++) {
+                shiftRow(buffers[currentBuffer], row, x * 2, w * 2, dx * 2, PackedPixel.EMPTY);
+                shiftRow(buffers[currentBuffer ^ 1], row, x * 2, w * 2, dx * 2, PackedPixel.EMPTY);
+                for (Layer layer : layers) {
+                    shiftRow(layer.getCells(), row, x * 2, w * 2, dx * 2, Layer.TRANSPARENT);
+                }
+                encoder.shiftColumns(row + 1, x * 2 + 1, (x + w) * 2, -dx * 2);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: the next renderChanges() looks at every cell and the next
+    // composite() blits every cell of the layers, for when the screen was
+    // drawn by something else, e.g. render() or a message box
+    public void invalidate() {
+        dirty.markAll();
+        stale.markAll();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a new transparent layer over the layers made before
+    public Layer addLayer() {
+        Layer layer = new Layer(width, height, stale);
+        layers = Arrays.copyOf(layers, layers.length + 1);
+        layers[layers.length - 1] = layer;
+        return layer;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the top cell that is not transparent of the layers, or
+    // an empty one if they all are, to every cell of the buffer that a layer
+    // invalidated since the last composite. the cost is the number of those
+    // cells times the number of layers
+    public void composite() {
+        if (layers.length == 0) {
+            stale.clear();
+        } else if (stale.isAll()) {
+            for (int i = 0; i < width * height; i++) {
+                compositeCell(i);
+            }
+        } else {
+            for (int i = 0; i < stale.size(); i++) {
+                compositeCell(stale.get(i));
+            }
+        }
+        stale.clear();
     }
 
     // EFFECTS: set the cursor to be invisible
     public void setCursorInvisible() {
-        System.out.print("\033[?25l");
+        out.print("\033[?25l");
     }
 
     // EFFECTS: set the cursor to be visible
     public void setCursorVisibale() {
-        System.out.print("\033[?25h");
+        out.print("\033[?25h");
     }
 
     // EFFECTS: set the cursor to be visible/invisible by the
@@ -123,11 +250,27 @@ public class Screen {
     // If wide it will draw it twice, else an EMPTY_PIXEL will be placed
     // requires render() to render the buffer to the screen
     public void writePixel(Pixel p, int x, int y, boolean wide) {
-        buffers[currentBuffer][y][x * 2] = p;
-        if (wide) {
-            buffers[currentBuffer][y][(x * 2) + 1] = p;
-        } else {
-            buffers[currentBuffer][y][(x * 2) + 1] = Pixel.EMPTY_PIXEL;
+        long pixel = p.pack();
+        int index = y * width + x * 2;
+        put(index, pixel);
+        put(index + 1, wide ? pixel : PackedPixel.EMPTY);
+    }
+
+    // REQUIRES: x >= 0 && x < getWidth() && y >= 0 && y < getHeight()
+    // MODIFIES: this
+    // EFFECTS: writes the PackedPixel to the exact column x of row y of the buffer
+    public void writePacked(long pixel, int x, int y) {
+        put(y * width + x, pixel);
+    }
+
+    // REQUIRES: the region [x, x + w) x [y, y + h) is on the screen, x is exact
+    // MODIFIES: this
+    // EFFECTS: writes EMPTY_PIXEL to every cell of the region in the buffer
+    public void clearRegion(int x, int y, int w, int h) {
+        for (int row = y; row < y + h; row++) {
+            for (int column = x; column < x + w; column++) {
+                put(row * width + column, PackedPixel.EMPTY);
+            }
         }
     }
 
@@ -152,24 +295,24 @@ public class Screen {
     // requires render() to render the buffer to the screen
     // if exact, x position will not be multiplied by 2 (for writing actual strings)
     public void write(String s, int x, int y, TextAttribute style, boolean wide, boolean exact) {
-        Pixel pixel;
+        long attribute = PackedPixel.packAttribute(style);
+        int row = y * width;
         int confirmX = x;
         if (!exact) {
             confirmX *= 2;
         }
 
         for (int i = 0; i < s.length(); i++) {
-            pixel = new Pixel(s.charAt(i), style);
-            buffers[currentBuffer][y][confirmX + i] = pixel;
+            put(row + confirmX + i, s.charAt(i) | attribute);
         }
         if (exact) {
             return;
         }
 
         if (wide && s.length() == 1) {
-            buffers[currentBuffer][y][x * 2 + 1] = buffers[currentBuffer][y][x * 2];
+            put(row + x * 2 + 1, buffers[currentBuffer][row + x * 2]);
         } else if (s.length() == 1) {
-            buffers[currentBuffer][y][x * 2 + 1] = Pixel.EMPTY_PIXEL;
+            put(row + x * 2 + 1, PackedPixel.EMPTY);
         }
     }
 
@@ -189,15 +332,15 @@ public class Screen {
         }
 
         applyStyle(style);
-        System.out.print(s);
+        out.print(s);
         if (exact) {
             clearAllAttribute();
             return;
         }
         if (wide && s.length() == 1) {
-            System.out.print(s);
+            out.print(s);
         } else if (s.length() == 1) {
-            System.out.print(" ");
+            out.print(" ");
         }
 
         clearAllAttribute();
@@ -342,7 +485,7 @@ public class Screen {
     // EFFECTS: set the cursor to the given x y position. This position is
     // exact. Meaning x is not multiplied by 2
     private void setCursorExact(int x, int y) {
-        System.out.print("\033[" + y + ";" + x + "H");
+        out.print("\033[" + y + ";" + x + "H");
     }
 
     // REQUIRES: style != null
@@ -350,41 +493,118 @@ public class Screen {
     // text will apply the style until clearAllAttribute() is called
     private void applyStyle(TextAttribute style) {
         if (!style.isDefaultStyle()) {
-            System.out.print("\u001b[" + style.getStyle() + "m");
+            out.print("\u001b[" + style.getStyle() + "m");
         }
         if (!style.isDefaultForeground()) {
-            System.out.print("\u001b[38;5;" + style.getForegroundColor() + "m");
+            out.print("\u001b[38;5;" + style.getForegroundColor() + "m");
         }
         if (!style.isDefaultBackground()) {
-            System.out.print("\u001b[48;5;" + style.getBackgroundColor() + "m");
+            out.print("\u001b[48;5;" + style.getBackgroundColor() + "m");
         }
     }
 
-    // REQUIRES: x >= 0 && x < getWidth() -1 &&
-    // y >= 0 && y < getHeight() &&
-    // EFFECTS: immediately put c onto the screen with the given position
-    // and style. This position is exact, meaning x is not multiplied by 2
-    // and c will not be drew twice
-    private void drawExact(char c, int x, int y, TextAttribute style) {
-        setCursorExact(x, y);
+    // MODIFIES: this
+    // EFFECTS: writes the packed pixel to the cell of the buffer at index,
+    // the cell is dirty if its value changed
+    private void put(int index, long pixel) {
+        long[] buffer = buffers[currentBuffer];
+        if (buffer[index] != pixel) {
+            buffer[index] = pixel;
+            dirty.add(index);
+        }
+    }
 
-        applyStyle(style);
-        System.out.print(c);
+    // MODIFIES: this
+    // EFFECTS: moves the rows [y, y + h) down by dy on the terminal and in
+    // the buffer of what is on it, but only the exact columns [x, x + w) in
+    // the current buffer and the layers, and marks the other cells of the
+    // rows dirty
+    private void scrollRows(int x, int y, int w, int h, int dy) {
+        long[] previous = buffers[currentBuffer ^ 1];
+        int from = dy > 0 ? y : y - dy;
+        int to = dy > 0 ? y + dy : y;
+        System.arraycopy(previous, from * width, previous, to * width, (h - Math.abs(dy)) * width);
+        Arrays.fill(previous, (dy > 0 ? y : y + h + dy) * width, (dy > 0 ? y + dy : y + h) * width,
+                PackedPixel.EMPTY);
+        shiftColumns(buffers[currentBuffer], x, y, w, h, dy, PackedPixel.EMPTY);
+        for (Layer layer : layers) {
+            shiftColumns(layer.getCells(), x, y, w, h, dy, Layer.TRANSPARENT);
+        }
+        for (int row = y; row < y + h; row++) {
+            markOutside(row, x, w);
+        }
+        encoder.scrollRows(y + 1, y + h, -dy);
+    }
 
-        clearAllAttribute();
+    // MODIFIES: this
+    // EFFECTS: moves the exact columns [x, x + w) of the rows [y, y + h) of
+    // buffer down by dy, the rows that move in are filled with fill
+    private void shiftColumns(long[] buffer, int x, int y, int w, int h, int dy, long fill) {
+        for (int row = dy > 0 ? y + h - 1 : y; row >= y && row < y + h; row -= Integer.signum(dy)) {
+            int source = row - dy;
+            if (source >= y && source < y + h) {
+                System.arraycopy(buffer, source * width + x, buffer, row * width + x, w);
+            } else {
+                Arrays.fill(buffer, row * width + x, row * width + x + w, fill);
+            }
+        }
     }
 
-    // REQUIRES: buffers != null
     // MODIFIES: this
-    // EFFECTS: set all pixels in current buffer to be Pixel.EMPTY_PIXEL
-    private void clearCurrentBuffer() {
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                buffers[currentBuffer][i][j] = Pixel.EMPTY_PIXEL;
+    // EFFECTS: moves the exact columns [x, x + w) of the row of buffer right
+    // by dx, the columns that move in are filled with fill
+    private void shiftRow(long[] buffer, int row, int x, int w, int dx, long fill) {
+        int start = row * width + x;
+        if (dx > 0) {
+            System.arraycopy(buffer, start, buffer, start + dx, w - dx);
+            Arrays.fill(buffer, start, start + dx, fill);
+        } else {
+            System.arraycopy(buffer, start - dx, buffer, start, w + dx);
+            Arrays.fill(buffer, start + w + dx, start + w, fill);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the top cell at index that is not transparent of the
+    // layers to the buffer, or an empty cell if there is none
+    private void compositeCell(int index) {
+        for (int i = layers.length - 1; i >= 0; i--) {
+            long cell = layers[i].getCells()[index];
+            if (cell != Layer.TRANSPARENT) {
+                put(index, cell);
+                return;
+            }
+        }
+        put(index, PackedPixel.EMPTY);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the cells of the row outside the exact columns [x, x + w) dirty
+    private void markOutside(int row, int x, int w) {
+        for (int column = 0; column < width; column++) {
+            if (column < x || column >= x + w) {
+                dirty.add(row * width + column);
             }
         }
     }
 
+    // MODIFIES: this
+    // EFFECTS: encodes the cell at index if it differs from the screen,
+    // which then has it
+    private void renderCell(long[] current, long[] previous, int index) {
+        if (current[index] != previous[index]) {
+            encoder.cell(index % width + 1, index / width + 1, current[index]);
+            previous[index] = current[index];
+        }
+    }
+
+    // REQUIRES: buffers != null
+    // MODIFIES: this
+    // EFFECTS: set all pixels in current buffer to be PackedPixel.EMPTY
+    private void clearCurrentBuffer() {
+        Arrays.fill(buffers[currentBuffer], PackedPixel.EMPTY);
+    }
+
     // EFFECTS: return the max length of string in the strings array
     private int maxLength(String[] strings) {
         int max = 0;
@@ -1,25 +1,42 @@
 package ui.console;
 
 import java.io.IOException;
+import java.util.concurrent.ThreadFactory;
 
 // Terminal represents a terminal, it has a screen
 // and it receives key inputs
+// the local terminal reads System.in and puts the tty into raw mode,
+// a subclass can read its keys from somewhere else.
+// the keys are read by an InputReader thread into a KeyQueue,
+// so waiting for a key parks the caller instead of polling the input
 public class Terminal {
+    public static final int KEY_QUEUE_CAPACITY = 64;
+
     private Screen screen;
+    private final KeyQueue keys;
 
     // REQUIRES: width > 0 and height > 0
     // EFFECTS: creates a new terminal screen with the given width and height
     // if anything causes InterruptedException or IOException, the program terminates
     // with a status code 1;
     public Terminal(int width, int height) {
-        screen = new Screen(width, height);
-        String[] cmd = { "/bin/sh", "-c", "stty raw </dev/tty" };
-        try {
-            Runtime.getRuntime().exec(cmd).waitFor();
-        } catch (InterruptedException | IOException e) {
-            e.printStackTrace();
-            System.exit(1);
-        }
+        this(new Screen(width, height), new KeyDecoder(System.in));
+        runStty("raw");
+    }
+
+    // EFFECTS: creates a terminal of the given screen that reads the keys of
+    // the decoder on an InputReader thread, the tty is left as it is
+    protected Terminal(Screen screen, KeyDecoder decoder) {
+        this(screen, decoder, InputReader::newDaemonThread);
+    }
+
+    // EFFECTS: creates a terminal of the given screen that reads the keys of
+    // the decoder on an InputReader thread of the given factory, the tty is
+    // left as it is
+    protected Terminal(Screen screen, KeyDecoder decoder, ThreadFactory threads) {
+        this.screen = screen;
+        keys = new KeyQueue(KEY_QUEUE_CAPACITY);
+        new InputReader(decoder, keys).start(threads);
     }
 
     // EFFECTS: return true if the terminal is closed
@@ -35,13 +52,7 @@ public class Terminal {
     // if anything causes InterruptedException or IOException, the program terminates
     // with a status code 1;
     public void close() {
-        String[] cmd = new String[] { "/bin/sh", "-c", "stty sane </dev/tty" };
-        try {
-            Runtime.getRuntime().exec(cmd).waitFor();
-        } catch (InterruptedException | IOException e) {
-            e.printStackTrace();
-            System.exit(1);
-        }
+        restoreMode();
         screen.clear();
         screen = null;
     }
@@ -63,38 +74,60 @@ public class Terminal {
     }
 
     // REQUIRES: getScreen() != null
-    // EFFECTS: read a key from the terminal immediately
-    // (it does not wait for the enter), if ctrl+c is
-    // pressed, this function will end the entire program
-    // with a status code of 0
-    // if anything causes InterruptedException or IOException, the program terminates
-    // with a status code 1;
+    // EFFECTS: read a key from the terminal, waiting until one is pressed
+    // (it does not wait for the enter). the arrow keys are Keys.UP to Keys.LEFT.
+    // if ctrl+c is pressed or the input ends, hangUp() is called
     public int getKey() {
-        int key = -1;
-        try {
-            key = System.in.read();
-        } catch (IOException e) {
-            close();
-            e.printStackTrace();
-            System.exit(0);
-        }
-        if (key == 3) {
-            close();
-            System.exit(0);
+        int key = keys.take();
+        if (key == Keys.CTRL_C || key == Keys.CLOSED) {
+            hangUp();
         }
         return key;
     }
 
     // REQUIRES: getScreen() != null
-    // EFFECTS: returns true if one or more keys is down
+    // EFFECTS: returns true if one or more keys is down, or the input has
+    // ended, so getKey() returns without waiting
     public boolean isKeyDown() {
-        boolean keydown = false;
+        return keys.await(0);
+    }
+
+    // REQUIRES: getScreen() != null && timeoutNanos > 0
+    // EFFECTS: parks until a key is down or timeoutNanos have passed,
+    // returns true if a key is down
+    public boolean awaitKeyNanos(long timeoutNanos) {
+        return keys.await(timeoutNanos);
+    }
+
+    // EFFECTS: returns the System.nanoTime() at which the last key
+    // returned by getKey() was read from the input
+    public long getLastKeyNanos() {
+        return keys.getLastTime();
+    }
+
+    // EFFECTS: ends the entire program with a status code of 0
+    protected void hangUp() {
+        close();
+        System.exit(0);
+    }
+
+    // EFFECTS: puts the tty back into the normal state
+    // if anything causes InterruptedException or IOException, the program terminates
+    // with a status code 1;
+    protected void restoreMode() {
+        runStty("sane");
+    }
+
+    // EFFECTS: runs stty with the given mode on the tty of the program
+    // if anything causes InterruptedException or IOException, the program terminates
+    // with a status code 1;
+    private static void runStty(String mode) {
+        String[] cmd = { "/bin/sh", "-c", "stty " + mode + " </dev/tty" };
         try {
-            keydown = System.in.available() > 0;
-        } catch (IOException e) {
-            return false;
+            Runtime.getRuntime().exec(cmd).waitFor();
+        } catch (InterruptedException | IOException e) {
+            e.printStackTrace();
+            System.exit(1);
         }
-
-        return keydown;
     }
 }
@@ -0,0 +1,105 @@
+package ui.console;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+
+import model.utility.LatencyHistogram;
+
+// TickScheduler runs a tick at a fixed rate on the calling thread, so the
+// game logic moves by the same step however fast the machine is, and parks
+// the thread between the ticks. late ticks are caught up right away, up to
+// MAX_CATCH_UP of them; beyond that, e.g. while a message box waits for a
+// key, the late ticks are skipped and counted.
+// a game with nothing timed to happen does not need to wake every tick, the
+// scheduler can park until the next input or the next timed event instead, so
+// an idle session costs no CPU
+public class TickScheduler {
+    public static final int MAX_CATCH_UP = 5;
+
+    private final long tickNanos;
+    private final LatencyHistogram tickTime;
+    private long ticks;
+    private long skipped;
+    private long idleParks;
+
+    // REQUIRES: ticksPerSecond > 0
+    // EFFECTS: constructs a scheduler of ticksPerSecond ticks a second
+    public TickScheduler(int ticksPerSecond) {
+        tickNanos = 1_000_000_000L / ticksPerSecond;
+        tickTime = new LatencyHistogram();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs tick once every tick until done is true,
+    // done is checked before every tick
+    public void run(BooleanSupplier done, Runnable tick) {
+        run(done, tick, () -> 1, timeout -> false);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs tick like run(done, tick), but after a tick, if the next
+    // timed event is more than one tick away, idleTicks.getAsLong() ticks or
+    // Long.MAX_VALUE for none, the thread parks in awaitInput for up to
+    // the time of the ticks before it. the next tick runs as soon as
+    // awaitInput returns, the ticks parked through are neither run nor skipped
+    public void run(BooleanSupplier done, Runnable tick, LongSupplier idleTicks, LongPredicate awaitInput) {
+        long next = System.nanoTime();
+        while (!done.getAsBoolean()) {
+            long now = System.nanoTime();
+            if (now < next) {
+                LockSupport.parkNanos(this, next - now);
+                continue;
+            }
+            long late = (now - next) / tickNanos;
+            if (late > MAX_CATCH_UP) {
+                skipped += late;
+                next += late * tickNanos;
+            }
+            tick.run();
+            tickTime.record(System.nanoTime() - now);
+            ticks++;
+            next += tickNanos;
+            long idle = idleTicks.getAsLong();
+            if (idle > 1 && !done.getAsBoolean()) {
+                next = awaitIdle(idle, awaitInput);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: parks in awaitInput for up to the time of the idle ticks but
+    // the last, or for as long as it takes if idle is Long.MAX_VALUE, and
+    // returns the time after it, when the next tick is due
+    private long awaitIdle(long idle, LongPredicate awaitInput) {
+        idleParks++;
+        awaitInput.test(idle == Long.MAX_VALUE ? Long.MAX_VALUE : (idle - 1) * tickNanos);
+        return System.nanoTime();
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    // EFFECTS: returns the number of ticks run
+    public long getTicks() {
+        return ticks;
+    }
+
+    // EFFECTS: returns the number of ticks skipped because they were too late
+    public long getSkipped() {
+        return skipped;
+    }
+
+    // EFFECTS: returns the number of times the thread parked for input
+    // because nothing was timed to happen within a tick
+    public long getIdleParks() {
+        return idleParks;
+    }
+
+    // EFFECTS: returns how long the ticks took to run
+    public LatencyHistogram getTickTime() {
+        return tickTime;
+    }
+}
@@ -0,0 +1,127 @@
+package ui.console;
+
+// Viewport is the camera over a maze that may be larger than the part of the
+// terminal that shows it. it is a window of at most width x height cells of
+// the maze with its top left corner at (getX(), getY()), it never leaves the
+// maze and is smaller only if the maze is. it follows a target, e.g. the
+// player, and only moves when the target comes closer than the margin to
+// its edge, so a step near the edge moves it by one cell.
+// at a scale, every size is that many times larger and the viewport moves
+// that many cells at once, unless it stops at the edge of the maze, so a
+// view that draws several cells per pixel can still scroll whole pixels
+public class Viewport {
+    private final int maxWidth;
+    private final int maxHeight;
+    private final int margin;
+    private int scale;
+
+    private int mazeWidth;
+    private int mazeHeight;
+    private int width;
+    private int height;
+    private int x;
+    private int y;
+
+    // REQUIRES: maxWidth > 0 && maxHeight > 0 && margin >= 0
+    // EFFECTS: constructs a viewport that shows at most maxWidth x maxHeight
+    // cells and keeps the target margin cells away from its edges at scale 1,
+    // it has to be reset to a maze before it is used
+    public Viewport(int maxWidth, int maxHeight, int margin) {
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+        this.margin = margin;
+        scale = 1;
+    }
+
+    // REQUIRES: scale >= 1
+    // MODIFIES: this
+    // EFFECTS: sets the scale, which takes effect at the next reset
+    public void setScale(int scale) {
+        this.scale = scale;
+    }
+
+    // REQUIRES: mazeWidth > 0 && mazeHeight > 0
+    // MODIFIES: this
+    // EFFECTS: puts the viewport over a maze of the given size at its top left corner
+    public void reset(int mazeWidth, int mazeHeight) {
+        this.mazeWidth = mazeWidth;
+        this.mazeHeight = mazeHeight;
+        width = Math.min(maxWidth * scale, mazeWidth);
+        height = Math.min(maxHeight * scale, mazeHeight);
+        x = 0;
+        y = 0;
+    }
+
+    // REQUIRES: (targetX, targetY) is within the maze
+    // MODIFIES: this
+    // EFFECTS: moves the viewport as little as needed, in steps of scale
+    // cells, to keep the target at least margin cells from its edges, or
+    // centers it on the target if the target is off the viewport, and
+    // returns true if it moved
+    public boolean follow(int targetX, int targetY) {
+        int oldX = x;
+        int oldY = y;
+        x = clamp(step(x, follow(x, targetX, width)), mazeWidth - width);
+        y = clamp(step(y, follow(y, targetY, height)), mazeHeight - height);
+        return x != oldX || y != oldY;
+    }
+
+    // REQUIRES: the viewport was reset
+    // EFFECTS: true if the cell (cellX, cellY) of the maze is on the viewport
+    public boolean contains(int cellX, int cellY) {
+        return cellX >= x && cellX < x + width && cellY >= y && cellY < y + height;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getMazeWidth() {
+        return mazeWidth;
+    }
+
+    public int getMazeHeight() {
+        return mazeHeight;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    // EFFECTS: returns the start of the viewport along one axis after following target
+    private int follow(int start, int target, int size) {
+        int near = Math.min(margin * scale, (size - 1) / 2);
+        if (target < start || target >= start + size) {
+            return target - size / 2;
+        } else if (target < start + near) {
+            return target - near;
+        } else if (target >= start + size - near) {
+            return target + near - size + 1;
+        }
+        return start;
+    }
+
+    // EFFECTS: returns the start moved from start towards next in whole steps
+    // of scale cells, at least as far as next
+    private int step(int start, int next) {
+        int distance = (Math.abs(next - start) + scale - 1) / scale * scale;
+        return next < start ? start - distance : start + distance;
+    }
+
+    // EFFECTS: returns start clamped into [0, max]
+    private int clamp(int start, int max) {
+        return Math.max(0, Math.min(start, max));
+    }
+}
@@ -1,6 +0,0 @@
-package ui.exceptions;
-
-// an exception if the bag is full
-public class BagIsFullException extends Exception{
-
-}
@@ -0,0 +1,7 @@
+package ui.exceptions;
+
+// an exception if the player of a remote session has left,
+// it unwinds the app of that session
+public class SessionClosedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,149 @@
+package ui.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ui.ConsoleApp;
+import ui.exceptions.SessionClosedException;
+
+// GameServer hosts many players in one JVM. It accepts telnet-style TCP
+// connections on localhost and runs a ConsoleApp of its own for each one,
+// with a Game, a Screen printing to the connection and a RemoteTerminal
+// reading from it. every session runs on a thread from the thread factory,
+// by default a daemon thread with a small stack that parks while its
+// player is idle. the session draws its frames on that thread, and the
+// thread that reads the keys of the connection comes from the same factory.
+// At most getMaxSessions() sessions run at once, a connection over the
+// limit is told so and closed
+public class GameServer {
+    public static final int DEFAULT_PORT = 2323;
+    public static final int DEFAULT_MAX_SESSIONS = 10000;
+    public static final long SESSION_STACK_SIZE = 256 * 1024;
+    private static final int BACKLOG = 1024;
+
+    private final ServerSocket server;
+    private final ThreadFactory sessionThreads;
+    private final Semaphore slots;
+    private final int maxSessions;
+    private final AtomicInteger sessions;
+    private final AtomicInteger accepted;
+
+    // REQUIRES: port >= 0 && maxSessions > 0
+    // EFFECTS: binds a server to the port on the loopback address, port 0 picks
+    // a free port. the sessions run on daemon threads with SESSION_STACK_SIZE stacks
+    public GameServer(int port, int maxSessions) throws IOException {
+        this(port, maxSessions, task -> {
+            Thread thread = new Thread(null, task, "game-session", SESSION_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // REQUIRES: port >= 0 && maxSessions > 0
+    // EFFECTS: binds a server to the port on the loopback address whose
+    // sessions run on threads of the given factory
+    public GameServer(int port, int maxSessions, ThreadFactory sessionThreads) throws IOException {
+        this.server = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        this.sessionThreads = sessionThreads;
+        this.maxSessions = maxSessions;
+        this.slots = new Semaphore(maxSessions);
+        this.sessions = new AtomicInteger();
+        this.accepted = new AtomicInteger();
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    // EFFECTS: returns the number of sessions that are running
+    public int getNumOfSessions() {
+        return sessions.get();
+    }
+
+    // EFFECTS: returns the number of connections accepted so far,
+    // including the ones turned away
+    public int getNumOfAccepted() {
+        return accepted.get();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: accepts connections on a daemon thread until close() is called
+    public void start() {
+        Thread acceptor = new Thread(this::run, "game-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: accepts connections on this thread until close() is called
+    // and starts a session for every one of them
+    public void run() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                accepted.incrementAndGet();
+                if (slots.tryAcquire()) {
+                    sessionThreads.newThread(() -> serve(socket)).start();
+                } else {
+                    reject(socket);
+                }
+            } catch (IOException e) {
+                continue;
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops accepting connections, the running sessions go on
+    // until their players leave
+    public void close() throws IOException {
+        server.close();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs a ConsoleApp that draws on this thread on the connection
+    // until the player quits or leaves, then closes the connection and frees its slot
+    private void serve(Socket socket) {
+        sessions.incrementAndGet();
+        try {
+            socket.setTcpNoDelay(true);
+            RemoteTerminal terminal = new RemoteTerminal(ConsoleApp.WIDTH + ConsoleApp.INFO_PANNEL_WIDTH,
+                    ConsoleApp.HEIGHT, socket, sessionThreads);
+            new ConsoleApp(terminal, false, false).start();
+        } catch (IOException | SessionClosedException e) {
+            // the player has left
+        } finally {
+            closeQuietly(socket);
+            sessions.decrementAndGet();
+            slots.release();
+        }
+    }
+
+    // EFFECTS: tells the client that the server is full and closes the connection
+    private void reject(Socket socket) {
+        try {
+            socket.getOutputStream().write("The server is full, try again later\r\n".getBytes("UTF-8"));
+        } catch (IOException e) {
+            // the client is gone already
+        }
+        closeQuietly(socket);
+    }
+
+    // EFFECTS: closes the socket, ignoring any error
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // nothing left to do
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package ui.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.util.concurrent.ThreadFactory;
+
+import ui.console.KeyDecoder;
+import ui.console.Screen;
+import ui.console.Terminal;
+import ui.exceptions.SessionClosedException;
+
+// RemoteTerminal is the terminal of one telnet-style connection.
+// its screen prints to the buffered output of the connection, and its keys
+// are decoded from the connection with the telnet commands taken out.
+// like the local terminal, an InputReader thread blocks in the read of the
+// socket, so the game can tick without polling it and still finds out at
+// once when the connection is closed. that thread comes from the thread
+// factory of the server, like the thread of the session. When the player leaves or presses
+// ctrl+c, SessionClosedException is thrown to end the session
+public class RemoteTerminal extends Terminal {
+    public static final int INPUT_BUFFER_SIZE = 64;
+    public static final int OUTPUT_BUFFER_SIZE = 8192;
+    private static final int ECHO = 1;
+    private static final int SUPPRESS_GO_AHEAD = 3;
+
+    // REQUIRES: width > 0 and height > 0
+    // EFFECTS: creates a terminal of the given size on the connection that
+    // reads its keys on a thread of the given factory, and asks the client to
+    // stop echoing and buffering lines
+    public RemoteTerminal(int width, int height, Socket socket, ThreadFactory threads) throws IOException {
+        super(new Screen(width, height, new PrintStream(new BufferedOutputStream(socket.getOutputStream(),
+                OUTPUT_BUFFER_SIZE), false, "UTF-8")),
+                new KeyDecoder(new TelnetInputStream(new BufferedInputStream(socket.getInputStream(),
+                        INPUT_BUFFER_SIZE))), threads);
+        negotiate(socket.getOutputStream());
+    }
+
+    // EFFECTS: throws SessionClosedException, the connection is closed or
+    // ctrl+c is pressed
+    @Override
+    protected void hangUp() {
+        throw new SessionClosedException();
+    }
+
+    // EFFECTS: does nothing, the tty of the server is never changed
+    @Override
+    protected void restoreMode() {
+    }
+
+    // EFFECTS: tells the client that the server echoes and does not send
+    // go-aheads, which puts a telnet client into character mode
+    private static void negotiate(OutputStream out) throws IOException {
+        int iac = TelnetInputStream.IAC;
+        int will = TelnetInputStream.WILL;
+        out.write(new byte[] {(byte) iac, (byte) will, ECHO, (byte) iac, (byte) will, SUPPRESS_GO_AHEAD});
+        out.flush();
+    }
+}
@@ -0,0 +1,95 @@
+package ui.server;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// TelnetInputStream takes the telnet commands out of the input of a
+// connection, along with the NUL or LF that a telnet client sends after
+// the CR of enter, so only the keys the player typed are left. an escaped
+// IAC IAC is the data byte 255
+public class TelnetInputStream extends FilterInputStream {
+    static final int IAC = 255;
+    static final int WILL = 251;
+    static final int DO = 253;
+    static final int DONT = 254;
+    static final int SB = 250;
+    static final int SE = 240;
+    private static final int COMMAND = -2;
+
+    private int previous;
+
+    // EFFECTS: constructs a stream of the keys in the telnet input in
+    public TelnetInputStream(InputStream in) {
+        super(in);
+        previous = -1;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the next byte that is a key, or -1 at the end of the input
+    @Override
+    public int read() throws IOException {
+        while (true) {
+            int key = in.read();
+            if (key == IAC) {
+                key = readCommand();
+            }
+            if (key == COMMAND) {
+                continue;
+            }
+            boolean folded = previous == '\r' && (key == 0 || key == '\n');
+            previous = key;
+            if (!folded) {
+                return key;
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads one key into buffer[offset], a player types one key at a time
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        int key = read();
+        if (key == -1) {
+            return -1;
+        }
+        buffer[offset] = (byte) key;
+        return 1;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the rest of a telnet command after its IAC, with its
+    // option or its whole subnegotiation. returns IAC if it is an escaped
+    // data byte, -1 if the input ends in it, or COMMAND otherwise
+    private int readCommand() throws IOException {
+        int command = in.read();
+        if (command == IAC || command == -1) {
+            return command;
+        } else if (command >= WILL && command <= DONT) {
+            return in.read() == -1 ? -1 : COMMAND;
+        } else if (command == SB) {
+            return skipSubnegotiation();
+        }
+        return COMMAND;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: skips a subnegotiation up to its IAC SE, an IAC IAC in it is
+    // an escaped data byte. returns -1 if the input ends in it, or COMMAND
+    private int skipSubnegotiation() throws IOException {
+        for (int b = in.read(); b != -1; b = in.read()) {
+            if (b == IAC) {
+                b = in.read();
+                if (b == SE) {
+                    return COMMAND;
+                } else if (b == -1) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+}
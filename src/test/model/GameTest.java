@@ -3,16 +3,34 @@ package model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
+import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import model.command.Command;
+import model.command.CommandLog;
+import model.item.Hint;
 import model.item.Item;
+import model.item.ItemType;
+import model.item.Spotlight;
+import model.maze.FieldOfView;
+import model.maze.GeneratorType;
+import model.player.Player;
 import model.utility.Coordinate;
+import model.utility.Direction;
+import model.utility.DirtyCells;
+import model.utility.IntList;
 
 public class GameTest extends TestHelpers {
 
@@ -83,6 +101,304 @@ public class GameTest extends TestHelpers {
         assertEquals(copyList.size() - 1, game.getNumOfItems());
     }
 
+    @Test
+    public void generatorTypeTest() {
+        assertEquals(GeneratorType.PRIM, game.getGeneratorType());
+        game = new Game(20, 20, GeneratorType.KRUSKAL);
+        assertEquals(GeneratorType.KRUSKAL, game.getMaze().getGeneratorType());
+
+        game.setGeneratorType(GeneratorType.ELLER);
+        game.nextLevel(true);
+        assertEquals(GeneratorType.ELLER, game.getGeneratorType());
+        assertEquals(GeneratorType.ELLER, game.getMaze().getGeneratorType());
+    }
+
+    @Test
+    public void seedTest() {
+        Game a = new Game(20, 20, GeneratorType.BACKTRACKER, 99L);
+        Game b = new Game(20, 20, GeneratorType.BACKTRACKER, 99L);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, a.getLevel());
+            assertEquals(99L, a.getSeed());
+            assertTrue(isSameMaze(a.getMaze(), b.getMaze()));
+            assertSameItems(a, b);
+            a.nextLevel(false);
+            b.nextLevel(true);
+        }
+    }
+
+    @Test
+    public void loadLevelTest() {
+        Game a = new Game(20, 20, GeneratorType.PRIM, 5L);
+        a.nextLevel(true);
+        a.nextLevel(true);
+        Game b = new Game(20, 20, GeneratorType.PRIM, 5L);
+        b.loadLevel(2);
+        assertEquals(2, b.getLevel());
+        assertTrue(isSameMaze(a.getMaze(), b.getMaze()));
+        assertSameItems(a, b);
+        assertTrue(b.getPlayer().getPosition().isSame(b.getMaze().getStart()));
+    }
+
+    @Test
+    public void pipelineTest() {
+        Game a = new Game(20, 20, GeneratorType.WILSON, 8L);
+        Game b = new Game(20, 20, GeneratorType.WILSON, 8L);
+        assertNull(a.getPipeline());
+        a.startPipeline(2);
+        assertEquals(2, a.getPipeline().getNumOfQueued());
+        for (int i = 0; i < 5; i++) {
+            a.nextLevel(true);
+            b.nextLevel(true);
+            assertTrue(isSameMaze(a.getMaze(), b.getMaze()));
+            assertSameItems(a, b);
+        }
+        assertEquals(5, a.getPipeline().getHits());
+
+        a.loadLevel(1);
+        a.nextLevel(true);
+        assertEquals(2, a.getLevel());
+        assertEquals(6, a.getPipeline().getHits());
+        a.stopPipeline();
+        assertNull(a.getPipeline());
+        a.nextLevel(true);
+        assertEquals(3, a.getLevel());
+    }
+
+    @Test
+    public void exitDistanceTest() {
+        Coordinate exit = game.getMaze().getExit();
+        int steps = 0;
+        while (!game.isEnded()) {
+            Direction next = game.getNextStepToExit();
+            int distance = game.getDistanceToExit();
+            game.getPlayer().getPosition().go(next, 1);
+            assertEquals(distance - 1, game.getDistanceToExit());
+            steps++;
+        }
+        assertTrue(game.getPlayer().getPosition().isSame(exit));
+        assertEquals(0, game.getDistanceToExit());
+        assertNull(game.getNextStepToExit());
+        assertTrue(steps > 0);
+
+        game.getMaze().setExit(game.getMaze().getStart());
+        assertEquals(game.getMaze().getStart().getY() * 18 + game.getMaze().getStart().getX(),
+                game.getExitDistances().getTarget());
+    }
+
+    @Test
+    public void itemAreaQueryTest() {
+        IntList out = new IntList();
+        assertEquals(game.getNumOfItems(), game.getItemsInRect(0, 0, 18, 18, out));
+
+        game.removeAllItemsOnMap();
+        out.clear();
+        assertEquals(0, game.getItemsInRect(0, 0, 18, 18, out));
+
+        game.setItem(new Coordinate(4, 6), new Hint());
+        game.setItem(new Coordinate(4, 6), new Hint());
+        game.setItem(new Coordinate(10, 10), new Hint());
+        assertEquals(1, game.getItemsInRect(0, 0, 8, 8, out));
+        assertEquals(6 * 18 + 4, out.get(0));
+        assertEquals(2, game.getItemsWithinRadius(7, 8, 5, out));
+        assertEquals(0, game.getItemsWithinRadius(0, 0, 3, out));
+
+        game.removeItem(new Coordinate(4, 6));
+        out.clear();
+        assertEquals(1, game.getItemsInRect(0, 0, 18, 18, out));
+        assertEquals(10 * 18 + 10, out.get(0));
+    }
+
+    @Test
+    public void executeTest() {
+        Coordinate pos = game.getPlayer().getPosition();
+        Direction next = game.getNextStepToExit();
+        Coordinate ahead = new Coordinate(pos.getX(), pos.getY());
+        ahead.go(next, 1);
+        game.removeAllItemsOnMap();
+        game.setItem(ahead, new Hint());
+        assertFalse(game.execute(Command.pickUp()));
+        assertFalse(game.execute(Command.apply(0)));
+        assertFalse(game.execute(Command.exit()));
+        assertEquals(0, game.getLog().size());
+
+        while (!pos.isSame(ahead)) {
+            assertTrue(game.execute(Command.move(next)));
+        }
+        assertTrue(game.execute(Command.pickUp()));
+        assertEquals("You got a Hint", game.getGameMessage());
+        assertFalse(game.isItem(ahead));
+        assertTrue(game.execute(Command.apply(0)));
+        assertEquals(0, game.getPlayer().getInventory().getInventorySize());
+        assertTrue(game.getGameMessage().startsWith("Go "));
+
+        game.getPlayer().setPosition(game.getMaze().getExit());
+        int commands = game.getLog().size();
+        assertTrue(game.execute(Command.exit()));
+        assertEquals(1, game.getLevel());
+        assertEquals(1, game.getPlayer().getSolved());
+        assertEquals(commands + 1, game.getLog().size());
+        assertEquals(Command.exit(), game.getLog().get(commands));
+    }
+
+    @Test
+    public void executeBlockedTest() {
+        Coordinate pos = game.getPlayer().getPosition();
+        for (Direction dir : Direction.values()) {
+            Coordinate to = new Coordinate(pos.getX(), pos.getY());
+            to.go(dir, 1);
+            if (!game.getMaze().isInRange(to) || game.getMaze().isWall(to)) {
+                game.getPlayer().setDirection(dir);
+                assertFalse(game.execute(Command.move(dir)));
+            }
+        }
+        assertTrue(pos.isSame(game.getMaze().getStart()));
+        assertEquals(0, game.getLog().size());
+
+        for (int i = 0; i < Player.TERMINAL_GUI_NUM_RESTRICT; i++) {
+            game.getPlayer().getInventory().addItem(new Hint());
+        }
+        game.setItem(pos, new Hint());
+        assertTrue(game.execute(Command.pickUp()));
+        assertEquals("Your bag is full...", game.getGameMessage());
+        assertTrue(game.isItem(pos));
+    }
+
+    @Test
+    public void replayTest() {
+        game = new Game(20, 20, GeneratorType.PRIM, 5L);
+        playRandomly(game, 3L, 800);
+        CommandLog log = game.getLog();
+        assertTrue(game.getLevel() > 0);
+        assertTrue(log.size() > Game.CHECKPOINT_INTERVAL);
+        assertEquals(log.size() / Game.CHECKPOINT_INTERVAL, log.getNumOfCheckpoints());
+
+        Game replayed = Game.replay(20, 20, GeneratorType.PRIM, 5L, Game.ITEM_TYPES, log);
+        assertEquals(game.toCompactJson().toString(), replayed.toCompactJson().toString());
+        assertEquals(log.size(), replayed.getLog().size());
+        assertEquals(log.getLastCheckpoint().toString(), replayed.getLog().getLastCheckpoint().toString());
+    }
+
+    @Test
+    public void replayItemTypesTest() {
+        int legacy = ItemType.SPOTLIGHT.ordinal();
+        game = new Game(20, 20, GeneratorType.PRIM, 5L, legacy);
+        playRandomly(game, 3L, 800);
+
+        Game replayed = Game.replay(20, 20, GeneratorType.PRIM, 5L, legacy, game.getLog());
+        assertEquals(legacy, replayed.getItemTypes());
+        assertEquals(game.toCompactJson().toString(), replayed.toCompactJson().toString());
+    }
+
+    @Test
+    public void takeChangesTest() {
+        DirtyCells changes = new DirtyCells(18, 18);
+        game.takeChanges(changes);
+        assertTrue(changes.isAll());
+
+        changes.clear();
+        game.takeChanges(changes);
+        assertTrue(changes.isEmpty());
+
+        Coordinate pos = game.getPlayer().getPosition();
+        int from = pos.getY() * 18 + pos.getX();
+        int items = game.getNumOfItems();
+        game.removeAllItemsOnMap();
+        game.takeChanges(changes);
+        assertEquals(items, changes.size());
+        changes.clear();
+        while (pos.getY() * 18 + pos.getX() == from) {
+            assertTrue(game.execute(Command.move(game.getNextStepToExit())));
+        }
+        game.setItem(new Coordinate(0, 1), new Hint());
+        game.getMaze().applyEdit(4, 4, 2, 1, false);
+        game.takeChanges(changes);
+        int[] expected = {from, pos.getY() * 18 + pos.getX(), 18, 4 * 18 + 4, 4 * 18 + 5};
+        Set<Integer> distinct = new HashSet<>();
+        for (int cell : expected) {
+            assertTrue(changes.contains(cell));
+            distinct.add(cell);
+        }
+        assertEquals(distinct.size(), changes.size());
+
+        changes.clear();
+        game.nextLevel(true);
+        game.takeChanges(changes);
+        assertTrue(changes.isAll());
+    }
+
+    @Test
+    public void takeLayerChangesTest() {
+        DirtyCells walls = new DirtyCells(18, 18);
+        DirtyCells objects = new DirtyCells(18, 18);
+        game.takeChanges(walls, objects);
+        assertTrue(walls.isAll());
+        assertTrue(objects.isAll());
+
+        walls.clear();
+        objects.clear();
+        game.getMaze().applyEdit(4, 4, 2, 1, false);
+        game.setItem(new Coordinate(0, 1), new Hint());
+        game.takeChanges(walls, objects);
+        assertEquals(2, walls.size());
+        assertTrue(walls.contains(4 * 18 + 4));
+        assertTrue(walls.contains(4 * 18 + 5));
+        assertEquals(1, objects.size());
+        assertTrue(objects.contains(18));
+
+        walls.clear();
+        objects.clear();
+        game.takeChanges(walls, objects);
+        assertTrue(walls.isEmpty());
+        assertTrue(objects.isEmpty());
+    }
+
+    @Test
+    public void fieldOfViewTest() {
+        FieldOfView view = game.getFieldOfView();
+        Coordinate pos = game.getPlayer().getPosition();
+        assertSame(game.getMaze(), view.getMaze());
+        assertTrue(view.isVisible(pos.getX(), pos.getY()));
+        assertSame(view, game.getFieldOfView());
+        int explored = view.getExplored().count();
+
+        DirtyCells walls = new DirtyCells(18, 18);
+        DirtyCells objects = new DirtyCells(18, 18);
+        game.takeChanges(walls, objects);
+        walls.clear();
+        new Spotlight(16, 5).apply(game);
+        game.takeChanges(walls, objects);
+        assertEquals(view.getExplored().count() - explored, walls.size());
+        assertTrue(walls.size() > 0);
+
+        game.nextLevel(true);
+        assertSame(game.getMaze(), game.getFieldOfView().getMaze());
+        assertNotSame(view, game.getFieldOfView());
+    }
+
+    @Test
+    public void toJsonTest() {
+        DirtyCells walls = new DirtyCells(18, 18);
+        DirtyCells objects = new DirtyCells(18, 18);
+        game.takeChanges(walls, objects);
+        walls.clear();
+        objects.clear();
+
+        JSONObject json = game.toJson();
+        assertEquals(new HashSet<>(Arrays.asList("gameMessage", "generatorType", "seed", "level", "itemTypes", "maze",
+                "player", "width", "height", "items")), json.keySet());
+        game.takeChanges(walls, objects);
+        assertTrue(walls.isEmpty());
+        assertTrue(objects.isEmpty());
+    }
+
+    private void assertSameItems(Game a, Game b) {
+        assertEquals(a.getNumOfItems(), b.getNumOfItems());
+        for (Map.Entry<Coordinate, Item> entry : a.getItemEntrySet()) {
+            assertEquals(entry.getValue().getDisplayName(), b.getItem(entry.getKey()).getDisplayName());
+        }
+    }
+
     private void assertNextLevelSkip() {
         makeCopyOfGame();
         game.nextLevel(true);
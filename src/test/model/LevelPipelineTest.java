@@ -0,0 +1,73 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.maze.GeneratorType;
+
+public class LevelPipelineTest extends TestHelpers {
+    private LevelPipeline pipeline;
+
+    @BeforeEach
+    public void setup() {
+        pipeline = new LevelPipeline(3L, 30, 30, 3);
+    }
+
+    @AfterEach
+    public void teardown() {
+        pipeline.close();
+    }
+
+    @Test
+    public void prefetchTest() {
+        assertEquals(3, pipeline.getDepth());
+        assertEquals(0, pipeline.getNumOfQueued());
+        pipeline.prefetch(1, GeneratorType.PRIM);
+        assertEquals(3, pipeline.getNumOfQueued());
+        assertTrue(pipeline.getNumOfReady() <= 3);
+    }
+
+    @Test
+    public void takeQueuedTest() {
+        pipeline.prefetch(1, GeneratorType.PRIM);
+        for (int i = 1; i <= 5; i++) {
+            Level level = pipeline.take(i, GeneratorType.PRIM);
+            assertEquals(i, level.getNumber());
+            assertTrue(isSameMaze(new Level(3L, i, 30, 30, GeneratorType.PRIM).getMaze(), level.getMaze()));
+            assertEquals(3, pipeline.getNumOfQueued());
+        }
+        assertEquals(5, pipeline.getHits());
+        assertEquals(0, pipeline.getFallbacks());
+        assertTrue(pipeline.getTotalWaitNanos() >= pipeline.getLastWaitNanos());
+    }
+
+    @Test
+    public void takeSkipsAheadTest() {
+        pipeline.prefetch(1, GeneratorType.PRIM);
+        assertEquals(3, pipeline.take(3, GeneratorType.PRIM).getNumber());
+        assertEquals(1, pipeline.getHits());
+        assertEquals(4, pipeline.take(4, GeneratorType.PRIM).getNumber());
+        assertEquals(2, pipeline.getHits());
+    }
+
+    @Test
+    public void takeMissTest() {
+        Level level = pipeline.take(1, GeneratorType.PRIM);
+        assertEquals(1, pipeline.getFallbacks());
+        assertEquals(GeneratorType.PRIM, level.getGeneratorType());
+
+        level = pipeline.take(1, GeneratorType.PRIM);
+        assertEquals(2, pipeline.getFallbacks());
+
+        level = pipeline.take(3, GeneratorType.ELLER);
+        assertEquals(3, pipeline.getFallbacks());
+        assertSame(GeneratorType.ELLER, level.getMaze().getGeneratorType());
+        assertEquals(4, pipeline.take(4, GeneratorType.ELLER).getNumber());
+        assertEquals(1, pipeline.getHits());
+    }
+}
@@ -0,0 +1,36 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import model.item.ItemIndex;
+import model.item.ItemType;
+import model.maze.GeneratorType;
+
+public class LevelTest {
+
+    @Test
+    public void legacyItemTypesTest() {
+        // the items this seed placed before spotlights were added
+        int[] cells = {68, 74, 79, 124, 160, 165, 173, 236};
+        ItemType[] types = {ItemType.HINT, ItemType.BREAKER, ItemType.SKIP, ItemType.COIN,
+                ItemType.COIN, ItemType.SKIP, ItemType.HINT, ItemType.HINT};
+        ItemIndex items = new Level(7L, 0, 16, 16, GeneratorType.PRIM, ItemType.SPOTLIGHT.ordinal()).getItems();
+        assertEquals(cells.length, items.size());
+        for (int i = 0; i < cells.length; i++) {
+            assertEquals(types[i], items.get(cells[i]).getType());
+        }
+    }
+
+    @Test
+    public void itemTypesTest() {
+        Level level = new Level(7L, 0, 40, 40, GeneratorType.PRIM, 1);
+        ItemIndex items = level.getItems();
+        for (int slot = 0; slot < items.size(); slot++) {
+            assertEquals(ItemType.COIN, items.getItem(slot).getType());
+        }
+        ItemIndex all = new Level(7L, 0, 40, 40, GeneratorType.PRIM).getItems();
+        assertEquals(items.size(), all.size());
+    }
+}
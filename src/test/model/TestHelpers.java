@@ -4,11 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 
+import model.command.Command;
 import model.item.Item;
 import model.maze.Maze;
 import model.utility.Coordinate;
@@ -33,6 +36,25 @@ public class TestHelpers {
     protected Coordinate savePlayerPos;
     protected Direction savePlayerDir;
 
+    // MODIFIES: game
+    // EFFECTS: plays count random turns on the game. the moves mostly follow the
+    // way to the exit, so items are picked up and applied and levels are passed
+    protected void playRandomly(Game game, long seed, int count) {
+        Random random = new Random(seed);
+        for (int i = 0; i < count; i++) {
+            Direction next = game.getNextStepToExit();
+            if (random.nextInt(8) == 0) {
+                game.execute(Command.apply(random.nextInt(9)));
+            } else {
+                Direction dir = next == null || random.nextInt(4) == 0 ? Direction.values()[random.nextInt(4)] : next;
+                game.execute(Command.move(dir));
+                game.execute(Command.move(dir));
+            }
+            game.execute(Command.pickUp());
+            game.execute(Command.exit());
+        }
+    }
+
     // REQUIRES: game != null
     public void makeCopyOfGame() {
         Coordinate coord = game.getPlayer().getPosition();
@@ -208,4 +230,26 @@ public class TestHelpers {
         assertTrue(game.getMaze().getExit().isSame(saveExit));
         assertTrue(game.getMaze().getStart().isSame(saveStart));
     }
+
+    // EFFECTS: returns the number of roads reachable from the start of the maze
+    public int countReachable(Maze maze) {
+        boolean[][] seen = new boolean[maze.getHeight()][maze.getWidth()];
+        ArrayDeque<Coordinate> queue = new ArrayDeque<>();
+        queue.add(maze.getStart());
+        seen[maze.getStart().getY()][maze.getStart().getX()] = true;
+        int count = 0;
+        while (!queue.isEmpty()) {
+            Coordinate c = queue.poll();
+            count++;
+            for (Direction d : Direction.values()) {
+                Coordinate n = new Coordinate(c.getX(), c.getY());
+                n.go(d, 1);
+                if (maze.isInRange(n) && !maze.isWall(n) && !seen[n.getY()][n.getX()]) {
+                    seen[n.getY()][n.getX()] = true;
+                    queue.add(n);
+                }
+            }
+        }
+        return count;
+    }
 }
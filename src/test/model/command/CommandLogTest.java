@@ -0,0 +1,72 @@
+package model.command;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CommandLogTest {
+
+    private CommandLog log;
+
+    @BeforeEach
+    public void setup() {
+        log = new CommandLog();
+    }
+
+    @Test
+    public void appendTest() {
+        assertEquals(0, log.size());
+        for (int i = 0; i < 200; i++) {
+            log.append((byte) i);
+        }
+        assertEquals(200, log.size());
+        assertEquals((byte) 150, log.get(150));
+        assertArrayEquals(new byte[] {10, 11, 12}, log.toArray(10, 13));
+        assertEquals(0, log.toArray(200, 200).length);
+    }
+
+    @Test
+    public void checkpointTest() {
+        assertEquals(0, log.getNumOfCheckpoints());
+        assertEquals(0, log.getLastCheckpointOffset());
+        assertFalse(log.hasUnflushedCheckpoint());
+
+        JSONObject first = new JSONObject();
+        log.append((byte) 1);
+        log.checkpoint(first);
+        assertEquals(1, log.getNumOfCheckpoints());
+        assertEquals(1, log.getLastCheckpointOffset());
+        assertSame(first, log.getLastCheckpoint());
+        assertTrue(log.hasUnflushedCheckpoint());
+
+        JSONObject second = new JSONObject();
+        log.append((byte) 2);
+        log.append((byte) 3);
+        log.checkpoint(second);
+        assertEquals(3, log.getLastCheckpointOffset());
+        assertSame(second, log.getLastCheckpoint());
+    }
+
+    @Test
+    public void flushTest() {
+        log.append((byte) 1);
+        log.checkpoint(new JSONObject());
+        log.append((byte) 2);
+        assertEquals(0, log.getFlushed());
+
+        log.markFlushed();
+        assertEquals(2, log.getFlushed());
+        assertFalse(log.hasUnflushedCheckpoint());
+
+        log.append((byte) 3);
+        assertEquals(2, log.getFlushed());
+        log.checkpoint(new JSONObject());
+        assertTrue(log.hasUnflushedCheckpoint());
+    }
+}
@@ -0,0 +1,33 @@
+package model.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import model.utility.Direction;
+
+public class CommandTest {
+
+    @Test
+    public void encodeTest() {
+        for (Direction dir : Direction.values()) {
+            byte move = Command.move(dir);
+            assertEquals(Command.MOVE, Command.getOpcode(move));
+            assertEquals(dir, Command.getDirection(move));
+        }
+        assertEquals(Command.PICK_UP, Command.getOpcode(Command.pickUp()));
+        assertEquals(Command.EXIT, Command.getOpcode(Command.exit()));
+
+        byte apply = Command.apply(31);
+        assertEquals(Command.APPLY, Command.getOpcode(apply));
+        assertEquals(31, Command.getArgument(apply));
+        assertEquals(0, Command.getArgument(Command.apply(0)));
+    }
+
+    @Test
+    public void opcodeFitsTest() {
+        byte command = (byte) (7 << 5 | 3);
+        assertEquals(7, Command.getOpcode(command));
+        assertEquals(3, Command.getArgument(command));
+    }
+}
@@ -0,0 +1,87 @@
+package model.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.Game;
+import model.command.Command;
+import model.maze.GeneratorType;
+import model.utility.Coordinate;
+import model.utility.Direction;
+
+public class EngineTest {
+
+    private Game game;
+    private Engine engine;
+
+    @BeforeEach
+    public void setup() {
+        game = new Game(20, 20, GeneratorType.PRIM, 11L);
+        engine = new Engine(game);
+    }
+
+    @Test
+    public void stepTest() {
+        assertSame(game, engine.getGame());
+        game.removeAllItemsOnMap();
+        Direction next = game.getNextStepToExit();
+        game.getPlayer().setDirection(next);
+        Coordinate start = game.getMaze().getStart();
+
+        assertTrue(engine.step(Command.move(next)));
+        assertFalse(game.getPlayer().getPosition().isSame(start));
+        assertFalse(engine.step(Command.apply(0)));
+        assertEquals(2, engine.getTurns());
+        assertEquals(1, engine.getMoves());
+        assertEquals(0, engine.getLevelsPassed());
+    }
+
+    @Test
+    public void stepExitTest() {
+        game.getPlayer().setPosition(game.getMaze().getExit());
+        engine.step(Command.move(Direction.UP));
+        assertEquals(1, game.getLevel());
+        assertEquals(1, engine.getLevelsPassed());
+        assertEquals(1, game.getPlayer().getSolved());
+        assertTrue(game.getPlayer().getPosition().isSame(game.getMaze().getStart()));
+    }
+
+    @Test
+    public void exitBotTest() {
+        engine.run(new ExitBot(), 2000);
+        assertEquals(2000, engine.getTurns());
+        assertTrue(engine.getLevelsPassed() > 5);
+        assertEquals(engine.getLevelsPassed(), game.getLevel());
+        assertEquals(game.getLevel(), game.getPlayer().getSolved());
+        assertTrue(game.getLog().size() >= engine.getMoves() + engine.getLevelsPassed());
+    }
+
+    @Test
+    public void randomBotTest() {
+        Game other = new Game(20, 20, GeneratorType.PRIM, 11L);
+        other.setRecording(false);
+        engine.run(new RandomBot(3L), 3000);
+        new Engine(other).run(new RandomBot(3L), 3000);
+
+        assertEquals(game.toCompactJson().toString(), other.toCompactJson().toString());
+        assertTrue(game.getLog().size() > 0);
+        assertEquals(0, other.getLog().size());
+        assertFalse(other.isRecording());
+        assertTrue(engine.getMoves() > 0);
+    }
+
+    @Test
+    public void tickTest() {
+        assertEquals(0, engine.getTicks());
+        engine.tick();
+        engine.tick();
+        assertEquals(2, engine.getTicks());
+        assertEquals(0, engine.getTurns());
+        assertEquals(Engine.NO_EVENT, engine.getTicksToNextEvent());
+    }
+}
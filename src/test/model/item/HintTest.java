@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 
 import model.Game;
 import model.TestHelpers;
+import model.maze.GeneratorType;
+import model.utility.Coordinate;
 
 public class HintTest extends TestHelpers {
 
@@ -15,7 +17,7 @@ public class HintTest extends TestHelpers {
 
     @BeforeEach
     public void setup() {
-        game = new Game(20, 20);
+        game = new Game(20, 20, GeneratorType.PRIM, 11L);
         hint = new Hint();
     }
 
@@ -28,7 +30,7 @@ public class HintTest extends TestHelpers {
         assertPlayerSolvedNotChanged();
         assertMazeNotChanged();
         assertPlayerNotChanged();
-        assertEquals("Exit Position: " + game.getMaze().getExit(), game.getGameMessage());
+        assertEquals("Go RIGHT, the exit is 29 steps away", game.getGameMessage());
 
         makeCopyOfGame();
 
@@ -37,6 +39,21 @@ public class HintTest extends TestHelpers {
         assertPlayerSolvedNotChanged();
         assertMazeNotChanged();
         assertPlayerNotChanged();
+        assertEquals("Go RIGHT, the exit is 29 steps away", game.getGameMessage());
+    }
+
+    @Test
+    public void applyAfterStepTest() {
+        assertEquals(new Coordinate(1, 2), game.getPlayer().getPosition());
+        game.getPlayer().setPosition(new Coordinate(2, 2));
+        hint.apply(game);
+        assertEquals("Go RIGHT, the exit is 28 steps away", game.getGameMessage());
+    }
+
+    @Test
+    public void applyAtExitTest() {
+        game.getPlayer().setPosition(game.getMaze().getExit());
+        hint.apply(game);
         assertEquals("Exit Position: " + game.getMaze().getExit(), game.getGameMessage());
     }
 
@@ -0,0 +1,102 @@
+package model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ItemIndexTest {
+    private ItemIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = new ItemIndex();
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(0, index.size());
+        assertTrue(index.isEmpty());
+        assertFalse(index.contains(0));
+        assertNull(index.get(5));
+    }
+
+    @Test
+    public void putGetTest() {
+        Item coin = new Coin(3);
+        Item hint = new Hint();
+        assertNull(index.put(10, coin));
+        assertNull(index.put(0, hint));
+        assertEquals(2, index.size());
+        assertSame(coin, index.get(10));
+        assertSame(hint, index.get(0));
+        assertTrue(index.contains(10));
+        assertFalse(index.contains(11));
+
+        Item skip = new Skip();
+        assertSame(coin, index.put(10, skip));
+        assertSame(skip, index.get(10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void removeTest() {
+        Item coin = new Coin(3);
+        index.put(1, coin);
+        index.put(2, new Hint());
+        index.put(3, new Skip());
+        assertSame(coin, index.remove(1));
+        assertNull(index.remove(1));
+        assertEquals(2, index.size());
+        assertFalse(index.contains(1));
+        assertTrue(index.contains(2));
+        assertTrue(index.contains(3));
+
+        index.clear();
+        assertTrue(index.isEmpty());
+        assertFalse(index.contains(2));
+    }
+
+    @Test
+    public void slotsTest() {
+        index.put(7, new Coin(1));
+        index.put(9, new Coin(2));
+        index.put(8, new Coin(3));
+        index.remove(7);
+        int sum = 0;
+        for (int slot = 0; slot < index.size(); slot++) {
+            sum += index.getCell(slot);
+            assertSame(index.get(index.getCell(slot)), index.getItem(slot));
+        }
+        assertEquals(17, sum);
+    }
+
+    @Test
+    public void matchesHashMapTest() {
+        // random puts and removes on a small range of cells, so the table
+        // grows, collides and shifts entries back on removal
+        Map<Integer, Item> expected = new HashMap<>();
+        Random random = new Random(6);
+        for (int i = 0; i < 20000; i++) {
+            int cell = random.nextInt(3000) * 64;
+            if (random.nextInt(3) == 0) {
+                assertSame(expected.remove(cell), index.remove(cell));
+            } else {
+                Item item = new Coin(i);
+                assertSame(expected.put(cell, item), index.put(cell, item));
+            }
+        }
+        assertEquals(expected.size(), index.size());
+        for (int cell = 0; cell < 3000 * 64; cell += 32) {
+            assertSame(expected.get(cell), index.get(cell));
+        }
+    }
+}
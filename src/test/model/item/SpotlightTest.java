@@ -0,0 +1,63 @@
+package model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.Game;
+import model.TestHelpers;
+import model.player.Player;
+
+public class SpotlightTest extends TestHelpers {
+
+    private Spotlight spotlight;
+
+    @BeforeEach
+    public void setup() {
+        game = new Game(20, 20);
+        spotlight = new Spotlight(12, 30);
+    }
+
+    @Test
+    public void applyTest() {
+        makeCopyOfGame();
+
+        spotlight.apply(game);
+        assertGameItemsNotChanged();
+        assertPlayerSolvedNotChanged();
+        assertMazeNotChanged();
+        assertPlayerNotChanged();
+        assertEquals(12, game.getPlayer().getLightRadius());
+        assertEquals(30, game.getPlayer().getLightSteps());
+        assertEquals("You can see 12 blocks away for 30 steps", game.getGameMessage());
+    }
+
+    @Test
+    public void applyLightsFurtherTest() {
+        int near = game.getFieldOfView().getExplored().count();
+        assertEquals(Player.LIGHT_RADIUS, game.getPlayer().getLightRadius());
+        spotlight.apply(game);
+        assertTrue(game.getFieldOfView().getExplored().count() > near);
+    }
+
+    @Test
+    public void isAutoApplyTest() {
+        assertTrue(spotlight.isAutoApply());
+        assertNull(spotlight.getDisplayName());
+        assertNull(spotlight.report());
+        assertEquals(ItemType.SPOTLIGHT, spotlight.getType());
+    }
+
+    @Test
+    public void toJsonTest() {
+        JSONObject json = spotlight.toJson();
+        assertEquals(ItemType.SPOTLIGHT, json.get("type"));
+        assertEquals(12, json.getInt("radius"));
+        assertEquals(30, json.getInt("steps"));
+        assertEquals(spotlight.toJson().toString(), spotlight.toJSONString());
+    }
+}
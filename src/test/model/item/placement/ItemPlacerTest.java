@@ -0,0 +1,45 @@
+package model.item.placement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import model.item.ItemIndex;
+import model.item.ItemType;
+import model.maze.GeneratorType;
+import model.maze.Maze;
+
+public class ItemPlacerTest {
+
+    @Test
+    public void placeTest() {
+        Maze maze = new Maze(40, 40, GeneratorType.ELLER, 1L);
+        PlacementPolicy policy = new UniformPolicy();
+        ItemPlacer placer = new ItemPlacer(policy);
+        assertSame(policy, placer.getPolicy());
+        ItemIndex items = placer.place(maze, 100, new Random(2));
+        assertEquals(100, items.size());
+        int[] counts = new int[ItemType.values().length];
+        for (int slot = 0; slot < items.size(); slot++) {
+            counts[items.getItem(slot).getType().ordinal()]++;
+        }
+        for (int count : counts) {
+            assertEquals(25, count, 15);
+        }
+    }
+
+    @Test
+    public void typeWeightsTest() {
+        Maze maze = new Maze(40, 40, GeneratorType.ELLER, 1L);
+        double[] weights = new double[ItemType.values().length];
+        weights[ItemType.SKIP.ordinal()] = 1;
+        ItemIndex items = new ItemPlacer(new PoissonDiskPolicy(2), weights).place(maze, 30, new Random(3));
+        assertEquals(30, items.size());
+        for (int slot = 0; slot < items.size(); slot++) {
+            assertEquals(ItemType.SKIP, items.getItem(slot).getType());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package model.item.placement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import model.maze.GeneratorType;
+import model.maze.Maze;
+import model.maze.solver.DistanceField;
+
+public class PlacementPolicyTest {
+
+    @Test
+    public void newPolicyTest() {
+        for (PlacementType type : PlacementType.values()) {
+            assertEquals(type, type.newPolicy().getType());
+        }
+        assertEquals(PoissonDiskPolicy.DEFAULT_SPACING, new PoissonDiskPolicy(3).getSpacing());
+        assertEquals(2, new DistanceWeightedPolicy(2).getPower(), 1e-9);
+    }
+
+    @Test
+    public void distinctRoadsTest() {
+        Maze maze = new Maze(40, 40, GeneratorType.KRUSKAL, 4L);
+        int start = maze.getGrid().indexOf(maze.getStart().getX(), maze.getStart().getY());
+        for (PlacementType type : PlacementType.values()) {
+            for (int count : new int[] {0, 1, 50, maze.getNumOfRoad(), maze.getNumOfRoad() + 10}) {
+                int[] cells = type.newPolicy().choose(maze, count, new Random(count));
+                assertEquals(Math.min(count, maze.getNumOfRoad()), cells.length);
+                Set<Integer> seen = new HashSet<>();
+                for (int cell : cells) {
+                    assertTrue(seen.add(cell));
+                    assertFalse(maze.isWall(cell % 40, cell / 40));
+                    assertTrue(cell != start);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sameSeedTest() {
+        Maze maze = new Maze(30, 30, GeneratorType.PRIM, 8L);
+        for (PlacementType type : PlacementType.values()) {
+            int[] a = type.newPolicy().choose(maze, 20, new Random(5));
+            int[] b = type.newPolicy().choose(maze, 20, new Random(5));
+            for (int i = 0; i < a.length; i++) {
+                assertEquals(a[i], b[i]);
+            }
+        }
+    }
+
+    @Test
+    public void roadSamplerTest() {
+        Maze maze = new Maze(20, 20, GeneratorType.WILSON, 2L);
+        RoadSampler sampler = new RoadSampler(maze, new Random(3));
+        Set<Integer> seen = new HashSet<>();
+        while (sampler.hasNext()) {
+            assertTrue(seen.add(sampler.next()));
+        }
+        assertEquals(maze.getNumOfRoad(), seen.size());
+    }
+
+    @Test
+    public void poissonSpacingTest() {
+        Maze maze = new Maze(60, 60, GeneratorType.BACKTRACKER, 6L);
+        int[] cells = new PoissonDiskPolicy(5).choose(maze, 40, new Random(1));
+        assertEquals(40, cells.length);
+        for (int i = 0; i < cells.length; i++) {
+            for (int j = i + 1; j < cells.length; j++) {
+                int dx = cells[i] % 60 - cells[j] % 60;
+                int dy = cells[i] / 60 - cells[j] / 60;
+                assertTrue(dx * dx + dy * dy >= 25);
+            }
+        }
+    }
+
+    @Test
+    public void distanceWeightedTest() {
+        Maze maze = new Maze(60, 60, GeneratorType.BACKTRACKER, 6L);
+        DistanceField field = new DistanceField(maze,
+                maze.getGrid().indexOf(maze.getStart().getX(), maze.getStart().getY()));
+        long uniform = 0;
+        long weighted = 0;
+        for (int seed = 0; seed < 20; seed++) {
+            uniform += totalDistance(field, new UniformPolicy().choose(maze, 30, new Random(seed)));
+            weighted += totalDistance(field, new DistanceWeightedPolicy(2).choose(maze, 30, new Random(seed)));
+        }
+        assertTrue(weighted > uniform);
+    }
+
+    // EFFECTS: returns the sum of the distances of the cells
+    private long totalDistance(DistanceField field, int[] cells) {
+        long total = 0;
+        for (int cell : cells) {
+            total += field.getDistance(cell);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,101 @@
+package model.maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.utility.DirtyCells;
+
+public class FieldOfViewTest {
+    private Maze maze;
+    private FieldOfView view;
+
+    @BeforeEach
+    public void setup() {
+        maze = new Maze(40, 30, GeneratorType.PRIM, 5L);
+        maze.openRegion(0, 0, maze.getWidth(), maze.getHeight());
+        view = new FieldOfView(maze);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertSame(maze, view.getMaze());
+        assertEquals(0, view.getVisible().count());
+        assertEquals(0, view.getExplored().count());
+    }
+
+    @Test
+    public void openRoomTest() {
+        assertTrue(view.update(20, 15, 6));
+        int inside = 0;
+        for (int y = 0; y < maze.getHeight(); y++) {
+            for (int x = 0; x < maze.getWidth(); x++) {
+                boolean near = (x - 20) * (x - 20) + (y - 15) * (y - 15) <= 36;
+                assertEquals(near, view.isVisible(x, y));
+                inside += near ? 1 : 0;
+            }
+        }
+        assertEquals(inside, view.getVisible().count());
+        assertEquals(inside, view.getExplored().count());
+    }
+
+    @Test
+    public void shadowTest() {
+        maze.applyEdit(23, 13, 1, 5, false);
+        view.update(20, 15, 10);
+        assertTrue(view.isVisible(23, 15));
+        assertTrue(view.isVisible(23, 13));
+        assertFalse(view.isVisible(24, 15));
+        assertFalse(view.isVisible(28, 15));
+        assertTrue(view.isVisible(17, 15));
+        assertTrue(view.isVisible(20, 24));
+    }
+
+    @Test
+    public void cornerTest() {
+        view.update(0, 0, 3);
+        assertTrue(view.isVisible(0, 0));
+        assertTrue(view.isVisible(3, 0));
+        assertTrue(view.isVisible(2, 2));
+        assertFalse(view.isVisible(3, 3));
+        assertEquals(11, view.getVisible().count());
+    }
+
+    @Test
+    public void cacheTest() {
+        assertTrue(view.update(20, 15, 4));
+        assertFalse(view.update(20, 15, 4));
+        assertTrue(view.update(20, 15, 8));
+        assertTrue(view.update(21, 15, 8));
+        assertFalse(view.update(21, 15, 8));
+        maze.applyEdit(25, 15, 1, 1, false);
+        assertTrue(view.update(21, 15, 8));
+        assertFalse(view.isVisible(26, 15));
+    }
+
+    @Test
+    public void exploredTest() {
+        DirtyCells revealed = new DirtyCells(maze.getWidth(), maze.getHeight());
+        view.update(5, 5, 2);
+        view.takeRevealed(revealed);
+        assertEquals(13, revealed.size());
+
+        revealed.clear();
+        view.update(6, 5, 2);
+        view.takeRevealed(revealed);
+        assertEquals(5, revealed.size());
+        assertTrue(revealed.contains(maze.getGrid().indexOf(8, 5)));
+        assertFalse(view.isVisible(3, 5));
+        assertTrue(view.isExplored(3, 5));
+        assertEquals(18, view.getExplored().count());
+
+        revealed.clear();
+        view.update(5, 5, 2);
+        view.takeRevealed(revealed);
+        assertTrue(revealed.isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package model.maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import model.TestHelpers;
+import model.utility.Coordinate;
+
+public class MazeGeneratorTest extends TestHelpers {
+
+    @Test
+    public void newGeneratorTest() {
+        for (GeneratorType type : GeneratorType.values()) {
+            assertEquals(type, type.newGenerator().getType());
+        }
+    }
+
+    @Test
+    public void startAndExitTest() {
+        for (GeneratorType type : GeneratorType.values()) {
+            for (int i = 0; i < 200; i++) {
+                Maze maze = new Maze(24, 16, type);
+                Coordinate start = maze.getStart();
+                Coordinate exit = maze.getExit();
+                assertFalse(maze.isWall(start));
+                assertFalse(maze.isWall(exit));
+                assertTrue(start.getX() < 24 / 2 && start.getY() < 16 / 2);
+                assertTrue(exit.getX() >= 24 / 2 && exit.getY() >= 16 / 2);
+                assertTrue(exit.getX() < 24 && exit.getY() < 16);
+            }
+        }
+    }
+
+    @Test
+    public void connectedTest() {
+        for (GeneratorType type : GeneratorType.values()) {
+            for (int i = 0; i < 20; i++) {
+                Maze maze = new Maze(50, 36, type);
+                assertEquals(maze.getNumOfRoad() + 1, countReachable(maze));
+            }
+        }
+    }
+
+    @Test
+    public void latticeIsPerfectTest() {
+        // a spanning tree over c cells has c - 1 passages, so a perfect
+        // lattice maze has exactly 2c - 1 roads
+        for (GeneratorType type : GeneratorType.values()) {
+            if (type == GeneratorType.PRIM) {
+                continue;
+            }
+            Maze maze = new Maze(40, 30, type);
+            int cells = 20 * 15;
+            assertEquals(2 * cells - 1, maze.getNumOfRoad() + 1);
+            assertEquals(0, maze.getStart().getX() % 2);
+            assertEquals(0, maze.getStart().getY() % 2);
+        }
+    }
+
+    @Test
+    public void ellerRowsTest() {
+        EllerRows rows = new EllerRows(10, new Random(3));
+        assertEquals(10, rows.getColumns());
+        rows.nextRow(false);
+        boolean anyDown = false;
+        for (int c = 0; c < 10; c++) {
+            anyDown |= rows.isDownOpen(c);
+        }
+        assertTrue(anyDown);
+        assertFalse(rows.isRightOpen(9));
+
+        rows.nextRow(true);
+        for (int c = 0; c < 10; c++) {
+            assertFalse(rows.isDownOpen(c));
+        }
+    }
+}
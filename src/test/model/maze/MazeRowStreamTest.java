@@ -0,0 +1,82 @@
+package model.maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.utility.BitGrid;
+
+public class MazeRowStreamTest {
+
+    private MazeRowStream stream;
+    private ArrayList<boolean[]> rows;
+    private MazeRowConsumer collector;
+
+    @BeforeEach
+    public void setup() {
+        stream = new MazeRowStream(20, new Random(7));
+        rows = new ArrayList<>();
+        collector = (y, row) -> {
+            assertEquals(rows.size(), y);
+            boolean[] copy = new boolean[row.getWidth()];
+            for (int x = 0; x < copy.length; x++) {
+                copy[x] = row.get(x);
+            }
+            rows.add(copy);
+        };
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(20, stream.getWidth());
+        assertEquals(0, stream.getRowsEmitted());
+        assertFalse(stream.isFinished());
+    }
+
+    @Test
+    public void nextRowsTest() {
+        stream.nextRows(collector);
+        assertEquals(2, stream.getRowsEmitted());
+        assertEquals(2, rows.size());
+        for (int x = 0; x < 20; x += 2) {
+            assertTrue(rows.get(0)[x]);
+        }
+        assertFalse(rows.get(0)[19]);
+        assertFalse(rows.get(1)[1]);
+    }
+
+    @Test
+    public void finishTest() {
+        for (int i = 0; i < 99; i++) {
+            stream.nextRows(collector);
+        }
+        stream.finish(collector);
+        assertTrue(stream.isFinished());
+        assertEquals(200, stream.getRowsEmitted());
+
+        for (int x = 0; x < 20; x++) {
+            assertFalse(rows.get(199)[x]);
+        }
+        // a perfect maze over 10 x 100 cells has 999 passages
+        int roads = 0;
+        for (boolean[] row : rows) {
+            for (boolean road : row) {
+                roads += road ? 1 : 0;
+            }
+        }
+        assertEquals(1000 + 999, roads);
+    }
+
+    @Test
+    public void rowIsReusedTest() {
+        BitGrid[] seen = new BitGrid[2];
+        stream.nextRows((y, row) -> seen[(int) y] = row);
+        stream.nextRows((y, row) -> assertTrue(row == seen[(int) y - 2]));
+    }
+}
@@ -0,0 +1,60 @@
+package model.maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class MazeRowWindowTest {
+
+    @Test
+    public void constructorTest() {
+        MazeRowWindow window = new MazeRowWindow(20, 6);
+        assertEquals(20, window.getWidth());
+        assertEquals(6, window.getCapacity());
+        assertEquals(0, window.getFirstRow());
+        assertEquals(0, window.getNextRow());
+        assertTrue(window.isWall(0, 0));
+    }
+
+    @Test
+    public void scrollTest() {
+        checkRows(20, 6);
+    }
+
+    @Test
+    public void wideRowsTest() {
+        checkRows(130, 5);
+    }
+
+    // EFFECTS: streams rows of the given width into a window of the given
+    // capacity, and checks after every lattice row that it holds exactly
+    // the last capacity rows the stream emitted
+    private void checkRows(int width, int capacity) {
+        MazeRowStream stream = new MazeRowStream(width, new Random(7));
+        MazeRowWindow window = new MazeRowWindow(width, capacity);
+        ArrayList<boolean[]> rows = new ArrayList<>();
+        MazeRowConsumer both = (y, row) -> {
+            boolean[] copy = new boolean[width];
+            for (int x = 0; x < width; x++) {
+                copy[x] = row.get(x);
+            }
+            rows.add(copy);
+            window.accept(y, row);
+        };
+        for (int i = 0; i < 20; i++) {
+            stream.nextRows(both);
+            assertEquals(rows.size(), window.getNextRow());
+            assertEquals(Math.max(0, rows.size() - capacity), window.getFirstRow());
+            for (int y = -1; y <= rows.size(); y++) {
+                for (int x = -1; x <= width; x++) {
+                    boolean kept = y >= window.getFirstRow() && y < rows.size() && x >= 0 && x < width;
+                    assertEquals(!kept || !rows.get(y)[x], window.isWall(x, y));
+                }
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.json.JSONArray;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -107,4 +108,87 @@ public class MazeTest extends TestHelpers {
         c = new Coordinate(-1, -1);
         assertFalse(maze.isInRange(c));
     }
+
+    @Test
+    public void openRegionTest() {
+        maze.setBlock(0, 0, false);
+        maze.setBlock(1, 0, true);
+        int roads = maze.countRoads(0, 0, 4, 1);
+        assertEquals(4 - roads, maze.openRegion(0, 0, 4, 1));
+        assertEquals(4, maze.countRoads(0, 0, 4, 1));
+        assertFalse(maze.isWall(0, 0));
+        assertEquals(0, maze.openRegion(0, 0, 4, 1));
+
+        maze.setBlock(9, 9, false);
+        assertTrue(maze.isWall(9, 9));
+        assertEquals(1, maze.openRegion(9, 9, 1, 1));
+        assertFalse(maze.isWall(new Coordinate(9, 9)));
+    }
+
+    @Test
+    public void getGridTest() {
+        assertEquals(10, maze.getGrid().getWidth());
+        assertEquals(maze.getNumOfRoad() + 1, maze.getGrid().count());
+    }
+
+    @Test
+    public void isInRangeXYTest() {
+        assertTrue(maze.isInRange(0, 0));
+        assertTrue(maze.isInRange(9, 9));
+        assertFalse(maze.isInRange(10, 9));
+        assertFalse(maze.isInRange(9, -1));
+    }
+
+    @Test
+    public void roadsAreConnectedTest() {
+        // every road must be reachable from the start
+        for (int i = 0; i < 50; i++) {
+            maze = new Maze(60, 40);
+            assertEquals(maze.getNumOfRoad() + 1, countReachable(maze));
+        }
+    }
+
+    @Test
+    public void generatorTypeTest() {
+        assertEquals(GeneratorType.PRIM, maze.getGeneratorType());
+        maze = new Maze(20, 20, GeneratorType.WILSON);
+        assertEquals(GeneratorType.WILSON, maze.getGeneratorType());
+        assertTrue(maze.getGenerationNanos() > 0);
+        assertTrue(maze.getCellsPerSecond() > 0);
+    }
+
+    @Test
+    public void seedTest() {
+        for (GeneratorType type : GeneratorType.values()) {
+            Maze a = new Maze(30, 20, type, 12345L);
+            Maze b = new Maze(30, 20, type, 12345L);
+            assertEquals(12345L, a.getSeed());
+            assertTrue(isSameMaze(a, b));
+            assertEquals(a.getNumOfRoad(), b.getNumOfRoad());
+        }
+    }
+
+    @Test
+    public void editsTest() {
+        maze = new Maze(20, 20, GeneratorType.PRIM, 7L);
+        assertEquals(0, maze.getNumOfEdits());
+        maze.setBlock(maze.getStart(), true);
+        assertEquals(0, maze.getNumOfEdits());
+
+        maze.openRegion(0, 0, 20, 1);
+        maze.setBlock(5, 5, false);
+        maze.applyEdit(2, 3, 4, 5, false);
+        assertEquals(3, maze.getNumOfEdits());
+        assertEquals(0, maze.openRegion(0, 0, 20, 1));
+        assertEquals(3, maze.getNumOfEdits());
+
+        Maze copy = new Maze(20, 20, GeneratorType.PRIM, 7L);
+        JSONArray edits = maze.toCompactJson().getJSONArray("edits");
+        for (int i = 0; i < edits.length(); i++) {
+            JSONArray e = edits.getJSONArray(i);
+            copy.applyEdit(e.getInt(0), e.getInt(1), e.getInt(2), e.getInt(3), e.getInt(4) != 0);
+        }
+        assertTrue(isSameMaze(maze, copy));
+        assertFalse(maze.toCompactJson().has("maze"));
+    }
 }
@@ -0,0 +1,43 @@
+package model.maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import model.TestHelpers;
+
+public class ParallelGeneratorTest extends TestHelpers {
+
+    @Test
+    public void typeTest() {
+        assertEquals(GeneratorType.PARALLEL, new ParallelGenerator().getType());
+    }
+
+    @Test
+    public void perfectAcrossTilesTest() {
+        // 5 x 5 cell tiles over 23 x 17 cells, the last tiles are partial
+        ForkJoinPool pool = new ForkJoinPool(4);
+        for (int i = 0; i < 20; i++) {
+            Maze maze = new Maze(46, 34, new ParallelGenerator(pool, 5), i);
+            int cells = 23 * 17;
+            assertEquals(2 * cells - 1, maze.getNumOfRoad() + 1);
+            assertEquals(maze.getNumOfRoad() + 1, countReachable(maze));
+            assertTrue(maze.isWall(45, 0));
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void sameMazeOnAnyPoolTest() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        Maze a = new Maze(80, 60, new ParallelGenerator(single, 4), 77L);
+        Maze b = new Maze(80, 60, new ParallelGenerator(many, 4), 77L);
+        assertTrue(isSameMaze(a, b));
+        single.shutdown();
+        many.shutdown();
+    }
+}
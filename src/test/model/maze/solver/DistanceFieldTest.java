@@ -0,0 +1,88 @@
+package model.maze.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.maze.GeneratorType;
+import model.maze.Maze;
+
+public class DistanceFieldTest {
+    private Maze maze;
+    private int exit;
+    private DistanceField field;
+
+    @BeforeEach
+    public void setup() {
+        maze = new Maze(40, 30, GeneratorType.BACKTRACKER, 21L);
+        exit = maze.getGrid().indexOf(maze.getExit().getX(), maze.getExit().getY());
+        field = new DistanceField(maze, exit);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertSame(maze, field.getMaze());
+        assertEquals(exit, field.getTarget());
+        assertEquals(0, field.getDistance(exit));
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(maze.getGrid().nextClearBit(0)));
+        assertMatchesSolver();
+    }
+
+    @Test
+    public void nextStepTest() {
+        assertEquals(-1, field.nextStep(exit));
+        int cell = maze.getGrid().indexOf(maze.getStart().getX(), maze.getStart().getY());
+        int steps = 0;
+        while (cell != exit) {
+            int next = field.nextStep(cell);
+            assertEquals(field.getDistance(cell) - 1, field.getDistance(next));
+            cell = next;
+            steps++;
+        }
+        assertEquals(field.getDistance(maze.getStart().getX(), maze.getStart().getY()), steps);
+    }
+
+    @Test
+    public void openRegionTest() {
+        Random random = new Random(4);
+        for (int i = 0; i < 20; i++) {
+            maze.openRegion(random.nextInt(35), random.nextInt(25), random.nextInt(5) + 1, random.nextInt(5) + 1);
+            if (i % 3 == 0) {
+                assertMatchesSolver();
+            }
+        }
+        assertMatchesSolver();
+    }
+
+    @Test
+    public void addWallTest() {
+        maze.openRegion(0, 0, 40, 2);
+        field.getDistance(0);
+        maze.setBlock(20, 0, false);
+        maze.setBlock(20, 1, false);
+        assertMatchesSolver();
+        assertEquals(DistanceField.UNREACHABLE, field.nextStep(maze.getGrid().indexOf(20, 0)));
+    }
+
+    @Test
+    public void unreachableTest() {
+        maze.setBlock(maze.getExit(), false);
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(exit));
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(maze.getStart().getX(), maze.getStart().getY()));
+        assertEquals(-1, field.nextStep(exit));
+    }
+
+    // EFFECTS: asserts that every distance of the field is the length of the
+    // shortest path found by a solver
+    private void assertMatchesSolver() {
+        MazeSolver solver = new BfsSolver();
+        for (int cell = 0; cell < maze.getGrid().size(); cell++) {
+            int expected = solver.solve(maze, cell, exit).length - 1;
+            assertEquals(expected, field.getDistance(cell));
+        }
+    }
+}
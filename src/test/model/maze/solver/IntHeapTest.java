@@ -0,0 +1,41 @@
+package model.maze.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntHeapTest {
+
+    @Test
+    public void orderTest() {
+        IntHeap heap = new IntHeap();
+        Random random = new Random(1);
+        int[] keys = new int[100];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(50);
+            heap.push(keys[i] * 10, keys[i]);
+        }
+        assertEquals(100, heap.size());
+        Arrays.sort(keys);
+        for (int key : keys) {
+            assertEquals(key, heap.peekKey());
+            assertEquals(key * 10, heap.pop());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void clearTest() {
+        IntHeap heap = new IntHeap();
+        heap.push(1, 1);
+        heap.push(2, 0);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        heap.push(3, 5);
+        assertEquals(3, heap.pop());
+    }
+}
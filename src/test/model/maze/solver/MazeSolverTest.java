@@ -0,0 +1,114 @@
+package model.maze.solver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import model.maze.GeneratorType;
+import model.maze.Maze;
+
+public class MazeSolverTest {
+
+    @Test
+    public void newSolverTest() {
+        for (SolverType type : SolverType.values()) {
+            assertEquals(type, type.newSolver().getType());
+        }
+    }
+
+    @Test
+    public void sameLengthAsBfsTest() {
+        MazeSolver bfs = new BfsSolver();
+        Random random = new Random(3);
+        for (GeneratorType generator : GeneratorType.values()) {
+            Maze maze = new Maze(40, 30, generator, random.nextLong());
+            maze.openRegion(5, 5, 10, 6);
+            for (SolverType type : SolverType.values()) {
+                MazeSolver solver = type.newSolver();
+                for (int i = 0; i < 30; i++) {
+                    int from = randomRoad(maze, random);
+                    int to = randomRoad(maze, random);
+                    int[] path = solver.solve(maze, from, to);
+                    assertEquals(bfs.solve(maze, from, to).length, path.length);
+                    assertValidPath(maze, from, to, path);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void startToExitTest() {
+        Maze maze = new Maze(60, 60, GeneratorType.BACKTRACKER, 11L);
+        int from = maze.getGrid().indexOf(maze.getStart().getX(), maze.getStart().getY());
+        int to = maze.getGrid().indexOf(maze.getExit().getX(), maze.getExit().getY());
+        for (SolverType type : SolverType.values()) {
+            int[] path = type.newSolver().solve(maze, from, to);
+            assertValidPath(maze, from, to, path);
+        }
+    }
+
+    @Test
+    public void noPathTest() {
+        Maze maze = new Maze(20, 20, GeneratorType.KRUSKAL, 5L);
+        int wall = maze.getGrid().nextClearBit(0);
+        int road = maze.getGrid().nextSetBit(0);
+        for (int y = 0; y < 20; y++) {
+            maze.setBlock(10, y, false);
+        }
+        int left = maze.getGrid().indexOf(0, 0);
+        int right = maze.getGrid().indexOf(18, 18);
+        for (SolverType type : SolverType.values()) {
+            MazeSolver solver = type.newSolver();
+            assertEquals(0, solver.solve(maze, wall, road).length);
+            assertEquals(0, solver.solve(maze, road, wall).length);
+            assertEquals(0, solver.solve(maze, left, right).length);
+            assertArrayEquals(new int[] {road}, solver.solve(maze, road, road));
+        }
+    }
+
+    @Test
+    public void reuseAcrossMazesTest() {
+        Random random = new Random(9);
+        for (SolverType type : SolverType.values()) {
+            MazeSolver solver = type.newSolver();
+            MazeSolver fresh = new BfsSolver();
+            for (int size = 40; size >= 10; size -= 10) {
+                Maze maze = new Maze(size, size + 4, GeneratorType.WILSON, random.nextLong());
+                for (int i = 0; i < 20; i++) {
+                    int from = randomRoad(maze, random);
+                    int to = randomRoad(maze, random);
+                    assertEquals(new BfsSolver().solve(maze, from, to).length, solver.solve(maze, from, to).length);
+                    assertTrue(fresh.solve(maze, from, to).length > 0);
+                }
+            }
+        }
+    }
+
+    // EFFECTS: returns the cell of a random road of the maze
+    private int randomRoad(Maze maze, Random random) {
+        int cell = maze.getGrid().nextSetBit(random.nextInt(maze.getGrid().size()));
+        return cell == -1 ? maze.getGrid().nextSetBit(0) : cell;
+    }
+
+    // EFFECTS: asserts that the path goes from `from` to `to` over
+    // neighbouring roads
+    private void assertValidPath(Maze maze, int from, int to, int[] path) {
+        assertTrue(path.length > 0);
+        assertEquals(from, path[0]);
+        assertEquals(to, path[path.length - 1]);
+        int width = maze.getWidth();
+        for (int i = 0; i < path.length; i++) {
+            assertFalse(maze.isWall(path[i] % width, path[i] / width));
+            if (i > 0) {
+                int dx = Math.abs(path[i] % width - path[i - 1] % width);
+                int dy = Math.abs(path[i] / width - path[i - 1] / width);
+                assertEquals(1, dx + dy);
+            }
+        }
+    }
+}
@@ -127,4 +127,23 @@ public class PlayerTest {
         player.solvedAddOne();
         assertEquals(2, player.getSolved());
     }
+
+    @Test
+    public void lightTest() {
+        assertEquals(Player.LIGHT_RADIUS, player.getLightRadius());
+        assertEquals(0, player.getLightSteps());
+
+        player.light(10, 2);
+        assertEquals(10, player.getLightRadius());
+        player.move(Direction.RIGHT);
+        assertEquals(2, player.getLightSteps());
+        player.move(Direction.RIGHT);
+        assertEquals(1, player.getLightSteps());
+        assertEquals(10, player.getLightRadius());
+        player.move(Direction.RIGHT);
+        assertEquals(0, player.getLightSteps());
+        assertEquals(Player.LIGHT_RADIUS, player.getLightRadius());
+        player.move(Direction.RIGHT);
+        assertEquals(0, player.getLightSteps());
+    }
 }
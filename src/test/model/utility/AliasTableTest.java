@@ -0,0 +1,44 @@
+package model.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class AliasTableTest {
+
+    @Test
+    public void distributionTest() {
+        double[] weights = {1, 0, 3, 4};
+        AliasTable table = new AliasTable(weights);
+        assertEquals(4, table.size());
+        int[] counts = new int[4];
+        Random random = new Random(2);
+        for (int i = 0; i < 80000; i++) {
+            counts[table.sample(random)]++;
+        }
+        assertEquals(0, counts[1]);
+        assertEquals(10000, counts[0], 600);
+        assertEquals(30000, counts[2], 900);
+        assertEquals(40000, counts[3], 900);
+    }
+
+    @Test
+    public void singleWeightTest() {
+        AliasTable table = new AliasTable(new double[] {0, 5});
+        Random random = new Random(1);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1, table.sample(random));
+        }
+        assertEquals(1, table.getProbability(1), 1e-9);
+    }
+
+    @Test
+    public void equalWeightsTest() {
+        AliasTable table = new AliasTable(new double[] {2, 2, 2});
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, table.getProbability(i), 1e-9);
+        }
+    }
+}
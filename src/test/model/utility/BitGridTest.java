@@ -0,0 +1,148 @@
+package model.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BitGridTest {
+
+    private BitGrid grid;
+
+    @BeforeEach
+    public void setup() {
+        grid = new BitGrid(100, 7);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(100, grid.getWidth());
+        assertEquals(7, grid.getHeight());
+        assertEquals(700, grid.size());
+        assertEquals(0, grid.count());
+    }
+
+    @Test
+    public void getSetTest() {
+        grid.set(63, 0, true);
+        grid.set(64, 0, true);
+        grid.set(99, 6, true);
+        assertTrue(grid.get(63, 0));
+        assertTrue(grid.get(64, 0));
+        assertTrue(grid.get(699));
+        assertFalse(grid.get(62, 0));
+        assertFalse(grid.get(0, 1));
+        assertEquals(3, grid.count());
+
+        grid.set(64, 0, false);
+        assertFalse(grid.get(64));
+        assertEquals(2, grid.count());
+    }
+
+    @Test
+    public void isInRangeTest() {
+        assertTrue(grid.isInRange(0, 0));
+        assertTrue(grid.isInRange(99, 6));
+        assertFalse(grid.isInRange(100, 0));
+        assertFalse(grid.isInRange(0, 7));
+        assertFalse(grid.isInRange(-1, 0));
+        assertFalse(grid.isInRange(0, -1));
+        assertEquals(205, grid.indexOf(5, 2));
+    }
+
+    @Test
+    public void fillRegionTest() {
+        grid.fillRegion(10, 1, 80, 3, true);
+        assertEquals(240, grid.count());
+        assertEquals(240, grid.countRegion(10, 1, 80, 3));
+        assertEquals(80, grid.countRegion(0, 2, 100, 1));
+        assertFalse(grid.get(9, 1));
+        assertTrue(grid.get(10, 1));
+        assertTrue(grid.get(89, 3));
+        assertFalse(grid.get(90, 3));
+
+        grid.fillRegion(20, 2, 1, 1, false);
+        assertEquals(239, grid.count());
+        assertFalse(grid.get(20, 2));
+    }
+
+    @Test
+    public void fillTest() {
+        grid.fill(true);
+        assertEquals(700, grid.count());
+        grid.fillRange(0, 700, false);
+        assertEquals(0, grid.count());
+        grid.fillRange(5, 5, true);
+        assertEquals(0, grid.count());
+    }
+
+    @Test
+    public void nextBitTest() {
+        assertEquals(-1, grid.nextSetBit(0));
+        assertEquals(0, grid.nextClearBit(0));
+
+        grid.set(130, true);
+        grid.set(500, true);
+        assertEquals(130, grid.nextSetBit(0));
+        assertEquals(130, grid.nextSetBit(130));
+        assertEquals(500, grid.nextSetBit(131));
+        assertEquals(-1, grid.nextSetBit(501));
+        assertEquals(-1, grid.nextSetBit(700));
+
+        grid.fill(true);
+        assertEquals(-1, grid.nextClearBit(0));
+        grid.set(321, false);
+        assertEquals(321, grid.nextClearBit(1));
+    }
+
+    @Test
+    public void getBitsTest() {
+        grid.set(60, true);
+        grid.set(64, true);
+        grid.set(70, true);
+        assertEquals(0b10001L, grid.getBits(60, 5));
+        assertEquals(0b10001L, grid.getBits(60, 10));
+        assertEquals((1L << 10) | (1L << 4) | 1L, grid.getBits(60, 64));
+
+        grid.set(699, true);
+        assertEquals(1L << 3, grid.getBits(696, 64));
+    }
+
+    @Test
+    public void setBitsTest() {
+        grid.fill(true);
+        grid.setBits(60, 8, 0b10100101L);
+        assertEquals(0b10100101L, grid.getBits(60, 8));
+        assertTrue(grid.get(59));
+        assertTrue(grid.get(68));
+        assertEquals(700 - 4, grid.count());
+
+        grid.setBits(128, 64, 0L);
+        assertEquals(0L, grid.getBits(128, 64));
+        assertTrue(grid.get(127));
+        assertTrue(grid.get(192));
+
+        grid.setBits(10, 3, -1L);
+        assertEquals(0b111L, grid.getBits(10, 3));
+        grid.setBits(0, 2, 0b10L);
+        assertFalse(grid.get(0));
+        assertTrue(grid.get(1));
+    }
+
+    @Test
+    public void copyFromTest() {
+        BitGrid other = new BitGrid(100, 7);
+        other.set(0, 0, true);
+        other.set(99, 6, true);
+        grid.fill(true);
+        grid.copyFrom(other);
+        assertEquals(2, grid.count());
+        assertTrue(grid.get(0, 0));
+        assertTrue(grid.get(99, 6));
+
+        other.set(50, 3, true);
+        assertFalse(grid.get(50, 3));
+    }
+}
@@ -0,0 +1,91 @@
+package model.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DirtyCellsTest {
+
+    private DirtyCells cells;
+
+    @BeforeEach
+    public void setup() {
+        cells = new DirtyCells(10, 5);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(10, cells.getWidth());
+        assertEquals(5, cells.getHeight());
+        assertTrue(cells.isEmpty());
+        assertFalse(cells.isAll());
+        assertEquals(0, cells.size());
+    }
+
+    @Test
+    public void addTest() {
+        cells.add(7);
+        cells.add(3);
+        cells.add(7);
+        assertEquals(2, cells.size());
+        assertEquals(7, cells.get(0));
+        assertEquals(3, cells.get(1));
+        assertTrue(cells.contains(3));
+        assertFalse(cells.contains(4));
+        assertFalse(cells.isEmpty());
+    }
+
+    @Test
+    public void addRegionTest() {
+        cells.add(12);
+        cells.addRegion(1, 1, 3, 2);
+        assertEquals(6, cells.size());
+        assertTrue(cells.contains(11));
+        assertTrue(cells.contains(23));
+        assertFalse(cells.contains(24));
+    }
+
+    @Test
+    public void clearTest() {
+        cells.addRegion(0, 0, 10, 5);
+        cells.clear();
+        assertTrue(cells.isEmpty());
+        assertFalse(cells.contains(0));
+        cells.add(0);
+        assertEquals(1, cells.size());
+    }
+
+    @Test
+    public void markAllTest() {
+        cells.add(1);
+        cells.markAll();
+        assertTrue(cells.isAll());
+        assertFalse(cells.isEmpty());
+        assertTrue(cells.contains(49));
+        assertEquals(0, cells.size());
+        cells.add(2);
+        assertEquals(0, cells.size());
+
+        cells.clear();
+        assertFalse(cells.isAll());
+        assertFalse(cells.contains(1));
+    }
+
+    @Test
+    public void addAllTest() {
+        DirtyCells other = new DirtyCells(10, 5);
+        other.add(4);
+        other.add(5);
+        cells.add(5);
+        cells.addAll(other);
+        assertEquals(2, cells.size());
+        assertTrue(cells.contains(4));
+
+        other.markAll();
+        cells.addAll(other);
+        assertTrue(cells.isAll());
+    }
+}
@@ -0,0 +1,72 @@
+package model.utility;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IntListTest {
+
+    private IntList list;
+
+    @BeforeEach
+    public void setup() {
+        list = new IntList(2);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertTrue(new IntList().isEmpty());
+        assertTrue(new IntList(0).isEmpty());
+    }
+
+    @Test
+    public void addGrowTest() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 3);
+        }
+        assertFalse(list.isEmpty());
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i * 3, list.get(i));
+        }
+    }
+
+    @Test
+    public void setTest() {
+        list.add(1);
+        list.set(0, 5);
+        assertEquals(5, list.get(0));
+    }
+
+    @Test
+    public void swapRemoveTest() {
+        list.add(10);
+        list.add(20);
+        list.add(30);
+        assertEquals(10, list.swapRemove(0));
+        assertEquals(2, list.size());
+        assertEquals(30, list.get(0));
+        assertEquals(20, list.get(1));
+
+        assertEquals(20, list.swapRemove(1));
+        assertEquals(1, list.size());
+        assertEquals(30, list.removeLast());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void clearAndToArrayTest() {
+        list.add(4);
+        list.add(7);
+        assertArrayEquals(new int[] {4, 7}, list.toArray());
+        list.clear();
+        assertEquals(0, list.size());
+        assertArrayEquals(new int[0], list.toArray());
+    }
+}
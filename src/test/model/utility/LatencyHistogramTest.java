@@ -0,0 +1,61 @@
+package model.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    public void setup() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    public void emptyTest() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getPercentile(0.5));
+    }
+
+    @Test
+    public void recordTest() {
+        histogram.record(100);
+        histogram.record(300);
+        histogram.record(-5);
+        assertEquals(3, histogram.getCount());
+        assertEquals(300, histogram.getMax());
+        assertEquals(400 / 3.0, histogram.getMean(), 1e-9);
+
+        histogram.clear();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void percentileTest() {
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        long median = histogram.getPercentile(0.5);
+        assertTrue(median >= 500_000 && median < 1_000_000);
+        long p99 = histogram.getPercentile(0.99);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000);
+        assertEquals(1_000_000, histogram.getPercentile(1));
+        assertTrue(histogram.getPercentile(0.001) >= 1000);
+        assertTrue(histogram.getPercentile(0.001) < 2048);
+    }
+
+    @Test
+    public void zeroTest() {
+        histogram.record(0);
+        histogram.record(0);
+        assertEquals(0, histogram.getPercentile(0.5));
+        assertEquals(0, histogram.getPercentile(1));
+    }
+}
@@ -0,0 +1,18 @@
+package model.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class SeedsTest {
+
+    @Test
+    public void mixTest() {
+        assertEquals(Seeds.mix(42, 1, 2), Seeds.mix(42, 1, 2));
+        assertEquals(Seeds.mix(42), Seeds.mix(42));
+        assertNotEquals(Seeds.mix(42, 1, 2), Seeds.mix(42, 2, 1));
+        assertNotEquals(Seeds.mix(42, 1, 2), Seeds.mix(43, 1, 2));
+        assertNotEquals(Seeds.mix(42, 0), Seeds.mix(42));
+    }
+}
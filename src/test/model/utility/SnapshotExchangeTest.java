@@ -0,0 +1,80 @@
+package model.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SnapshotExchangeTest {
+
+    private SnapshotExchange<long[]> exchange;
+
+    @BeforeEach
+    public void setup() {
+        exchange = new SnapshotExchange<>(() -> new long[2]);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertFalse(exchange.acquire());
+        assertNotSame(exchange.getBack(), exchange.getFront());
+        assertEquals(0, exchange.getPublished());
+        assertEquals(0, exchange.getDropped());
+    }
+
+    @Test
+    public void publishAcquireTest() {
+        long[] first = exchange.getBack();
+        first[0] = 1;
+        assertFalse(exchange.publish());
+        assertNotSame(first, exchange.getBack());
+        assertTrue(exchange.acquire());
+        assertSame(first, exchange.getFront());
+        assertFalse(exchange.acquire());
+        assertSame(first, exchange.getFront());
+        assertEquals(1, exchange.getPublished());
+        assertEquals(0, exchange.getDropped());
+    }
+
+    @Test
+    public void dropTest() {
+        exchange.getBack()[0] = 1;
+        assertFalse(exchange.publish());
+        exchange.getBack()[0] = 2;
+        assertTrue(exchange.publish());
+        assertTrue(exchange.acquire());
+        assertEquals(2, exchange.getFront()[0]);
+        assertEquals(2, exchange.getPublished());
+        assertEquals(1, exchange.getDropped());
+    }
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        int count = 200000;
+        Thread producer = new Thread(() -> {
+            for (int i = 1; i <= count; i++) {
+                long[] back = exchange.getBack();
+                back[0] = i;
+                back[1] = -i;
+                exchange.publish();
+            }
+        });
+        producer.start();
+        long last = 0;
+        while (last < count) {
+            if (!exchange.acquire()) {
+                continue;
+            }
+            long[] front = exchange.getFront();
+            assertEquals(-front[0], front[1]);
+            assertTrue(front[0] > last);
+            last = front[0];
+        }
+        producer.join();
+        assertEquals(count, exchange.getPublished());
+    }
+}
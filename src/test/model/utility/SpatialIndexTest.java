@@ -0,0 +1,128 @@
+package model.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SpatialIndexTest {
+
+    private SpatialIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = new SpatialIndex(50, 30, 8);
+    }
+
+    @Test
+    public void addRemoveTest() {
+        assertEquals(8, index.getBucketSize());
+        assertEquals(0, index.size());
+        for (int i = 0; i < 10; i++) {
+            index.add(i * 3);
+        }
+        assertEquals(10, index.size());
+        assertTrue(index.contains(27));
+        assertFalse(index.contains(28));
+
+        assertTrue(index.remove(27));
+        assertFalse(index.remove(27));
+        assertFalse(index.contains(27));
+        assertTrue(index.contains(24));
+        assertEquals(9, index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertFalse(index.contains(0));
+        index.add(0);
+        assertTrue(index.contains(0));
+    }
+
+    @Test
+    public void queryRectTest() {
+        index.add(0);
+        index.add(49);
+        index.add(29 * 50 + 49);
+        index.add(10 * 50 + 10);
+        IntList out = new IntList();
+
+        assertEquals(4, index.queryRect(-5, -5, 100, 100, out));
+        assertEquals(4, out.size());
+        assertEquals(1, index.queryRect(10, 10, 1, 1, out));
+        assertEquals(10 * 50 + 10, out.get(4));
+        assertEquals(0, index.queryRect(11, 10, 30, 30, out));
+        assertEquals(0, index.queryRect(60, 0, 5, 5, out));
+        assertEquals(0, index.queryRect(0, 0, 0, 5, out));
+        assertEquals(5, out.size());
+    }
+
+    @Test
+    public void queryRadiusTest() {
+        index.add(10 * 50 + 13);
+        index.add(12 * 50 + 12);
+        index.add(13 * 50 + 13);
+        IntList out = new IntList();
+        out.add(-1);
+
+        assertEquals(2, index.queryRadius(10, 10, 3, out));
+        assertEquals(3, out.size());
+        assertEquals(-1, out.get(0));
+        assertEquals(0, index.queryRadius(0, 0, 0, out));
+        assertEquals(1, index.queryRadius(13, 13, 0, out));
+    }
+
+    @Test
+    public void bruteForceTest() {
+        Random random = new Random(7);
+        boolean[] set = new boolean[50 * 30];
+        for (int i = 0; i < 400; i++) {
+            int cell = random.nextInt(set.length);
+            if (set[cell]) {
+                assertTrue(index.remove(cell));
+            } else {
+                index.add(cell);
+            }
+            set[cell] = !set[cell];
+        }
+        IntList out = new IntList();
+        for (int i = 0; i < 50; i++) {
+            int x = random.nextInt(60) - 5;
+            int y = random.nextInt(40) - 5;
+            int w = random.nextInt(20);
+            int h = random.nextInt(20);
+            out.clear();
+            index.queryRect(x, y, w, h, out);
+            assertQuery(set, out, cell -> cell % 50 >= x && cell % 50 < x + w
+                    && cell / 50 >= y && cell / 50 < y + h);
+
+            int r = random.nextInt(10);
+            out.clear();
+            index.queryRadius(x, y, r, out);
+            assertQuery(set, out, cell -> (cell % 50 - x) * (cell % 50 - x)
+                    + (cell / 50 - y) * (cell / 50 - y) <= r * r);
+        }
+    }
+
+    // EFFECTS: checks that out holds exactly the cells of set that pass the filter
+    private void assertQuery(boolean[] set, IntList out, IntPredicate filter) {
+        int[] expected = new int[set.length];
+        int count = 0;
+        for (int cell = 0; cell < set.length; cell++) {
+            if (set[cell] && filter.test(cell)) {
+                expected[count++] = cell;
+            }
+        }
+        int[] actual = new int[out.size()];
+        for (int i = 0; i < out.size(); i++) {
+            actual[i] = out.get(i);
+        }
+        Arrays.sort(actual);
+        assertEquals(Arrays.toString(Arrays.copyOf(expected, count)), Arrays.toString(actual));
+    }
+}
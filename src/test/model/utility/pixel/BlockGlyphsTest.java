@@ -0,0 +1,35 @@
+package model.utility.pixel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class BlockGlyphsTest {
+
+    @Test
+    public void brailleDotsTest() {
+        assertEquals(0, BlockGlyphs.brailleDots(0, 0, 0, 0, 0));
+        assertEquals(0xFF, BlockGlyphs.brailleDots(3, 3, 3, 3, 0));
+        assertEquals(0b10_00_01_00, BlockGlyphs.brailleDots(0, 1L << 62, 0, 1L << 63, 62));
+        assertEquals(0b00_00_00_01, BlockGlyphs.brailleDots(0b0101, 0, 0, 0, 2));
+    }
+
+    @Test
+    public void brailleTest() {
+        assertEquals(' ', BlockGlyphs.braille(0));
+        assertEquals('⠁', BlockGlyphs.braille(0b1));
+        assertEquals('⠈', BlockGlyphs.braille(0b10));
+        assertEquals('⡀', BlockGlyphs.braille(0b01_00_00_00));
+        assertEquals('⢀', BlockGlyphs.braille(0b10_00_00_00));
+        assertEquals('⣿', BlockGlyphs.braille(0xFF));
+    }
+
+    @Test
+    public void halfBlockTest() {
+        assertEquals(PackedPixel.EMPTY, BlockGlyphs.halfBlock(BlockGlyphs.NO_COLOR, BlockGlyphs.NO_COLOR));
+        assertEquals(PackedPixel.pack('█', 4, -1, -1), BlockGlyphs.halfBlock(4, 4));
+        assertEquals(PackedPixel.pack('▀', 4, -1, -1), BlockGlyphs.halfBlock(4, BlockGlyphs.NO_COLOR));
+        assertEquals(PackedPixel.pack('▄', 4, -1, -1), BlockGlyphs.halfBlock(BlockGlyphs.NO_COLOR, 4));
+        assertEquals(PackedPixel.pack('▀', 10, 4, -1), BlockGlyphs.halfBlock(10, 4));
+    }
+}
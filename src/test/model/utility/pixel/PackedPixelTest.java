@@ -0,0 +1,54 @@
+package model.utility.pixel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class PackedPixelTest {
+
+    @Test
+    public void packTest() {
+        long pixel = PackedPixel.pack('█', new TextAttribute(255, 12, 7));
+        assertEquals('█', PackedPixel.getCharacter(pixel));
+        assertEquals(255, PackedPixel.getForeground(pixel));
+        assertEquals(12, PackedPixel.getBackground(pixel));
+        assertEquals(7, PackedPixel.getStyle(pixel));
+    }
+
+    @Test
+    public void packPartsTest() {
+        assertEquals(PackedPixel.pack('▀', new TextAttribute(4, 10, 0)), PackedPixel.pack('▀', 4, 10, 0));
+        assertEquals(PackedPixel.EMPTY, PackedPixel.pack(' ', -1, -1, -1));
+        assertEquals(-1, PackedPixel.getBackground(PackedPixel.pack('a', 1, 256, 1)));
+    }
+
+    @Test
+    public void defaultTest() {
+        long pixel = PackedPixel.pack('a', TextAttribute.DEFAULT);
+        assertEquals('a', pixel);
+        assertEquals(PackedPixel.DEFAULT_ATTRIBUTE, PackedPixel.getAttribute(pixel));
+        assertEquals(-1, PackedPixel.getForeground(pixel));
+        assertEquals(-1, PackedPixel.getBackground(pixel));
+        assertEquals(-1, PackedPixel.getStyle(pixel));
+        assertEquals(' ', PackedPixel.getCharacter(PackedPixel.EMPTY));
+    }
+
+    @Test
+    public void outOfRangeTest() {
+        long pixel = PackedPixel.pack('a', new TextAttribute(256, -5, 300));
+        assertEquals(-1, PackedPixel.getForeground(pixel));
+        assertEquals(-1, PackedPixel.getBackground(pixel));
+        assertEquals(-1, PackedPixel.getStyle(pixel));
+    }
+
+    @Test
+    public void compareTest() {
+        long a = PackedPixel.pack('a', new TextAttribute(12, 12, 6));
+        assertEquals(a, PackedPixel.pack('a', new TextAttribute(12, 12, 6)));
+        assertNotEquals(a, PackedPixel.pack('a', new TextAttribute(12, 13, 6)));
+        assertNotEquals(a, PackedPixel.pack('a', new TextAttribute(12, 12, 3)));
+        assertNotEquals(a, PackedPixel.pack('b', new TextAttribute(12, 12, 6)));
+        assertEquals(PackedPixel.getAttribute(a), PackedPixel.packAttribute(new TextAttribute(12, 12, 6)));
+    }
+}
@@ -58,4 +58,10 @@ public class PixelTest {
         a.setAttribute(styleD);
         assertFalse(a.isSame(b));
     }
+
+    @Test
+    public void packTest() {
+        assertEquals(PackedPixel.pack('A', TextAttribute.DEFAULT), pixel.pack());
+        assertEquals(PackedPixel.EMPTY, Pixel.EMPTY_PIXEL.pack());
+    }
 }
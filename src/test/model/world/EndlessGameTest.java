@@ -0,0 +1,67 @@
+package model.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.utility.Coordinate;
+import model.utility.Direction;
+
+public class EndlessGameTest {
+
+    private EndlessGame game;
+
+    @BeforeEach
+    public void setup() {
+        game = new EndlessGame(99);
+    }
+
+    @AfterEach
+    public void close() {
+        game.getWorld().close();
+    }
+
+    @Test
+    public void constructorTest() {
+        assertTrue(game.getPlayer().getPosition().isSame(0, 0));
+        assertEquals(99, game.getWorld().getSeed());
+        assertEquals(EndlessGame.CHUNK_SIZE, game.getWorld().getChunkSize());
+    }
+
+    @Test
+    public void tryMoveTest() {
+        for (Direction direction : Direction.values()) {
+            Coordinate before = new Coordinate(game.getPlayer().getPosition().getX(),
+                    game.getPlayer().getPosition().getY());
+            Coordinate target = new Coordinate(before.getX(), before.getY());
+            target.go(direction, 1);
+            boolean open = !game.getWorld().isWall(target.getX(), target.getY());
+
+            assertEquals(open, game.tryMove(direction));
+            assertEquals(direction, game.getPlayer().getDirection());
+            assertTrue(game.getPlayer().getPosition().isSame(open ? target : before));
+        }
+    }
+
+    @Test
+    public void walkFarTest() {
+        // walk the right hand rule for a while, the cache must stay bounded
+        Direction[] order = {Direction.RIGHT, Direction.DOWN, Direction.LEFT, Direction.UP};
+        int facing = 0;
+        for (int i = 0; i < 20000; i++) {
+            int right = (facing + 1) % 4;
+            if (game.tryMove(order[right])) {
+                facing = right;
+            } else if (!game.tryMove(order[facing])) {
+                facing = (facing + 3) % 4;
+            }
+            assertTrue(game.getWorld().getNumOfCachedChunks() <= EndlessGame.CACHE_CAPACITY);
+        }
+        Coordinate pos = game.getPlayer().getPosition();
+        assertFalse(game.getWorld().isWall(pos.getX(), pos.getY()));
+    }
+}
@@ -0,0 +1,80 @@
+package model.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.utility.Coordinate;
+import model.utility.Direction;
+
+public class StreamGameTest {
+
+    private StreamGame game;
+
+    @BeforeEach
+    public void setup() {
+        game = new StreamGame(99, 36);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertTrue(game.getPlayer().getPosition().isSame(0, 0));
+        assertEquals(99, game.getSeed());
+        assertEquals(0, game.getDepth());
+        assertFalse(game.isWall(0, 0));
+        assertEquals(StreamGame.AHEAD_ROWS + 2, game.getWindow().getNextRow());
+        assertTrue(game.isWall(-1, 0));
+        assertTrue(game.isWall(36, 0));
+    }
+
+    @Test
+    public void tryMoveTest() {
+        for (Direction direction : Direction.values()) {
+            Coordinate before = new Coordinate(game.getPlayer().getPosition().getX(),
+                    game.getPlayer().getPosition().getY());
+            Coordinate target = new Coordinate(before.getX(), before.getY());
+            target.go(direction, 1);
+            boolean open = !game.isWall(target.getX(), target.getY());
+
+            assertEquals(open, game.tryMove(direction));
+            assertEquals(direction, game.getPlayer().getDirection());
+            assertTrue(game.getPlayer().getPosition().isSame(open ? target : before));
+        }
+    }
+
+    @Test
+    public void descendTest() {
+        // walk the right hand rule for a while, the rows ahead must be
+        // generated and the window must keep only the rows near the player
+        Direction[] order = {Direction.RIGHT, Direction.DOWN, Direction.LEFT, Direction.UP};
+        int facing = 1;
+        for (int i = 0; i < 20000; i++) {
+            int right = (facing + 1) % 4;
+            if (game.tryMove(order[right])) {
+                facing = right;
+            } else if (!game.tryMove(order[facing])) {
+                facing = (facing + 3) % 4;
+            }
+            int y = game.getPlayer().getPosition().getY();
+            assertTrue(game.getWindow().getNextRow() > y + StreamGame.AHEAD_ROWS);
+            assertTrue(y >= game.getWindow().getFirstRow());
+        }
+        assertTrue(game.getDepth() > StreamGame.WINDOW_ROWS, "depth " + game.getDepth());
+        assertTrue(game.getDepth() >= game.getPlayer().getPosition().getY());
+        assertTrue(game.getWindow().isWall(0, game.getWindow().getFirstRow() - 1));
+        assertEquals(4, game.describe().size());
+    }
+
+    @Test
+    public void deterministicTest() {
+        StreamGame other = new StreamGame(99, 36);
+        for (int y = 0; y < StreamGame.AHEAD_ROWS; y++) {
+            for (int x = 0; x < 36; x++) {
+                assertEquals(game.isWall(x, y), other.isWall(x, y));
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package model.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.maze.GeneratorType;
+
+public class WorldTest {
+    private static final int SIZE = 16;
+
+    private World world;
+
+    @BeforeEach
+    public void setup() {
+        world = new World(2022, SIZE, GeneratorType.BACKTRACKER, 9);
+    }
+
+    @AfterEach
+    public void close() {
+        world.close();
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(2022, world.getSeed());
+        assertEquals(SIZE, world.getChunkSize());
+        assertEquals(9, world.getCacheCapacity());
+        assertEquals(0, world.getNumOfCachedChunks());
+        assertFalse(world.isWall(0, 0));
+    }
+
+    @Test
+    public void deterministicTest() {
+        World other = new World(2022, SIZE, GeneratorType.BACKTRACKER, 9);
+        for (int y = -40; y < 40; y++) {
+            for (int x = -40; x < 40; x++) {
+                assertEquals(world.isWall(x, y), other.isWall(x, y));
+            }
+        }
+        other.close();
+    }
+
+    @Test
+    public void isWallTest() {
+        for (int y = -2 * SIZE; y < 2 * SIZE; y++) {
+            for (int x = -2 * SIZE; x < 2 * SIZE; x++) {
+                Chunk chunk = world.getChunk(Math.floorDiv(x, SIZE), Math.floorDiv(y, SIZE));
+                boolean wall = chunk.isWall(Math.floorMod(x, SIZE), Math.floorMod(y, SIZE));
+                assertEquals(wall, world.isWall(x, y));
+                assertEquals(wall, world.isWall(x, y));
+            }
+        }
+        assertEquals(16, world.getChunksGenerated());
+    }
+
+    @Test
+    public void isWallLastChunkTest() {
+        world.isWall(0, 0);
+        for (int x = 0; x < SIZE; x++) {
+            world.isWall(x, SIZE - 1);
+        }
+        assertEquals(1, world.getChunksGenerated());
+        for (int i = 1; i <= 20; i++) {
+            world.getChunk(i, -i);
+        }
+        assertEquals(world.getChunk(0, 0).isWall(3, 5), world.isWall(3, 5));
+        assertEquals(22, world.getChunksGenerated());
+    }
+
+    @Test
+    public void evictionTest() {
+        Chunk first = world.getChunk(0, 0);
+        assertSame(first, world.getChunk(0, 0));
+        for (int i = 1; i <= 20; i++) {
+            world.getChunk(i, -i);
+            assertTrue(world.getNumOfCachedChunks() <= 9);
+        }
+        Chunk again = world.getChunk(0, 0);
+        assertNotSame(first, again);
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            assertEquals(first.getGrid().get(i), again.getGrid().get(i));
+        }
+    }
+
+    @Test
+    public void chunkBordersAreConnectedTest() {
+        // 3 x 3 chunks starting at chunk (-1, -1), every road in there must be
+        // reachable from the origin
+        int from = -SIZE;
+        int length = 3 * SIZE;
+        boolean[][] seen = new boolean[length][length];
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[] {0, 0});
+        seen[-from][-from] = true;
+        int reached = 0;
+        while (!queue.isEmpty()) {
+            int[] block = queue.poll();
+            reached++;
+            int[][] next = {{block[0] + 1, block[1]}, {block[0] - 1, block[1]},
+                    {block[0], block[1] + 1}, {block[0], block[1] - 1}};
+            for (int[] n : next) {
+                int sx = n[0] - from;
+                int sy = n[1] - from;
+                if (sx >= 0 && sy >= 0 && sx < length && sy < length && !seen[sy][sx] && !world.isWall(n[0], n[1])) {
+                    seen[sy][sx] = true;
+                    queue.add(n);
+                }
+            }
+        }
+        int roads = 0;
+        for (int y = from; y < from + length; y++) {
+            for (int x = from; x < from + length; x++) {
+                roads += world.isWall(x, y) ? 0 : 1;
+            }
+        }
+        assertEquals(roads, reached);
+    }
+
+    @Test
+    public void prefetchTest() {
+        world.prefetchAround(SIZE * 5, SIZE * 5);
+        world.getChunk(5, 5);
+        world.getChunk(6, 4);
+        assertEquals(2, world.getPrefetchHits());
+        assertEquals(0, world.getChunksGenerated());
+
+        world.prefetchAround(0, 0);
+        world.getChunk(40, 40);
+        assertEquals(1, world.getChunksGenerated());
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Map;
 
@@ -75,6 +76,23 @@ public class JsonReaderTest {
         }
     }
 
+    @Test
+    public void readLegacyCompactTest() throws IOException {
+        String file = ConsoleApp.DATA_STORAGE + "test1.json";
+        Game game = reader.parseGame(file);
+        assertFalse(game.getMaze().isFromSeed());
+        assertEquals(0, game.getMaze().getNumOfEdits());
+        assertTrue(game.toCompactJson().toString().length() <= game.toJson().toString().length());
+
+        File compact = File.createTempFile("game", ".json");
+        compact.deleteOnExit();
+        new JsonWriter().saveCompactToFile(compact.getPath(), game);
+        Game saved = reader.parseGame(compact.getPath());
+        assertFalse(saved.getMaze().isFromSeed());
+        assertEquals(0, saved.getMaze().getNumOfEdits());
+        assertMazeRead(new JSONObject(readFile(file)).getJSONObject("maze"), saved.getMaze());
+    }
+
     @Test
     public void fileListJsonNoTrimTest() {
         String[] list = reader.fileList(ConsoleApp.DATA_STORAGE, ".json", false);
@@ -1,20 +1,29 @@
 package persistence;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Map;
 
 import org.json.JSONException;
+import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import model.Game;
 import model.TestHelpers;
+import model.item.Breaker;
+import model.item.Coin;
 import model.item.Item;
+import model.item.ItemType;
+import model.item.Spotlight;
+import model.maze.GeneratorType;
 import model.utility.Coordinate;
 import ui.ConsoleApp;
 
@@ -50,6 +59,8 @@ public class JsonWriterTest extends TestHelpers {
         try {
             Game saved = reader.parseGame(ConsoleApp.DATA_STORAGE + "saveTest.json");
             assertGameWrite(game, saved);
+            assertTrue(saved.getMaze().isFromSeed());
+            assertEquals(0, saved.getMaze().getNumOfEdits());
         } catch (JSONException e) {
             fail("File failed to write");
         } catch (IOException e) {
@@ -57,9 +68,149 @@ public class JsonWriterTest extends TestHelpers {
         }
     }
 
+    @Test
+    public void saveCompactTest() throws IOException {
+        File file = File.createTempFile("game", ".json");
+        file.deleteOnExit();
+
+        game = new Game(ConsoleApp.WIDTH, ConsoleApp.HEIGHT, GeneratorType.KRUSKAL, 42L);
+        game.nextLevel(false);
+        game.setGeneratorType(GeneratorType.WILSON);
+        new Breaker(5).apply(game);
+        Coordinate item = game.getItemEntrySet().iterator().next().getKey();
+        game.removeItem(item);
+        writer.saveCompactToFile(file.getPath(), game);
+
+        String json = new JsonReader().read(file.getPath());
+        assertFalse(json.contains("true"));
+        Game saved = new JsonReader().parseGame(file.getPath());
+        assertGameWrite(game, saved);
+        assertEquals(game.getNumOfItems(), saved.getNumOfItems());
+        assertFalse(saved.isItem(item));
+        assertEquals(1, saved.getLevel());
+        assertEquals(GeneratorType.KRUSKAL, saved.getMaze().getGeneratorType());
+        assertEquals(GeneratorType.WILSON, saved.getGeneratorType());
+    }
+
+    @Test
+    public void saveCompactItemTypesTest() throws IOException {
+        File file = File.createTempFile("game", ".json");
+        file.deleteOnExit();
+
+        Game legacy = new Game(20, 20, GeneratorType.PRIM, 7L, ItemType.SPOTLIGHT.ordinal());
+        JSONObject json = legacy.toCompactJson();
+        json.remove("itemTypes");
+        Files.write(file.toPath(), json.toString().getBytes());
+        Game saved = new JsonReader().parseGame(file.getPath());
+        assertEquals(legacy.getItemTypes(), saved.getItemTypes());
+        assertEquals(legacy.getNumOfItems(), saved.getNumOfItems());
+        for (Map.Entry<Coordinate, Item> entry : legacy.getItemEntrySet()) {
+            assertEquals(entry.getValue().toJSONString(), saved.getItem(entry.getKey()).toJSONString());
+        }
+
+        writer.saveCompactToFile(file.getPath(), new Game(20, 20, GeneratorType.PRIM, 7L));
+        assertEquals(Game.ITEM_TYPES, new JsonReader().parseGame(file.getPath()).getItemTypes());
+    }
+
+    @Test
+    public void saveCompactSizeTest() throws IOException {
+        File file = File.createTempFile("game", ".json");
+        file.deleteOnExit();
+
+        writer.saveCompactToFile(file.getPath(), new Game(20, 20, GeneratorType.PRIM, 1L));
+        long small = file.length();
+        writer.saveCompactToFile(file.getPath(), new Game(400, 400, GeneratorType.PRIM, 1L));
+        assertTrue(file.length() < small + 100);
+    }
+
+    @Test
+    public void saveCompactEditedItemsTest() throws IOException {
+        File file = File.createTempFile("game", ".json");
+        file.deleteOnExit();
+
+        game.removeAllItemsOnMap();
+        game.setItem(new Coordinate(1, 1), new Coin(7));
+        writer.saveCompactToFile(file.getPath(), game);
+        Game saved = new JsonReader().parseGame(file.getPath());
+        assertEquals(1, saved.getNumOfItems());
+        assertEquals(game.getItem(new Coordinate(1, 1)).getDisplayName(),
+                saved.getItem(new Coordinate(1, 1)).getDisplayName());
+    }
+
+    @Test
+    public void saveLightTest() throws IOException {
+        File file = File.createTempFile("game", ".json");
+        file.deleteOnExit();
+
+        game.removeAllItemsOnMap();
+        game.setItem(new Coordinate(1, 1), new Spotlight(9, 25));
+        game.getPlayer().light(12, 7);
+        writer.saveCompactToFile(file.getPath(), game);
+        Game saved = new JsonReader().parseGame(file.getPath());
+        assertEquals(12, saved.getPlayer().getLightRadius());
+        assertEquals(7, saved.getPlayer().getLightSteps());
+        assertEquals(game.getItem(new Coordinate(1, 1)).toJSONString(),
+                saved.getItem(new Coordinate(1, 1)).toJSONString());
+    }
+
+    @Test
+    public void saveLogTest() throws IOException {
+        File file = File.createTempFile("game", ".json");
+        file.deleteOnExit();
+        File logFile = new File(JsonWriter.logFileOf(file.getPath()));
+        logFile.deleteOnExit();
+
+        game = new Game(ConsoleApp.WIDTH, ConsoleApp.HEIGHT, GeneratorType.KRUSKAL, 9L);
+        playRandomly(game, 1L, 20);
+        writer.saveLogToFile(file.getPath(), game);
+        assertEquals(0, logFile.length());
+        long snapshot = file.length();
+
+        playRandomly(game, 2L, 20);
+        writer.appendLogToFile(file.getPath(), game);
+        assertEquals(game.getLog().size() - game.getLog().getLastCheckpointOffset(), logFile.length());
+        assertEquals(snapshot, file.length());
+
+        Game saved = new JsonReader().parseGame(file.getPath());
+        assertEquals(game.toCompactJson().toString(), saved.toCompactJson().toString());
+        assertGameWrite(game, saved);
+
+        playRandomly(saved, 3L, 20);
+        long before = logFile.length();
+        writer.appendLogToFile(file.getPath(), saved);
+        assertEquals(saved.getLog().size(), logFile.length());
+        assertTrue(logFile.length() > before);
+        Game loaded = new JsonReader().parseGame(file.getPath());
+        assertEquals(saved.toCompactJson().toString(), loaded.toCompactJson().toString());
+    }
+
+    @Test
+    public void saveLogCheckpointTest() throws IOException {
+        File file = File.createTempFile("game", ".json");
+        file.deleteOnExit();
+        File logFile = new File(JsonWriter.logFileOf(file.getPath()));
+        logFile.deleteOnExit();
+
+        game = new Game(20, 20, GeneratorType.PRIM, 4L);
+        writer.saveLogToFile(file.getPath(), game);
+        playRandomly(game, 5L, 400);
+        assertTrue(game.getLog().hasUnflushedCheckpoint());
+        writer.appendLogToFile(file.getPath(), game);
+        assertTrue(logFile.length() < Game.CHECKPOINT_INTERVAL);
+        Game loaded = new JsonReader().parseGame(file.getPath());
+        assertEquals(game.toCompactJson().toString(), loaded.toCompactJson().toString());
+    }
+
+    @Test
+    public void logFileOfTest() {
+        assertEquals("./data/a.log", JsonWriter.logFileOf("./data/a.json"));
+        assertEquals("a.b/c.log", JsonWriter.logFileOf("a.b/c"));
+    }
+
     // EFFECTS: check if two games are the same
     private void assertGameWrite(Game expected, Game actual) {
         assertEquals(expected.getGameMessage(), actual.getGameMessage());
+        assertEquals(expected.getGeneratorType(), actual.getGeneratorType());
         assertTrue(isSameMaze(expected.getMaze(), actual.getMaze()));
 
         for (Map.Entry<Coordinate, Item> entry : expected.getItemEntrySet()) {
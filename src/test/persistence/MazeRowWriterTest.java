@@ -0,0 +1,51 @@
+package persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import model.maze.MazeRowStream;
+
+public class MazeRowWriterTest {
+
+    @Test
+    public void writeNonExistTest() {
+        try {
+            new MazeRowWriter("abc/abc.txt");
+            fail("Expecting FileNotFoundException");
+        } catch (FileNotFoundException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void writeTest() throws IOException {
+        File file = File.createTempFile("maze", ".txt");
+        file.deleteOnExit();
+
+        MazeRowWriter writer = new MazeRowWriter(file.getPath());
+        MazeRowStream stream = new MazeRowStream(12, new Random(1));
+        for (int i = 0; i < 4; i++) {
+            stream.nextRows(writer);
+        }
+        stream.finish(writer);
+        assertTrue(writer.close());
+
+        String[] lines = new JsonReader().read(file.getPath()).split("\n");
+        assertEquals(10, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals(12, lines[i].length());
+            assertEquals(MazeRowWriter.WALL, lines[i].charAt(11));
+            if (i % 2 == 0) {
+                assertEquals(MazeRowWriter.ROAD, lines[i].charAt(0));
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package ui.console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.utility.pixel.PackedPixel;
+
+public class FrameEncoderTest {
+    private FrameEncoder encoder;
+
+    @BeforeEach
+    public void setup() {
+        encoder = new FrameEncoder();
+    }
+
+    @Test
+    public void cursorTest() throws UnsupportedEncodingException {
+        encoder.cell(1, 1, cell('a'));
+        encoder.cell(2, 1, cell('b'));
+        encoder.cell(4, 1, cell('c'));
+        encoder.cell(1, 2, cell('d'));
+        encoder.cell(2, 2, cell('e'));
+        assertEquals("\033[1;1Hab\033[1;4Hc\033[2;1Hde", frame());
+
+        encoder.cell(3, 2, cell('f'));
+        assertEquals("\033[2;3Hf", frame());
+    }
+
+    @Test
+    public void styleTest() throws UnsupportedEncodingException {
+        long wall = PackedPixel.pack('#', 4, -1, -1);
+        encoder.cell(1, 1, wall);
+        encoder.cell(2, 1, wall);
+        encoder.cell(3, 1, cell('x'));
+        encoder.cell(4, 1, PackedPixel.pack('y', 1, 2, 3));
+        encoder.cell(5, 1, PackedPixel.pack('z', -1, 200, -1));
+        assertEquals("\033[1;1H\033[0;38;5;4m##\033[0mx\033[0;3;38;5;1;48;5;2my\033[0;48;5;200mz\033[0m", frame());
+
+        encoder.cell(1, 1, cell('a'));
+        assertEquals("\033[1;1Ha", frame());
+    }
+
+    @Test
+    public void utf8Test() throws UnsupportedEncodingException {
+        encoder.cell(1, 1, cell('█'));
+        encoder.cell(2, 1, cell('é'));
+        assertEquals(6 + 3 + 2, encoder.size());
+        assertEquals("\033[1;1H█é", frame());
+    }
+
+    @Test
+    public void scrollRowsTest() throws UnsupportedEncodingException {
+        encoder.cell(1, 1, PackedPixel.pack('#', 4, -1, -1));
+        encoder.scrollRows(2, 10, 3);
+        encoder.cell(2, 1, cell('a'));
+        encoder.scrollRows(1, 5, -1);
+        assertEquals("\033[1;1H\033[0;38;5;4m#\033[0m\033[2;10r\033[3S\033[r\033[1;2Ha\033[1;5r\033[1T\033[r", frame());
+    }
+
+    @Test
+    public void shiftColumnsTest() throws UnsupportedEncodingException {
+        encoder.shiftColumns(3, 1, 20, 2);
+        encoder.shiftColumns(4, 1, 20, -2);
+        encoder.cell(20, 4, cell('a'));
+        assertEquals("\033[3;1H\033[2P\033[3;19H\033[2@\033[4;19H\033[2P\033[4;1H\033[2@\033[4;20Ha", frame());
+    }
+
+    @Test
+    public void growTest() throws UnsupportedEncodingException {
+        StringBuilder expected = new StringBuilder("\033[1;1H");
+        for (int i = 0; i < FrameEncoder.INITIAL_CAPACITY * 2; i++) {
+            encoder.cell(i + 1, 1, cell('a'));
+            expected.append('a');
+        }
+        assertEquals(expected.toString(), frame());
+    }
+
+    // EFFECTS: returns the packed pixel of c in the default style
+    private static long cell(char c) {
+        return PackedPixel.pack(c, -1, -1, -1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: ends the frame, returns what it writes to the terminal and
+    // begins the next one
+    private String frame() throws UnsupportedEncodingException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, false, "UTF-8");
+        encoder.end();
+        encoder.writeTo(out);
+        out.flush();
+        encoder.begin();
+        return bytes.toString("UTF-8");
+    }
+}
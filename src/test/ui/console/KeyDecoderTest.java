@@ -0,0 +1,83 @@
+package ui.console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+public class KeyDecoderTest {
+
+    @Test
+    public void plainKeyTest() throws IOException {
+        KeyDecoder decoder = decoder("w\r");
+        assertEquals('w', decoder.nextKey());
+        assertEquals(Keys.ENTER, decoder.nextKey());
+        assertEquals(Keys.CLOSED, decoder.nextKey());
+    }
+
+    @Test
+    public void arrowTest() throws IOException {
+        KeyDecoder decoder = decoder("\033[A\033[B\033[C\033[D");
+        assertEquals(Keys.UP, decoder.nextKey());
+        assertEquals(Keys.DOWN, decoder.nextKey());
+        assertEquals(Keys.RIGHT, decoder.nextKey());
+        assertEquals(Keys.LEFT, decoder.nextKey());
+        assertEquals(Keys.CLOSED, decoder.nextKey());
+    }
+
+    @Test
+    public void applicationArrowTest() throws IOException {
+        KeyDecoder decoder = decoder("\033OA\033OD");
+        assertEquals(Keys.UP, decoder.nextKey());
+        assertEquals(Keys.LEFT, decoder.nextKey());
+    }
+
+    @Test
+    public void parameterTest() throws IOException {
+        KeyDecoder decoder = decoder("\033[1;5C\033[1;2B");
+        assertEquals(Keys.RIGHT, decoder.nextKey());
+        assertEquals(Keys.DOWN, decoder.nextKey());
+    }
+
+    @Test
+    public void unknownSequenceTest() throws IOException {
+        KeyDecoder decoder = decoder("\033[2~\033[15;2~\033OPa");
+        assertEquals('a', decoder.nextKey());
+        assertEquals(Keys.CLOSED, decoder.nextKey());
+    }
+
+    @Test
+    public void altKeyTest() throws IOException {
+        KeyDecoder decoder = decoder("\033q\033\033");
+        assertEquals('q', decoder.nextKey());
+        assertEquals(Keys.ESCAPE, decoder.nextKey());
+    }
+
+    @Test
+    public void loneEscapeTest() throws IOException {
+        KeyDecoder decoder = decoder("\033");
+        long start = System.nanoTime();
+        assertEquals(Keys.ESCAPE, decoder.nextKey());
+        assertTrue(System.nanoTime() - start >= KeyDecoder.ESCAPE_TIMEOUT_MILLIS * 1_000_000L);
+        assertEquals(Keys.CLOSED, decoder.nextKey());
+    }
+
+    @Test
+    public void endInSequenceTest() throws IOException {
+        assertEquals(Keys.CLOSED, decoder("\033[").nextKey());
+        assertEquals(Keys.CLOSED, decoder("\033[1;5").nextKey());
+        assertEquals(Keys.CLOSED, decoder("\033O").nextKey());
+    }
+
+    // EFFECTS: returns a decoder of the bytes of text
+    private KeyDecoder decoder(String text) {
+        byte[] bytes = new byte[text.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) text.charAt(i);
+        }
+        return new KeyDecoder(new ByteArrayInputStream(bytes));
+    }
+}
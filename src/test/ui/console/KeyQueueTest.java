@@ -0,0 +1,122 @@
+package ui.console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KeyQueueTest {
+    private KeyQueue queue;
+
+    @BeforeEach
+    public void setup() {
+        queue = new KeyQueue(3);
+    }
+
+    @Test
+    public void takeTest() {
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.offer('a', 10));
+        assertTrue(queue.offer('b', 20));
+        assertEquals(2, queue.size());
+
+        assertEquals('a', queue.take());
+        assertEquals(10, queue.getLastTime());
+        assertEquals('b', queue.take());
+        assertEquals(20, queue.getLastTime());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void wraparoundTest() {
+        queue.offer('a', 1);
+        queue.offer('b', 2);
+        queue.take();
+        queue.take();
+        for (int key = 'c'; key <= 'e'; key++) {
+            assertTrue(queue.offer(key, key));
+        }
+        for (int key = 'c'; key <= 'e'; key++) {
+            assertEquals(key, queue.take());
+            assertEquals(key, queue.getLastTime());
+        }
+        assertEquals(0, queue.getDropped());
+    }
+
+    @Test
+    public void overflowTest() {
+        for (int key = 'a'; key <= 'c'; key++) {
+            assertTrue(queue.offer(key, 0));
+        }
+        assertFalse(queue.offer('d', 0));
+        assertFalse(queue.offer('e', 0));
+        assertEquals(2, queue.getDropped());
+        assertEquals(3, queue.size());
+        assertEquals('a', queue.take());
+        assertTrue(queue.offer('f', 0));
+        assertEquals('b', queue.take());
+        assertEquals('c', queue.take());
+        assertEquals('f', queue.take());
+    }
+
+    @Test
+    public void closeTest() {
+        queue.offer('a', 0);
+        queue.close();
+        assertFalse(queue.offer('b', 0));
+        assertEquals(1, queue.getDropped());
+        assertTrue(queue.await(0));
+        assertEquals('a', queue.take());
+        assertTrue(queue.await(0));
+        assertEquals(Keys.CLOSED, queue.take());
+        assertEquals(Keys.CLOSED, queue.take());
+    }
+
+    @Test
+    public void awaitTest() {
+        assertFalse(queue.await(0));
+        long start = System.nanoTime();
+        assertFalse(queue.await(5_000_000L));
+        assertTrue(System.nanoTime() - start >= 5_000_000L);
+
+        queue.offer('a', 0);
+        assertTrue(queue.await(0));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void awaitWakeTest() throws InterruptedException {
+        Thread typist = new Thread(() -> {
+            sleep(20);
+            queue.offer('a', 0);
+        });
+        typist.start();
+        long start = System.nanoTime();
+        assertTrue(queue.await(10_000_000_000L));
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+        assertEquals('a', queue.take());
+        typist.join();
+    }
+
+    @Test
+    public void takeWakeTest() throws InterruptedException {
+        Thread closer = new Thread(() -> {
+            sleep(20);
+            queue.close();
+        });
+        closer.start();
+        assertEquals(Keys.CLOSED, queue.take());
+        closer.join();
+    }
+
+    // EFFECTS: sleeps for the given milliseconds
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
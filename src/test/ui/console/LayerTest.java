@@ -0,0 +1,78 @@
+package ui.console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.utility.pixel.PackedPixel;
+import model.utility.pixel.Pixel;
+import model.utility.pixel.TextAttribute;
+
+public class LayerTest {
+    private static final long WALL = PackedPixel.pack('#', TextAttribute.DEFAULT);
+    private static final long PLAYER = PackedPixel.pack('@', TextAttribute.DEFAULT);
+
+    private ByteArrayOutputStream bytes;
+    private Screen screen;
+    private Layer walls;
+    private Layer objects;
+
+    @BeforeEach
+    public void setup() throws UnsupportedEncodingException {
+        bytes = new ByteArrayOutputStream();
+        screen = new Screen(4, 2, new PrintStream(bytes, false, "UTF-8"));
+        walls = screen.addLayer();
+        objects = screen.addLayer();
+        screen.render();
+        bytes.reset();
+    }
+
+    @Test
+    public void compositeTest() throws UnsupportedEncodingException {
+        walls.writePacked(WALL, 0, 0);
+        walls.writePacked(WALL, 1, 0);
+        objects.writePacked(PLAYER, 1, 0);
+        assertEquals("\033[1;1H#@", frame());
+
+        objects.writePacked(Layer.TRANSPARENT, 1, 0);
+        assertEquals("\033[1;2H#", frame());
+        walls.clearRegion(0, 0, 2, 1);
+        assertEquals("\033[1;1H  ", frame());
+        assertEquals("", frame());
+    }
+
+    @Test
+    public void writePixelTest() throws UnsupportedEncodingException {
+        objects.writePixel(new Pixel('@', TextAttribute.DEFAULT), 1, 1, true);
+        objects.writePixel(new Pixel('o', TextAttribute.DEFAULT), 3, 1, false);
+        assertEquals("\033[2;3H@@\033[2;7Ho", frame());
+    }
+
+    @Test
+    public void invalidateTest() throws UnsupportedEncodingException {
+        walls.writePacked(WALL, 0, 0);
+        assertEquals("\033[1;1H#", frame());
+
+        screen.writePacked(PLAYER, 0, 0);
+        walls.writePacked(WALL, 0, 0);
+        assertEquals("\033[1;1H@", frame());
+        walls.invalidate(0, 0, 1, 1);
+        assertEquals("\033[1;1H#", frame());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: composites the layers, renders the changes and returns what
+    // was written to the terminal for them
+    private String frame() throws UnsupportedEncodingException {
+        screen.composite();
+        screen.renderChanges();
+        String frame = bytes.toString("UTF-8");
+        bytes.reset();
+        return frame;
+    }
+}
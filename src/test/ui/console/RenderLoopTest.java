@@ -0,0 +1,70 @@
+package ui.console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import model.utility.IntList;
+import model.utility.SnapshotExchange;
+
+public class RenderLoopTest {
+    private final SnapshotExchange<IntList> exchange = new SnapshotExchange<>(IntList::new);
+    private final IntList drawn = new IntList();
+    private volatile Thread drawer;
+
+    @Test
+    public void inlineTest() {
+        RenderLoop<IntList> loop = new RenderLoop<>(exchange, this::draw);
+        publish(loop, 1);
+        assertTrue(drawn.isEmpty());
+
+        loop.start();
+        assertTrue(loop.isRunning());
+        assertTrue(publish(loop, 2));
+        assertSame(Thread.currentThread(), drawer);
+        assertFalse(publish(loop, 3));
+        assertEquals(2, drawn.size());
+        assertEquals(2, drawn.get(0));
+        assertEquals(3, drawn.get(1));
+        assertEquals(2, loop.getFrames());
+
+        loop.stop();
+        assertFalse(loop.isRunning());
+        publish(loop, 4);
+        assertEquals(2, drawn.size());
+    }
+
+    @Test
+    public void threadTest() throws InterruptedException {
+        RenderLoop<IntList> loop = new RenderLoop<>(exchange, this::draw, 1000);
+        loop.start();
+        publish(loop, 1);
+        for (int i = 0; i < 500 && loop.getFrames() == 0; i++) {
+            Thread.sleep(10);
+        }
+        loop.stop();
+        assertEquals(1, loop.getFrames());
+        assertEquals(1, drawn.get(0));
+        assertFalse(Thread.currentThread() == drawer);
+        assertFalse(loop.isRunning());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: publishes a snapshot of the single value through the loop
+    private boolean publish(RenderLoop<IntList> loop, int value) {
+        IntList back = exchange.getBack();
+        back.clear();
+        back.add(value);
+        return loop.publish();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the value of the snapshot and the thread it was drawn on
+    private void draw(IntList snapshot) {
+        drawer = Thread.currentThread();
+        drawn.add(snapshot.get(0));
+    }
+}
@@ -0,0 +1,66 @@
+package ui.console;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.junit.jupiter.api.Test;
+
+import model.utility.pixel.Pixel;
+import model.utility.pixel.TextAttribute;
+
+public class ScreenAllocationTest {
+    private static final int FRAMES = 2000;
+    private static final long MAX_BYTES_PER_FRAME = 16;
+    private static final Pixel PLAYER = new Pixel('⬤', new TextAttribute(10, TextAttribute.DEFAULT_VALUE, 0));
+    private static final Pixel WALL = new Pixel('█', new TextAttribute(4, TextAttribute.DEFAULT_VALUE, 0));
+
+    @Test
+    public void steadyFramesTest() throws UnsupportedEncodingException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(counter.isThreadAllocatedMemorySupported() && counter.isThreadAllocatedMemoryEnabled());
+
+        Screen screen = new Screen(40, 20, new PrintStream(new NullStream(), false, "UTF-8"));
+        for (int x = 0; x < 20; x++) {
+            screen.writePixel(WALL, x, 0, true);
+        }
+        screen.render();
+        renderFrames(screen, FRAMES);
+
+        long thread = Thread.currentThread().getId();
+        long before = counter.getThreadAllocatedBytes(thread);
+        renderFrames(screen, FRAMES);
+        long allocated = counter.getThreadAllocatedBytes(thread) - before;
+        assertTrue(allocated < FRAMES * MAX_BYTES_PER_FRAME, allocated + " bytes for " + FRAMES + " frames");
+    }
+
+    // MODIFIES: screen
+    // EFFECTS: renders count frames that move the player between two cells
+    // and write a line of text, like a step of the game
+    private void renderFrames(Screen screen, int count) {
+        for (int i = 0; i < count; i++) {
+            screen.writePixel(Pixel.EMPTY_PIXEL, 1 + (i + 1) % 2, 1, true);
+            screen.writePixel(PLAYER, 1 + i % 2, 1, true);
+            screen.write("Direction: UP", 50, 2, TextAttribute.DEFAULT, false, true);
+            screen.renderChanges();
+        }
+    }
+
+    // NullStream throws the bytes away
+    private static class NullStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
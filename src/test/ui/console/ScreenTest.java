@@ -0,0 +1,79 @@
+package ui.console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.utility.pixel.PackedPixel;
+import model.utility.pixel.TextAttribute;
+
+public class ScreenTest {
+    private ByteArrayOutputStream bytes;
+    private Screen screen;
+    private Layer layer;
+
+    @BeforeEach
+    public void setup() throws UnsupportedEncodingException {
+        bytes = new ByteArrayOutputStream();
+        screen = new Screen(4, 3, new PrintStream(bytes, false, "UTF-8"));
+        layer = screen.addLayer();
+        screen.render();
+        for (int row = 0; row < 3; row++) {
+            layer.writePacked(cell((char) ('a' + row)), 0, row);
+        }
+        frame();
+    }
+
+    @Test
+    public void scrollRowsTest() throws UnsupportedEncodingException {
+        screen.scroll(0, 0, 4, 3, 0, -1);
+        assertEquals("\033[1;3r\033[1S\033[r", frame());
+
+        layer.writePacked(cell('d'), 0, 2);
+        assertEquals("\033[3;1Hd", frame());
+        screen.scroll(0, 0, 4, 3, 0, 1);
+        assertEquals("\033[1;3r\033[1T\033[r", frame());
+    }
+
+    @Test
+    public void scrollRowsRegionTest() throws UnsupportedEncodingException {
+        screen.writePacked(cell('x'), 7, 1);
+        assertEquals("\033[2;8Hx", frame());
+        screen.scroll(0, 0, 3, 3, 0, -1);
+        assertEquals("\033[1;3r\033[1S\033[r\033[1;8H \033[2;8Hx", frame());
+    }
+
+    @Test
+    public void scrollColumnsTest() throws UnsupportedEncodingException {
+        layer.writePacked(cell('e'), 2, 0);
+        frame();
+        screen.scroll(0, 0, 4, 1, -1, 0);
+        assertEquals("\033[1;1H\033[2P\033[1;7H\033[2@", frame());
+
+        layer.writePacked(cell('f'), 6, 0);
+        assertEquals("\033[1;7Hf", frame());
+        screen.scroll(0, 0, 4, 1, 1, 0);
+        assertEquals("\033[1;7H\033[2P\033[1;1H\033[2@", frame());
+    }
+
+    // EFFECTS: returns the packed pixel of c in the default style
+    private static long cell(char c) {
+        return PackedPixel.pack(c, TextAttribute.DEFAULT);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: composites the layer, renders the changes and returns what
+    // was written to the terminal for them
+    private String frame() throws UnsupportedEncodingException {
+        screen.composite();
+        screen.renderChanges();
+        String frame = bytes.toString("UTF-8");
+        bytes.reset();
+        return frame;
+    }
+}
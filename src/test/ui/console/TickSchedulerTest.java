@@ -0,0 +1,112 @@
+package ui.console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import model.utility.IntList;
+
+public class TickSchedulerTest {
+    private TickScheduler scheduler;
+    private int ticks;
+
+    @Test
+    public void constructorTest() {
+        scheduler = new TickScheduler(100);
+        assertEquals(10_000_000L, scheduler.getTickNanos());
+        assertEquals(0, scheduler.getTicks());
+    }
+
+    @Test
+    public void doneTest() {
+        scheduler = new TickScheduler(1000);
+        scheduler.run(() -> true, () -> ticks++);
+        assertEquals(0, ticks);
+        assertEquals(0, scheduler.getTicks());
+
+        scheduler.run(() -> ticks == 3, () -> ticks++);
+        assertEquals(3, ticks);
+        assertEquals(3, scheduler.getTicks());
+        assertEquals(0, scheduler.getIdleParks());
+    }
+
+    @Test
+    public void rateTest() {
+        scheduler = new TickScheduler(200);
+        long start = System.nanoTime();
+        scheduler.run(() -> ticks == 5, () -> ticks++);
+        assertTrue(System.nanoTime() - start >= 4 * scheduler.getTickNanos());
+    }
+
+    @Test
+    public void catchUpTest() {
+        scheduler = new TickScheduler(100);
+        scheduler.run(() -> ticks == 4, () -> {
+            if (ticks++ == 0) {
+                sleep(25);
+            }
+        });
+        assertEquals(0, scheduler.getSkipped());
+        assertEquals(4, scheduler.getTicks());
+    }
+
+    @Test
+    public void skipTest() {
+        scheduler = new TickScheduler(1000);
+        scheduler.run(() -> ticks == 2, () -> {
+            if (ticks++ == 0) {
+                sleep(50);
+            }
+        });
+        assertTrue(scheduler.getSkipped() > TickScheduler.MAX_CATCH_UP);
+        assertEquals(2, scheduler.getTicks());
+    }
+
+    @Test
+    public void idleParkTest() {
+        scheduler = new TickScheduler(100);
+        IntList timeouts = new IntList();
+        scheduler.run(() -> ticks == 3, () -> ticks++, () -> 4, timeout -> {
+            timeouts.add((int) (timeout / 1_000_000L));
+            return false;
+        });
+        assertEquals(3, scheduler.getTicks());
+        assertEquals(2, scheduler.getIdleParks());
+        assertEquals(2, timeouts.size());
+        assertEquals(30, timeouts.get(0));
+    }
+
+    @Test
+    public void idleForeverTest() {
+        scheduler = new TickScheduler(1000);
+        long[] timeout = new long[1];
+        scheduler.run(() -> ticks == 2, () -> ticks++, () -> Long.MAX_VALUE, nanos -> {
+            timeout[0] = nanos;
+            sleep(30);
+            return true;
+        });
+        assertEquals(Long.MAX_VALUE, timeout[0]);
+        assertEquals(1, scheduler.getIdleParks());
+        assertEquals(0, scheduler.getSkipped());
+    }
+
+    @Test
+    public void notIdleTest() {
+        scheduler = new TickScheduler(1000);
+        scheduler.run(() -> ticks == 3, () -> ticks++, () -> 1, nanos -> {
+            throw new AssertionError("parked with a timed event in the next tick");
+        });
+        assertEquals(0, scheduler.getIdleParks());
+        assertEquals(3, scheduler.getTicks());
+    }
+
+    // EFFECTS: sleeps for the given milliseconds
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ui.console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ViewportTest {
+    private Viewport camera;
+
+    @BeforeEach
+    public void setup() {
+        camera = new Viewport(10, 10, 2);
+        camera.reset(40, 40);
+    }
+
+    @Test
+    public void resetTest() {
+        assertEquals(0, camera.getX());
+        assertEquals(0, camera.getY());
+        assertEquals(10, camera.getWidth());
+        assertEquals(10, camera.getHeight());
+        assertEquals(40, camera.getMazeWidth());
+
+        camera.follow(30, 30);
+        camera.reset(6, 20);
+        assertEquals(0, camera.getX());
+        assertEquals(0, camera.getY());
+        assertEquals(6, camera.getWidth());
+        assertEquals(10, camera.getHeight());
+    }
+
+    @Test
+    public void followMarginTest() {
+        assertFalse(camera.follow(7, 7));
+        assertEquals(0, camera.getX());
+
+        assertTrue(camera.follow(8, 7));
+        assertEquals(1, camera.getX());
+        assertEquals(0, camera.getY());
+        assertTrue(camera.follow(9, 8));
+        assertEquals(2, camera.getX());
+        assertEquals(1, camera.getY());
+
+        assertFalse(camera.follow(4, 3));
+        assertTrue(camera.follow(3, 3));
+        assertEquals(1, camera.getX());
+        assertEquals(1, camera.getY());
+    }
+
+    @Test
+    public void followOffViewTest() {
+        assertTrue(camera.follow(30, 20));
+        assertEquals(25, camera.getX());
+        assertEquals(15, camera.getY());
+        assertTrue(camera.contains(30, 20));
+        assertTrue(camera.contains(25, 15));
+        assertFalse(camera.contains(24, 15));
+        assertFalse(camera.contains(35, 24));
+    }
+
+    @Test
+    public void clampTest() {
+        camera.follow(30, 30);
+        assertTrue(camera.follow(39, 39));
+        assertEquals(30, camera.getX());
+        assertEquals(30, camera.getY());
+
+        assertTrue(camera.follow(0, 0));
+        assertEquals(0, camera.getX());
+        assertEquals(0, camera.getY());
+        assertFalse(camera.follow(0, 0));
+    }
+
+    @Test
+    public void stepTest() {
+        camera.setScale(4);
+        assertEquals(4, camera.getScale());
+        camera.reset(100, 100);
+        assertEquals(40, camera.getWidth());
+
+        assertFalse(camera.follow(31, 0));
+        assertTrue(camera.follow(32, 0));
+        assertEquals(4, camera.getX());
+        assertFalse(camera.follow(33, 0));
+        assertEquals(4, camera.getX());
+
+        assertTrue(camera.follow(99, 99));
+        assertEquals(60, camera.getX());
+        assertEquals(60, camera.getY());
+    }
+}
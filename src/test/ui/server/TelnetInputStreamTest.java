@@ -0,0 +1,98 @@
+package ui.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ui.server.TelnetInputStream.DO;
+import static ui.server.TelnetInputStream.DONT;
+import static ui.server.TelnetInputStream.IAC;
+import static ui.server.TelnetInputStream.SB;
+import static ui.server.TelnetInputStream.SE;
+import static ui.server.TelnetInputStream.WILL;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+public class TelnetInputStreamTest {
+
+    @Test
+    public void plainTest() throws IOException {
+        assertEquals("wasd", keys('w', 'a', 's', 'd'));
+    }
+
+    @Test
+    public void optionTest() throws IOException {
+        assertEquals("ab", keys(IAC, WILL, 1, 'a', IAC, DO, 3, IAC, DONT, 34, 'b'));
+    }
+
+    @Test
+    public void otherCommandTest() throws IOException {
+        assertEquals("ab", keys('a', IAC, 241, 'b'));
+    }
+
+    @Test
+    public void subnegotiationTest() throws IOException {
+        assertEquals("ab", keys('a', IAC, SB, 31, 0, 80, 0, 24, IAC, SE, 'b'));
+        assertEquals("ab", keys('a', IAC, SB, 31, IAC, IAC, SE, 0, IAC, SE, 'b'));
+    }
+
+    @Test
+    public void escapedIacTest() throws IOException {
+        TelnetInputStream in = stream('a', IAC, IAC, 'b');
+        assertEquals('a', in.read());
+        assertEquals(255, in.read());
+        assertEquals('b', in.read());
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void enterTest() throws IOException {
+        assertEquals("a\rb\rc\r\r", keys('a', '\r', 0, 'b', '\r', '\n', 'c', '\r', '\r', 0));
+        assertEquals("\n\n", keys('\n', '\n'));
+    }
+
+    @Test
+    public void enterAcrossCommandTest() throws IOException {
+        assertEquals("\r", keys('\r', IAC, WILL, 1, '\n'));
+    }
+
+    @Test
+    public void endInCommandTest() throws IOException {
+        assertEquals("a", keys('a', IAC));
+        assertEquals("a", keys('a', IAC, WILL));
+        assertEquals("a", keys('a', IAC, SB, 31, 0));
+        assertEquals("a", keys('a', IAC, SB, 31, IAC));
+    }
+
+    @Test
+    public void readBufferTest() throws IOException {
+        TelnetInputStream in = stream(IAC, DO, 1, 'x', 'y');
+        byte[] buffer = new byte[4];
+        assertEquals(0, in.read(buffer, 0, 0));
+        assertEquals(1, in.read(buffer, 2, 2));
+        assertEquals('x', buffer[2]);
+        assertEquals(1, in.read(buffer, 0, 4));
+        assertEquals('y', buffer[0]);
+        assertEquals(-1, in.read(buffer, 0, 4));
+    }
+
+    // EFFECTS: returns a telnet stream of the given bytes
+    private TelnetInputStream stream(int... bytes) {
+        byte[] data = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            data[i] = (byte) bytes[i];
+        }
+        return new TelnetInputStream(new ByteArrayInputStream(data));
+    }
+
+    // EFFECTS: returns the keys read from a telnet stream of the given bytes
+    // up to the end of the input
+    private String keys(int... bytes) throws IOException {
+        TelnetInputStream in = stream(bytes);
+        StringBuilder keys = new StringBuilder();
+        for (int key = in.read(); key != -1; key = in.read()) {
+            keys.append((char) key);
+        }
+        return keys.toString();
+    }
+}